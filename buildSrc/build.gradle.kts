@@ -42,6 +42,7 @@ dependencies {
     implementation("gradle.plugin.org.flywaydb:gradle-plugin-publishing:$flywayVersion")
     implementation("io.freefair.gradle:lombok-plugin:8.12.1")
     implementation("io.spring.gradle:dependency-management-plugin:1.1.7")
+    implementation("me.champeau.jmh:jmh-gradle-plugin:0.7.2")
     implementation("org.apache.commons:commons-compress:1.27.1")
     implementation("org.flywaydb:flyway-database-postgresql:$flywayVersion")
     implementation("org.gradle:test-retry-gradle-plugin:1.6.2")
@@ -0,0 +1,52 @@
+/*
+ * Copyright (C) 2025 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+description = "Hedera Mirror Node Benchmark"
+
+plugins {
+    id("java-conventions")
+    id("me.champeau.jmh")
+}
+
+dependencies {
+    jmh(project(":common"))
+    jmh(project(path = ":common", configuration = "testClasses"))
+    jmh(project(":importer"))
+    jmh(project(path = ":importer", configuration = "testClasses"))
+    jmh("com.fasterxml.jackson.dataformat:jackson-dataformat-csv")
+    jmh("io.micrometer:micrometer-core")
+    jmh("org.hyperledger.besu:evm")
+    jmh("org.mockito:mockito-core")
+    jmh("org.openjdk.jmh:jmh-core")
+    jmhAnnotationProcessor("org.openjdk.jmh:jmh-generator-annprocess")
+}
+
+// Results are written as JSON so runs from different commits can be compared with tools like jmh.morethan.io
+jmh {
+    duplicateClassesStrategy = DuplicatesStrategy.EXCLUDE
+    fork = 1
+    includes = providers.gradleProperty("includes").map { listOf(it) }.orElse(listOf())
+    iterations = 5
+    jmhVersion = "1.37"
+    // Reports the bytes allocated per operation as gc.alloc.rate.norm
+    profilers = listOf("gc")
+    resultFormat = "JSON"
+    resultsFile = layout.buildDirectory.file("reports/jmh/results.json")
+    warmupIterations = 3
+}
+
+// Generated benchmark harness code doesn't compile cleanly with all lint warnings as errors
+tasks.named<JavaCompile>("jmhCompileGeneratedClasses") { options.compilerArgs.remove("-Werror") }
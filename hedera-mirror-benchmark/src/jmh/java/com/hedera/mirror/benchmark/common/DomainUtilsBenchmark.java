@@ -0,0 +1,81 @@
+/*
+ * Copyright (C) 2025 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.benchmark.common;
+
+import com.google.protobuf.ByteString;
+import com.hedera.mirror.common.domain.DomainBuilder;
+import com.hedera.mirror.common.domain.entity.EntityId;
+import com.hedera.mirror.common.util.DomainUtils;
+import com.hedera.mirror.importer.parser.domain.RecordItemBuilder;
+import com.hederahashgraph.api.proto.java.Timestamp;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class DomainUtilsBenchmark {
+
+    private final DomainBuilder domainBuilder = new DomainBuilder();
+    private final RecordItemBuilder recordItemBuilder = new RecordItemBuilder();
+
+    private ByteString byteString;
+    private byte[] evmAddress;
+    private EntityId entityId;
+    private byte[] key;
+    private Timestamp timestamp;
+
+    @Setup
+    public void setup() {
+        byteString = recordItemBuilder.bytes(32);
+        entityId = domainBuilder.entityId();
+        evmAddress = DomainUtils.toEvmAddress(entityId);
+        key = recordItemBuilder.key().toByteArray();
+        timestamp = recordItemBuilder.timestamp();
+    }
+
+    @Benchmark
+    public EntityId fromEvmAddress() {
+        return DomainUtils.fromEvmAddress(evmAddress);
+    }
+
+    @Benchmark
+    public String getPublicKey() {
+        return DomainUtils.getPublicKey(key);
+    }
+
+    @Benchmark
+    public Long timeStampInNanos() {
+        return DomainUtils.timeStampInNanos(timestamp);
+    }
+
+    @Benchmark
+    public byte[] toBytes() {
+        return DomainUtils.toBytes(byteString);
+    }
+
+    @Benchmark
+    public byte[] toEvmAddress() {
+        return DomainUtils.toEvmAddress(entityId);
+    }
+}
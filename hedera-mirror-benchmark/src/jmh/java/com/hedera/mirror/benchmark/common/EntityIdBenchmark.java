@@ -0,0 +1,71 @@
+/*
+ * Copyright (C) 2025 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.benchmark.common;
+
+import com.hedera.mirror.common.domain.entity.EntityId;
+import com.hedera.mirror.importer.parser.domain.RecordItemBuilder;
+import com.hederahashgraph.api.proto.java.AccountID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+public class EntityIdBenchmark {
+
+    private final RecordItemBuilder recordItemBuilder = new RecordItemBuilder();
+
+    private AccountID accountId;
+    private long id;
+    private long nextId;
+    private String text;
+
+    @Setup
+    public void setup() {
+        accountId = recordItemBuilder.accountId();
+        id = accountId.getAccountNum();
+        nextId = id;
+        text = "0.0." + id;
+    }
+
+    @Benchmark
+    public EntityId ofAccountId() {
+        return EntityId.of(accountId);
+    }
+
+    @Benchmark
+    public EntityId ofCachedId() {
+        return EntityId.of(id);
+    }
+
+    // Every call uses a new id so it measures the cost of a cache miss and the eviction it causes
+    @Benchmark
+    public EntityId ofNewId() {
+        return EntityId.of(++nextId);
+    }
+
+    @Benchmark
+    public EntityId ofString() {
+        return EntityId.of(text);
+    }
+}
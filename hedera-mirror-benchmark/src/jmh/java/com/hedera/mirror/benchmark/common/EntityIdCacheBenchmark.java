@@ -0,0 +1,84 @@
+/*
+ * Copyright (C) 2025 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.benchmark.common;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.hedera.mirror.common.domain.entity.EntityId;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+/**
+ * Compares the {@link EntityId} intern table with the Caffeine cache it replaced when several threads look up ids
+ * concurrently. The ids are spread over a working set so the benchmark covers both hits and misses.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Threads(4)
+public class EntityIdCacheBenchmark {
+
+    private static final int ID_COUNT = 1 << 16;
+
+    @Param({"100000", "1000000"})
+    public int workingSet;
+
+    private Cache<Long, EntityId> caffeine;
+
+    @Setup
+    public void setup() {
+        caffeine = Caffeine.from("expireAfterAccess=60m,maximumSize=500000,recordStats").build();
+    }
+
+    @Benchmark
+    public EntityId caffeine(Ids ids) {
+        return caffeine.get(ids.next(), EntityId::of);
+    }
+
+    @Benchmark
+    public EntityId intern(Ids ids) {
+        return EntityId.of(ids.next());
+    }
+
+    @State(Scope.Thread)
+    public static class Ids {
+
+        private final long[] values = new long[ID_COUNT];
+        private int index;
+
+        @Setup
+        public void setup(EntityIdCacheBenchmark benchmark) {
+            var random = new SplittableRandom();
+            for (int i = 0; i < values.length; i++) {
+                values[i] = 1001L + random.nextInt(benchmark.workingSet);
+            }
+        }
+
+        long next() {
+            return values[index++ & (ID_COUNT - 1)];
+        }
+    }
+}
@@ -0,0 +1,72 @@
+/*
+ * Copyright (C) 2025 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.benchmark.common;
+
+import com.hedera.mirror.common.domain.transaction.RecordItem;
+import com.hedera.mirror.importer.parser.domain.RecordItemBuilder;
+import com.hederahashgraph.api.proto.java.Transaction;
+import com.hederahashgraph.api.proto.java.TransactionRecord;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Builds a single {@link RecordItem} per operation, so the gc profiler's normalized allocation rate is the allocation
+ * per item. Compares items that are only routed and filtered with items whose body and signatures are also read.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+public class RecordItemBenchmark {
+
+    private Transaction transaction;
+    private TransactionRecord transactionRecord;
+
+    @Setup
+    public void setup() {
+        var recordItem = new RecordItemBuilder().cryptoTransfer().build();
+        transaction = recordItem.getTransaction();
+        transactionRecord = recordItem.getTransactionRecord();
+    }
+
+    @Benchmark
+    public void header(Blackhole blackhole) {
+        var recordItem = build();
+        blackhole.consume(recordItem.getPayerAccountId());
+        blackhole.consume(recordItem.getTransactionType());
+    }
+
+    @Benchmark
+    public void body(Blackhole blackhole) {
+        var recordItem = build();
+        blackhole.consume(recordItem.getTransactionBody());
+        blackhole.consume(recordItem.getSignatureMap());
+    }
+
+    private RecordItem build() {
+        return RecordItem.builder()
+                .transaction(transaction)
+                .transactionRecord(transactionRecord)
+                .build();
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright (C) 2025 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.benchmark.evm;
+
+import java.util.concurrent.TimeUnit;
+import org.apache.tuweni.bytes.Bytes;
+import org.hyperledger.besu.datatypes.Address;
+import org.hyperledger.besu.datatypes.Wei;
+import org.hyperledger.besu.evm.EvmSpecVersion;
+import org.hyperledger.besu.evm.fluent.EVMExecutor;
+import org.hyperledger.besu.evm.fluent.SimpleWorld;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Executes small bytecode loops on the Besu EVM that web3 runs contract calls on. Each program counts down from 1000
+ * and runs its body once per iteration, so the results isolate the interpreter cost of each kind of operation from
+ * the state lookups web3 performs against the database.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+public class EvmExecutionBenchmark {
+
+    private static final long GAS = 30_000_000L;
+    private static final Address RECEIVER = Address.fromHexString("0x00000000000000000000000000000000000003e8");
+
+    @Param
+    public Program program;
+
+    private EVMExecutor executor;
+
+    @Setup
+    public void setup() {
+        var world = new SimpleWorld();
+        world.createAccount(RECEIVER, 0L, Wei.ZERO);
+        executor = EVMExecutor.evm(EvmSpecVersion.CANCUN)
+                .code(Bytes.fromHexString(program.code()))
+                .gas(GAS)
+                .receiver(RECEIVER)
+                .worldUpdater(world);
+    }
+
+    @Benchmark
+    public Bytes execute() {
+        return executor.execute();
+    }
+
+    public enum Program {
+        ARITHMETIC("80800250"), // DUP1 DUP1 MUL POP
+        KECCAK("602060002050"), // PUSH1 32 PUSH1 0 KECCAK256 POP
+        STORAGE("808055805450"); // DUP1 DUP1 SSTORE DUP1 SLOAD POP
+
+        // PUSH2 1000 JUMPDEST <body> PUSH1 1 SWAP1 SUB DUP1 PUSH1 3 JUMPI STOP
+        private static final String LOOP = "6103e85b%s600190038060035700";
+
+        private final String body;
+
+        Program(String body) {
+            this.body = body;
+        }
+
+        String code() {
+            return String.format(LOOP, body);
+        }
+    }
+}
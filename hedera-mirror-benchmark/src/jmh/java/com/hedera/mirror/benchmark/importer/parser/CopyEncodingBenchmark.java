@@ -0,0 +1,121 @@
+/*
+ * Copyright (C) 2025 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.benchmark.importer.parser;
+
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.dataformat.csv.CsvGenerator;
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+import com.hedera.mirror.common.converter.EntityIdSerializer;
+import com.hedera.mirror.common.converter.ListToStringSerializer;
+import com.hedera.mirror.common.converter.RangeToStringSerializer;
+import com.hedera.mirror.common.domain.DomainBuilder;
+import com.hedera.mirror.common.domain.entity.EntityId;
+import com.hedera.mirror.common.domain.transaction.CryptoTransfer;
+import com.hedera.mirror.common.domain.transaction.ErrataType;
+import com.hedera.mirror.importer.converter.ByteArrayArrayToHexSerializer;
+import com.hedera.mirror.importer.converter.ByteArrayToHexSerializer;
+import com.hedera.mirror.importer.parser.batch.BinaryCopyWriter;
+import com.hedera.mirror.importer.repository.upsert.ColumnMetadata;
+import com.hedera.mirror.importer.repository.upsert.EntityMetadata;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Compares the CSV and binary encodings {@code BatchInserter} can use to COPY a batch of crypto transfers. The CSV
+ * writer is configured the same way as in {@code BatchInserter} and the column metadata mirrors what the
+ * {@code EntityMetadataRegistry} loads from the database, so no database is needed.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+public class CopyEncodingBenchmark {
+
+    private final DomainBuilder domainBuilder = new DomainBuilder();
+    private final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+    @Param({"1000"})
+    public int items;
+
+    private BinaryCopyWriter binaryCopyWriter;
+    private ObjectWriter csvWriter;
+    private List<CryptoTransfer> cryptoTransfers;
+
+    @Setup
+    public void setup() {
+        var mapper = new CsvMapper();
+        var module = new SimpleModule();
+        module.addSerializer(byte[][].class, ByteArrayArrayToHexSerializer.INSTANCE);
+        module.addSerializer(byte[].class, ByteArrayToHexSerializer.INSTANCE);
+        module.addSerializer(EntityIdSerializer.INSTANCE);
+        module.addSerializer(ListToStringSerializer.INSTANCE);
+        module.addSerializer(RangeToStringSerializer.INSTANCE);
+        mapper.registerModule(module);
+        mapper.configure(CsvGenerator.Feature.ALWAYS_QUOTE_EMPTY_STRINGS, true);
+        csvWriter = mapper.writer(mapper.schemaFor(CryptoTransfer.class));
+
+        var columns = List.of(
+                column("amount", "int8", long.class, CryptoTransfer::getAmount),
+                column("consensus_timestamp", "int8", long.class, CryptoTransfer::getConsensusTimestamp),
+                column("entity_id", "int8", long.class, CryptoTransfer::getEntityId),
+                column("errata", "enum", ErrataType.class, CryptoTransfer::getErrata),
+                column("is_approval", "bool", Boolean.class, CryptoTransfer::getIsApproval),
+                column("payer_account_id", "int8", EntityId.class, CryptoTransfer::getPayerAccountId));
+        var columnNames = columns.stream().map(ColumnMetadata::getName).toList();
+        var metadata = new EntityMetadata("crypto_transfer", null, Set.copyOf(columns));
+        binaryCopyWriter = BinaryCopyWriter.of(metadata, columnNames);
+
+        cryptoTransfers = new ArrayList<>(items);
+        for (int i = 0; i < items; i++) {
+            cryptoTransfers.add(domainBuilder.cryptoTransfer().get());
+        }
+    }
+
+    @Benchmark
+    public int binary() throws IOException {
+        outputStream.reset();
+        binaryCopyWriter.write(outputStream, cryptoTransfers);
+        return outputStream.size();
+    }
+
+    @Benchmark
+    public int csv() throws IOException {
+        outputStream.reset();
+        csvWriter.writeValue(outputStream, cryptoTransfers);
+        return outputStream.size();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static ColumnMetadata column(
+            String name, String dataType, Class<?> type, Function<CryptoTransfer, Object> getter) {
+        var untypedGetter = (Function<Object, Object>) (Function<?, ?>) getter;
+        return new ColumnMetadata(dataType, null, untypedGetter, false, name, true, null, type, false, null);
+    }
+}
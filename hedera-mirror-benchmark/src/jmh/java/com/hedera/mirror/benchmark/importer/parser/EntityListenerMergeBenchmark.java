@@ -0,0 +1,144 @@
+/*
+ * Copyright (C) 2025 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.benchmark.importer.parser;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.withSettings;
+
+import com.google.common.collect.Range;
+import com.hedera.mirror.common.domain.DomainBuilder;
+import com.hedera.mirror.common.domain.entity.Entity;
+import com.hedera.mirror.common.domain.token.TokenAccount;
+import com.hedera.mirror.importer.domain.EntityIdService;
+import com.hedera.mirror.importer.parser.batch.BatchPersister;
+import com.hedera.mirror.importer.parser.batch.ParallelBatchPersister;
+import com.hedera.mirror.importer.parser.record.entity.EntityProperties;
+import com.hedera.mirror.importer.parser.record.entity.ParserContext;
+import com.hedera.mirror.importer.parser.record.entity.sql.EntityStateCache;
+import com.hedera.mirror.importer.parser.record.entity.sql.SqlEntityListener;
+import com.hedera.mirror.importer.parser.record.entity.sql.SqlProperties;
+import com.hedera.mirror.importer.repository.NftRepository;
+import com.hedera.mirror.importer.repository.TokenAccountRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Measures how {@link SqlEntityListener} merges multiple updates to the same entity or token account within a record
+ * file. Each entity gets a full create, partial updates that start a new history row and balance only updates. The
+ * merged domain objects are mutated, so the updates are rebuilt before every invocation.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+public class EntityListenerMergeBenchmark {
+
+    private final DomainBuilder domainBuilder = new DomainBuilder();
+    private final ParserContext context = new ParserContext();
+
+    @Param({"1000"})
+    public int entities;
+
+    @Param({"10"})
+    public int updates;
+
+    private List<Entity> entityUpdates;
+    private SqlEntityListener sqlEntityListener;
+    private List<TokenAccount> tokenAccountUpdates;
+
+    @Setup
+    public void setup() {
+        sqlEntityListener = new SqlEntityListener(
+                stub(BatchPersister.class),
+                context,
+                stub(EntityIdService.class),
+                new EntityProperties(),
+                stub(EntityStateCache.class),
+                new SimpleMeterRegistry(),
+                stub(NftRepository.class),
+                stub(ParallelBatchPersister.class),
+                stub(TokenAccountRepository.class),
+                new SqlProperties());
+    }
+
+    @Setup(Level.Invocation)
+    public void setupInvocation() {
+        entityUpdates = new ArrayList<>(entities * updates);
+        tokenAccountUpdates = new ArrayList<>(entities * updates);
+
+        for (int i = 0; i < entities; i++) {
+            var entity = domainBuilder.entity().get();
+            var tokenAccount = domainBuilder.tokenAccount().get();
+            entityUpdates.add(entity);
+            tokenAccountUpdates.add(tokenAccount);
+
+            for (int j = 1; j < updates; j++) {
+                long timestamp = domainBuilder.timestamp();
+                boolean history = j % 2 == 0;
+                var range = history ? Range.atLeast(timestamp) : null;
+
+                entityUpdates.add(Entity.builder()
+                        .balance(10L)
+                        .balanceTimestamp(timestamp)
+                        .id(entity.getId())
+                        .memo(history ? domainBuilder.text(8) : null)
+                        .timestampRange(range)
+                        .build());
+                tokenAccountUpdates.add(TokenAccount.builder()
+                        .accountId(tokenAccount.getAccountId())
+                        .balance(10L)
+                        .balanceTimestamp(timestamp)
+                        .timestampRange(range)
+                        .tokenId(tokenAccount.getTokenId())
+                        .build());
+            }
+        }
+    }
+
+    @TearDown(Level.Invocation)
+    public void tearDownInvocation() {
+        context.clear();
+    }
+
+    @Benchmark
+    public int mergeEntity() {
+        entityUpdates.forEach(sqlEntityListener::onEntity);
+        return context.get(Entity.class).size();
+    }
+
+    @Benchmark
+    public int mergeTokenAccount() {
+        tokenAccountUpdates.forEach(sqlEntityListener::onTokenAccount);
+        return context.get(TokenAccount.class).size();
+    }
+
+    // Collaborators that aren't used while merging. Stub only mocks don't record invocations.
+    private static <T> T stub(Class<T> type) {
+        return mock(type, withSettings().stubOnly());
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright (C) 2025 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.benchmark.importer.reader;
+
+import com.hedera.mirror.common.domain.transaction.BlockFile;
+import com.hedera.mirror.common.domain.transaction.RecordFile;
+import com.hedera.mirror.importer.domain.StreamFileData;
+import com.hedera.mirror.importer.reader.block.ProtoBlockFileReader;
+import com.hedera.mirror.importer.reader.record.RecordFileReaderImplV5;
+import java.io.IOException;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Reads the stream files checked in with the importer tests. A new {@link StreamFileData} is created for every
+ * invocation so the cost of decompressing while reading is always included.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class StreamFileReaderBenchmark {
+
+    private static final String BLOCK_FILE = "000000000000000000000000000000000981.blk.gz";
+    private static final String RECORD_FILE = "2021-01-11T22_09_34.097416003Z.rcd";
+
+    private final ProtoBlockFileReader blockFileReader = new ProtoBlockFileReader();
+    private final RecordFileReaderImplV5 recordFileReader = new RecordFileReaderImplV5();
+
+    private byte[] blockFileBytes;
+    private byte[] recordFileBytes;
+
+    @Setup
+    public void setup() throws IOException {
+        blockFileBytes = readResource("data/blockstreams/" + BLOCK_FILE);
+        recordFileBytes = readResource("data/recordstreams/v5/record0.0.3/" + RECORD_FILE);
+    }
+
+    @Benchmark
+    public BlockFile readBlockFile() {
+        return blockFileReader.read(StreamFileData.from(BLOCK_FILE, blockFileBytes));
+    }
+
+    @Benchmark
+    public RecordFile readRecordFileV5() {
+        return recordFileReader.read(StreamFileData.from(RECORD_FILE, recordFileBytes));
+    }
+
+    private byte[] readResource(String path) throws IOException {
+        try (var inputStream = getClass().getClassLoader().getResourceAsStream(path)) {
+            return Objects.requireNonNull(inputStream, "Missing resource " + path).readAllBytes();
+        }
+    }
+}
@@ -17,8 +17,6 @@
 package com.hedera.mirror.common.domain.entity;
 
 import com.fasterxml.jackson.annotation.JsonValue;
-import com.github.benmanes.caffeine.cache.Cache;
-import com.github.benmanes.caffeine.cache.Caffeine;
 import com.google.common.base.Splitter;
 import com.google.common.collect.Range;
 import com.hedera.mirror.common.exception.InvalidEntityException;
@@ -60,10 +58,14 @@ public final class EntityId implements Serializable, Comparable<EntityId> {
     private static final long REALM_MASK = (1L << REALM_BITS) - 1;
     private static final long SHARD_MASK = (1L << SHARD_BITS) - 1;
 
-    private static final String CACHE_DEFAULT = "expireAfterAccess=60m,maximumSize=500000,recordStats";
-    private static final String CACHE_PROPERTY = "HEDERA_MIRROR_COMMON_CACHE_ENTITYID";
-    private static final String CACHE_SPEC = System.getProperty(CACHE_PROPERTY, CACHE_DEFAULT);
-    private static final Cache<Long, EntityId> CACHE = Caffeine.from(CACHE_SPEC).build();
+    private static final int CACHE_DEFAULT = 500_000;
+    private static final String CACHE_PROPERTY = "HEDERA_MIRROR_COMMON_CACHE_ENTITYID_MAXSIZE";
+    private static final EntityIdCache CACHE =
+            new EntityIdCache(Integer.getInteger(CACHE_PROPERTY, CACHE_DEFAULT), EntityId::new);
+
+    // System entities are used by nearly every transaction, so they're always interned and never evicted
+    private static final int SYSTEM_ENTITY_MAX = 1000;
+    private static final EntityId[] SYSTEM_ENTITIES = new EntityId[SYSTEM_ENTITY_MAX + 1];
 
     private static final Comparator<EntityId> COMPARATOR =
             Comparator.nullsFirst(Comparator.comparingLong(EntityId::getId));
@@ -77,6 +79,13 @@ public final class EntityId implements Serializable, Comparable<EntityId> {
     @JsonValue
     private final long id;
 
+    static {
+        SYSTEM_ENTITIES[0] = EMPTY;
+        for (int num = 1; num <= SYSTEM_ENTITY_MAX; num++) {
+            SYSTEM_ENTITIES[num] = new EntityId(num);
+        }
+    }
+
     private EntityId(long id) {
         if (id < 0) {
             throw new InvalidEntityException("Entity ID can not be negative: " + id);
@@ -157,11 +166,11 @@ public final class EntityId implements Serializable, Comparable<EntityId> {
     }
 
     public static EntityId of(long id) {
-        if (id == 0) {
-            return EMPTY;
+        if (id >= 0 && id <= SYSTEM_ENTITY_MAX) {
+            return SYSTEM_ENTITIES[(int) id];
         }
 
-        return CACHE.get(id, k -> new EntityId(id));
+        return CACHE.get(id);
     }
 
     public static boolean isEmpty(EntityId entityId) {
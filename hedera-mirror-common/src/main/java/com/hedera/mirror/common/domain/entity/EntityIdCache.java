@@ -0,0 +1,103 @@
+/*
+ * Copyright (C) 2025 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.common.domain.entity;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.LongFunction;
+
+/**
+ * A lock-free, fixed size intern table of {@link EntityId}s keyed by their encoded id. Each id hashes to a short window
+ * of slots that is probed linearly. When the window is full, a clock sweep over it gives recently read entries a
+ * second chance and replaces the first one that hasn't been read since the last sweep.
+ * <p>
+ * Racing threads can at worst create a duplicate instance or evict an entry early. That's harmless since entity IDs
+ * are compared by value and the table is only used to reduce allocations.
+ */
+final class EntityIdCache {
+
+    static final int PROBE_LENGTH = 8;
+
+    private static final long GOLDEN_RATIO = 0x9E3779B97F4A7C15L;
+
+    private final AtomicReferenceArray<EntityId> entries;
+    private final LongFunction<EntityId> factory;
+    private final int mask;
+    private final boolean[] referenced;
+    private final int shift;
+
+    EntityIdCache(int maximumSize, LongFunction<EntityId> factory) {
+        int capacity = Integer.highestOneBit(Math.max(maximumSize - 1, PROBE_LENGTH) << 1);
+        this.entries = new AtomicReferenceArray<>(capacity);
+        this.factory = factory;
+        this.mask = capacity - 1;
+        this.referenced = new boolean[capacity];
+        this.shift = Long.SIZE - Integer.numberOfTrailingZeros(capacity);
+    }
+
+    EntityId get(long id) {
+        int start = index(id);
+
+        for (int i = 0; i < PROBE_LENGTH; i++) {
+            int slot = (start + i) & mask;
+            var entityId = entries.get(slot);
+
+            if (entityId == null) {
+                var created = factory.apply(id);
+                if (entries.compareAndSet(slot, null, created)) {
+                    return created;
+                }
+
+                entityId = entries.get(slot);
+            }
+
+            if (entityId.getId() == id) {
+                // Avoid dirtying the cache line when the bit is already set
+                if (!referenced[slot]) {
+                    referenced[slot] = true;
+                }
+
+                return entityId;
+            }
+        }
+
+        var created = factory.apply(id);
+        entries.set(evict(start), created);
+        return created;
+    }
+
+    int capacity() {
+        return entries.length();
+    }
+
+    private int evict(int start) {
+        for (int i = 0; i < PROBE_LENGTH; i++) {
+            int slot = (start + i) & mask;
+            if (!referenced[slot]) {
+                return slot;
+            }
+
+            referenced[slot] = false;
+        }
+
+        // Every entry was read since the last sweep, so the hand wraps back around to the first slot
+        return start;
+    }
+
+    private int index(long id) {
+        return (int) ((id * GOLDEN_RATIO) >>> shift);
+    }
+}
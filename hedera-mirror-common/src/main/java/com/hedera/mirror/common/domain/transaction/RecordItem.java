@@ -20,6 +20,7 @@ import static lombok.AccessLevel.PRIVATE;
 
 import com.google.protobuf.ByteString;
 import com.google.protobuf.InvalidProtocolBufferException;
+import com.google.protobuf.WireFormat;
 import com.hedera.mirror.common.domain.StreamItem;
 import com.hedera.mirror.common.domain.contract.ContractTransaction;
 import com.hedera.mirror.common.domain.entity.EntityId;
@@ -32,7 +33,9 @@ import com.hederahashgraph.api.proto.java.SignatureMap;
 import com.hederahashgraph.api.proto.java.SignedTransaction;
 import com.hederahashgraph.api.proto.java.Transaction;
 import com.hederahashgraph.api.proto.java.TransactionBody;
+import com.hederahashgraph.api.proto.java.TransactionID;
 import com.hederahashgraph.api.proto.java.TransactionRecord;
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
@@ -64,6 +67,8 @@ public class RecordItem implements StreamItem {
     static final String BAD_TRANSACTION_BYTES_MESSAGE = "Failed to parse transaction bytes";
     static final String BAD_RECORD_BYTES_MESSAGE = "Failed to parse record bytes";
     static final String BAD_TRANSACTION_BODY_BYTES_MESSAGE = "Error parsing transactionBody from transaction";
+    private static final int SIGNED_TRANSACTION_BODY_BYTES_TAG =
+            SignedTransaction.BODYBYTES_FIELD_NUMBER << 3 | WireFormat.WIRETYPE_LENGTH_DELIMITED;
 
     // Final fields
     @Builder.Default
@@ -73,14 +78,22 @@ public class RecordItem implements StreamItem {
     private final RecordItem parent;
     private final EntityId payerAccountId;
     private final RecordItem previous;
-    private final SignatureMap signatureMap;
     private final boolean successful;
     private final Transaction transaction;
-    private final TransactionBody transactionBody;
     private final int transactionIndex;
     private final TransactionRecord transactionRecord;
     private final int transactionType;
 
+    // Decoded on first access since the body and signatures of filtered out items are never read. Volatile so an item
+    // handed to another thread never sees a partially published message.
+    @Getter(AccessLevel.NONE)
+    @NonFinal
+    private volatile SignatureMap signatureMap;
+
+    @Getter(AccessLevel.NONE)
+    @NonFinal
+    private volatile TransactionBody transactionBody;
+
     @Getter(PRIVATE)
     private final AtomicInteger logIndex = new AtomicInteger(0);
 
@@ -147,6 +160,16 @@ public class RecordItem implements StreamItem {
         return entityTransactions;
     }
 
+    public SignatureMap getSignatureMap() {
+        var current = signatureMap;
+        return current != null ? current : parseTransaction().signatureMap();
+    }
+
+    public TransactionBody getTransactionBody() {
+        var current = transactionBody;
+        return current != null ? current : parseTransaction().transactionBody();
+    }
+
     public int getAndIncrementLogIndex() {
         return logIndex.getAndIncrement();
     }
@@ -199,6 +222,14 @@ public class RecordItem implements StreamItem {
         return contractTransactions;
     }
 
+    // Concurrent first accesses may each parse the immutable messages, and any of the results is equivalent
+    private ParsedTransaction parseTransaction() {
+        var parsedTransaction = ParsedTransaction.from(transaction);
+        this.signatureMap = parsedTransaction.signatureMap();
+        this.transactionBody = parsedTransaction.transactionBody();
+        return parsedTransaction;
+    }
+
     public Collection<ContractTransaction> populateContractTransactions() {
         if (contractTransactions == null || contractTransactions.isEmpty()) {
             return Collections.emptyList();
@@ -211,15 +242,66 @@ public class RecordItem implements StreamItem {
     public static class RecordItemBuilder {
 
         public RecordItem build() {
-            parseTransaction();
+            if (transactionBody != null || !parseHeader()) {
+                parseTransaction();
+                this.payerAccountId = EntityId.of(transactionBody.getTransactionID().getAccountID());
+                this.transactionType = parseTransactionType(transactionBody);
+            }
+
             this.consensusTimestamp = DomainUtils.timestampInNanosMax(transactionRecord.getConsensusTimestamp());
             this.parent = parseParent();
-            this.payerAccountId = EntityId.of(transactionBody.getTransactionID().getAccountID());
             this.successful = parseSuccess();
-            this.transactionType = parseTransactionType(transactionBody);
             return buildInternal();
         }
 
+        /**
+         * Decodes only the payer and the transaction type from the serialized TransactionBody, skipping over the
+         * transaction specific fields and the signatures. The rest of the body is parsed on first access.
+         *
+         * @return whether the header could be decoded without fully parsing the body
+         */
+        private boolean parseHeader() {
+            try {
+                var bodyBytes = ParsedTransaction.getBodyBytes(transaction);
+                if (bodyBytes.isEmpty()) {
+                    return false;
+                }
+
+                var input = bodyBytes.newCodedInput();
+                var transactionId = TransactionID.getDefaultInstance();
+                int type = TransactionBody.DataCase.DATA_NOT_SET.getNumber();
+
+                for (int tag = input.readTag(); tag != 0; tag = input.readTag()) {
+                    int fieldNumber = WireFormat.getTagFieldNumber(tag);
+
+                    if (fieldNumber == TransactionBody.TRANSACTIONID_FIELD_NUMBER
+                            && WireFormat.getTagWireType(tag) == WireFormat.WIRETYPE_LENGTH_DELIMITED) {
+                        transactionId = TransactionID.parseFrom(input.readBytes());
+                        continue;
+                    }
+
+                    var dataCase = TransactionBody.DataCase.forNumber(fieldNumber);
+                    if (dataCase != null && dataCase != TransactionBody.DataCase.DATA_NOT_SET) {
+                        type = fieldNumber;
+                    }
+
+                    input.skipField(tag);
+                }
+
+                // Unknown transaction types are guessed from the unknown fields of the fully parsed body
+                if (type == TransactionBody.DataCase.DATA_NOT_SET.getNumber()) {
+                    return false;
+                }
+
+                this.payerAccountId = EntityId.of(transactionId.getAccountID());
+                this.transactionType = type;
+                return true;
+            } catch (IOException e) {
+                // Fully parsing the body reports the error
+                return false;
+            }
+        }
+
         private RecordItem parseParent() {
             // set parent, parent-child items are assured to exist in sequential order of [Parent, Child1,..., ChildN]
             if (transactionRecord.hasParentConsensusTimestamp() && previous != null) {
@@ -249,6 +331,44 @@ public class RecordItem implements StreamItem {
                     || status == ResponseCodeEnum.SUCCESS_BUT_MISSING_EXPECTED_OPERATION;
         }
 
+        private void parseTransaction() {
+            if (transactionBody == null) {
+                var parsedTransaction = ParsedTransaction.from(transaction);
+                this.signatureMap = parsedTransaction.signatureMap();
+                this.transactionBody = parsedTransaction.transactionBody();
+            }
+        }
+
+        /**
+         * Because body.getDataCase() can return null for unknown transaction types, we instead get oneof generically
+         *
+         * @return The protobuf ID that represents the transaction type
+         */
+        private int parseTransactionType(TransactionBody body) {
+            TransactionBody.DataCase dataCase = body.getDataCase();
+
+            if (dataCase == null || dataCase == TransactionBody.DataCase.DATA_NOT_SET) {
+                Set<Integer> unknownFields = body.getUnknownFields().asMap().keySet();
+
+                if (unknownFields.size() != 1) {
+                    log.error(
+                            "Unable to guess correct transaction type since there's not exactly one unknown field {}: {}",
+                            unknownFields,
+                            Hex.encodeHexString(body.toByteArray()));
+                    return TransactionBody.DataCase.DATA_NOT_SET.getNumber();
+                }
+
+                int genericTransactionType = unknownFields.iterator().next();
+                log.warn("Encountered unknown transaction type: {}", genericTransactionType);
+                return genericTransactionType;
+            }
+
+            return dataCase.getNumber();
+        }
+    }
+
+    private record ParsedTransaction(SignatureMap signatureMap, TransactionBody transactionBody) {
+
         /**
          * Parses the transaction into separate TransactionBody and SignatureMap objects. Necessary since the
          * Transaction payload has changed incompatibly multiple times over its lifetime.
@@ -259,53 +379,54 @@ public class RecordItem implements StreamItem {
          * (non-empty) TransactionBody.
          */
         @SuppressWarnings("deprecation")
-        private void parseTransaction() {
+        private static ParsedTransaction from(Transaction transaction) {
+            TransactionBody transactionBody = null;
+            SignatureMap signatureMap = null;
+
             try {
                 if (!transaction.getSignedTransactionBytes().equals(ByteString.EMPTY)) {
                     var signedTransaction = SignedTransaction.parseFrom(transaction.getSignedTransactionBytes());
-                    this.transactionBody = TransactionBody.parseFrom(signedTransaction.getBodyBytes());
-                    this.signatureMap = signedTransaction.getSigMap();
+                    transactionBody = TransactionBody.parseFrom(signedTransaction.getBodyBytes());
+                    signatureMap = signedTransaction.getSigMap();
                 } else if (!transaction.getBodyBytes().equals(ByteString.EMPTY)) {
-                    this.transactionBody = TransactionBody.parseFrom(transaction.getBodyBytes());
-                    this.signatureMap = transaction.getSigMap();
+                    transactionBody = TransactionBody.parseFrom(transaction.getBodyBytes());
+                    signatureMap = transaction.getSigMap();
                 } else if (transaction.hasBody()) {
-                    this.transactionBody = transaction.getBody();
-                    this.signatureMap = transaction.getSigMap();
+                    transactionBody = transaction.getBody();
+                    signatureMap = transaction.getSigMap();
                 }
 
                 if (transactionBody == null || signatureMap == null) {
                     throw new ProtobufException(BAD_TRANSACTION_BODY_BYTES_MESSAGE);
                 }
+
+                return new ParsedTransaction(signatureMap, transactionBody);
             } catch (InvalidProtocolBufferException e) {
                 throw new ProtobufException(BAD_TRANSACTION_BODY_BYTES_MESSAGE, e);
             }
         }
 
         /**
-         * Because body.getDataCase() can return null for unknown transaction types, we instead get oneof generically
-         *
-         * @return The protobuf ID that represents the transaction type
+         * Gets the serialized TransactionBody without parsing the SignedTransaction's signatures.
          */
-        private int parseTransactionType(TransactionBody body) {
-            TransactionBody.DataCase dataCase = body.getDataCase();
-
-            if (dataCase == null || dataCase == TransactionBody.DataCase.DATA_NOT_SET) {
-                Set<Integer> unknownFields = body.getUnknownFields().asMap().keySet();
+        @SuppressWarnings("deprecation")
+        private static ByteString getBodyBytes(Transaction transaction) throws IOException {
+            var signedTransactionBytes = transaction.getSignedTransactionBytes();
+            if (signedTransactionBytes.isEmpty()) {
+                return transaction.getBodyBytes();
+            }
 
-                if (unknownFields.size() != 1) {
-                    log.error(
-                            "Unable to guess correct transaction type since there's not exactly one unknown field {}: {}",
-                            unknownFields,
-                            Hex.encodeHexString(body.toByteArray()));
-                    return TransactionBody.DataCase.DATA_NOT_SET.getNumber();
+            var bodyBytes = ByteString.EMPTY;
+            var input = signedTransactionBytes.newCodedInput();
+            for (int tag = input.readTag(); tag != 0; tag = input.readTag()) {
+                if (tag == SIGNED_TRANSACTION_BODY_BYTES_TAG) {
+                    bodyBytes = input.readBytes();
+                } else {
+                    input.skipField(tag);
                 }
-
-                int genericTransactionType = unknownFields.iterator().next();
-                log.warn("Encountered unknown transaction type: {}", genericTransactionType);
-                return genericTransactionType;
             }
 
-            return dataCase.getNumber();
+            return bodyBytes;
         }
     }
 }
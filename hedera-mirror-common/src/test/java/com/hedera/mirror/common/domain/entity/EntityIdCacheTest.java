@@ -0,0 +1,95 @@
+/*
+ * Copyright (C) 2025 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.common.domain.entity;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.Test;
+
+class EntityIdCacheTest {
+
+    private final AtomicInteger created = new AtomicInteger();
+    private final EntityIdCache cache = new EntityIdCache(64, this::create);
+
+    @Test
+    void capacity() {
+        assertThat(new EntityIdCache(1, this::create).capacity()).isEqualTo(16);
+        assertThat(new EntityIdCache(64, this::create).capacity()).isEqualTo(64);
+        assertThat(new EntityIdCache(500_000, this::create).capacity()).isEqualTo(524_288);
+    }
+
+    @Test
+    void get() {
+        var entityId = cache.get(1001L);
+        assertThat(entityId.getId()).isEqualTo(1001L);
+        assertThat(cache.get(1001L)).isSameAs(entityId);
+        assertThat(cache.get(1002L)).isNotSameAs(entityId).returns(1002L, EntityId::getId);
+        assertThat(created).hasValue(2);
+    }
+
+    @Test
+    void evictUnreferenced() {
+        for (long id = 0; id < 1_000; id++) {
+            assertThat(cache.get(id).getId()).isEqualTo(id);
+        }
+
+        assertThat(created).hasValue(1_000);
+
+        // A frequently read id survives the churn of one time ids
+        var hot = cache.get(5_000L);
+        for (long id = 10_000; id < 10_500; id++) {
+            assertThat(cache.get(hot.getId())).isSameAs(hot);
+            cache.get(id);
+        }
+
+        assertThat(cache.get(hot.getId())).isSameAs(hot);
+    }
+
+    @Test
+    @SneakyThrows
+    void concurrent() {
+        var results = new ConcurrentHashMap<Long, EntityId>();
+
+        try (var executor = Executors.newFixedThreadPool(4)) {
+            var futures = IntStream.range(0, 4)
+                    .mapToObj(t -> executor.submit(() -> {
+                        for (long id = 0; id < 10_000; id++) {
+                            var entityId = cache.get(id % 256);
+                            assertThat(entityId.getId()).isEqualTo(id % 256);
+                            results.putIfAbsent(entityId.getId(), entityId);
+                        }
+                    }))
+                    .toList();
+
+            for (var future : futures) {
+                future.get();
+            }
+        }
+
+        assertThat(results).hasSize(256);
+    }
+
+    private EntityId create(long id) {
+        created.incrementAndGet();
+        return EntityId.of(id);
+    }
+}
@@ -263,6 +263,42 @@ class RecordItemTest {
         assertRecordItem(transaction, recordItem);
     }
 
+    @Test
+    void testWithSignedTransactionHeader() {
+        var payer = AccountID.newBuilder().setAccountNum(1001L).build();
+        var transactionBody = TRANSACTION_BODY.toBuilder()
+                .setTransactionID(TransactionID.newBuilder().setAccountID(payer))
+                .build();
+        var signedTransaction = SIGNED_TRANSACTION.toBuilder()
+                .setBodyBytes(transactionBody.toByteString())
+                .build();
+        var transaction = Transaction.newBuilder()
+                .setSignedTransactionBytes(signedTransaction.toByteString())
+                .build();
+
+        var recordItem = RecordItem.builder()
+                .transactionRecord(TRANSACTION_RECORD)
+                .transaction(transaction)
+                .build();
+
+        assertThat(recordItem)
+                .returns(EntityId.of(payer), RecordItem::getPayerAccountId)
+                .returns(TransactionBody.DataCase.CRYPTOTRANSFER.getNumber(), RecordItem::getTransactionType)
+                .returns(transactionBody, RecordItem::getTransactionBody)
+                .returns(SIGNATURE_MAP, RecordItem::getSignatureMap);
+    }
+
+    @Test
+    void testWithInvalidBodyBytes() {
+        var transaction = Transaction.newBuilder()
+                .setBodyBytes(ByteString.copyFrom(new byte[] {10, 5, 1}))
+                .build();
+        var builder = RecordItem.builder().transactionRecord(TRANSACTION_RECORD).transaction(transaction);
+        assertThatThrownBy(builder::build)
+                .isInstanceOf(ProtobufException.class)
+                .hasMessage(RecordItem.BAD_TRANSACTION_BODY_BYTES_MESSAGE);
+    }
+
     @Test
     void testWithParentItems() {
         var transactionRecord = TransactionRecord.newBuilder()
@@ -18,11 +18,13 @@ package com.hedera.mirror.grpc.listener;
 
 import com.hedera.mirror.common.domain.topic.TopicMessage;
 import com.hedera.mirror.grpc.domain.TopicMessageFilter;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import reactor.core.Exceptions;
-import reactor.core.publisher.DirectProcessor;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.FluxSink;
 import reactor.core.scheduler.Schedulers;
@@ -33,21 +35,55 @@ public abstract class SharedTopicListener implements TopicListener {
     protected final Logger log = LoggerFactory.getLogger(getClass());
     protected final ListenerProperties listenerProperties;
 
+    // Shared listener to the ring buffer that fans its messages out to subscribers
+    private final Map<Flux<TopicMessage>, TopicMessageRingBuffer> ringBuffers = new ConcurrentHashMap<>();
+
     @Override
-    @SuppressWarnings("deprecation")
     public Flux<TopicMessage> listen(TopicMessageFilter filter) {
-        DirectProcessor<TopicMessage> overflowProcessor = DirectProcessor.create();
-        FluxSink<TopicMessage> overflowSink = overflowProcessor.sink();
-
-        // moving publishOn from after onBackpressureBuffer to after Flux.merge reduces CPU usage by up to 40%
-        Flux<TopicMessage> topicMessageFlux = getSharedListener(filter)
-                .doOnSubscribe(s -> log.info("Subscribing: {}", filter))
-                .onBackpressureBuffer(
-                        listenerProperties.getMaxBufferSize(), t -> overflowSink.error(Exceptions.failWithOverflow()))
-                .doFinally(s -> overflowSink.complete());
-        return Flux.merge(listenerProperties.getPrefetch(), topicMessageFlux, overflowProcessor)
-                .publishOn(Schedulers.boundedElastic(), false, listenerProperties.getPrefetch());
+        // Demand is tracked by the ring buffer cursor so the sink doesn't need its own queue
+        return Flux.<TopicMessage>create(
+                        sink -> subscribe(getSharedListener(filter), sink), FluxSink.OverflowStrategy.IGNORE)
+                .doOnSubscribe(s -> log.info("Subscribing: {}", filter));
     }
 
     protected abstract Flux<TopicMessage> getSharedListener(TopicMessageFilter filter);
+
+    private void subscribe(Flux<TopicMessage> sharedListener, FluxSink<TopicMessage> sink) {
+        var cursor = new AtomicReference<TopicMessageRingBuffer.Cursor>();
+        var ringBuffer = ringBuffers.compute(sharedListener, (key, current) -> {
+            var next = current == null || current.isTerminated()
+                    ? new TopicMessageRingBuffer(
+                            listenerProperties.getMaxBufferSize(),
+                            listenerProperties.getPrefetch(),
+                            Schedulers.boundedElastic())
+                    : current;
+            // Add the cursor while holding the map entry so the last subscriber leaving can't close it in between
+            cursor.set(next.add(sink));
+            return next;
+        });
+
+        sink.onDispose(() -> unsubscribe(sharedListener, ringBuffer, cursor.get()));
+        ringBuffer.connect(sharedListener);
+    }
+
+    private void unsubscribe(
+            Flux<TopicMessage> sharedListener,
+            TopicMessageRingBuffer ringBuffer,
+            TopicMessageRingBuffer.Cursor cursor) {
+        ringBuffer.remove(cursor);
+
+        // Close the ring buffer once its last subscriber leaves unless a new subscriber joined in the meantime
+        var removed = new AtomicBoolean(false);
+        ringBuffers.computeIfPresent(sharedListener, (key, current) -> {
+            if (current == ringBuffer && ringBuffer.isEmpty()) {
+                removed.set(true);
+                return null;
+            }
+            return current;
+        });
+
+        if (removed.get()) {
+            ringBuffer.close();
+        }
+    }
 }
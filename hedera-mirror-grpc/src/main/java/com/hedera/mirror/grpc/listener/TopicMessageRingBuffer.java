@@ -0,0 +1,227 @@
+/*
+ * Copyright (C) 2025 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.grpc.listener;
+
+import com.hedera.mirror.common.domain.topic.TopicMessage;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import reactor.core.Disposable;
+import reactor.core.Exceptions;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.FluxSink;
+import reactor.core.scheduler.Scheduler;
+
+/**
+ * Fans out a shared stream of topic messages to its subscribers through a single preallocated ring buffer. Every
+ * message is written once and each subscriber reads it by advancing its own cursor, so memory stays the same no matter
+ * how many subscribers there are. A subscriber whose cursor falls a full buffer behind the producer has lost messages
+ * that were overwritten and is failed with an overflow error.
+ * <p>
+ * Each subscriber's messages are delivered on its own scheduler worker, so the publishing thread only signals the
+ * cursors and a slow subscriber can't hold up the others. A worker delivers at most the batch size of messages before
+ * yielding to other tasks.
+ */
+final class TopicMessageRingBuffer {
+
+    private final int batchSize;
+    private final int capacity;
+    private final Set<Cursor> cursors = ConcurrentHashMap.newKeySet();
+    private final int mask;
+    private final AtomicReferenceArray<TopicMessage> ring;
+    private final Scheduler scheduler;
+
+    // The sequence being written, which is ahead of the published sequence while a slot is being overwritten
+    private volatile long claimed = -1L;
+    private volatile boolean closed;
+    private volatile Throwable error;
+    private volatile long published = -1L;
+    private volatile boolean terminated;
+    private Disposable upstream;
+
+    TopicMessageRingBuffer(int size, int batchSize, Scheduler scheduler) {
+        this.batchSize = batchSize;
+        this.capacity = Integer.highestOneBit(Math.max(size, 2) * 2 - 1);
+        this.mask = capacity - 1;
+        this.ring = new AtomicReferenceArray<>(capacity);
+        this.scheduler = scheduler;
+    }
+
+    /**
+     * Adds a subscriber that receives the messages published after it subscribed.
+     *
+     * @param sink the subscriber's sink
+     * @return the cursor of the subscriber
+     */
+    Cursor add(FluxSink<TopicMessage> sink) {
+        var cursor = new Cursor(sink, published);
+        cursors.add(cursor);
+        sink.onRequest(n -> cursor.signal());
+        return cursor;
+    }
+
+    /**
+     * Subscribes to the source if this is the first time it's called and the ring buffer hasn't already been closed.
+     *
+     * @param source the shared stream of messages to fan out
+     */
+    synchronized void connect(Flux<TopicMessage> source) {
+        if (!closed && upstream == null) {
+            upstream = source.subscribe(this::publish, this::onError, this::onComplete);
+        }
+    }
+
+    /**
+     * Cancels the subscription to the source. Once closed, the ring buffer can't be connected again.
+     */
+    synchronized void close() {
+        closed = true;
+
+        if (upstream != null) {
+            upstream.dispose();
+        }
+    }
+
+    int getCapacity() {
+        return capacity;
+    }
+
+    boolean isEmpty() {
+        return cursors.isEmpty();
+    }
+
+    boolean isTerminated() {
+        return terminated;
+    }
+
+    void remove(Cursor cursor) {
+        cursors.remove(cursor);
+        cursor.worker.dispose();
+    }
+
+    // Only called serially by the single upstream subscription
+    private void publish(TopicMessage topicMessage) {
+        long sequence = published + 1;
+        claimed = sequence;
+        ring.set((int) (sequence & mask), topicMessage);
+        published = sequence;
+        cursors.forEach(Cursor::signal);
+    }
+
+    private void onComplete() {
+        terminated = true;
+        cursors.forEach(Cursor::signal);
+    }
+
+    private void onError(Throwable throwable) {
+        error = throwable;
+        onComplete();
+    }
+
+    final class Cursor {
+
+        private final FluxSink<TopicMessage> sink;
+        private final AtomicInteger wip = new AtomicInteger();
+        private final Scheduler.Worker worker;
+        private long position;
+
+        private Cursor(FluxSink<TopicMessage> sink, long position) {
+            this.sink = sink;
+            this.position = position;
+            this.worker = scheduler.createWorker();
+        }
+
+        /*
+         * Schedules a drain on the cursor's worker. The wip counter ensures only one drain is scheduled or running at a
+         * time and that a signal arriving during a drain causes another pass.
+         */
+        void signal() {
+            if (wip.getAndIncrement() == 0) {
+                schedule();
+            }
+        }
+
+        private void schedule() {
+            try {
+                worker.schedule(this::drain);
+            } catch (RejectedExecutionException e) {
+                // The worker is disposed once the subscriber is removed
+            }
+        }
+
+        // Emits messages up to the published sequence while there's demand
+        private void drain() {
+            int emitted = 0;
+            int missed = 1;
+
+            do {
+                boolean done = terminated;
+                long last = published;
+
+                while (position < last && !sink.isCancelled()) {
+                    long next = position + 1;
+
+                    // A lagging subscriber is failed as soon as it's detected, even if it has no outstanding demand
+                    if (isOverwritten(next)) {
+                        sink.error(Exceptions.failWithOverflow());
+                        return;
+                    }
+
+                    if (sink.requestedFromDownstream() == 0) {
+                        break;
+                    }
+
+                    var topicMessage = ring.get((int) (next & mask));
+
+                    // Check again after reading so a slot overwritten mid-read is never emitted
+                    if (isOverwritten(next)) {
+                        sink.error(Exceptions.failWithOverflow());
+                        return;
+                    }
+
+                    // Yield the worker to other tasks and continue in a new pass that keeps the outstanding signals
+                    if (emitted == batchSize) {
+                        schedule();
+                        return;
+                    }
+
+                    position = next;
+                    emitted++;
+                    sink.next(topicMessage);
+                }
+
+                if (done && position == last && !sink.isCancelled()) {
+                    var throwable = error;
+                    if (throwable != null) {
+                        sink.error(throwable);
+                    } else {
+                        sink.complete();
+                    }
+                    return;
+                }
+
+                missed = wip.addAndGet(-missed);
+            } while (missed != 0);
+        }
+
+        private boolean isOverwritten(long sequence) {
+            return claimed - sequence >= capacity;
+        }
+    }
+}
@@ -42,15 +42,18 @@ public class PollingTopicMessageRetriever implements TopicMessageRetriever {
 
     private final ObservationRegistry observationRegistry;
     private final RetrieverProperties retrieverProperties;
+    private final TopicMessageCache topicMessageCache;
     private final TopicMessageRepository topicMessageRepository;
     private final Scheduler scheduler;
 
     public PollingTopicMessageRetriever(
             ObservationRegistry observationRegistry,
             RetrieverProperties retrieverProperties,
+            TopicMessageCache topicMessageCache,
             TopicMessageRepository topicMessageRepository) {
         this.observationRegistry = observationRegistry;
         this.retrieverProperties = retrieverProperties;
+        this.topicMessageCache = topicMessageCache;
         this.topicMessageRepository = topicMessageRepository;
         int threadCount =
                 retrieverProperties.getThreadMultiplier() * Runtime.getRuntime().availableProcessors();
@@ -90,6 +93,10 @@ public class PollingTopicMessageRetriever implements TopicMessageRetriever {
 
         var newFilter = filter.toBuilder().limit(pageSize).startTime(startTime).build();
 
+        if (retrieverProperties.getCache().isEnabled()) {
+            return Flux.fromIterable(topicMessageCache.findByFilter(newFilter));
+        }
+
         log.debug("Executing query: {}", newFilter);
         return Flux.fromStream(topicMessageRepository.findByFilter(newFilter));
     }
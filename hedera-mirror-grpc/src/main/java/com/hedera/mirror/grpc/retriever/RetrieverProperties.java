@@ -30,6 +30,10 @@ import org.springframework.validation.annotation.Validated;
 @ConfigurationProperties("hedera.mirror.grpc.retriever")
 public class RetrieverProperties {
 
+    @NotNull
+    @Valid
+    private CacheProperties cache = new CacheProperties();
+
     private boolean enabled = true;
 
     @Min(32)
@@ -48,6 +52,23 @@ public class RetrieverProperties {
     @Valid
     private UnthrottledProperties unthrottled = new UnthrottledProperties();
 
+    @Data
+    @Validated
+    public static class CacheProperties {
+
+        private boolean enabled = false;
+
+        @DurationMin(seconds = 1)
+        @NotNull
+        private Duration expiry = Duration.ofSeconds(30L);
+
+        @Min(32)
+        private int maxMessages = 5000;
+
+        @Min(1)
+        private int maxTopics = 100;
+    }
+
     @Data
     @Validated
     public static class UnthrottledProperties {
@@ -0,0 +1,327 @@
+/*
+ * Copyright (C) 2025 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.grpc.retriever;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.hedera.mirror.common.domain.entity.EntityId;
+import com.hedera.mirror.common.domain.topic.TopicMessage;
+import com.hedera.mirror.grpc.domain.TopicMessageFilter;
+import com.hedera.mirror.grpc.repository.TopicMessageRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.inject.Named;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import lombok.CustomLog;
+
+/**
+ * A per-topic read-through cache of recently retrieved historical topic messages. Each hot topic keeps a ring buffer of
+ * its last N messages along with the consensus timestamp range the buffer is known to completely cover. Queries that
+ * start within that range are served from the buffer and only the part past its end is read from the database. A query
+ * that misses while another query for the same topic is in flight from an earlier start time waits for it and retries
+ * the buffer, so subscribers starting at similar times share one database query.
+ */
+@CustomLog
+@Named
+public class TopicMessageCache {
+
+    static final String METRIC = "hedera.mirror.grpc.retriever.cache";
+
+    // Rough size of a topic message excluding its byte arrays
+    private static final long MESSAGE_OVERHEAD = 128L;
+
+    private final Cache<EntityId, TopicBuffer> buffers;
+    private final AtomicLong bytes = new AtomicLong(0L);
+    private final Counter hitCounter;
+    private final Map<EntityId, Pending> inflight = new ConcurrentHashMap<>();
+    private final AtomicLong messages = new AtomicLong(0L);
+    private final Counter missCounter;
+    private final Counter partialCounter;
+    private final RetrieverProperties.CacheProperties properties;
+    private final TopicMessageRepository topicMessageRepository;
+
+    public TopicMessageCache(
+            MeterRegistry meterRegistry,
+            RetrieverProperties retrieverProperties,
+            TopicMessageRepository topicMessageRepository) {
+        this.properties = retrieverProperties.getCache();
+        this.topicMessageRepository = topicMessageRepository;
+        this.buffers = Caffeine.newBuilder()
+                .expireAfterAccess(properties.getExpiry())
+                .maximumSize(properties.getMaxTopics())
+                .<EntityId, TopicBuffer>removalListener((topicId, buffer, cause) -> {
+                    if (buffer != null) {
+                        buffer.clear();
+                    }
+                })
+                .build();
+
+        var requests = Counter.builder(METRIC + ".requests")
+                .description("The number of historical queries served by the topic message cache");
+        hitCounter = requests.tag("result", "hit").register(meterRegistry);
+        missCounter = requests.tag("result", "miss").register(meterRegistry);
+        partialCounter = requests.tag("result", "partial").register(meterRegistry);
+
+        Gauge.builder(METRIC + ".bytes", bytes, AtomicLong::get)
+                .baseUnit("bytes")
+                .description("The estimated memory used by the messages in the topic message cache")
+                .register(meterRegistry);
+        Gauge.builder(METRIC + ".messages", messages, AtomicLong::get)
+                .description("The number of messages in the topic message cache")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Finds the messages matching the filter, reading through to the database for any part of the results that isn't
+     * cached. The results are the same as {@link TopicMessageRepository#findByFilter(TopicMessageFilter)}.
+     *
+     * @param filter the topic message filter
+     * @return the matching topic messages ordered by consensus timestamp
+     */
+    public List<TopicMessage> findByFilter(TopicMessageFilter filter) {
+        var topicId = filter.getTopicId();
+        var cached = read(filter);
+
+        if (!isComplete(cached, filter)) {
+            long startTime = cached != null ? cached.coveredTo() + 1 : filter.getStartTime();
+            var pending = inflight.get(topicId);
+
+            if (pending != null && pending.startTime() <= startTime) {
+                pending.future().join();
+                cached = read(filter);
+            }
+        }
+
+        if (cached == null) {
+            missCounter.increment();
+            return query(filter, result -> seed(filter, result));
+        }
+
+        if (isComplete(cached, filter)) {
+            hitCounter.increment();
+            return cached.messages();
+        }
+
+        partialCounter.increment();
+        long startTime = cached.coveredTo() + 1;
+        long limit = filter.hasLimit() ? filter.getLimit() - cached.messages().size() : 0L;
+        var remaining = filter.toBuilder().limit(limit).startTime(startTime).build();
+        var buffer = cached.buffer();
+        var result = query(remaining, r -> buffer.append(startTime, r));
+
+        var combined = new ArrayList<TopicMessage>(cached.messages().size() + result.size());
+        combined.addAll(cached.messages());
+        combined.addAll(result);
+        return combined;
+    }
+
+    private boolean isComplete(Read cached, TopicMessageFilter filter) {
+        if (cached == null) {
+            return false;
+        }
+
+        var endTime = filter.getEndTime();
+        return (filter.hasLimit() && cached.messages().size() >= filter.getLimit())
+                || (endTime != null && endTime <= cached.coveredTo() + 1);
+    }
+
+    private Read read(TopicMessageFilter filter) {
+        var buffer = buffers.getIfPresent(filter.getTopicId());
+        return buffer != null ? buffer.read(filter) : null;
+    }
+
+    private List<TopicMessage> query(TopicMessageFilter filter, Consumer<List<TopicMessage>> cacher) {
+        var topicId = filter.getTopicId();
+        var pending = new Pending(filter.getStartTime(), new CompletableFuture<>());
+        boolean registered = inflight.putIfAbsent(topicId, pending) == null;
+
+        try {
+            log.debug("Cache miss, executing query: {}", filter);
+            var result = topicMessageRepository.findByFilter(filter).toList();
+            cacher.accept(result);
+            return result;
+        } finally {
+            if (registered) {
+                inflight.remove(topicId, pending);
+                pending.future().complete(null);
+            }
+        }
+    }
+
+    /*
+     * Replaces the topic's buffer if the result of a miss is more recent than what's currently buffered. Older results
+     * aren't merged into the buffer since subscribers are expected to converge on the recent messages.
+     */
+    private void seed(TopicMessageFilter filter, List<TopicMessage> result) {
+        if (result.isEmpty()) {
+            return;
+        }
+
+        long last = result.getLast().getConsensusTimestamp();
+        buffers.asMap().compute(filter.getTopicId(), (topicId, existing) -> {
+            if (existing != null && existing.getCoveredTo() >= last) {
+                return existing;
+            }
+
+            var buffer = new TopicBuffer(filter.getStartTime());
+            buffer.append(filter.getStartTime(), result);
+            return buffer;
+        });
+    }
+
+    private static long size(TopicMessage topicMessage) {
+        return MESSAGE_OVERHEAD
+                + length(topicMessage.getInitialTransactionId())
+                + length(topicMessage.getMessage())
+                + length(topicMessage.getRunningHash());
+    }
+
+    private static int length(byte[] bytes) {
+        return bytes != null ? bytes.length : 0;
+    }
+
+    private record Pending(long startTime, CompletableFuture<Void> future) {}
+
+    private record Read(TopicBuffer buffer, List<TopicMessage> messages, long coveredTo) {}
+
+    /*
+     * A fixed size ring buffer of a topic's messages ordered by consensus timestamp. It holds every message of the
+     * topic with a consensus timestamp in the range [coveredFrom, coveredTo].
+     */
+    private final class TopicBuffer {
+
+        private final TopicMessage[] ring;
+        private long coveredFrom;
+        private long coveredTo;
+        private boolean evicted;
+        private int head;
+        private int size;
+        private long sizeBytes;
+
+        private TopicBuffer(long startTime) {
+            this.ring = new TopicMessage[properties.getMaxMessages()];
+            this.coveredFrom = startTime;
+            this.coveredTo = startTime - 1;
+        }
+
+        /**
+         * Appends the result of a query that started at the given time. The result is ignored if there would be a gap
+         * between it and the buffered messages.
+         */
+        synchronized void append(long startTime, List<TopicMessage> result) {
+            if (evicted || startTime > coveredTo + 1) {
+                return;
+            }
+
+            for (var topicMessage : result) {
+                long timestamp = topicMessage.getConsensusTimestamp();
+                if (timestamp <= coveredTo) {
+                    continue;
+                }
+
+                if (size == ring.length) {
+                    evictOldest();
+                }
+
+                long messageSize = size(topicMessage);
+                ring[(head + size) % ring.length] = topicMessage;
+                size++;
+                sizeBytes += messageSize;
+                coveredTo = timestamp;
+                bytes.addAndGet(messageSize);
+                messages.incrementAndGet();
+            }
+        }
+
+        synchronized void clear() {
+            if (!evicted) {
+                evicted = true;
+                bytes.addAndGet(-sizeBytes);
+                messages.addAndGet(-size);
+                Arrays.fill(ring, null);
+                size = 0;
+                sizeBytes = 0L;
+            }
+        }
+
+        synchronized long getCoveredTo() {
+            return coveredTo;
+        }
+
+        synchronized Read read(TopicMessageFilter filter) {
+            long startTime = filter.getStartTime();
+            if (evicted || size == 0 || startTime < coveredFrom || startTime > coveredTo + 1) {
+                return null;
+            }
+
+            var endTime = filter.getEndTime();
+            long limit = filter.hasLimit() ? filter.getLimit() : Long.MAX_VALUE;
+            var result = new ArrayList<TopicMessage>();
+
+            for (int i = indexOf(startTime); i < size && result.size() < limit; i++) {
+                var topicMessage = get(i);
+                if (endTime != null && topicMessage.getConsensusTimestamp() >= endTime) {
+                    break;
+                }
+                result.add(topicMessage);
+            }
+
+            return new Read(this, result, coveredTo);
+        }
+
+        private void evictOldest() {
+            var oldest = ring[head];
+            long messageSize = size(oldest);
+            ring[head] = null;
+            head = (head + 1) % ring.length;
+            size--;
+            sizeBytes -= messageSize;
+            coveredFrom = oldest.getConsensusTimestamp() + 1;
+            bytes.addAndGet(-messageSize);
+            messages.decrementAndGet();
+        }
+
+        private TopicMessage get(int index) {
+            return ring[(head + index) % ring.length];
+        }
+
+        // Binary search for the first message at or after the timestamp
+        private int indexOf(long timestamp) {
+            int low = 0;
+            int high = size;
+
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (get(mid).getConsensusTimestamp() < timestamp) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+
+            return low;
+        }
+    }
+}
@@ -0,0 +1,182 @@
+/*
+ * Copyright (C) 2025 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.grpc.listener;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.hedera.mirror.common.domain.topic.TopicMessage;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.stream.LongStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import reactor.core.Exceptions;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.FluxSink;
+import reactor.core.publisher.Sinks;
+import reactor.core.scheduler.Schedulers;
+import reactor.test.StepVerifier;
+
+class TopicMessageRingBufferTest {
+
+    private static final Duration WAIT = Duration.ofSeconds(5L);
+
+    private TopicMessageRingBuffer ringBuffer;
+    private Sinks.Many<TopicMessage> source;
+
+    @BeforeEach
+    void setup() {
+        ringBuffer = new TopicMessageRingBuffer(16, 4, Schedulers.boundedElastic());
+        source = Sinks.many().multicast().directBestEffort();
+    }
+
+    @ParameterizedTest
+    @CsvSource({"1, 2", "16, 16", "17, 32", "16384, 16384", "65536, 65536"})
+    void capacity(int size, int expected) {
+        assertThat(new TopicMessageRingBuffer(size, 4, Schedulers.immediate()).getCapacity()).isEqualTo(expected);
+    }
+
+    @Test
+    void fanOut() {
+        var first = subscribe().as(StepVerifier::create).expectNext(1L, 2L, 3L).thenCancel().verifyLater();
+        var second = subscribe().as(StepVerifier::create).expectNext(1L, 2L, 3L).thenCancel().verifyLater();
+
+        publish(1, 3);
+
+        first.verify(WAIT);
+        second.verify(WAIT);
+    }
+
+    @Test
+    void onlyNewMessages() {
+        var first = subscribe().as(StepVerifier::create).expectNext(1L, 2L, 3L).thenCancel().verifyLater();
+        publish(1, 2);
+
+        var second = subscribe().as(StepVerifier::create).expectNext(3L).thenCancel().verifyLater();
+        publish(3, 3);
+
+        first.verify(WAIT);
+        second.verify(WAIT);
+    }
+
+    @Test
+    void blockedSubscriber() {
+        var latch = new CountDownLatch(1);
+        var blocked = subscribe()
+                .doOnNext(n -> awaitUninterruptibly(latch))
+                .as(StepVerifier::create)
+                .expectNext(1L, 2L, 3L)
+                .thenCancel()
+                .verifyLater();
+        var other = subscribe().as(StepVerifier::create).expectNext(1L, 2L, 3L).thenCancel().verifyLater();
+
+        publish(1, 3);
+
+        other.verify(WAIT);
+        latch.countDown();
+        blocked.verify(WAIT);
+    }
+
+    @Test
+    void slowSubscriberOverflow() {
+        // Deliver on the publishing thread so the fast subscriber deterministically keeps up
+        ringBuffer = new TopicMessageRingBuffer(16, 4, Schedulers.immediate());
+        int count = ringBuffer.getCapacity() + 2;
+        var fast = subscribe()
+                .as(StepVerifier::create)
+                .expectNextSequence(LongStream.rangeClosed(1, count).boxed().toList())
+                .thenCancel()
+                .verifyLater();
+
+        subscribe()
+                .as(p -> StepVerifier.create(p, 1))
+                .expectSubscription()
+                .then(() -> publish(1, count))
+                .expectNext(1L)
+                .expectErrorMatches(Exceptions::isOverflow)
+                .verify(WAIT);
+
+        fast.verify(WAIT);
+    }
+
+    @Test
+    void complete() {
+        var subscriber = subscribe().as(StepVerifier::create).expectNext(1L).expectComplete().verifyLater();
+
+        publish(1, 1);
+        source.tryEmitComplete();
+
+        subscriber.verify(WAIT);
+        assertThat(ringBuffer.isTerminated()).isTrue();
+    }
+
+    @Test
+    void error() {
+        var subscriber = subscribe()
+                .as(StepVerifier::create)
+                .expectNext(1L)
+                .expectError(IllegalStateException.class)
+                .verifyLater();
+
+        publish(1, 1);
+        source.tryEmitError(new IllegalStateException("error"));
+
+        subscriber.verify(WAIT);
+    }
+
+    @Test
+    void close() {
+        subscribe().as(StepVerifier::create).thenCancel().verify(WAIT);
+        assertThat(source.currentSubscriberCount()).isOne();
+
+        ringBuffer.close();
+        assertThat(source.currentSubscriberCount()).isZero();
+
+        ringBuffer.connect(source.asFlux());
+        assertThat(source.currentSubscriberCount()).isZero();
+    }
+
+    private void awaitUninterruptibly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private Flux<Long> subscribe() {
+        return Flux.<TopicMessage>create(
+                        sink -> {
+                            var cursor = ringBuffer.add(sink);
+                            sink.onDispose(() -> ringBuffer.remove(cursor));
+                            ringBuffer.connect(source.asFlux());
+                        },
+                        FluxSink.OverflowStrategy.IGNORE)
+                .map(TopicMessage::getSequenceNumber);
+    }
+
+    private void publish(long from, long to) {
+        for (long i = from; i <= to; i++) {
+            source.tryEmitNext(TopicMessage.builder()
+                    .consensusTimestamp(i)
+                    .sequenceNumber(i)
+                    .build());
+        }
+    }
+}
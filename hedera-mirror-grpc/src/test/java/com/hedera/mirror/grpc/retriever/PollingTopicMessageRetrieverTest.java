@@ -239,6 +239,35 @@ class PollingTopicMessageRetrieverTest extends GrpcIntegrationTest {
                 .verify(WAIT);
     }
 
+    @ParameterizedTest
+    @ValueSource(booleans = {true, false})
+    void cached(boolean throttle) {
+        // Use a separate topic per run since the cache outlives the database cleanup between tests
+        var topicId = EntityId.of(throttle ? 200L : 201L);
+        int maxPageSize = overrideMaxPageSize(throttle, 2);
+        retrieverProperties.getCache().setEnabled(true);
+
+        domainBuilder.topicMessage(t -> t.topicId(topicId)).block();
+        domainBuilder.topicMessage(t -> t.topicId(topicId)).block();
+        domainBuilder.topicMessage(t -> t.topicId(topicId)).block();
+
+        TopicMessageFilter filter =
+                TopicMessageFilter.builder().startTime(0).topicId(topicId).build();
+
+        for (int i = 0; i < 2; i++) {
+            StepVerifier.withVirtualTime(() -> pollingTopicMessageRetriever
+                            .retrieve(filter, throttle)
+                            .map(TopicMessage::getSequenceNumber))
+                    .thenAwait(WAIT)
+                    .expectNext(1L, 2L, 3L)
+                    .expectComplete()
+                    .verify(WAIT);
+        }
+
+        retrieverProperties.getCache().setEnabled(false);
+        restoreMaxPageSize(throttle, maxPageSize);
+    }
+
     @ParameterizedTest
     @ValueSource(booleans = {true, false})
     void timeout(boolean throttle) {
@@ -0,0 +1,185 @@
+/*
+ * Copyright (C) 2025 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.grpc.retriever;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.hedera.mirror.common.domain.entity.EntityId;
+import com.hedera.mirror.common.domain.topic.TopicMessage;
+import com.hedera.mirror.grpc.domain.TopicMessageFilter;
+import com.hedera.mirror.grpc.repository.TopicMessageRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import java.util.stream.LongStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class TopicMessageCacheTest {
+
+    private static final EntityId TOPIC_ID = EntityId.of(100L);
+
+    private SimpleMeterRegistry meterRegistry;
+    private RetrieverProperties retrieverProperties;
+    private TopicMessageCache topicMessageCache;
+    private TopicMessageRepository topicMessageRepository;
+
+    @BeforeEach
+    void setup() {
+        meterRegistry = new SimpleMeterRegistry();
+        retrieverProperties = new RetrieverProperties();
+        retrieverProperties.getCache().setMaxMessages(32);
+        topicMessageRepository = mock(TopicMessageRepository.class);
+        topicMessageCache = new TopicMessageCache(meterRegistry, retrieverProperties, topicMessageRepository);
+    }
+
+    @Test
+    void miss() {
+        var messages = topicMessages(1, 3);
+        when(topicMessageRepository.findByFilter(any())).thenAnswer(i -> messages.stream());
+
+        assertThat(topicMessageCache.findByFilter(filter(1, 5))).containsExactlyElementsOf(messages);
+        assertThat(count("miss")).isOne();
+        assertThat(gauge("messages")).isEqualTo(3.0);
+        assertThat(gauge("bytes")).isPositive();
+    }
+
+    @Test
+    void hit() {
+        var messages = topicMessages(1, 5);
+        when(topicMessageRepository.findByFilter(any())).thenAnswer(i -> messages.stream());
+        topicMessageCache.findByFilter(filter(1, 5));
+
+        assertThat(topicMessageCache.findByFilter(filter(2, 3))).containsExactlyElementsOf(messages.subList(1, 4));
+        assertThat(topicMessageCache.findByFilter(filter(3, 2))).containsExactlyElementsOf(messages.subList(2, 4));
+        verify(topicMessageRepository, times(1)).findByFilter(any());
+        assertThat(count("hit")).isEqualTo(2.0);
+        assertThat(count("miss")).isOne();
+    }
+
+    @Test
+    void hitEndTime() {
+        var messages = topicMessages(1, 5);
+        when(topicMessageRepository.findByFilter(any())).thenAnswer(i -> messages.stream());
+        topicMessageCache.findByFilter(filter(1, 5));
+
+        var filter = filter(2, 0).toBuilder().endTime(4L).build();
+        assertThat(topicMessageCache.findByFilter(filter)).containsExactlyElementsOf(messages.subList(1, 3));
+        verify(topicMessageRepository, times(1)).findByFilter(any());
+        assertThat(count("hit")).isOne();
+    }
+
+    @Test
+    void partial() {
+        var messages = topicMessages(1, 3);
+        var remaining = topicMessages(4, 2);
+        when(topicMessageRepository.findByFilter(argThat(f -> f != null && f.getStartTime() == 1L)))
+                .thenAnswer(i -> messages.stream());
+        when(topicMessageRepository.findByFilter(
+                        argThat(f -> f != null && f.getStartTime() == 4L && f.getLimit() == 3L)))
+                .thenAnswer(i -> remaining.stream());
+        topicMessageCache.findByFilter(filter(1, 3));
+
+        assertThat(topicMessageCache.findByFilter(filter(2, 5)))
+                .containsExactly(messages.get(1), messages.get(2), remaining.get(0), remaining.get(1));
+        assertThat(count("partial")).isOne();
+        assertThat(gauge("messages")).isEqualTo(5.0);
+
+        // The remaining messages were appended to the buffer
+        assertThat(topicMessageCache.findByFilter(filter(4, 2))).containsExactlyElementsOf(remaining);
+        assertThat(count("hit")).isOne();
+    }
+
+    @Test
+    void evictOldest() {
+        var messages = topicMessages(1, 40);
+        when(topicMessageRepository.findByFilter(any())).thenAnswer(i -> messages.stream());
+        topicMessageCache.findByFilter(filter(1, 40));
+        assertThat(gauge("messages")).isEqualTo(32.0);
+
+        assertThat(topicMessageCache.findByFilter(filter(9, 2))).containsExactlyElementsOf(messages.subList(8, 10));
+        assertThat(count("hit")).isOne();
+
+        topicMessageCache.findByFilter(filter(8, 2));
+        assertThat(count("miss")).isEqualTo(2.0);
+    }
+
+    @Test
+    void olderMissDoesNotReplaceBuffer() {
+        var recent = topicMessages(10, 5);
+        var older = topicMessages(1, 2);
+        when(topicMessageRepository.findByFilter(argThat(f -> f != null && f.getStartTime() == 10L)))
+                .thenAnswer(i -> recent.stream());
+        when(topicMessageRepository.findByFilter(argThat(f -> f != null && f.getStartTime() == 1L)))
+                .thenAnswer(i -> older.stream());
+        topicMessageCache.findByFilter(filter(10, 5));
+
+        assertThat(topicMessageCache.findByFilter(filter(1, 2))).containsExactlyElementsOf(older);
+        assertThat(topicMessageCache.findByFilter(filter(11, 2))).containsExactlyElementsOf(recent.subList(1, 3));
+        assertThat(count("hit")).isOne();
+        assertThat(gauge("messages")).isEqualTo(5.0);
+    }
+
+    @Test
+    void emptyResultNotCached() {
+        when(topicMessageRepository.findByFilter(any())).thenAnswer(i -> List.<TopicMessage>of().stream());
+
+        assertThat(topicMessageCache.findByFilter(filter(1, 5))).isEmpty();
+        assertThat(topicMessageCache.findByFilter(filter(1, 5))).isEmpty();
+        verify(topicMessageRepository, times(2)).findByFilter(any());
+        verify(topicMessageRepository, never()).findByFilter(argThat(f -> f != null && f.getStartTime() != 1L));
+        assertThat(count("miss")).isEqualTo(2.0);
+    }
+
+    private double count(String result) {
+        return meterRegistry
+                .find(TopicMessageCache.METRIC + ".requests")
+                .tag("result", result)
+                .counter()
+                .count();
+    }
+
+    private double gauge(String name) {
+        return meterRegistry.find(TopicMessageCache.METRIC + "." + name).gauge().value();
+    }
+
+    private TopicMessageFilter filter(long startTime, long limit) {
+        return TopicMessageFilter.builder()
+                .limit(limit)
+                .startTime(startTime)
+                .topicId(TOPIC_ID)
+                .build();
+    }
+
+    private List<TopicMessage> topicMessages(long startTime, int count) {
+        return LongStream.range(startTime, startTime + count)
+                .mapToObj(timestamp -> TopicMessage.builder()
+                        .consensusTimestamp(timestamp)
+                        .message(new byte[] {1, 2, 3})
+                        .runningHash(new byte[] {4, 5, 6})
+                        .sequenceNumber(timestamp)
+                        .topicId(TOPIC_ID)
+                        .build())
+                .toList();
+    }
+}
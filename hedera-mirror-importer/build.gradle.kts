@@ -19,6 +19,7 @@ description = "Hedera Mirror Node Importer"
 plugins { id("spring-conventions") }
 
 dependencies {
+    val testClasses by configurations.creating
     implementation(platform("com.google.cloud:spring-cloud-gcp-dependencies"))
     implementation(platform("org.springframework.cloud:spring-cloud-dependencies"))
     implementation(platform("software.amazon.awssdk:bom"))
@@ -68,4 +69,5 @@ dependencies {
     testImplementation("org.springframework.boot:spring-boot-testcontainers")
     testImplementation("org.testcontainers:postgresql")
     testRuntimeOnly("org.junit.platform:junit-platform-launcher")
+    testClasses(sourceSets["test"].output)
 }
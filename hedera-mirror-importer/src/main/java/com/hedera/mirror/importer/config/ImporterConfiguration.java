@@ -19,8 +19,14 @@ package com.hedera.mirror.importer.config;
 import com.hedera.mirror.importer.ImporterProperties;
 import com.hedera.mirror.importer.leader.LeaderAspect;
 import com.hedera.mirror.importer.leader.LeaderService;
+import com.hedera.mirror.importer.parser.record.PipelineBarrier;
+import java.sql.Connection;
+import java.sql.SQLException;
+import javax.sql.DataSource;
 import lombok.CustomLog;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
 import org.springframework.boot.autoconfigure.AutoConfigureBefore;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnCloudPlatform;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
@@ -31,6 +37,7 @@ import org.springframework.boot.autoconfigure.flyway.FlywayConfigurationCustomiz
 import org.springframework.boot.cloud.CloudPlatform;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
 import org.springframework.retry.annotation.EnableRetry;
 import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.scheduling.annotation.EnableScheduling;
@@ -86,4 +93,52 @@ class ImporterConfiguration {
             matchIfMissing = true)
     @EnableScheduling
     protected static class SchedulingConfiguration {}
+
+    @Configuration
+    @ConditionalOnProperty(
+            prefix = "hedera.mirror.importer.parser.record.pipeline",
+            name = "enabled",
+            havingValue = "true")
+    protected static class PipelineConfiguration {
+
+        // Static since post processors are created before the rest of the configuration
+        @Bean
+        static BeanPostProcessor pipelineDataSourcePostProcessor(ObjectProvider<PipelineBarrier> pipelineBarrier) {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    if (bean instanceof DataSource dataSource && !(bean instanceof PipelineDataSource)) {
+                        return new PipelineDataSource(dataSource, pipelineBarrier);
+                    }
+                    return bean;
+                }
+            };
+        }
+    }
+
+    /**
+     * Waits for the previous record file batch to be committed before handing out a connection to a thread preparing
+     * the next batch.
+     */
+    private static class PipelineDataSource extends DelegatingDataSource {
+
+        private final ObjectProvider<PipelineBarrier> pipelineBarrier;
+
+        private PipelineDataSource(DataSource dataSource, ObjectProvider<PipelineBarrier> pipelineBarrier) {
+            super(dataSource);
+            this.pipelineBarrier = pipelineBarrier;
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            pipelineBarrier.getObject().await();
+            return super.getConnection();
+        }
+
+        @Override
+        public Connection getConnection(String username, String password) throws SQLException {
+            pipelineBarrier.getObject().await();
+            return super.getConnection(username, password);
+        }
+    }
 }
@@ -33,6 +33,14 @@ import org.springframework.scheduling.annotation.Scheduled;
 @RequiredArgsConstructor
 public class PartitionMaintenance {
 
+    private static final String DROP_PARTITION_SQL = "alter table %s detach partition %s; drop table %s";
+    private static final String GET_PARTITIONS_SQL =
+            """
+            select name, to_timestamp, pg_total_relation_size(quote_ident(name)::regclass) as size
+            from mirror_node_time_partitions
+            where parent = ?
+            order by from_timestamp
+            """;
     private static final String RUN_MAINTENANCE_QUERY = "call create_mirror_node_time_partitions()";
 
     @Owner
@@ -54,4 +62,36 @@ public class PartitionMaintenance {
         jdbcTemplate.execute(RUN_MAINTENANCE_QUERY);
         log.info("Partition maintenance completed successfully in {}", stopwatch);
     }
+
+    /**
+     * Detaches and drops the time partitions of a table that only contain data on or before the timestamp. The latest
+     * partition is never dropped, and partitions aren't dropped while maintenance is creating new ones.
+     *
+     * @param tableName the time partitioned table
+     * @param timestamp the inclusive timestamp partitions must end on or before to be dropped
+     * @return the number of bytes reclaimed
+     */
+    public synchronized long dropPartitions(String tableName, long timestamp) {
+        var partitions = jdbcTemplate.query(
+                GET_PARTITIONS_SQL,
+                (rs, rowNum) -> new PartitionSize(rs.getString(1), rs.getLong(2), rs.getLong(3)),
+                tableName);
+        long reclaimed = 0L;
+
+        for (int i = 0; i < partitions.size() - 1; i++) {
+            var partition = partitions.get(i);
+            if (partition.toTimestamp() - 1 > timestamp) {
+                break;
+            }
+
+            var name = partition.name();
+            jdbcTemplate.execute(DROP_PARTITION_SQL.formatted(tableName, name, name));
+            reclaimed += partition.size();
+            log.info("Dropped partition {} reclaiming {} bytes", name, partition.size());
+        }
+
+        return reclaimed;
+    }
+
+    private record PartitionSize(String name, long toTimestamp, long size) {}
 }
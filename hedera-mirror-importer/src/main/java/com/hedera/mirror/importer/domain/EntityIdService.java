@@ -18,8 +18,10 @@ package com.hedera.mirror.importer.domain;
 
 import com.hedera.mirror.common.domain.entity.Entity;
 import com.hedera.mirror.common.domain.entity.EntityId;
+import com.hedera.mirror.common.domain.transaction.RecordItem;
 import com.hederahashgraph.api.proto.java.AccountID;
 import com.hederahashgraph.api.proto.java.ContractID;
+import java.util.Collection;
 import java.util.Optional;
 
 /**
@@ -71,6 +73,14 @@ public interface EntityIdService {
      */
     Optional<EntityId> lookup(ContractID... contractIds);
 
+    /**
+     * Resolves the uncached aliases and EVM addresses referenced by the record items in a single query and warms the
+     * cache with the results, so the lookups while parsing the record items don't query the database one at a time.
+     *
+     * @param recordItems The record items about to be parsed
+     */
+    void preload(Collection<RecordItem> recordItems);
+
     /**
      * Used to notify the system of new aliases / evm addresses for potential use in future lookups.
      *
@@ -23,20 +23,31 @@ import static com.hedera.mirror.importer.config.CacheConfiguration.CACHE_ALIAS;
 import static com.hedera.mirror.importer.config.CacheConfiguration.CACHE_NAME;
 import static com.hedera.mirror.importer.util.Utility.aliasToEvmAddress;
 
+import com.google.common.base.Stopwatch;
 import com.google.protobuf.ByteString;
 import com.google.protobuf.GeneratedMessageV3;
 import com.hedera.mirror.common.domain.entity.Entity;
 import com.hedera.mirror.common.domain.entity.EntityId;
 import com.hedera.mirror.common.domain.entity.EntityType;
+import com.hedera.mirror.common.domain.transaction.RecordItem;
+import com.hedera.mirror.common.domain.transaction.TransactionType;
 import com.hedera.mirror.common.util.DomainUtils;
 import com.hedera.mirror.importer.repository.EntityRepository;
 import com.hedera.mirror.importer.util.Utility;
 import com.hederahashgraph.api.proto.java.AccountID;
 import com.hederahashgraph.api.proto.java.ContractID;
+import com.hederahashgraph.api.proto.java.TokenTransferList;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.annotation.Nonnull;
 import jakarta.inject.Named;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.Callable;
 import java.util.function.Function;
 import lombok.CustomLog;
@@ -44,19 +55,44 @@ import org.apache.commons.codec.binary.Hex;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.cache.Cache;
 import org.springframework.cache.CacheManager;
+import org.springframework.jdbc.core.JdbcOperations;
 
 @CustomLog
 @Named
 public class EntityIdServiceImpl implements EntityIdService {
 
     private static final Optional<EntityId> EMPTY = Optional.of(EntityId.EMPTY);
+    private static final String PRELOAD_METRIC = "hedera.mirror.importer.entity.alias.preload";
+    private static final String PRELOAD_SQL =
+            """
+            select alias as address, id from entity where alias = any(?) and deleted <> true
+            union all
+            select evm_address as address, id from entity where evm_address = any(?) and deleted <> true
+            """;
 
     private final Cache cache;
     private final EntityRepository entityRepository;
+    private final JdbcOperations jdbcOperations;
+    private final DistributionSummary preloadBatchSizeMetric;
+    private final Counter preloadHitMetric;
+    private final Counter preloadMissMetric;
 
-    public EntityIdServiceImpl(@Qualifier(CACHE_ALIAS) CacheManager cacheManager, EntityRepository entityRepository) {
+    public EntityIdServiceImpl(
+            @Qualifier(CACHE_ALIAS) CacheManager cacheManager,
+            EntityRepository entityRepository,
+            JdbcOperations jdbcOperations,
+            MeterRegistry meterRegistry) {
         this.cache = cacheManager.getCache(CACHE_NAME);
         this.entityRepository = entityRepository;
+        this.jdbcOperations = jdbcOperations;
+
+        preloadBatchSizeMetric = DistributionSummary.builder(PRELOAD_METRIC + ".size")
+                .description("The number of aliases and EVM addresses resolved per batch query")
+                .register(meterRegistry);
+        var preloadMetric = Counter.builder(PRELOAD_METRIC)
+                .description("The number of aliases and EVM addresses referenced by record items before parsing");
+        preloadHitMetric = preloadMetric.tag("cache", "hit").register(meterRegistry);
+        preloadMissMetric = preloadMetric.tag("cache", "miss").register(meterRegistry);
     }
 
     @Override
@@ -141,6 +177,50 @@ public class EntityIdServiceImpl implements EntityIdService {
         return EMPTY;
     }
 
+    @Override
+    public void preload(Collection<RecordItem> recordItems) {
+        var aliases = new HashSet<ByteString>();
+        var evmAddresses = new HashSet<ByteString>();
+
+        for (var recordItem : recordItems) {
+            collect(recordItem, aliases, evmAddresses);
+        }
+
+        int referenced = aliases.size() + evmAddresses.size();
+        aliases.removeIf(this::isCached);
+        evmAddresses.removeIf(this::isCached);
+        int uncached = aliases.size() + evmAddresses.size();
+        preloadHitMetric.increment(referenced - uncached);
+        preloadMissMetric.increment(uncached);
+
+        if (uncached == 0) {
+            return;
+        }
+
+        var stopwatch = Stopwatch.createStarted();
+        var found = new HashSet<ByteString>();
+        jdbcOperations.query(
+                PRELOAD_SQL,
+                ps -> {
+                    var connection = ps.getConnection();
+                    ps.setArray(1, connection.createArrayOf("bytea", toByteArrays(aliases)));
+                    ps.setArray(2, connection.createArrayOf("bytea", toByteArrays(evmAddresses)));
+                },
+                rs -> {
+                    var address = fromBytes(rs.getBytes(1));
+                    if (found.add(address)) {
+                        cache.put(address, Optional.of(EntityId.of(rs.getLong(2))));
+                    }
+                });
+
+        // Alias lookups cache the miss as well, so do the same here. EVM address misses are left uncached so that the
+        // subsequent lookup still reports the recoverable error.
+        aliases.stream().filter(a -> !found.contains(a)).forEach(a -> cache.put(a, Optional.empty()));
+
+        preloadBatchSizeMetric.record(uncached);
+        log.debug("Preloaded {} of {} aliases and EVM addresses in {}", found.size(), uncached, stopwatch);
+    }
+
     @Override
     public void notify(Entity entity) {
         if (entity == null || (entity.getDeleted() != null && entity.getDeleted())) {
@@ -170,6 +250,73 @@ public class EntityIdServiceImpl implements EntityIdService {
         }
     }
 
+    // Switches on the type so the bodies of the other transactions aren't decoded
+    private void collect(RecordItem recordItem, Set<ByteString> aliases, Set<ByteString> evmAddresses) {
+        switch (TransactionType.of(recordItem.getTransactionType())) {
+            case CONTRACTCALL -> collect(
+                    recordItem.getTransactionBody().getContractCall().getContractID(), evmAddresses);
+            case CRYPTOTRANSFER -> {
+                var cryptoTransfer = recordItem.getTransactionBody().getCryptoTransfer();
+                for (var accountAmount : cryptoTransfer.getTransfers().getAccountAmountsList()) {
+                    collect(accountAmount.getAccountID(), aliases, evmAddresses);
+                }
+
+                collect(cryptoTransfer.getTokenTransfersList(), aliases, evmAddresses);
+            }
+            case TOKENAIRDROP -> collect(
+                    recordItem.getTransactionBody().getTokenAirdrop().getTokenTransfersList(), aliases, evmAddresses);
+            default -> {
+                // Other transactions rarely reference aliases, so let them resolve on demand
+            }
+        }
+    }
+
+    private void collect(
+            List<TokenTransferList> tokenTransfers, Set<ByteString> aliases, Set<ByteString> evmAddresses) {
+        for (var tokenTransfer : tokenTransfers) {
+            for (var accountAmount : tokenTransfer.getTransfersList()) {
+                collect(accountAmount.getAccountID(), aliases, evmAddresses);
+            }
+
+            for (var nftTransfer : tokenTransfer.getNftTransfersList()) {
+                collect(nftTransfer.getSenderAccountID(), aliases, evmAddresses);
+                collect(nftTransfer.getReceiverAccountID(), aliases, evmAddresses);
+            }
+        }
+    }
+
+    private void collect(AccountID accountId, Set<ByteString> aliases, Set<ByteString> evmAddresses) {
+        if (accountId.getAccountCase() == AccountID.AccountCase.ALIAS) {
+            var alias = accountId.getAlias();
+            if (alias.size() == EVM_ADDRESS_LENGTH) {
+                collectEvmAddress(alias, evmAddresses);
+            } else {
+                aliases.add(alias);
+            }
+        }
+    }
+
+    private void collect(ContractID contractId, Set<ByteString> evmAddresses) {
+        if (contractId.getContractCase() == ContractID.ContractCase.EVM_ADDRESS) {
+            collectEvmAddress(contractId.getEvmAddress(), evmAddresses);
+        }
+    }
+
+    // EVM addresses in the 'shard.realm.num' form are resolved without querying the database
+    private void collectEvmAddress(ByteString evmAddress, Set<ByteString> evmAddresses) {
+        if (evmAddress.size() == EVM_ADDRESS_LENGTH && DomainUtils.fromEvmAddress(toBytes(evmAddress)) == null) {
+            evmAddresses.add(evmAddress);
+        }
+    }
+
+    private boolean isCached(ByteString key) {
+        return cache.get(key) != null;
+    }
+
+    private static byte[][] toByteArrays(Collection<ByteString> values) {
+        return values.stream().map(DomainUtils::toBytes).toArray(byte[][]::new);
+    }
+
     private Optional<EntityId> findByEvmAddress(byte[] evmAddress, long shardNum, long realmNum) {
         return findByEvmAddress(evmAddress, shardNum, realmNum, true);
     }
@@ -19,24 +19,29 @@ package com.hedera.mirror.importer.domain;
 import com.google.common.base.Suppliers;
 import com.hedera.mirror.importer.exception.FileOperationException;
 import com.hedera.mirror.importer.exception.InvalidStreamFileException;
-import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.time.Instant;
 import java.util.function.Supplier;
 import lombok.CustomLog;
 import lombok.EqualsAndHashCode;
-import lombok.Getter;
 import lombok.NonNull;
 import lombok.Value;
 import org.apache.commons.compress.compressors.CompressorException;
 import org.apache.commons.compress.compressors.CompressorStreamFactory;
-import org.apache.commons.io.FileUtils;
 import org.apache.commons.lang3.StringUtils;
 
+/**
+ * The contents of a stream file. The contents are held in a read-only {@link ByteBuffer}, which is memory-mapped for
+ * local files, and {@link #getInputStream()} decompresses while it's read. Only {@link #getBytes()} copies the
+ * contents to a byte array, so callers that just parse the file never hold it on the heap more than once.
+ */
 @CustomLog
 @EqualsAndHashCode(onlyExplicitlyIncluded = true)
 @Value
@@ -47,28 +52,41 @@ public class StreamFileData {
     @EqualsAndHashCode.Include
     private final StreamFilename streamFilename;
 
-    private final Supplier<byte[]> bytes;
+    private final Supplier<ByteBuffer> buffer;
 
-    @Getter(lazy = true)
-    private final byte[] decompressedBytes = decompressBytes();
+    private final Supplier<byte[]> bytes;
 
     private final Instant lastModified;
 
+    public StreamFileData(StreamFilename streamFilename, Supplier<byte[]> bytes, Instant lastModified) {
+        this.streamFilename = streamFilename;
+        this.bytes = Suppliers.memoize(bytes::get);
+        this.buffer = () -> ByteBuffer.wrap(this.bytes.get());
+        this.lastModified = lastModified;
+    }
+
+    private StreamFileData(StreamFilename streamFilename, Instant lastModified, Supplier<ByteBuffer> buffer) {
+        this.streamFilename = streamFilename;
+        this.buffer = Suppliers.memoize(buffer::get);
+        this.bytes = Suppliers.memoize(() -> toByteArray(this.buffer.get()));
+        this.lastModified = lastModified;
+    }
+
     private static StreamFileData readStreamFileData(File file, StreamFilename streamFilename) {
         if (!file.exists() || !file.canRead() || !file.isFile()) {
             throw new FileOperationException("Unable to read file " + file);
         }
 
-        Supplier<byte[]> bytes = Suppliers.memoize(() -> {
-            try {
-                return FileUtils.readFileToByteArray(file);
+        Supplier<ByteBuffer> buffer = () -> {
+            try (var channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+                return channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
             } catch (IOException e) {
-                throw new FileOperationException("Unable to read file to byte array", e);
+                throw new FileOperationException("Unable to map file " + file, e);
             }
-        });
+        };
 
         var lastModified = Instant.ofEpochMilli(file.lastModified());
-        return new StreamFileData(streamFilename, bytes, lastModified);
+        return new StreamFileData(streamFilename, lastModified, buffer);
     }
 
     public static StreamFileData from(@NonNull File file) {
@@ -84,6 +102,11 @@ public class StreamFileData {
         return readStreamFileData(streamFile, streamFilename);
     }
 
+    public static StreamFileData from(
+            @NonNull StreamFilename streamFilename, @NonNull ByteBuffer buffer, Instant lastModified) {
+        return new StreamFileData(streamFilename, lastModified, () -> buffer);
+    }
+
     // Used for testing String based files like CSVs
     public static StreamFileData from(@NonNull String filename, @NonNull String contents) {
         return new StreamFileData(
@@ -95,12 +118,52 @@ public class StreamFileData {
         return new StreamFileData(StreamFilename.from(filename), () -> bytes, Instant.now());
     }
 
+    /**
+     * Gets a read-only view of the raw, possibly compressed, contents with its own position and limit.
+     *
+     * @return the contents of the file
+     */
+    public ByteBuffer getBuffer() {
+        return buffer.get().asReadOnlyBuffer();
+    }
+
+    /**
+     * Copies the raw, possibly compressed, contents into a byte array. This should only be used when the whole file
+     * needs to be kept, for example to persist or archive it.
+     *
+     * @return the contents of the file
+     */
     public byte[] getBytes() {
         return bytes.get();
     }
 
+    public byte[] getDecompressedBytes() {
+        try (var inputStream = getInputStream()) {
+            return inputStream.readAllBytes();
+        } catch (IOException e) {
+            throw new InvalidStreamFileException(getFilename(), e);
+        }
+    }
+
+    /**
+     * Gets a stream of the decompressed contents. Decompression happens as the stream is read.
+     *
+     * @return the decompressed contents of the file
+     */
     public InputStream getInputStream() {
-        return new ByteArrayInputStream(getDecompressedBytes());
+        var inputStream = new ByteBufferInputStream(getBuffer());
+        var compressor = streamFilename.getCompressor();
+        if (StringUtils.isBlank(compressor)) {
+            return inputStream;
+        }
+
+        try {
+            return compressorStreamFactory.createCompressorInputStream(compressor, inputStream);
+        } catch (CompressorException e) {
+            var filename = streamFilename.getFilename();
+            log.error("Failed to decompress stream file {}", filename);
+            throw new InvalidStreamFileException(filename, e);
+        }
     }
 
     public String getFilename() {
@@ -111,25 +174,69 @@ public class StreamFileData {
         return streamFilename.getFilePath();
     }
 
+    /**
+     * Gets the size of the raw, possibly compressed, contents without copying them.
+     *
+     * @return the size in bytes
+     */
+    public int getSize() {
+        return buffer.get().remaining();
+    }
+
     @Override
     public String toString() {
         return streamFilename.toString();
     }
 
-    private byte[] decompressBytes() {
-        var compressor = streamFilename.getCompressor();
-        if (StringUtils.isBlank(compressor)) {
-            return getBytes();
+    private static byte[] toByteArray(ByteBuffer buffer) {
+        var view = buffer.duplicate();
+        if (view.hasArray() && view.arrayOffset() == 0 && view.position() == 0 && view.remaining() == view.capacity()) {
+            return view.array();
         }
 
-        try (var inputStream = new ByteArrayInputStream(getBytes());
-                var compressorInputStream =
-                        compressorStreamFactory.createCompressorInputStream(compressor, inputStream)) {
-            return compressorInputStream.readAllBytes();
-        } catch (CompressorException | IOException e) {
-            var filename = streamFilename.getFilename();
-            log.error("Failed to decompress stream file {}", filename);
-            throw new InvalidStreamFileException(filename, e);
+        var array = new byte[view.remaining()];
+        view.get(array);
+        return array;
+    }
+
+    private static class ByteBufferInputStream extends InputStream {
+
+        private final ByteBuffer buffer;
+
+        private ByteBufferInputStream(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        public int available() {
+            return buffer.remaining();
+        }
+
+        @Override
+        public int read() {
+            return buffer.hasRemaining() ? buffer.get() & 0xFF : -1;
+        }
+
+        @Override
+        public int read(byte[] bytes, int offset, int length) {
+            if (length == 0) {
+                return 0;
+            }
+
+            if (!buffer.hasRemaining()) {
+                return -1;
+            }
+
+            int count = Math.min(length, buffer.remaining());
+            buffer.get(bytes, offset, count);
+            return count;
+        }
+
+        @Override
+        public long skip(long n) {
+            int count = (int) Math.max(0, Math.min(n, buffer.remaining()));
+            buffer.position(buffer.position() + count);
+            return count;
         }
     }
 }
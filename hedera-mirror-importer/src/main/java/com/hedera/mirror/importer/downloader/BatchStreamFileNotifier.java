@@ -17,11 +17,13 @@
 package com.hedera.mirror.importer.downloader;
 
 import com.hedera.mirror.common.domain.StreamFile;
+import com.hedera.mirror.common.domain.transaction.RecordFile;
 import com.hedera.mirror.common.util.DomainUtils;
 import com.hedera.mirror.importer.parser.AbstractParserProperties.BatchProperties;
 import com.hedera.mirror.importer.parser.StreamFileParser;
 import com.hedera.mirror.importer.parser.balance.AccountBalanceFileParser;
 import com.hedera.mirror.importer.parser.record.RecordFileParser;
+import com.hedera.mirror.importer.parser.record.RecordFilePipeline;
 import jakarta.annotation.Nonnull;
 import jakarta.inject.Named;
 import java.io.Closeable;
@@ -29,6 +31,7 @@ import java.time.Duration;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
 import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.ExecutorService;
@@ -47,9 +50,12 @@ final class BatchStreamFileNotifier implements StreamFileNotifier, Closeable {
     private final StreamFileSubscriber recordStreamFileSubscriber;
     private final ExecutorService executorService;
 
-    BatchStreamFileNotifier(AccountBalanceFileParser accountBalanceFileParser, RecordFileParser recordFileParser) {
-        balanceStreamFileSubscriber = new StreamFileSubscriber(accountBalanceFileParser);
-        recordStreamFileSubscriber = new StreamFileSubscriber(recordFileParser);
+    BatchStreamFileNotifier(
+            AccountBalanceFileParser accountBalanceFileParser,
+            RecordFileParser recordFileParser,
+            RecordFilePipeline recordFilePipeline) {
+        balanceStreamFileSubscriber = new StreamFileSubscriber(accountBalanceFileParser, null);
+        recordStreamFileSubscriber = new StreamFileSubscriber(recordFileParser, recordFilePipeline);
         executorService = Executors.newFixedThreadPool(2);
         executorService.execute(balanceStreamFileSubscriber);
         executorService.execute(recordStreamFileSubscriber);
@@ -80,15 +86,17 @@ final class BatchStreamFileNotifier implements StreamFileNotifier, Closeable {
         private final AtomicLong items;
         private final AtomicReference<Instant> lastFlush;
         private final BatchProperties properties;
+        private final RecordFilePipeline pipeline;
         private final BlockingQueue<StreamFile<?>> queue;
         private final StreamFileParser<StreamFile<?>> streamFileParser;
 
         @SuppressWarnings("unchecked")
-        StreamFileSubscriber(StreamFileParser<? extends StreamFile<?>> streamFileParser) {
+        StreamFileSubscriber(StreamFileParser<? extends StreamFile<?>> streamFileParser, RecordFilePipeline pipeline) {
             this.buffer = new ArrayList<>(); // Un-synchronized since only one thread reads and writes from it
             this.files = new AtomicLong(0L);
             this.items = new AtomicLong(0L);
             this.lastFlush = new AtomicReference<>(Instant.now());
+            this.pipeline = pipeline;
             this.properties = streamFileParser.getProperties().getBatch();
             this.queue = new ArrayBlockingQueue<>(properties.getQueueCapacity());
             this.streamFileParser = (StreamFileParser<StreamFile<?>>) streamFileParser;
@@ -120,7 +128,7 @@ final class BatchStreamFileNotifier implements StreamFileNotifier, Closeable {
             if (streamFile == null) {
                 // Handle the corner case where we don't receive a new file for some time to trigger a flush
                 if (!buffer.isEmpty() && exceedsInterval()) {
-                    streamFileParser.parse(new ArrayList<>(buffer));
+                    parse(new ArrayList<>(buffer));
                     reset();
                 }
                 return;
@@ -132,16 +140,30 @@ final class BatchStreamFileNotifier implements StreamFileNotifier, Closeable {
             }
 
             // Flush the buffer, optimizing for the single item scenario
-            if (buffer.isEmpty()) {
+            if (buffer.isEmpty() && !isPipelined()) {
                 streamFileParser.parse(streamFile);
             } else {
                 buffer.add(streamFile);
-                streamFileParser.parse(new ArrayList<>(buffer));
+                parse(new ArrayList<>(buffer));
             }
 
             reset();
         }
 
+        private boolean isPipelined() {
+            return pipeline != null && pipeline.isEnabled();
+        }
+
+        // Pipelined parsing returns once the batch is parsed, leaving it to be committed while the next batch is parsed
+        @SuppressWarnings("unchecked")
+        private void parse(List<StreamFile<?>> streamFiles) {
+            if (isPipelined()) {
+                pipeline.submit((List<RecordFile>) (List<?>) streamFiles);
+            } else {
+                streamFileParser.parse(streamFiles);
+            }
+        }
+
         /**
          * Determines whether the given stream file should trigger a flush of its buffer. The stream file triggering the
          * flush will be included within the batch.
@@ -84,6 +84,10 @@ public class CommonDownloaderProperties {
 
     private String pathPrefix = "";
 
+    @NotNull
+    @Valid
+    private PrefetchProperties prefetch = new PrefetchProperties();
+
     private String region = "us-east-1";
 
     private String secretKey;
@@ -156,6 +160,18 @@ public class CommonDownloaderProperties {
         NODE_ID
     }
 
+    @Data
+    @Validated
+    public static class PrefetchProperties {
+
+        @Min(1L)
+        private long maxBytes = 256L * 1024L * 1024L; // 256 MiB
+
+        @Max(100)
+        @Min(0)
+        private int window = 4;
+    }
+
     @Getter
     @RequiredArgsConstructor
     public enum SourceType {
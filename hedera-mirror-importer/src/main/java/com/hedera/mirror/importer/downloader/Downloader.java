@@ -50,6 +50,7 @@ import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.time.Duration;
 import java.time.Instant;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
@@ -59,14 +60,18 @@ import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 import reactor.core.scheduler.Schedulers;
 
 public abstract class Downloader<T extends StreamFile<I>, I extends StreamItem> {
@@ -106,6 +111,7 @@ public abstract class Downloader<T extends StreamFile<I>, I extends StreamItem>
     private final MeterRegistry meterRegistry;
     private final Map<Long, Counter> nodeSignatureStatusMetricMap = new ConcurrentHashMap<>();
     private final Timer cloudStorageLatencyMetric;
+    private final Counter downloadBytesMetric;
     private final Timer downloadLatencyMetric;
     private final Timer streamCloseMetric;
     private final Timer.Builder streamVerificationMetric;
@@ -141,6 +147,12 @@ public abstract class Downloader<T extends StreamFile<I>, I extends StreamItem>
                 .tag("type", streamType.toString())
                 .register(meterRegistry);
 
+        downloadBytesMetric = Counter.builder("hedera.mirror.download.bytes")
+                .baseUnit("bytes")
+                .description("The number of bytes downloaded from the stream file provider")
+                .tag("type", streamType.toString())
+                .register(meterRegistry);
+
         downloadLatencyMetric = Timer.builder("hedera.mirror.download.latency")
                 .description("The difference in time between the consensus time of the last transaction in the file "
                         + "and the time at which the file was downloaded and verified")
@@ -284,6 +296,9 @@ public abstract class Downloader<T extends StreamFile<I>, I extends StreamItem>
      * file. (3) compare the hash of data file with Hash which has been agreed on by valid signatures, if match, move
      * the data file into `valid` directory; else download the data file from other valid node folder and compare the
      * hash until we find a match.
+     * <p>
+     * Signature verification and data file download run for up to the configured prefetch window of groups, including
+     * the current one, while hash chain verification and {@link #onVerified} still happen strictly in filename order.
      *
      * @param sigFilesMap signature files grouped by filename
      */
@@ -292,41 +307,131 @@ public abstract class Downloader<T extends StreamFile<I>, I extends StreamItem>
         var nodeIds = consensusNodeService.getNodes().stream()
                 .map(ConsensusNode::getNodeId)
                 .collect(Collectors.toSet());
+        var prefetchProperties = downloaderProperties.getCommon().getPrefetch();
+        var prefetchBudget = new PrefetchBudget();
+        var pending = new ArrayDeque<PendingGroup<T>>();
+        var sigFilenameIter = sigFilesMap.keySet().iterator();
 
-        for (var sigFilenameIter = sigFilesMap.keySet().iterator(); sigFilenameIter.hasNext(); ) {
-            if (ShutdownHelper.isStopping()) {
-                return;
-            }
+        try {
+            while (sigFilenameIter.hasNext() || !pending.isEmpty()) {
+                if (ShutdownHelper.isStopping()) {
+                    return;
+                }
+
+                // Fill the look-ahead window unless too many prefetched bytes are downloading or waiting to be verified
+                while (sigFilenameIter.hasNext()
+                        && (pending.isEmpty()
+                                || (pending.size() < prefetchProperties.getWindow()
+                                        && prefetchBudget.getBytes() < prefetchProperties.getMaxBytes()))) {
+                    var sigFilename = sigFilenameIter.next();
+                    pending.add(verifyNodeSignatures(sigFilename, sigFilesMap.get(sigFilename), prefetchBudget));
+                }
 
-            Instant startTime = Instant.now();
-            var sigFilename = sigFilenameIter.next();
-            var signatures = sigFilesMap.get(sigFilename);
+                Instant startTime = Instant.now();
+                var group = pending.remove();
+                var signatures = group.signatures();
 
-            try {
-                nodeSignatureVerifier.verify(signatures);
-            } catch (SignatureVerificationException ex) {
-                var statusMapMessage = statusMap(signatures, nodeIds);
-                if (sigFilenameIter.hasNext()) {
-                    log.warn("{}. Trying next group: {}", ex.getMessage(), statusMapMessage);
-                    continue;
+                if (group.error() != null) {
+                    var statusMapMessage = statusMap(signatures, nodeIds);
+                    if (sigFilenameIter.hasNext() || !pending.isEmpty()) {
+                        log.warn("{}. Trying next group: {}", group.error().getMessage(), statusMapMessage);
+                        continue;
+                    }
+
+                    throw new SignatureVerificationException(group.error().getMessage() + ": " + statusMapMessage);
                 }
 
-                throw new SignatureVerificationException(ex.getMessage() + ": " + statusMapMessage);
-            }
+                boolean valid = verifySignatures(signatures, getPrefetched(group, prefetchBudget));
+                if (!valid) {
+                    log.error("None of the data files could be verified, signatures: {}", signatures);
+                }
 
-            boolean valid = verifySignatures(signatures);
-            if (!valid) {
-                log.error("None of the data files could be verified, signatures: {}", signatures);
+                streamVerificationMetric
+                        .tag("success", String.valueOf(valid))
+                        .register(meterRegistry)
+                        .record(group.elapsed().plus(Duration.between(startTime, Instant.now())));
             }
+        } finally {
+            pending.stream()
+                    .map(PendingGroup::prefetch)
+                    .filter(Objects::nonNull)
+                    .forEach(prefetch -> prefetch.cancel(true));
+        }
+    }
+
+    private PendingGroup<T> verifyNodeSignatures(
+            StreamFilename sigFilename, Collection<StreamFileSignature> signatures, PrefetchBudget prefetchBudget) {
+        var stopwatch = Stopwatch.createStarted();
+
+        try {
+            nodeSignatureVerifier.verify(signatures);
+        } catch (SignatureVerificationException ex) {
+            return new PendingGroup<>(sigFilename, signatures, ex, null, stopwatch.elapsed());
+        }
 
-            streamVerificationMetric
-                    .tag("success", String.valueOf(valid))
-                    .register(meterRegistry)
-                    .record(Duration.between(startTime, Instant.now()));
+        var prefetch = prefetch(signatures, prefetchBudget);
+        return new PendingGroup<>(sigFilename, signatures, null, prefetch, stopwatch.elapsed());
+    }
+
+    /**
+     * Starts downloading the data file and its dependencies from the first node that reached consensus so it's ready by
+     * the time its group is verified. Only one node is tried; any failure falls back to the sequential retry of each
+     * node in {@link #verifySignatures}.
+     */
+    private CompletableFuture<PrefetchedFile<T>> prefetch(
+            Collection<StreamFileSignature> signatures, PrefetchBudget prefetchBudget) {
+        if (downloaderProperties.getCommon().getPrefetch().getWindow() <= 0) {
+            return null;
         }
+
+        var endDate = importerProperties.getEndDate();
+        return signatures.stream()
+                .filter(s -> s.getStatus() == SignatureStatus.CONSENSUS_REACHED)
+                .findFirst()
+                .filter(s -> !s.getDataFilename().getInstant().isAfter(endDate))
+                .map(signature -> {
+                    var node = signature.getNode();
+                    prefetchBudget.start();
+                    return streamFileProvider
+                            .get(node, signature.getDataFilename())
+                            .publishOn(Schedulers.parallel())
+                            .flatMap(streamFileData -> {
+                                T streamFile = read(streamFileData, node);
+                                return downloadDependencies(streamFileData, streamFile, node)
+                                        .map(s -> new PrefetchedFile<>(signature, streamFileData, s));
+                            })
+                            .doOnNext(p -> prefetchBudget.buffer(p.size()))
+                            .doFinally(s -> prefetchBudget.finish())
+                            .toFuture();
+                })
+                .orElse(null);
     }
 
-    private boolean verifySignatures(Collection<StreamFileSignature> signatures) {
+    private PrefetchedFile<T> getPrefetched(PendingGroup<T> group, PrefetchBudget prefetchBudget) {
+        var prefetch = group.prefetch();
+        if (prefetch == null) {
+            return null;
+        }
+
+        try {
+            var timeout = downloaderProperties.getCommon().getTimeout();
+            var prefetched = prefetch.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+            prefetchBudget.release(prefetched.size());
+            return prefetched;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        } catch (Exception e) {
+            prefetch.cancel(true);
+            log.warn(
+                    "Unable to prefetch data file corresponding to {}. Will retry each node: {}",
+                    group.filename(),
+                    e.getMessage());
+            return null;
+        }
+    }
+
+    private boolean verifySignatures(Collection<StreamFileSignature> signatures, PrefetchedFile<T> prefetched) {
         Instant endDate = importerProperties.getEndDate();
 
         for (var signature : signatures) {
@@ -340,16 +445,24 @@ public abstract class Downloader<T extends StreamFile<I>, I extends StreamItem>
             try {
                 var dataFilename = signature.getDataFilename();
                 var node = signature.getNode();
-                var streamFileData = Objects.requireNonNull(
-                        streamFileProvider.get(node, dataFilename).block());
-                T streamFile = streamFileReader.read(streamFileData);
-                streamFile.setNodeId(nodeId);
+                boolean isPrefetched = prefetched != null && prefetched.signature() == signature;
+                StreamFileData streamFileData;
+                T streamFile;
+
+                if (isPrefetched) {
+                    streamFileData = prefetched.streamFileData();
+                    streamFile = prefetched.streamFile();
+                } else {
+                    streamFileData = Objects.requireNonNull(
+                            streamFileProvider.get(node, dataFilename).block());
+                    streamFile = read(streamFileData, node);
+                }
 
                 verify(streamFile, signature);
 
                 if (downloaderProperties.isWriteFiles()) {
-                    Utility.archiveFile(
-                            streamFileData.getFilePath(), streamFile.getBytes(), importerProperties.getStreamPath());
+                    var streamPath = importerProperties.getStreamPath();
+                    Utility.archiveFile(streamFileData.getFilePath(), streamFileData.getBytes(), streamPath);
                 }
 
                 if (downloaderProperties.isWriteSignatures()) {
@@ -360,6 +473,8 @@ public abstract class Downloader<T extends StreamFile<I>, I extends StreamItem>
 
                 if (!downloaderProperties.isPersistBytes()) {
                     streamFile.setBytes(null);
+                } else if (streamFile.getBytes() == null) {
+                    streamFile.setBytes(streamFileData.getBytes());
                 }
 
                 if (dataFilename.getInstant().isAfter(endDate)) {
@@ -368,6 +483,11 @@ public abstract class Downloader<T extends StreamFile<I>, I extends StreamItem>
                     return false;
                 }
 
+                if (!isPrefetched) {
+                    streamFile = Objects.requireNonNull(
+                            downloadDependencies(streamFileData, streamFile, node).block());
+                }
+
                 onVerified(streamFileData, streamFile, node);
                 return true;
             } catch (FileOperationException | HashMismatchException | TransientProviderException e) {
@@ -388,6 +508,36 @@ public abstract class Downloader<T extends StreamFile<I>, I extends StreamItem>
         return false;
     }
 
+    private T read(StreamFileData streamFileData, ConsensusNode node) {
+        onDownloaded(streamFileData);
+        T streamFile = streamFileReader.read(streamFileData);
+        streamFile.setNodeId(node.getNodeId());
+        return streamFile;
+    }
+
+    /**
+     * Downloads any additional files the stream file depends upon. It's invoked before the stream file is verified
+     * when the data file is prefetched, so implementations should not rely upon the hash chain having been verified.
+     *
+     * @param streamFileData the downloaded data file
+     * @param streamFile     the stream file read from the data file
+     * @param node           the node the data file was downloaded from
+     * @return the stream file with its dependencies populated
+     */
+    @SuppressWarnings("java:S1172") // Unused parameters required by subclass implementations
+    protected Mono<T> downloadDependencies(StreamFileData streamFileData, T streamFile, ConsensusNode node) {
+        return Mono.just(streamFile);
+    }
+
+    /**
+     * Records the size of a file downloaded from the stream file provider in the download throughput metric.
+     *
+     * @param streamFileData the downloaded file
+     */
+    protected void onDownloaded(StreamFileData streamFileData) {
+        downloadBytesMetric.increment(streamFileData.getSize());
+    }
+
     @SuppressWarnings({"unchecked", "java:S1172"}) // Unused Parameter (node) required by subclass implementations
     protected void onVerified(StreamFileData streamFileData, T streamFile, ConsensusNode node) {
         setStreamFileIndex(streamFile);
@@ -531,4 +681,51 @@ public abstract class Downloader<T extends StreamFile<I>, I extends StreamItem>
                 totalStake);
         return nodes.subList(0, lastEntry);
     }
+
+    private record PendingGroup<T>(
+            StreamFilename filename,
+            Collection<StreamFileSignature> signatures,
+            SignatureVerificationException error,
+            CompletableFuture<PrefetchedFile<T>> prefetch,
+            Duration elapsed) {}
+
+    /**
+     * Tracks the bytes of prefetched data files that are downloading or waiting to be verified. The size of a data file
+     * isn't known until its download completes, so each download still in flight is counted at the size of the largest
+     * data file prefetched so far.
+     */
+    private static class PrefetchBudget {
+
+        private final AtomicLong bufferedBytes = new AtomicLong();
+        private final AtomicInteger inFlight = new AtomicInteger();
+        private final AtomicLong maxFileSize = new AtomicLong();
+
+        void buffer(long size) {
+            bufferedBytes.addAndGet(size);
+            maxFileSize.accumulateAndGet(size, Math::max);
+        }
+
+        void finish() {
+            inFlight.decrementAndGet();
+        }
+
+        long getBytes() {
+            return bufferedBytes.get() + inFlight.get() * maxFileSize.get();
+        }
+
+        void release(long size) {
+            bufferedBytes.addAndGet(-size);
+        }
+
+        void start() {
+            inFlight.incrementAndGet();
+        }
+    }
+
+    private record PrefetchedFile<T>(StreamFileSignature signature, StreamFileData streamFileData, T streamFile) {
+
+        long size() {
+            return streamFileData.getSize();
+        }
+    }
 }
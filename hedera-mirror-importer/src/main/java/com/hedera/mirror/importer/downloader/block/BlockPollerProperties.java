@@ -16,6 +16,8 @@
 
 package com.hedera.mirror.importer.downloader.block;
 
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotNull;
 import java.time.Duration;
 import lombok.Data;
@@ -36,6 +38,10 @@ public class BlockPollerProperties {
     @NotNull
     private Duration frequency = Duration.ofMillis(100L);
 
+    @Max(256)
+    @Min(0)
+    private int lookAhead = 0;
+
     private boolean persistBytes = false;
 
     private boolean writeFiles = false;
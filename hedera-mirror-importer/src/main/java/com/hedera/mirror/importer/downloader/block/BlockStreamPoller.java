@@ -17,22 +17,31 @@
 package com.hedera.mirror.importer.downloader.block;
 
 import com.google.common.base.Stopwatch;
+import com.hedera.mirror.common.domain.transaction.BlockFile;
 import com.hedera.mirror.importer.addressbook.ConsensusNode;
 import com.hedera.mirror.importer.addressbook.ConsensusNodeService;
+import com.hedera.mirror.importer.domain.StreamFileData;
 import com.hedera.mirror.importer.domain.StreamFilename;
 import com.hedera.mirror.importer.downloader.CommonDownloaderProperties;
 import com.hedera.mirror.importer.downloader.StreamPoller;
 import com.hedera.mirror.importer.downloader.provider.StreamFileProvider;
 import com.hedera.mirror.importer.leader.Leader;
 import com.hedera.mirror.importer.reader.block.BlockFileReader;
+import com.hedera.mirror.importer.util.ShutdownHelper;
 import com.hedera.mirror.importer.util.Utility;
 import jakarta.inject.Named;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import lombok.CustomLog;
 import lombok.RequiredArgsConstructor;
 import org.springframework.scheduling.annotation.Scheduled;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
 @CustomLog
 @Named
@@ -48,6 +57,9 @@ final class BlockStreamPoller implements StreamPoller {
     private final BlockPollerProperties properties;
     private final StreamFileProvider streamFileProvider;
 
+    // The number of blocks after the next one currently being downloaded in look-ahead mode
+    private int lookAheadWindow = 0;
+
     @Override
     @Leader
     @Scheduled(fixedDelayString = "#{@blockPollerProperties.getFrequency().toMillis()}")
@@ -56,12 +68,62 @@ final class BlockStreamPoller implements StreamPoller {
             return;
         }
 
+        if (properties.getLookAhead() > 0) {
+            pollWithLookAhead();
+            return;
+        }
+
         long blockNumber = getNextBlockNumber();
-        var nodes = getRandomizedNodes();
+        if (!downloadAndVerify(blockNumber, getRandomizedNodes())) {
+            log.warn("Failed to download block file {}", StreamFilename.from(blockNumber).getFilename());
+        }
+    }
+
+    /**
+     * Downloads and parses the blocks after the next one in parallel while verifying them in order. The look-ahead
+     * window doubles after each verified block up to the configured maximum and collapses once a block is not available
+     * from any node, so polling at the head of the chain only requests a single block.
+     */
+    private void pollWithLookAhead() {
+        long blockNumber = getNextBlockNumber();
+        long nextBlockNumber = blockNumber;
+        var nodes = consensusNodeService.getNodes();
+        var pending = new ArrayDeque<CompletableFuture<DownloadedBlock>>();
+
+        try {
+            while (properties.isEnabled() && !ShutdownHelper.isStopping()) {
+                while (pending.size() <= lookAheadWindow) {
+                    pending.add(download(nextBlockNumber++, nodes).toFuture());
+                }
+
+                var downloadedBlock = getDownloadedBlock(pending.remove());
+                boolean verified = downloadedBlock != null && verify(downloadedBlock);
+
+                if (!verified) {
+                    // Cancel the look-ahead since subsequent blocks can't be verified before this one
+                    pending.forEach(future -> future.cancel(true));
+                    pending.clear();
+                    nextBlockNumber = blockNumber + 1;
+
+                    if (downloadedBlock == null || !downloadAndVerify(blockNumber, getRandomizedNodes(nodes))) {
+                        lookAheadWindow = 0;
+                        log.warn("Failed to download block file {}", StreamFilename.from(blockNumber).getFilename());
+                        return;
+                    }
+                }
+
+                blockNumber++;
+                lookAheadWindow = Math.min(properties.getLookAhead(), Math.max(1, lookAheadWindow * 2));
+            }
+        } finally {
+            pending.forEach(future -> future.cancel(true));
+        }
+    }
+
+    private boolean downloadAndVerify(long blockNumber, List<ConsensusNode> nodes) {
         var stopwatch = Stopwatch.createStarted();
         var streamFilename = StreamFilename.from(blockNumber);
         String filename = streamFilename.getFilename();
-        var streamPath = commonDownloaderProperties.getImporterProperties().getStreamPath();
         var timeout = commonDownloaderProperties.getTimeout();
 
         for (int i = 0; i < nodes.size() && timeout.isPositive(); i++) {
@@ -77,19 +139,8 @@ final class BlockStreamPoller implements StreamPoller {
 
                 var blockFile = blockFileReader.read(blockFileData);
                 blockFile.setNodeId(nodeId);
-
-                byte[] bytes = blockFile.getBytes();
-                if (!properties.isPersistBytes()) {
-                    blockFile.setBytes(null);
-                }
-
-                blockStreamVerifier.verify(blockFile);
-
-                if (properties.isWriteFiles()) {
-                    Utility.archiveFile(blockFileData.getFilePath(), bytes, streamPath);
-                }
-
-                return;
+                verify(blockFileData, blockFile);
+                return true;
             } catch (Throwable t) {
                 log.error("Failed to process block file {} from node {}", filename, nodeId, t);
             }
@@ -97,7 +148,72 @@ final class BlockStreamPoller implements StreamPoller {
             timeout = commonDownloaderProperties.getTimeout().minus(stopwatch.elapsed());
         }
 
-        log.warn("Failed to download block file {}", filename);
+        return false;
+    }
+
+    /**
+     * Downloads and parses the block from the nodes in random order, failing over to the next node on any error.
+     *
+     * @param blockNumber the block number to download
+     * @param nodes       the consensus nodes to download from
+     * @return the first block successfully downloaded and parsed, or empty if no node has a valid block file
+     */
+    private Mono<DownloadedBlock> download(long blockNumber, Collection<ConsensusNode> nodes) {
+        var streamFilename = StreamFilename.from(blockNumber);
+        String filename = streamFilename.getFilename();
+
+        return Flux.fromIterable(getRandomizedNodes(nodes))
+                .concatMap(node -> streamFileProvider
+                        .get(node, streamFilename)
+                        .publishOn(Schedulers.parallel())
+                        .map(blockFileData -> {
+                            log.debug("Downloaded block file {} from node {}", filename, node.getNodeId());
+                            var blockFile = blockFileReader.read(blockFileData);
+                            blockFile.setNodeId(node.getNodeId());
+                            return new DownloadedBlock(blockFileData, blockFile);
+                        })
+                        .onErrorResume(e -> {
+                            log.debug(
+                                    "Failed to process block file {} from node {}: {}",
+                                    filename,
+                                    node.getNodeId(),
+                                    e.getMessage());
+                            return Mono.empty();
+                        }))
+                .next()
+                .timeout(commonDownloaderProperties.getTimeout());
+    }
+
+    private DownloadedBlock getDownloadedBlock(CompletableFuture<DownloadedBlock> future) {
+        try {
+            return future.join();
+        } catch (Exception e) {
+            log.warn("Failed to download block file: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private boolean verify(DownloadedBlock downloadedBlock) {
+        var blockFile = downloadedBlock.blockFile();
+
+        try {
+            verify(downloadedBlock.blockFileData(), blockFile);
+            return true;
+        } catch (Exception e) {
+            log.error("Failed to process block file {} from node {}", blockFile.getName(), blockFile.getNodeId(), e);
+            return false;
+        }
+    }
+
+    private void verify(StreamFileData blockFileData, BlockFile blockFile) {
+        // Only copy the mapped or downloaded contents onto the heap when they need to be kept
+        blockFile.setBytes(properties.isPersistBytes() ? blockFileData.getBytes() : null);
+        blockStreamVerifier.verify(blockFile);
+
+        if (properties.isWriteFiles()) {
+            var streamPath = commonDownloaderProperties.getImporterProperties().getStreamPath();
+            Utility.archiveFile(blockFileData.getFilePath(), blockFileData.getBytes(), streamPath);
+        }
     }
 
     private long getNextBlockNumber() {
@@ -113,8 +229,14 @@ final class BlockStreamPoller implements StreamPoller {
     }
 
     private List<ConsensusNode> getRandomizedNodes() {
-        var nodes = new ArrayList<>(consensusNodeService.getNodes());
+        return getRandomizedNodes(consensusNodeService.getNodes());
+    }
+
+    private List<ConsensusNode> getRandomizedNodes(Collection<ConsensusNode> consensusNodes) {
+        var nodes = new ArrayList<>(consensusNodes);
         Collections.shuffle(nodes);
         return nodes;
     }
+
+    private record DownloadedBlock(StreamFileData blockFileData, BlockFile blockFile) {}
 }
@@ -100,9 +100,9 @@ public class RecordFileDownloader extends Downloader<RecordFile, RecordItem> {
     }
 
     @Override
-    protected void onVerified(StreamFileData streamFileData, RecordFile recordFile, ConsensusNode node) {
-        downloadSidecars(streamFileData.getStreamFilename(), recordFile, node);
-        super.onVerified(streamFileData, recordFile, node);
+    protected Mono<RecordFile> downloadDependencies(
+            StreamFileData streamFileData, RecordFile recordFile, ConsensusNode node) {
+        return downloadSidecars(streamFileData.getStreamFilename(), recordFile, node);
     }
 
     @Override
@@ -114,15 +114,16 @@ public class RecordFileDownloader extends Downloader<RecordFile, RecordItem> {
         }
     }
 
-    private void downloadSidecars(StreamFilename recordFilename, RecordFile recordFile, ConsensusNode node) {
+    private Mono<RecordFile> downloadSidecars(
+            StreamFilename recordFilename, RecordFile recordFile, ConsensusNode node) {
         if (!sidecarProperties.isEnabled() || recordFile.getSidecars().isEmpty()) {
-            return;
+            return Mono.just(recordFile);
         }
 
         var acceptedTypes =
                 sidecarProperties.getTypes().stream().map(Enum::ordinal).collect(Collectors.toSet());
 
-        var records = Flux.fromIterable(recordFile.getSidecars())
+        return Flux.fromIterable(recordFile.getSidecars())
                 .filter(sidecar ->
                         acceptedTypes.isEmpty() || sidecar.getTypes().stream().anyMatch(acceptedTypes::contains))
                 .flatMap(sidecar -> getSidecar(node, recordFilename, sidecar))
@@ -132,19 +133,21 @@ public class RecordFileDownloader extends Downloader<RecordFile, RecordItem> {
                         TransactionSidecarRecord::getConsensusTimestamp,
                         Function.identity(),
                         ArrayListMultimap::create))
-                .block();
-
-        recordFile.getItems().forEach(recordItem -> {
-            var timestamp = recordItem.getTransactionRecord().getConsensusTimestamp();
-            if (records.containsKey(timestamp)) {
-                recordItem.setSidecarRecords(records.get(timestamp));
-            }
-        });
+                .map(records -> {
+                    recordFile.getItems().forEach(recordItem -> {
+                        var timestamp = recordItem.getTransactionRecord().getConsensusTimestamp();
+                        if (records.containsKey(timestamp)) {
+                            recordItem.setSidecarRecords(records.get(timestamp));
+                        }
+                    });
+                    return recordFile;
+                });
     }
 
     private Mono<SidecarFile> getSidecar(ConsensusNode node, StreamFilename recordFilename, SidecarFile sidecar) {
         var sidecarFilename = StreamFilename.from(recordFilename, sidecar.getName());
         return streamFileProvider.get(node, sidecarFilename).map(streamFileData -> {
+            onDownloaded(streamFileData);
             sidecarFileReader.read(sidecar, streamFileData);
 
             if (!Arrays.equals(sidecar.getHash(), sidecar.getActualHash())) {
@@ -18,10 +18,12 @@ package com.hedera.mirror.importer.migration;
 
 import com.google.common.base.Stopwatch;
 import com.hedera.mirror.importer.ImporterProperties;
+import com.hedera.mirror.importer.parser.record.entity.sql.EntityStateCache;
 import com.hedera.mirror.importer.repository.AccountBalanceFileRepository;
 import com.hedera.mirror.importer.repository.RecordFileRepository;
 import jakarta.inject.Named;
 import org.flywaydb.core.api.MigrationVersion;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.context.annotation.Lazy;
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
 import org.springframework.transaction.support.TransactionTemplate;
@@ -59,9 +61,12 @@ public class InitializeEntityBalanceMigration extends AbstractTimestampInfoMigra
                 balance_timestamp = coalesce(entity.balance_timestamp, excluded.balance_timestamp)
             """;
 
+    private final ObjectProvider<EntityStateCache> entityStateCache;
+
     @Lazy
     public InitializeEntityBalanceMigration(
             AccountBalanceFileRepository accountBalanceFileRepository,
+            ObjectProvider<EntityStateCache> entityStateCache,
             ImporterProperties importerProperties,
             NamedParameterJdbcTemplate jdbcTemplate,
             RecordFileRepository recordFileRepository,
@@ -72,6 +77,7 @@ public class InitializeEntityBalanceMigration extends AbstractTimestampInfoMigra
                 jdbcTemplate,
                 recordFileRepository,
                 transactionTemplate);
+        this.entityStateCache = entityStateCache;
     }
 
     @Override
@@ -88,6 +94,8 @@ public class InitializeEntityBalanceMigration extends AbstractTimestampInfoMigra
     protected void doMigrate() {
         var stopwatch = Stopwatch.createStarted();
         var count = doMigrate(INITIALIZE_ENTITY_BALANCE_SQL);
+        // The cached entity state has the balances from before the migration
+        entityStateCache.ifAvailable(EntityStateCache::invalidateAll);
         log.info("Initialized {} entities balance in {}", count.get(), stopwatch);
     }
 }
@@ -19,6 +19,7 @@ package com.hedera.mirror.importer.migration;
 import com.google.common.base.Stopwatch;
 import com.hedera.mirror.common.domain.entity.EntityId;
 import com.hedera.mirror.common.util.DomainUtils;
+import com.hedera.mirror.importer.parser.record.entity.sql.EntityStateCache;
 import com.hedera.mirror.importer.repository.EntityHistoryRepository;
 import com.hedera.mirror.importer.repository.EntityRepository;
 import com.hedera.services.stream.proto.ContractBytecode;
@@ -26,6 +27,7 @@ import jakarta.inject.Named;
 import java.util.Collection;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Optional;
 import lombok.CustomLog;
 import lombok.RequiredArgsConstructor;
 import org.springframework.jdbc.core.JdbcOperations;
@@ -46,6 +48,7 @@ public class SidecarContractMigration {
 
     private final EntityHistoryRepository entityHistoryRepository;
     private final EntityRepository entityRepository;
+    private final Optional<EntityStateCache> entityStateCache;
     private final JdbcOperations jdbcOperations;
 
     public void migrate(List<ContractBytecode> contractBytecodes) {
@@ -81,6 +84,7 @@ public class SidecarContractMigration {
         if (!contractIds.isEmpty()) {
             entityRepository.updateContractType(contractIds);
             entityHistoryRepository.updateContractType(contractIds);
+            entityStateCache.ifPresent(c -> c.invalidate(contractIds));
             contractIds.clear();
         }
     }
@@ -16,7 +16,6 @@
 
 package com.hedera.mirror.importer.parser;
 
-import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Stopwatch;
 import com.hedera.mirror.common.domain.StreamFile;
 import com.hedera.mirror.importer.exception.HashMismatchException;
@@ -25,6 +24,7 @@ import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Timer;
 import java.time.Duration;
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicReference;
@@ -79,7 +79,6 @@ public abstract class AbstractStreamFileParser<T extends StreamFile<?>> implemen
                 .register(meterRegistry);
     }
 
-    @VisibleForTesting
     public void clear() {
         last.set(null);
     }
@@ -183,9 +182,85 @@ public abstract class AbstractStreamFileParser<T extends StreamFile<?>> implemen
         }
     }
 
+    /**
+     * Parses the stream files without flushing them, as the first stage of a pipelined parser. The last stream file is
+     * advanced on success so the next batch can be parsed before this one is flushed by {@link #doCommit(List)}.
+     *
+     * @param streamFiles the stream files to parse
+     * @return the stream files that were parsed, or an empty list if none should be parsed
+     */
+    @SuppressWarnings("java:S2139")
+    protected List<T> doPrepare(List<T> streamFiles) {
+        var parsed = new ArrayList<T>(streamFiles.size());
+        var previous = getLast();
+        var stopwatch = Stopwatch.createStarted();
+        T streamFile = null;
+
+        try {
+            for (int i = 0; i < streamFiles.size(); ++i) {
+                streamFile = streamFiles.get(i);
+
+                if (!shouldParse(previous, streamFile)) {
+                    streamFile.clear();
+                    continue;
+                }
+
+                doParse(streamFile);
+                parsed.add(streamFile);
+                previous = streamFile;
+            }
+        } catch (Exception e) {
+            log.error("Error parsing file {} in {}: {}", streamFile != null ? streamFile.getName() : "", stopwatch, e);
+            parseDurationMetricFailure.record(stopwatch.elapsed());
+            throw e;
+        }
+
+        if (!parsed.isEmpty()) {
+            updateLast(previous);
+        }
+
+        return parsed;
+    }
+
+    /**
+     * Flushes the stream files parsed by {@link #doPrepare(List)}, as the second stage of a pipelined parser.
+     *
+     * @param streamFiles the parsed stream files
+     */
+    @SuppressWarnings("java:S2139")
+    protected void doCommit(List<T> streamFiles) {
+        var stopwatch = Stopwatch.createStarted();
+        var first = streamFiles.getFirst();
+        var streamFile = streamFiles.getLast();
+        long count = streamFiles.stream().mapToLong(StreamFile::getCount).sum();
+        boolean success = true;
+
+        try {
+            doFlush(streamFile);
+            log.info(
+                    "Successfully batch processed {} items from {} files in {}: [{}, {}]",
+                    count,
+                    streamFiles.size(),
+                    stopwatch,
+                    first.getName(),
+                    streamFile.getName());
+
+            Instant consensusInstant = Instant.ofEpochSecond(0L, streamFile.getConsensusEnd());
+            parseLatencyMetric.record(Duration.between(consensusInstant, Instant.now()));
+            totalDurationMetric.record(streamFile.getLoadEnd() - streamFile.getLoadStart(), TimeUnit.MILLISECONDS);
+        } catch (Exception e) {
+            success = false;
+            log.error("Error flushing file {} in {}: {}", streamFile.getName(), stopwatch, e);
+            throw e;
+        } finally {
+            Timer timer = success ? parseDurationMetricSuccess : parseDurationMetricFailure;
+            timer.record(stopwatch.elapsed());
+        }
+    }
+
     protected void doFlush(T streamFile) {
         streamFileListener.onEnd(streamFile);
-        last.set(streamFile);
+        updateLast(streamFile);
         streamFile.clear();
     }
 
@@ -201,6 +276,14 @@ public abstract class AbstractStreamFileParser<T extends StreamFile<?>> implemen
         return streamFileRepository.findLatest().orElse(null);
     }
 
+    // Never moves backwards since a pipelined parser may have already parsed a later stream file than the one flushed
+    private void updateLast(T streamFile) {
+        last.accumulateAndGet(streamFile, (previous, current) -> {
+            boolean isLater = previous != null && previous.getConsensusEnd() > current.getConsensusEnd();
+            return isLater ? previous : current;
+        });
+    }
+
     private boolean shouldParse(T previous, T current) {
         if (!parserProperties.isEnabled()) {
             return false;
@@ -26,6 +26,7 @@ import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotNull;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Objects;
@@ -54,6 +55,12 @@ import org.springframework.validation.annotation.Validated;
 @Validated
 public class CommonParserProperties {
 
+    /**
+     * The tables to COPY using the PostgreSQL binary format instead of CSV
+     */
+    @NotNull
+    private Set<String> binaryCopyTables = new LinkedHashSet<>();
+
     @Min(8192)
     private int bufferSize = 32768; // tested max byte size of buffer used by PGCopyOutputStream
 
@@ -68,6 +75,13 @@ public class CommonParserProperties {
     @Getter(lazy = true)
     private final Predicate<TransactionFilterFields> filter = includeFilter().and(excludeFilter());
 
+    /**
+     * Tests only the transaction type and payer so a transaction that can't pass the filter is dropped before its body
+     * is decoded. A transaction that passes it must still be tested with the full filter.
+     */
+    @Getter(lazy = true)
+    private final Predicate<RecordItem> headerFilter = includeHeaderFilter().and(excludeHeaderFilter());
+
     public boolean hasFilter() {
         return (!exclude.isEmpty()) || (!include.isEmpty());
     }
@@ -79,6 +93,15 @@ public class CommonParserProperties {
         return exclude.stream().map(f -> f.getFilter().negate()).reduce(a -> true, Predicate::and);
     }
 
+    private Predicate<RecordItem> excludeHeaderFilter() {
+        if (exclude.isEmpty()) {
+            return r -> true;
+        }
+        return exclude.stream()
+                .map(f -> f.getExcludeHeaderFilter().negate())
+                .reduce(a -> true, Predicate::and);
+    }
+
     private Predicate<TransactionFilterFields> includeFilter() {
         if (include.isEmpty()) {
             return t -> true;
@@ -86,6 +109,13 @@ public class CommonParserProperties {
         return include.stream().map(TransactionFilter::getFilter).reduce(a -> false, Predicate::or);
     }
 
+    private Predicate<RecordItem> includeHeaderFilter() {
+        if (include.isEmpty()) {
+            return r -> true;
+        }
+        return include.stream().map(TransactionFilter::getIncludeHeaderFilter).reduce(a -> false, Predicate::or);
+    }
+
     @Data
     @Validated
     static class TransactionFilter {
@@ -120,15 +150,27 @@ public class CommonParserProperties {
         }
 
         Predicate<TransactionFilterFields> getFilter() {
-            return t -> matches(t) && matches(t.getEntities()) && matchesExpression(t.getRecordItem());
+            return t -> matches(t.getRecordItem()) && matches(t.getEntities()) && matchesExpression(t.getRecordItem());
+        }
+
+        // Whether the filter might match, since the other entities and the expression need the transaction body
+        Predicate<RecordItem> getIncludeHeaderFilter() {
+            return this::matches;
+        }
+
+        // Whether the filter is sure to match, since the payer is one of the transaction's entities
+        Predicate<RecordItem> getExcludeHeaderFilter() {
+            return r -> matches(r)
+                    && StringUtils.isEmpty(expression)
+                    && matches(Collections.singleton(r.getPayerAccountId()));
         }
 
-        private boolean matches(TransactionFilterFields t) {
+        private boolean matches(RecordItem recordItem) {
             if (transaction.isEmpty()) {
                 return true;
             }
 
-            return transaction.contains(TransactionType.of(t.getRecordItem().getTransactionType()));
+            return transaction.contains(TransactionType.of(recordItem.getTransactionType()));
         }
 
         private boolean matches(Collection<EntityId> entities) {
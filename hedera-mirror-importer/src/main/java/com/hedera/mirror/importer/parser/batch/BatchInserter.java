@@ -31,6 +31,7 @@ import com.hedera.mirror.importer.converter.ByteArrayArrayToHexSerializer;
 import com.hedera.mirror.importer.converter.ByteArrayToHexSerializer;
 import com.hedera.mirror.importer.exception.ParserException;
 import com.hedera.mirror.importer.parser.CommonParserProperties;
+import com.hedera.mirror.importer.repository.upsert.EntityMetadata;
 import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Timer;
@@ -38,7 +39,7 @@ import java.io.IOException;
 import java.sql.Connection;
 import java.sql.SQLException;
 import java.util.Collection;
-import java.util.stream.Collectors;
+import java.util.List;
 import javax.sql.DataSource;
 import lombok.CustomLog;
 import org.postgresql.PGConnection;
@@ -57,6 +58,7 @@ public class BatchInserter implements BatchPersister {
     protected final MeterRegistry meterRegistry;
     protected final String tableName;
 
+    private final BinaryCopyWriter binaryCopyWriter;
     private final Counter rowsMetric;
     private final String sql;
     private final ObjectWriter writer;
@@ -76,6 +78,19 @@ public class BatchInserter implements BatchPersister {
             MeterRegistry meterRegistry,
             CommonParserProperties properties,
             String tableName) {
+        this(entityClass, dataSource, meterRegistry, properties, tableName, null);
+    }
+
+    /**
+     * @param entityMetadata the metadata used to COPY in the binary format, or null to COPY as CSV
+     */
+    public BatchInserter(
+            Class<?> entityClass,
+            DataSource dataSource,
+            MeterRegistry meterRegistry,
+            CommonParserProperties properties,
+            String tableName,
+            EntityMetadata entityMetadata) {
         this.dataSource = dataSource;
         this.properties = properties;
         this.meterRegistry = meterRegistry;
@@ -91,12 +106,15 @@ public class BatchInserter implements BatchPersister {
         mapper.configure(CsvGenerator.Feature.ALWAYS_QUOTE_EMPTY_STRINGS, true);
         var schema = mapper.schemaFor(entityClass);
         writer = mapper.writer(schema);
-        String columnsCsv = Lists.newArrayList(schema.iterator()).stream()
+        var columns = Lists.newArrayList(schema.iterator()).stream()
                 .map(CsvSchema.Column::getName)
                 .distinct()
                 .map(name -> CaseFormat.UPPER_CAMEL.to(CaseFormat.LOWER_UNDERSCORE, name))
-                .collect(Collectors.joining(", "));
-        sql = String.format("COPY %s(%s) FROM STDIN WITH CSV", this.tableName, columnsCsv);
+                .toList();
+        var columnsCsv = String.join(", ", columns);
+        binaryCopyWriter = binaryCopyWriter(entityMetadata, columns);
+        var format = binaryCopyWriter != null ? "(FORMAT binary)" : "CSV";
+        sql = String.format("COPY %s(%s) FROM STDIN WITH %s", this.tableName, columnsCsv, format);
         var parentTableName = this.tableName.replaceAll("_\\d+$", ""); // Strip _01 shard suffix
         latencyMetric = Timer.builder(LATENCY_METRIC)
                 .description("The time it took to batch insert rows")
@@ -139,7 +157,12 @@ public class BatchInserter implements BatchPersister {
         }
 
         try (var pgCopyOutputStream = new PGCopyOutputStream(copyIn, properties.getBufferSize())) {
-            writer.writeValue(pgCopyOutputStream, items);
+            if (binaryCopyWriter != null) {
+                binaryCopyWriter.write(pgCopyOutputStream, items);
+            } else {
+                writer.writeValue(pgCopyOutputStream, items);
+            }
+
             rowsMetric.increment(items.size());
             latencyMetric.record(stopwatch.elapsed());
         } finally {
@@ -148,4 +171,17 @@ public class BatchInserter implements BatchPersister {
             }
         }
     }
+
+    private BinaryCopyWriter binaryCopyWriter(EntityMetadata entityMetadata, List<String> columns) {
+        if (entityMetadata == null) {
+            return null;
+        }
+
+        try {
+            return BinaryCopyWriter.of(entityMetadata, columns);
+        } catch (UnsupportedOperationException e) {
+            log.warn("Unable to use binary COPY for table {}, falling back to CSV: {}", tableName, e.getMessage());
+            return null;
+        }
+    }
 }
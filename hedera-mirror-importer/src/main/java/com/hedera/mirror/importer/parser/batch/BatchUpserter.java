@@ -18,14 +18,18 @@ package com.hedera.mirror.importer.parser.batch;
 
 import com.hedera.mirror.importer.exception.ParserException;
 import com.hedera.mirror.importer.parser.CommonParserProperties;
+import com.hedera.mirror.importer.repository.upsert.EntityMetadata;
 import com.hedera.mirror.importer.repository.upsert.UpsertQueryGenerator;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Timer;
+import java.io.IOException;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
 import java.util.Collection;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
 import javax.sql.DataSource;
 import lombok.CustomLog;
 import org.springframework.util.CollectionUtils;
@@ -37,6 +41,8 @@ import org.springframework.util.CollectionUtils;
 public class BatchUpserter extends BatchInserter {
 
     private final String finalTableName;
+    private final Predicate<Object> resolved;
+    private final String resolvedUpsertSql;
     private final String tempTableCleanupSql;
     private final String upsertSql;
     private final Timer upsertMetric;
@@ -47,10 +53,47 @@ public class BatchUpserter extends BatchInserter {
             MeterRegistry meterRegistry,
             CommonParserProperties properties,
             UpsertQueryGenerator upsertQueryGenerator) {
-        super(entityClass, dataSource, meterRegistry, properties, upsertQueryGenerator.getTemporaryTableName());
+        this(entityClass, dataSource, meterRegistry, properties, upsertQueryGenerator, null);
+    }
+
+    public BatchUpserter(
+            Class<?> entityClass,
+            DataSource dataSource,
+            MeterRegistry meterRegistry,
+            CommonParserProperties properties,
+            UpsertQueryGenerator upsertQueryGenerator,
+            EntityMetadata entityMetadata) {
+        this(entityClass, dataSource, meterRegistry, properties, upsertQueryGenerator, entityMetadata, null);
+    }
+
+    /**
+     * @param resolved optional predicate matching the items already coalesced with their existing state, which are
+     *                 upserted without joining against the final table
+     */
+    @SuppressWarnings("java:S107")
+    public BatchUpserter(
+            Class<?> entityClass,
+            DataSource dataSource,
+            MeterRegistry meterRegistry,
+            CommonParserProperties properties,
+            UpsertQueryGenerator upsertQueryGenerator,
+            EntityMetadata entityMetadata,
+            Predicate<Object> resolved) {
+        super(
+                entityClass,
+                dataSource,
+                meterRegistry,
+                properties,
+                upsertQueryGenerator.getTemporaryTableName(),
+                entityMetadata);
         tempTableCleanupSql = String.format("truncate table %s restart identity cascade", tableName);
         finalTableName = upsertQueryGenerator.getFinalTableName();
         upsertSql = upsertQueryGenerator.getUpsertQuery();
+        resolvedUpsertSql = resolved != null ? upsertQueryGenerator.getResolvedUpsertQuery().orElse(null) : null;
+        if (resolved != null && resolvedUpsertSql == null) {
+            log.warn("Table {} doesn't support upserting resolved rows, joining all rows instead", finalTableName);
+        }
+        this.resolved = resolvedUpsertSql != null ? resolved : null;
         log.trace("Table: {}, Entity: {}, upsertSql:\n{}", finalTableName, entityClass, upsertSql);
         upsertMetric = Timer.builder(LATENCY_METRIC)
                 .description("The time it took to batch insert rows")
@@ -66,14 +109,13 @@ public class BatchUpserter extends BatchInserter {
         }
 
         try {
-            // create temp table to copy into
-            cleanupTempTable(connection);
-
-            // copy items to temp table
-            super.persistItems(items, connection);
-
-            // Upsert items from the temporary table to the final table
-            upsert(connection);
+            if (resolved == null) {
+                upsert(items, connection, upsertSql);
+            } else {
+                var partitions = items.stream().collect(Collectors.partitioningBy(resolved));
+                upsert(partitions.get(true), connection, resolvedUpsertSql);
+                upsert(partitions.get(false), connection, upsertSql);
+            }
         } catch (Exception e) {
             throw new ParserException(
                     String.format("Error copying %d items to table %s", items.size(), finalTableName), e);
@@ -88,10 +130,21 @@ public class BatchUpserter extends BatchInserter {
         log.trace("Cleaned temp table {}", tableName);
     }
 
-    private void upsert(Connection connection) throws SQLException {
+    private void upsert(Collection<?> items, Connection connection, String sql) throws SQLException, IOException {
+        if (items.isEmpty()) {
+            return;
+        }
+
+        // create temp table to copy into
+        cleanupTempTable(connection);
+
+        // copy items to temp table
+        super.persistItems(items, connection);
+
+        // Upsert items from the temporary table to the final table
         var startTime = System.nanoTime();
 
-        try (PreparedStatement preparedStatement = connection.prepareStatement(upsertSql)) {
+        try (PreparedStatement preparedStatement = connection.prepareStatement(sql)) {
             preparedStatement.execute();
             log.debug("Upserted data from table {} to table {}", tableName, finalTableName);
         } finally {
@@ -0,0 +1,300 @@
+/*
+ * Copyright (C) 2025 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.importer.parser.batch;
+
+import com.google.common.collect.BoundType;
+import com.google.common.collect.Range;
+import com.hedera.mirror.common.domain.entity.EntityId;
+import com.hedera.mirror.importer.repository.upsert.ColumnMetadata;
+import com.hedera.mirror.importer.repository.upsert.EntityMetadata;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import org.apache.commons.lang3.ClassUtils;
+
+/**
+ * Writes rows in the PostgreSQL binary COPY format. The column encoders are derived from the entity metadata so that
+ * values like bytea, int8range and arrays are written in their native representation instead of as CSV text.
+ */
+public class BinaryCopyWriter {
+
+    private static final byte[] HEADER = {'P', 'G', 'C', 'O', 'P', 'Y', '\n', (byte) 0xff, '\r', '\n', 0};
+    private static final int NULL = -1;
+    private static final short TRAILER = -1;
+
+    // PostgreSQL type OIDs of the supported array element types
+    private static final int BYTEA_OID = 17;
+    private static final int INT8_OID = 20;
+
+    // PostgreSQL range flags
+    private static final int RANGE_EMPTY = 0x01;
+    private static final int RANGE_LB_INC = 0x02;
+    private static final int RANGE_UB_INC = 0x04;
+    private static final int RANGE_LB_INF = 0x08;
+    private static final int RANGE_UB_INF = 0x10;
+
+    private static final Predicate<Class<?>> INTEGER = t -> t == Short.class || t == Integer.class;
+    private static final Predicate<Class<?>> LONG = INTEGER.or(
+            t -> t == Long.class || t == BigInteger.class || t == BigDecimal.class || t == EntityId.class);
+    private static final Map<String, TypeEncoder> ENCODERS = Map.of(
+            "_bytea",
+            new TypeEncoder(t -> t == byte[][].class || List.class.isAssignableFrom(t), BinaryCopyWriter::byteaArray),
+            "_int8",
+            new TypeEncoder(t -> t == long[].class || List.class.isAssignableFrom(t), BinaryCopyWriter::int8Array),
+            "bool",
+            new TypeEncoder(t -> t == Boolean.class, BinaryCopyWriter::bool),
+            "bytea",
+            new TypeEncoder(t -> t == byte[].class, BinaryCopyWriter::bytea),
+            "enum",
+            new TypeEncoder(t -> t.isEnum() || t == String.class, BinaryCopyWriter::label),
+            "int2",
+            new TypeEncoder(INTEGER, BinaryCopyWriter::int2),
+            "int4",
+            new TypeEncoder(INTEGER, BinaryCopyWriter::int4),
+            "int8",
+            new TypeEncoder(LONG, BinaryCopyWriter::int8),
+            "int8range",
+            new TypeEncoder(Range.class::isAssignableFrom, BinaryCopyWriter::int8range),
+            "text",
+            new TypeEncoder(t -> t == String.class, BinaryCopyWriter::text));
+
+    private final List<ColumnEncoder> columns;
+
+    private BinaryCopyWriter(List<ColumnEncoder> columns) {
+        this.columns = columns;
+    }
+
+    /**
+     * Creates a writer for the given columns of the entity.
+     *
+     * @param entityMetadata the entity metadata
+     * @param columnNames    the ordered column names the COPY statement lists
+     * @return the binary copy writer
+     * @throws UnsupportedOperationException if a column is unknown or its type can't be written in binary
+     */
+    public static BinaryCopyWriter of(EntityMetadata entityMetadata, List<String> columnNames) {
+        var columns = new ArrayList<ColumnEncoder>(columnNames.size());
+
+        for (var columnName : columnNames) {
+            var column = entityMetadata.getColumns().stream()
+                    .filter(c -> c.getName().equals(columnName))
+                    .findFirst()
+                    .orElseThrow(() -> new UnsupportedOperationException("Unknown column " + columnName));
+            columns.add(new ColumnEncoder(column.getGetter(), encoder(column)));
+        }
+
+        return new BinaryCopyWriter(columns);
+    }
+
+    public void write(OutputStream outputStream, Collection<?> items) throws IOException {
+        var out = new DataOutputStream(outputStream);
+        out.write(HEADER);
+        out.writeInt(0); // Flags
+        out.writeInt(0); // Header extension length
+
+        for (var item : items) {
+            out.writeShort(columns.size());
+
+            for (var column : columns) {
+                var value = column.getter().apply(item);
+
+                if (value == null) {
+                    out.writeInt(NULL);
+                } else {
+                    column.encoder().encode(out, value);
+                }
+            }
+        }
+
+        out.writeShort(TRAILER);
+        out.flush();
+    }
+
+    private static Encoder encoder(ColumnMetadata column) {
+        var dataType = "varchar".equals(column.getDataType()) ? "text" : column.getDataType();
+        var typeEncoder = ENCODERS.get(dataType);
+        var javaType = ClassUtils.primitiveToWrapper(column.getType());
+
+        if (typeEncoder == null || !typeEncoder.supports().test(javaType)) {
+            throw new UnsupportedOperationException(String.format(
+                    "Column %s of type %s and Java type %s is not supported",
+                    column.getName(),
+                    column.getDataType(),
+                    column.getType().getSimpleName()));
+        }
+
+        return typeEncoder.encoder();
+    }
+
+    private static void bool(DataOutputStream out, Object value) throws IOException {
+        out.writeInt(1);
+        out.writeByte(Boolean.TRUE.equals(value) ? 1 : 0);
+    }
+
+    private static void bytea(DataOutputStream out, Object value) throws IOException {
+        var bytes = (byte[]) value;
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static void byteaArray(DataOutputStream out, Object value) throws IOException {
+        var elements = value instanceof byte[][] array ? Arrays.asList(array) : (List<?>) value;
+        int length = arrayHeaderLength(elements);
+
+        for (var element : elements) {
+            length += Integer.BYTES + (element != null ? ((byte[]) element).length : 0);
+        }
+
+        out.writeInt(length);
+        arrayHeader(out, elements, BYTEA_OID);
+
+        for (var element : elements) {
+            if (element == null) {
+                out.writeInt(NULL);
+            } else {
+                bytea(out, element);
+            }
+        }
+    }
+
+    private static void int2(DataOutputStream out, Object value) throws IOException {
+        out.writeInt(Short.BYTES);
+        out.writeShort(((Number) value).shortValue());
+    }
+
+    private static void int4(DataOutputStream out, Object value) throws IOException {
+        out.writeInt(Integer.BYTES);
+        out.writeInt(((Number) value).intValue());
+    }
+
+    private static void int8(DataOutputStream out, Object value) throws IOException {
+        out.writeInt(Long.BYTES);
+        out.writeLong(longValue(value));
+    }
+
+    private static void int8Array(DataOutputStream out, Object value) throws IOException {
+        var elements = value instanceof long[] array ? Arrays.stream(array).boxed().toList() : (List<?>) value;
+        int length = arrayHeaderLength(elements);
+
+        for (var element : elements) {
+            length += Integer.BYTES + (element != null ? Long.BYTES : 0);
+        }
+
+        out.writeInt(length);
+        arrayHeader(out, elements, INT8_OID);
+
+        for (var element : elements) {
+            if (element == null) {
+                out.writeInt(NULL);
+            } else {
+                int8(out, element);
+            }
+        }
+    }
+
+    // Arbitrary precision numbers throw an ArithmeticException instead of being silently truncated
+    private static long longValue(Object value) {
+        if (value instanceof EntityId entityId) {
+            return entityId.getId();
+        } else if (value instanceof BigInteger bigInteger) {
+            return bigInteger.longValueExact();
+        } else if (value instanceof BigDecimal bigDecimal) {
+            return bigDecimal.longValueExact();
+        }
+
+        return ((Number) value).longValue();
+    }
+
+    private static void int8range(DataOutputStream out, Object value) throws IOException {
+        var range = (Range<?>) value;
+        boolean hasLower = range.hasLowerBound();
+        boolean hasUpper = range.hasUpperBound();
+        int flags = 0;
+
+        if (hasLower && hasUpper && range.isEmpty()) {
+            out.writeInt(1);
+            out.writeByte(RANGE_EMPTY);
+            return;
+        }
+
+        if (!hasLower) {
+            flags |= RANGE_LB_INF;
+        } else if (range.lowerBoundType() == BoundType.CLOSED) {
+            flags |= RANGE_LB_INC;
+        }
+
+        if (!hasUpper) {
+            flags |= RANGE_UB_INF;
+        } else if (range.upperBoundType() == BoundType.CLOSED) {
+            flags |= RANGE_UB_INC;
+        }
+
+        int boundLength = Integer.BYTES + Long.BYTES;
+        out.writeInt(1 + (hasLower ? boundLength : 0) + (hasUpper ? boundLength : 0));
+        out.writeByte(flags);
+
+        if (hasLower) {
+            int8(out, range.lowerEndpoint());
+        }
+
+        if (hasUpper) {
+            int8(out, range.upperEndpoint());
+        }
+    }
+
+    private static void label(DataOutputStream out, Object value) throws IOException {
+        text(out, value instanceof Enum<?> e ? e.name() : value);
+    }
+
+    private static void text(DataOutputStream out, Object value) throws IOException {
+        bytea(out, value.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static void arrayHeader(DataOutputStream out, List<?> elements, int elementOid) throws IOException {
+        out.writeInt(elements.isEmpty() ? 0 : 1); // Dimensions
+        out.writeInt(elements.contains(null) ? 1 : 0);
+        out.writeInt(elementOid);
+
+        if (!elements.isEmpty()) {
+            out.writeInt(elements.size());
+            out.writeInt(1); // Lower bound
+        }
+    }
+
+    private static int arrayHeaderLength(List<?> elements) {
+        return Integer.BYTES * (elements.isEmpty() ? 3 : 5);
+    }
+
+    @FunctionalInterface
+    private interface Encoder {
+        void encode(DataOutputStream out, Object value) throws IOException;
+    }
+
+    private record ColumnEncoder(Function<Object, Object> getter, Encoder encoder) {}
+
+    private record TypeEncoder(Predicate<Class<?>> supports, Encoder encoder) {}
+}
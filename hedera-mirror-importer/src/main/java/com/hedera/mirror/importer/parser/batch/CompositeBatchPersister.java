@@ -16,9 +16,13 @@
 
 package com.hedera.mirror.importer.parser.batch;
 
+import com.google.common.base.CaseFormat;
 import com.hedera.mirror.common.domain.Upsertable;
 import com.hedera.mirror.common.domain.transaction.TransactionHash;
 import com.hedera.mirror.importer.parser.CommonParserProperties;
+import com.hedera.mirror.importer.parser.record.entity.sql.EntityStateCache;
+import com.hedera.mirror.importer.repository.upsert.EntityMetadata;
+import com.hedera.mirror.importer.repository.upsert.EntityMetadataRegistry;
 import com.hedera.mirror.importer.repository.upsert.UpsertQueryGenerator;
 import com.hedera.mirror.importer.repository.upsert.UpsertQueryGeneratorFactory;
 import io.micrometer.core.instrument.MeterRegistry;
@@ -28,6 +32,7 @@ import java.util.Collection;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
 import javax.sql.DataSource;
 import org.springframework.context.annotation.Primary;
 import org.springframework.core.annotation.AnnotationUtils;
@@ -38,17 +43,23 @@ public class CompositeBatchPersister implements BatchPersister {
 
     private final Map<Class<?>, BatchPersister> batchPersisters = new ConcurrentHashMap<>();
     private final DataSource dataSource;
+    private final EntityMetadataRegistry entityMetadataRegistry;
+    private final Optional<EntityStateCache> entityStateCache;
     private final MeterRegistry meterRegistry;
     private final CommonParserProperties properties;
     private final UpsertQueryGeneratorFactory upsertQueryGeneratorFactory;
 
     public CompositeBatchPersister(
             DataSource dataSource,
+            EntityMetadataRegistry entityMetadataRegistry,
             MeterRegistry meterRegistry,
             CommonParserProperties properties,
             UpsertQueryGeneratorFactory upsertQueryGeneratorFactory,
-            Optional<TransactionHashBatchInserter> transactionHashV1BatchPersister) {
+            Optional<TransactionHashBatchInserter> transactionHashV1BatchPersister,
+            Optional<EntityStateCache> entityStateCache) {
         this.dataSource = dataSource;
+        this.entityMetadataRegistry = entityMetadataRegistry;
+        this.entityStateCache = entityStateCache;
         this.meterRegistry = meterRegistry;
         this.properties = properties;
         this.upsertQueryGeneratorFactory = upsertQueryGeneratorFactory;
@@ -80,16 +91,31 @@ public class CompositeBatchPersister implements BatchPersister {
         }
 
         var entityClass = getEntityClass(domainClass);
+        var entityMetadata = getBinaryCopyMetadata(entityClass);
         Upsertable upsertable = AnnotationUtils.findAnnotation(domainClass, Upsertable.class);
 
         if (upsertable != null) {
             UpsertQueryGenerator generator = upsertQueryGeneratorFactory.get(domainClass);
-            return new BatchUpserter(entityClass, dataSource, meterRegistry, properties, generator);
+            var resolved = entityStateCache
+                    .filter(c -> c.getDomainClass() == domainClass)
+                    .<Predicate<Object>>map(c -> c::isResolved)
+                    .orElse(null);
+            return new BatchUpserter(
+                    entityClass, dataSource, meterRegistry, properties, generator, entityMetadata, resolved);
         } else {
-            return new BatchInserter(entityClass, dataSource, meterRegistry, properties);
+            var tableName = entityClass.getSimpleName();
+            return new BatchInserter(entityClass, dataSource, meterRegistry, properties, tableName, entityMetadata);
         }
     }
 
+    // Only tables configured to use the binary COPY format need the metadata to generate the binary writer
+    private EntityMetadata getBinaryCopyMetadata(Class<?> entityClass) {
+        var tableName = CaseFormat.UPPER_CAMEL.to(CaseFormat.LOWER_UNDERSCORE, entityClass.getSimpleName());
+        return properties.getBinaryCopyTables().contains(tableName)
+                ? entityMetadataRegistry.lookupEntity(entityClass)
+                : null;
+    }
+
     // Finds which parent class has the Entity annotation to get an accurate table name
     private Class<?> getEntityClass(Class<?> domainClass) {
         if (domainClass == null || domainClass == Object.class) {
@@ -0,0 +1,118 @@
+/*
+ * Copyright (C) 2025 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.importer.parser.batch;
+
+import com.hedera.mirror.common.domain.transaction.TransactionHash;
+import com.hedera.mirror.importer.exception.ParserException;
+import com.hedera.mirror.importer.parser.record.entity.ConditionOnEntityRecordParser;
+import com.hedera.mirror.importer.parser.record.entity.sql.SqlProperties;
+import jakarta.inject.Named;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Set;
+import java.util.concurrent.CompletionException;
+import org.springframework.beans.factory.DisposableBean;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * Persists batches of tables without inter-table dependencies concurrently on worker connections while the calling
+ * thread persists the dependent tables on its own connection. The worker transactions are prepared and committed
+ * together with the calling thread's transaction.
+ */
+@ConditionOnEntityRecordParser
+@Named
+public class ParallelBatchPersister implements DisposableBean {
+
+    // Persisters that manage their own connections have to run on the thread that owns the parent transaction
+    private static final Set<Class<?>> SERIAL = Set.of(TransactionHash.class);
+
+    private final BatchPersister batchPersister;
+    private final Scheduler scheduler;
+    private final TwoPhaseCommitTxManager transactionManager;
+
+    public ParallelBatchPersister(
+            BatchPersister batchPersister, SqlProperties sqlProperties, TwoPhaseCommitTxManager transactionManager) {
+        this.batchPersister = batchPersister;
+        this.scheduler = Schedulers.newParallel("flush", sqlProperties.getFlush().getThreads());
+        this.transactionManager = transactionManager;
+    }
+
+    @Override
+    public void destroy() {
+        scheduler.dispose();
+    }
+
+    /**
+     * Persists the independent batches in parallel and the dependent batches serially on the calling thread.
+     *
+     * @param independent the batches that can be persisted in any order
+     * @param dependent   the batches that have to be persisted in order
+     */
+    public void persist(Collection<Collection<?>> independent, Collection<Collection<?>> dependent) {
+        var parallel = new ArrayList<Mono<Void>>(independent.size());
+        var serial = new ArrayList<Collection<?>>();
+
+        for (var items : independent) {
+            if (items.isEmpty()) {
+                continue;
+            }
+
+            if (SERIAL.contains(items.iterator().next().getClass())) {
+                serial.add(items);
+            } else {
+                parallel.add(persistAsync(items));
+            }
+        }
+
+        serial.addAll(dependent);
+        transactionManager.initialize();
+        var pending = Mono.whenDelayError(parallel).toFuture();
+
+        RuntimeException error = null;
+
+        try {
+            serial.forEach(batchPersister::persist);
+        } catch (RuntimeException e) {
+            error = e;
+        }
+
+        // Wait for the workers even on failure so they finish before the transaction completes
+        try {
+            pending.join();
+        } catch (CompletionException e) {
+            if (error == null) {
+                error = e.getCause() instanceof RuntimeException r ? r : new ParserException(e.getCause());
+            } else {
+                error.addSuppressed(e.getCause());
+            }
+        }
+
+        if (error != null) {
+            throw error;
+        }
+    }
+
+    private Mono<Void> persistAsync(Collection<?> items) {
+        return Mono.<Void>fromRunnable(() -> {
+                    transactionManager.updateAndGetThreadState();
+                    batchPersister.persist(items);
+                })
+                .subscribeOn(scheduler);
+    }
+}
@@ -0,0 +1,250 @@
+/*
+ * Copyright (C) 2025 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.importer.parser.batch;
+
+import com.hedera.mirror.importer.exception.ParserException;
+import jakarta.inject.Named;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import javax.sql.DataSource;
+import lombok.CustomLog;
+import lombok.Data;
+import lombok.RequiredArgsConstructor;
+import lombok.SneakyThrows;
+import lombok.ToString;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.datasource.DataSourceUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Manages the worker thread connections used to persist in parallel. Each worker connection's transaction is prepared
+ * before the parent transaction commits and is then committed or rolled back with the same outcome as the parent. The
+ * global ID of each prepared transaction records the parent transaction's ID, so worker transactions left prepared by
+ * a previous run can be completed with the outcome of their parent on startup.
+ */
+@CustomLog
+@Named
+@RequiredArgsConstructor
+public class TwoPhaseCommitTxManager implements TransactionSynchronization {
+
+    static final String GID_PREFIX = "mirror_importer_";
+
+    private static final String GID_SEPARATOR = "_";
+
+    private final DataSource dataSource;
+    private final String instanceId = UUID.randomUUID().toString();
+    private final AtomicLong sequence = new AtomicLong();
+    private final Map<Thread, ThreadState> threadConnections = new ConcurrentHashMap<>();
+    private volatile long parentTransactionId;
+
+    @Override
+    public void beforeCommit(boolean readOnly) {
+        for (var threadState : threadConnections.values()) {
+            try {
+                threadState.prepare();
+            } catch (SQLException e) {
+                throw new ParserException("Error preparing transaction " + threadState.getTransactionId(), e);
+            }
+        }
+    }
+
+    @Override
+    public void afterCompletion(int status) {
+        boolean commit = status == STATUS_COMMITTED;
+
+        for (var threadState : threadConnections.values()) {
+            try (var connection = threadState.getConnection()) {
+                threadState.complete(commit);
+            } catch (Exception e) {
+                log.error(
+                        "Unable to {} transaction {}. Any prepared transaction will be resolved on the next startup",
+                        commit ? "commit" : "roll back",
+                        threadState.getTransactionId(),
+                        e);
+            }
+        }
+
+        log.debug("Completed {} worker transactions with status {}", threadConnections.size(), status);
+        threadConnections.clear();
+    }
+
+    /**
+     * Registers with the transaction of the calling thread so worker transactions complete together with it.
+     */
+    public void initialize() {
+        if (!TransactionSynchronizationManager.getSynchronizations().contains(this)) {
+            parentTransactionId = getParentTransactionId();
+            TransactionSynchronizationManager.registerSynchronization(this);
+        }
+    }
+
+    /**
+     * Completes the worker transactions that a previous run left prepared, committing those whose parent transaction
+     * committed and rolling back those whose parent transaction aborted.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void recover() {
+        try (var connection = dataSource.getConnection()) {
+            for (var transactionId : findPrepared(connection)) {
+                recover(connection, transactionId);
+            }
+        } catch (Exception e) {
+            log.error("Unable to recover prepared transactions", e);
+        }
+    }
+
+    /**
+     * Start new transaction for the current worker thread or reuse its existing one
+     *
+     * @return state of the thread
+     */
+    public ThreadState updateAndGetThreadState() {
+        return threadConnections.computeIfAbsent(Thread.currentThread(), k -> setupThreadTransaction());
+    }
+
+    private List<String> findPrepared(Connection connection) throws SQLException {
+        var sql = "select gid from pg_prepared_xacts where database = current_database()";
+        var transactionIds = new ArrayList<String>();
+
+        try (var statement = connection.createStatement();
+                var resultSet = statement.executeQuery(sql)) {
+            while (resultSet.next()) {
+                var transactionId = resultSet.getString(1);
+                if (StringUtils.startsWith(transactionId, GID_PREFIX)) {
+                    transactionIds.add(transactionId);
+                }
+            }
+        }
+
+        return transactionIds;
+    }
+
+    @SneakyThrows
+    private long getParentTransactionId() {
+        var connection = DataSourceUtils.getConnection(dataSource);
+        try (var statement = connection.createStatement();
+                var resultSet = statement.executeQuery("select txid_current()")) {
+            resultSet.next();
+            return resultSet.getLong(1);
+        } finally {
+            DataSourceUtils.releaseConnection(connection, dataSource);
+        }
+    }
+
+    private void recover(Connection connection, String transactionId) throws SQLException {
+        // The global ID is the prefix followed by the parent transaction ID, the instance ID and a sequence number
+        var parts = StringUtils.split(transactionId.substring(GID_PREFIX.length()), GID_SEPARATOR);
+        if (parts.length != 3 || !StringUtils.isNumeric(parts[0]) || instanceId.equals(parts[1])) {
+            return;
+        }
+
+        String parentStatus;
+        try (var statement = connection.prepareStatement("select txid_status(?)")) {
+            statement.setLong(1, Long.parseLong(parts[0]));
+            try (var resultSet = statement.executeQuery()) {
+                parentStatus = resultSet.next() ? resultSet.getString(1) : null;
+            }
+        }
+
+        var sql =
+                switch (StringUtils.defaultString(parentStatus)) {
+                    case "committed" -> "commit prepared '%s'";
+                    case "aborted" -> "rollback prepared '%s'";
+                    default -> null;
+                };
+
+        if (sql == null) {
+            log.warn("Unable to recover transaction {} with parent status {}", transactionId, parentStatus);
+            return;
+        }
+
+        try (var statement = connection.createStatement()) {
+            statement.execute(sql.formatted(transactionId));
+        }
+
+        log.info("Recovered transaction {} with parent status {}", transactionId, parentStatus);
+    }
+
+    @SneakyThrows
+    private ThreadState setupThreadTransaction() {
+        // Clean thread from previous run
+        TransactionSynchronizationManager.clear();
+        TransactionSynchronizationManager.unbindResourceIfPossible(dataSource);
+
+        // initialize transaction for thread
+        TransactionSynchronizationManager.initSynchronization();
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+
+        // Subsequent calls to get connection on this thread will use the same connection
+        Connection connection = DataSourceUtils.getConnection(dataSource);
+        connection.setAutoCommit(false);
+        var transactionId = GID_PREFIX
+                + String.join(
+                        GID_SEPARATOR,
+                        String.valueOf(parentTransactionId),
+                        instanceId,
+                        String.valueOf(sequence.incrementAndGet()));
+        return new ThreadState(connection, transactionId);
+    }
+
+    Map<Thread, ThreadState> getThreadConnections() {
+        return threadConnections;
+    }
+
+    @Data
+    @ToString(exclude = "connection")
+    static class ThreadState {
+        private final Connection connection;
+        private final String transactionId;
+        private boolean prepared;
+
+        void complete(boolean commit) throws SQLException {
+            if (!prepared) {
+                // Not part of the two-phase commit, so it can never be committed on its own
+                connection.rollback();
+                if (commit) {
+                    throw new IllegalStateException("Transaction was not prepared before parent committed");
+                }
+                return;
+            }
+
+            connection.setAutoCommit(true);
+            var sql = commit ? "commit prepared '%s'" : "rollback prepared '%s'";
+            execute(sql.formatted(transactionId));
+        }
+
+        void prepare() throws SQLException {
+            execute("prepare transaction '%s'".formatted(transactionId));
+            prepared = true;
+        }
+
+        private void execute(String sql) throws SQLException {
+            try (var statement = connection.createStatement()) {
+                statement.execute(sql);
+            }
+        }
+    }
+}
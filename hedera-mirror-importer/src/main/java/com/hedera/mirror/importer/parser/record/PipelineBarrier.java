@@ -0,0 +1,60 @@
+/*
+ * Copyright (C) 2025 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.importer.parser.record;
+
+import com.hedera.mirror.importer.exception.ParserException;
+import jakarta.inject.Named;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * Makes database access from the thread preparing a record file batch wait until the previous batch is committed, so
+ * that any state read while parsing reflects all prior record files. It has no dependencies so it can be used by the
+ * data source itself.
+ */
+@Named
+public class PipelineBarrier {
+
+    private final ThreadLocal<CompletableFuture<?>> pending = new ThreadLocal<>();
+
+    /**
+     * Blocks the current thread until the commit it depends on completes, if any.
+     *
+     * @throws ParserException if the commit failed
+     */
+    public void await() {
+        var future = pending.get();
+        if (future == null) {
+            return;
+        }
+
+        try {
+            future.join();
+            pending.remove();
+        } catch (CompletionException e) {
+            throw new ParserException("Previous record file batch failed to commit", e.getCause());
+        }
+    }
+
+    void begin(CompletableFuture<?> commit) {
+        pending.set(commit);
+    }
+
+    void end() {
+        pending.remove();
+    }
+}
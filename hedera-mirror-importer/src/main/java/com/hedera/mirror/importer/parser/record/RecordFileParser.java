@@ -27,6 +27,7 @@ import com.hedera.mirror.common.domain.transaction.RecordItem;
 import com.hedera.mirror.common.domain.transaction.TransactionType;
 import com.hedera.mirror.common.util.DomainUtils;
 import com.hedera.mirror.importer.config.DateRangeCalculator;
+import com.hedera.mirror.importer.domain.EntityIdService;
 import com.hedera.mirror.importer.leader.Leader;
 import com.hedera.mirror.importer.parser.AbstractStreamFileParser;
 import com.hedera.mirror.importer.parser.record.entity.ParserContext;
@@ -55,7 +56,9 @@ public class RecordFileParser extends AbstractStreamFileParser<RecordFile> {
     private final ApplicationEventPublisher applicationEventPublisher;
     private final RecordItemListener recordItemListener;
     private final DateRangeCalculator dateRangeCalculator;
+    private final EntityIdService entityIdService;
     private final ParserContext parserContext;
+    private final ThreadLocal<Boolean> preparing = ThreadLocal.withInitial(() -> false);
 
     // Metrics
     private final Map<Integer, Timer> latencyMetrics;
@@ -72,11 +75,13 @@ public class RecordFileParser extends AbstractStreamFileParser<RecordFile> {
             RecordItemListener recordItemListener,
             RecordStreamFileListener recordStreamFileListener,
             DateRangeCalculator dateRangeCalculator,
+            EntityIdService entityIdService,
             ParserContext parserContext) {
         super(meterRegistry, parserProperties, recordStreamFileListener, streamFileRepository);
         this.applicationEventPublisher = applicationEventPublisher;
         this.recordItemListener = recordItemListener;
         this.dateRangeCalculator = dateRangeCalculator;
+        this.entityIdService = entityIdService;
         this.parserContext = parserContext;
 
         // build transaction latency metrics
@@ -150,6 +155,52 @@ public class RecordFileParser extends AbstractStreamFileParser<RecordFile> {
         }
     }
 
+    /**
+     * Parses the record files into a detached {@link ParserContext} without writing to the database, so that they can
+     * be flushed by {@link #commit(PreparedBatch)} on another thread while the next batch is parsed.
+     *
+     * @param recordFiles the record files to parse
+     * @return the parsed batch, or null if none of the record files should be parsed
+     */
+    @Leader
+    public PreparedBatch prepare(List<RecordFile> recordFiles) {
+        preparing.set(true);
+
+        try {
+            var parsed = doPrepare(recordFiles);
+            return parsed.isEmpty() ? null : new PreparedBatch(parsed, parserContext.detach());
+        } finally {
+            parserContext.clear();
+            preparing.remove();
+        }
+    }
+
+    /**
+     * Flushes a batch previously parsed by {@link #prepare(List)} to the database.
+     *
+     * @param preparedBatch the parsed batch
+     */
+    @Leader
+    @Retryable(
+            backoff =
+                    @Backoff(
+                            delayExpression = "#{@recordParserProperties.getRetry().getMinBackoff().toMillis()}",
+                            maxDelayExpression = "#{@recordParserProperties.getRetry().getMaxBackoff().toMillis()}",
+                            multiplierExpression = "#{@recordParserProperties.getRetry().getMultiplier()}"),
+            retryFor = Throwable.class,
+            noRetryFor = OutOfMemoryError.class,
+            maxAttemptsExpression = "#{@recordParserProperties.getRetry().getMaxAttempts()}")
+    @Transactional(timeoutString = "#{@recordParserProperties.getTransactionTimeout().toSeconds()}")
+    public synchronized void commit(PreparedBatch preparedBatch) {
+        parserContext.attach(preparedBatch.context());
+
+        try {
+            doCommit(preparedBatch.recordFiles());
+        } finally {
+            parserContext.clear();
+        }
+    }
+
     @Override
     protected void doFlush(RecordFile streamFile) {
         super.doFlush(streamFile);
@@ -163,6 +214,7 @@ public class RecordFileParser extends AbstractStreamFileParser<RecordFile> {
         var count = new AtomicLong(0L);
         boolean shouldLog = log.isDebugEnabled() || log.isTraceEnabled();
 
+        entityIdService.preload(recordFile.getItems());
         recordFile.getItems().forEach(recordItem -> {
             if (shouldLog) {
                 logItem(recordItem);
@@ -215,9 +267,18 @@ public class RecordFileParser extends AbstractStreamFileParser<RecordFile> {
             long offset = recordFile.getIndex() - lastRecordFile.getIndex() - 1;
 
             if (offset != 0 && streamFileRepository instanceof RecordFileRepository repository) {
-                var stopwatch = Stopwatch.createStarted();
-                int count = repository.updateIndex(offset);
-                log.info("Updated {} blocks with offset {} in {}", count, offset, stopwatch);
+                Runnable update = () -> {
+                    var stopwatch = Stopwatch.createStarted();
+                    int count = repository.updateIndex(offset);
+                    log.info("Updated {} blocks with offset {} in {}", count, offset, stopwatch);
+                };
+
+                // A prepared batch isn't in a transaction, so the update is deferred until it's flushed
+                if (Boolean.TRUE.equals(preparing.get())) {
+                    parserContext.defer(update);
+                } else {
+                    update.run();
+                }
             }
         }
     }
@@ -250,4 +311,12 @@ public class RecordFileParser extends AbstractStreamFileParser<RecordFile> {
             recordFile.setLogsBloom(logsBloom.getBloom());
         }
     }
+
+    /**
+     * Record files parsed by the first stage of the pipeline that are waiting to be flushed.
+     *
+     * @param recordFiles the parsed record files
+     * @param context     the domain objects parsed from the record files
+     */
+    public record PreparedBatch(List<RecordFile> recordFiles, ParserContext.Snapshot context) {}
 }
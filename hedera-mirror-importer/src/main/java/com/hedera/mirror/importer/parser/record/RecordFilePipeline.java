@@ -0,0 +1,155 @@
+/*
+ * Copyright (C) 2025 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.importer.parser.record;
+
+import com.google.common.base.Stopwatch;
+import com.hedera.mirror.common.domain.transaction.RecordFile;
+import com.hedera.mirror.importer.parser.record.RecordFileParser.PreparedBatch;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.inject.Named;
+import java.io.Closeable;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import lombok.CustomLog;
+import lombok.SneakyThrows;
+
+/**
+ * Parses record file batches in two stages so that the next batch is converted into domain objects while the previous
+ * batch is written to the database. Batches are committed one at a time in the order they're submitted, and the number
+ * of parsed items waiting to be committed is bounded by the pipeline's max items.
+ */
+@CustomLog
+@Named
+public class RecordFilePipeline implements Closeable {
+
+    static final String BUSY_METRIC_NAME = "hedera.mirror.parse.pipeline.busy";
+    static final String WAIT_METRIC_NAME = "hedera.mirror.parse.pipeline.wait";
+
+    private final PipelineBarrier barrier;
+    private final Semaphore budget;
+    private final ExecutorService executor;
+    private final int maxPermits;
+    private final RecordParserProperties properties;
+    private final RecordFileParser recordFileParser;
+
+    private final Timer commitBusyMetric;
+    private final Timer commitWaitMetric;
+    private final Timer prepareBusyMetric;
+    private final Timer prepareWaitMetric;
+
+    private CompletableFuture<Void> lastCommit = CompletableFuture.completedFuture(null);
+
+    public RecordFilePipeline(
+            PipelineBarrier barrier,
+            MeterRegistry meterRegistry,
+            RecordParserProperties properties,
+            RecordFileParser recordFileParser) {
+        this.barrier = barrier;
+        this.maxPermits = (int) Math.min(properties.getPipeline().getMaxItems(), Integer.MAX_VALUE);
+        this.budget = new Semaphore(maxPermits, true);
+        this.executor = Executors.newSingleThreadExecutor();
+        this.properties = properties;
+        this.recordFileParser = recordFileParser;
+
+        var busy = Timer.builder(BUSY_METRIC_NAME).description("The time each stage of the parser pipeline is busy");
+        var wait = Timer.builder(WAIT_METRIC_NAME)
+                .description("The time each stage of the parser pipeline waits on the other stage");
+        commitBusyMetric = busy.tag("stage", "commit").register(meterRegistry);
+        commitWaitMetric = wait.tag("stage", "commit").register(meterRegistry);
+        prepareBusyMetric = busy.tag("stage", "prepare").register(meterRegistry);
+        prepareWaitMetric = wait.tag("stage", "prepare").register(meterRegistry);
+    }
+
+    public boolean isEnabled() {
+        return properties.getPipeline().isEnabled();
+    }
+
+    /**
+     * Parses the record files on the calling thread and queues them to be committed once the previous batch is
+     * committed. Blocks if the in-flight batches exceed the memory budget.
+     *
+     * @param recordFiles the record files to parse
+     */
+    @SneakyThrows(InterruptedException.class)
+    public synchronized void submit(List<RecordFile> recordFiles) {
+        if (lastCommit.isCompletedExceptionally()) {
+            // The failed batch was lost, so re-read the last record file from the database and start over
+            recordFileParser.clear();
+            lastCommit = CompletableFuture.completedFuture(null);
+        }
+
+        int permits = getPermits(recordFiles);
+        var stopwatch = Stopwatch.createStarted();
+        budget.acquire(permits);
+        prepareWaitMetric.record(stopwatch.elapsed());
+
+        var previous = lastCommit;
+        PreparedBatch batch;
+        stopwatch.reset().start();
+        barrier.begin(previous);
+
+        try {
+            batch = recordFileParser.prepare(recordFiles);
+        } catch (Exception e) {
+            budget.release(permits);
+            throw e;
+        } finally {
+            barrier.end();
+            prepareBusyMetric.record(stopwatch.elapsed());
+        }
+
+        if (batch == null) {
+            budget.release(permits);
+            return;
+        }
+
+        var queued = Stopwatch.createStarted();
+        lastCommit = previous.thenRunAsync(() -> commit(batch, queued), executor)
+                .whenComplete((v, e) -> {
+                    budget.release(permits);
+                    if (e != null) {
+                        log.error("Error committing {} record files", batch.recordFiles().size(), e);
+                    }
+                });
+    }
+
+    @Override
+    public void close() {
+        executor.close();
+    }
+
+    private void commit(PreparedBatch batch, Stopwatch queued) {
+        commitWaitMetric.record(queued.elapsed());
+        var stopwatch = Stopwatch.createStarted();
+
+        try {
+            recordFileParser.commit(batch);
+        } finally {
+            commitBusyMetric.record(stopwatch.elapsed());
+        }
+    }
+
+    // A batch larger than the budget is allowed through on its own so it can't block forever
+    private int getPermits(List<RecordFile> recordFiles) {
+        long count = recordFiles.stream().mapToLong(RecordFile::getCount).sum();
+        return Math.clamp(count, 1, maxPermits);
+    }
+}
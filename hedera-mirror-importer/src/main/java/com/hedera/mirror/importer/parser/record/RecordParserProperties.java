@@ -18,6 +18,9 @@ package com.hedera.mirror.importer.parser.record;
 
 import com.hedera.mirror.common.domain.StreamType;
 import com.hedera.mirror.importer.parser.AbstractParserProperties;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
 import lombok.Data;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.stereotype.Component;
@@ -29,8 +32,22 @@ import org.springframework.validation.annotation.Validated;
 @ConfigurationProperties("hedera.mirror.importer.parser.record")
 public class RecordParserProperties extends AbstractParserProperties {
 
+    @NotNull
+    @Valid
+    private PipelineProperties pipeline = new PipelineProperties();
+
     @Override
     public StreamType getStreamType() {
         return StreamType.RECORD;
     }
+
+    @Data
+    @Validated
+    public static class PipelineProperties {
+
+        private boolean enabled = false;
+
+        @Min(1)
+        private long maxItems = 120_000L;
+    }
 }
@@ -25,4 +25,12 @@ public interface BatchPublisher extends RecordStreamFileListener {
     Timer.Builder PUBLISH_TIMER = Timer.builder("hedera.mirror.importer.publish.duration")
             .description("The amount of time it took to publish the domain entity")
             .tag("entity", TopicMessage.class.getSimpleName());
+
+    Timer.Builder PUBLISH_BLOCKED_TIMER = Timer.builder("hedera.mirror.importer.publish.blocked")
+            .description("The amount of time the parser was blocked waiting for space in the publish queue")
+            .tag("entity", TopicMessage.class.getSimpleName());
+
+    Timer.Builder PUBLISH_LAG_TIMER = Timer.builder("hedera.mirror.importer.publish.lag")
+            .description("The difference between the time the domain entity was published and its consensus timestamp")
+            .tag("entity", TopicMessage.class.getSimpleName());
 }
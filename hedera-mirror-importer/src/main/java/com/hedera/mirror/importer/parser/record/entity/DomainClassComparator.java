@@ -51,6 +51,14 @@ class DomainClassComparator implements Comparator<Class<?>> {
     private static final Map<Class<?>, Integer> ORDER_MAP =
             IntStream.range(0, ORDER.size()).boxed().collect(toMap(ORDER::get, Function.identity()));
 
+    /**
+     * Whether the domain class has an ordering dependency on other domain classes and so has to be persisted serially
+     * in the order defined by this comparator.
+     */
+    static boolean isDependent(Class<?> domainClass) {
+        return ORDER_MAP.containsKey(domainClass);
+    }
+
     @Override
     public int compare(Class<?> left, Class<?> right) {
         if (Objects.equals(left, right)) {
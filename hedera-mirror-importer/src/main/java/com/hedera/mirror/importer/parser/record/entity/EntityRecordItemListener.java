@@ -97,9 +97,19 @@ public class EntityRecordItemListener implements RecordItemListener {
 
         int transactionTypeValue = recordItem.getTransactionType();
         TransactionType transactionType = TransactionType.of(transactionTypeValue);
-        TransactionHandler transactionHandler = transactionHandlerFactory.get(transactionType);
-
         long consensusTimestamp = recordItem.getConsensusTimestamp();
+
+        // Drop what the type and payer already rule out before anything decodes the transaction body
+        if (commonParserProperties.hasFilter() && !commonParserProperties.getHeaderFilter().test(recordItem)) {
+            log.debug(
+                    "Ignoring transaction. consensusTimestamp={}, transactionType={}, payer={}",
+                    consensusTimestamp,
+                    transactionType,
+                    recordItem.getPayerAccountId());
+            return;
+        }
+
+        TransactionHandler transactionHandler = transactionHandlerFactory.get(transactionType);
         EntityId entityId;
         try {
             entityId = transactionHandler.getEntity(recordItem);
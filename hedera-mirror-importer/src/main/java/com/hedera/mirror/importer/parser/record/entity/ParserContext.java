@@ -30,12 +30,13 @@ import lombok.Getter;
 import lombok.NonNull;
 
 /**
- * Stores the domain objects parsed from the stream files before persisting to the database.
+ * Stores the domain objects parsed from the stream files before persisting to the database. The state is bound to the
+ * current thread and can be handed off to another thread via {@link #detach()} and {@link #attach(Snapshot)}.
  */
 @Named
 public class ParserContext {
 
-    private final Map<Class<?>, DomainContext<?>> state = new ConcurrentSkipListMap<>(new DomainClassComparator());
+    private final ThreadLocal<State> state = ThreadLocal.withInitial(State::new);
 
     public <T> void add(@NonNull T object) {
         var domainContext = getDomainContext(object);
@@ -50,12 +51,63 @@ public class ParserContext {
         }
     }
 
+    /**
+     * Binds a snapshot previously detached from another thread to the current thread.
+     */
+    public void attach(@NonNull Snapshot snapshot) {
+        state.set(snapshot.state);
+    }
+
     public void clear() {
-        state.clear();
+        state.remove();
+    }
+
+    /**
+     * Defers a database write required while parsing until the domain objects are flushed, so that it's applied in
+     * the same order relative to the domain objects added before it.
+     */
+    public void defer(@NonNull Runnable operation) {
+        state.get().deferred.add(operation);
+    }
+
+    /**
+     * Unbinds the state from the current thread so it can be attached to another thread.
+     */
+    public Snapshot detach() {
+        var current = state.get();
+        state.remove();
+        return new Snapshot(current);
     }
 
     public void forEach(@NonNull Consumer<Collection<?>> sink) {
-        state.forEach((c, v) -> sink.accept(v.getInserts()));
+        state.get().domains.forEach((c, v) -> sink.accept(v.getInserts()));
+    }
+
+    public void forEachDeferred(@NonNull Consumer<Runnable> sink) {
+        state.get().deferred.forEach(sink);
+    }
+
+    /**
+     * Visits the domain objects whose tables depend on other tables in the context, in their dependency order.
+     */
+    public void forEachDependent(@NonNull Consumer<Collection<?>> sink) {
+        state.get().domains.forEach((c, v) -> {
+            if (DomainClassComparator.isDependent(c)) {
+                sink.accept(v.getInserts());
+            }
+        });
+    }
+
+    /**
+     * Visits the domain objects whose tables have no dependency on other tables in the context and so can be persisted
+     * in any order.
+     */
+    public void forEachIndependent(@NonNull Consumer<Collection<?>> sink) {
+        state.get().domains.forEach((c, v) -> {
+            if (!DomainClassComparator.isDependent(c)) {
+                sink.accept(v.getInserts());
+            }
+        });
     }
 
     public <T> T get(@NonNull Class<T> domainClass, @NonNull Object key) {
@@ -63,6 +115,15 @@ public class ParserContext {
         return domainContext.getState().get(key);
     }
 
+    /**
+     * Gets the state of a domain object that was removed by {@link #removeDeferred(Class)} and so is not yet in the
+     * database.
+     */
+    public <T> T getDeferred(@NonNull Class<T> domainClass, @NonNull Object key) {
+        var deferredState = state.get().deferredState.getOrDefault(domainClass, Collections.emptyMap());
+        return domainClass.cast(deferredState.get(key));
+    }
+
     public <T> Collection<T> get(@NonNull Class<T> domainClass) {
         var domainContext = getDomainContext(domainClass);
         return Collections.unmodifiableList(domainContext.getInserts());
@@ -82,6 +143,23 @@ public class ParserContext {
         domainContext.clear();
     }
 
+    /**
+     * Removes the domain objects of the given class so a deferred operation can persist them. Their merged state stays
+     * visible to {@link #getDeferred(Class, Object)} until the context is cleared.
+     *
+     * @return the removed domain objects
+     */
+    public <T> List<T> removeDeferred(@NonNull Class<T> domainClass) {
+        var domainContext = getDomainContext(domainClass);
+        var removed = new ArrayList<>(domainContext.getInserts());
+        state.get()
+                .deferredState
+                .computeIfAbsent(domainClass, c -> new HashMap<>())
+                .putAll(domainContext.getState());
+        domainContext.clear();
+        return removed;
+    }
+
     @SuppressWarnings("unchecked")
     private <T> DomainContext<T> getDomainContext(T object) {
         var domainClass = (Class<T>) object.getClass();
@@ -90,10 +168,30 @@ public class ParserContext {
 
     @SuppressWarnings("unchecked")
     private <T> DomainContext<T> getDomainContext(Class<T> domainClass) {
-        return (DomainContext<T>) state.computeIfAbsent(domainClass, c -> new DomainContext<>());
+        return (DomainContext<T>) state.get().domains.computeIfAbsent(domainClass, c -> new DomainContext<>());
+    }
+
+    /**
+     * The domain objects parsed by one thread, detached so they can be flushed by another thread.
+     */
+    public static final class Snapshot {
+
+        private final State state;
+
+        private Snapshot(State state) {
+            this.state = state;
+        }
+    }
+
+    private static class State {
+
+        private final List<Runnable> deferred = new ArrayList<>();
+        private final Map<Class<?>, Map<Object, Object>> deferredState = new HashMap<>();
+        private final Map<Class<?>, DomainContext<?>> domains =
+                new ConcurrentSkipListMap<>(new DomainClassComparator());
     }
 
-    private class DomainContext<T> {
+    private static class DomainContext<T> {
 
         @Getter
         private final List<T> inserts = new ArrayList<>();
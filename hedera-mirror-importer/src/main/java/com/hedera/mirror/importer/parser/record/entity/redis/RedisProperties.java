@@ -18,6 +18,7 @@ package com.hedera.mirror.importer.parser.record.entity.redis;
 
 import com.hedera.mirror.importer.parser.record.entity.BatchPublisherProperties;
 import com.hedera.mirror.importer.parser.record.entity.ConditionOnEntityRecordParser;
+import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
 import lombok.Data;
 import org.springframework.boot.context.properties.ConfigurationProperties;
@@ -33,4 +34,12 @@ public class RedisProperties implements BatchPublisherProperties {
 
     @Min(1)
     private int queueCapacity = 8;
+
+    /**
+     * The number of threads and connections used to publish, with each topic always published by the same shard to
+     * preserve its order.
+     */
+    @Max(32)
+    @Min(1)
+    private int shards = 1;
 }
@@ -22,17 +22,23 @@ import com.google.common.base.Stopwatch;
 import com.hedera.mirror.common.domain.topic.StreamMessage;
 import com.hedera.mirror.common.domain.topic.TopicMessage;
 import com.hedera.mirror.common.domain.transaction.RecordFile;
+import com.hedera.mirror.common.util.DomainUtils;
 import com.hedera.mirror.importer.parser.record.entity.BatchPublisher;
 import com.hedera.mirror.importer.parser.record.entity.ConditionOnEntityRecordParser;
 import com.hedera.mirror.importer.parser.record.entity.ParserContext;
+import io.micrometer.core.instrument.Gauge;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Timer;
 import jakarta.inject.Named;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
 import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.Executor;
 import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 import lombok.CustomLog;
 import lombok.SneakyThrows;
 import org.springframework.core.annotation.Order;
@@ -47,35 +53,55 @@ public class RedisPublisher implements BatchPublisher {
 
     private static final String TOPIC_FORMAT = "topic.%d";
 
+    private final Timer blockedTimer;
     private final LoadingCache<Long, String> channelNames;
+    private final Timer lagTimer;
     private final ParserContext parserContext;
     private final RedisProperties redisProperties;
     private final RedisOperations<String, StreamMessage> redisOperations;
     private final Timer timer;
-    private final BlockingQueue<Collection<TopicMessage>> topicMessagesQueue;
+    private final List<BlockingQueue<Collection<TopicMessage>>> topicMessagesQueues;
 
     RedisPublisher(
             RedisProperties redisProperties,
             RedisOperations<String, StreamMessage> redisOperations,
             MeterRegistry meterRegistry,
             ParserContext parserContext) {
+        this.blockedTimer = PUBLISH_BLOCKED_TIMER.tag("type", "redis").register(meterRegistry);
         this.channelNames = Caffeine.newBuilder().maximumSize(1000L).build(this::getChannelName);
+        this.lagTimer = PUBLISH_LAG_TIMER.tag("type", "redis").register(meterRegistry);
         this.parserContext = parserContext;
         this.redisOperations = redisOperations;
         this.redisProperties = redisProperties;
         this.timer = PUBLISH_TIMER.tag("type", "redis").register(meterRegistry);
-        this.topicMessagesQueue = new ArrayBlockingQueue<>(redisProperties.getQueueCapacity());
 
-        Executor executor = Executors.newSingleThreadExecutor();
-        executor.execute(() -> {
-            try {
-                while (true) {
-                    publish(topicMessagesQueue.take());
+        // Each shard has its own queue and thread, and thus its own pipelined connection. A topic always maps to the
+        // same shard so its messages are still published in consensus order.
+        int shards = redisProperties.getShards();
+        var queues = new ArrayList<BlockingQueue<Collection<TopicMessage>>>(shards);
+        Executor executor = Executors.newFixedThreadPool(shards);
+
+        for (int shard = 0; shard < shards; shard++) {
+            var queue = new ArrayBlockingQueue<Collection<TopicMessage>>(redisProperties.getQueueCapacity());
+            queues.add(queue);
+            Gauge.builder("hedera.mirror.importer.publish.queue", queue, BlockingQueue::size)
+                    .description("The number of batches waiting to be published")
+                    .tag("entity", TopicMessage.class.getSimpleName())
+                    .tag("shard", String.valueOf(shard))
+                    .tag("type", "redis")
+                    .register(meterRegistry);
+            executor.execute(() -> {
+                try {
+                    while (true) {
+                        publish(queue.take());
+                    }
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
                 }
-            } catch (InterruptedException ex) {
-                Thread.currentThread().interrupt();
-            }
-        });
+            });
+        }
+
+        this.topicMessagesQueues = Collections.unmodifiableList(queues);
     }
 
     @Override
@@ -87,9 +113,45 @@ public class RedisPublisher implements BatchPublisher {
 
         var topicMessages = parserContext.get(TopicMessage.class);
 
-        if (!topicMessages.isEmpty() && !topicMessagesQueue.offer(topicMessages)) {
-            log.warn("topicMessagesQueue is full, will block until space is available");
-            topicMessagesQueue.put(topicMessages);
+        if (topicMessages.isEmpty()) {
+            return;
+        }
+
+        int shards = topicMessagesQueues.size();
+        if (shards == 1) {
+            enqueue(0, topicMessages);
+            return;
+        }
+
+        var partitions = new ArrayList<List<TopicMessage>>(shards);
+        for (int shard = 0; shard < shards; shard++) {
+            partitions.add(new ArrayList<>());
+        }
+
+        for (var topicMessage : topicMessages) {
+            partitions.get(getShard(topicMessage, shards)).add(topicMessage);
+        }
+
+        for (int shard = 0; shard < shards; shard++) {
+            var partition = partitions.get(shard);
+            if (!partition.isEmpty()) {
+                enqueue(shard, partition);
+            }
+        }
+    }
+
+    static int getShard(TopicMessage topicMessage, int shards) {
+        return Math.floorMod(topicMessage.getTopicId().getId(), shards);
+    }
+
+    private void enqueue(int shard, Collection<TopicMessage> topicMessages) throws InterruptedException {
+        var queue = topicMessagesQueues.get(shard);
+
+        if (!queue.offer(topicMessages)) {
+            log.warn("topicMessagesQueue for shard {} is full, will block until space is available", shard);
+            var stopwatch = Stopwatch.createStarted();
+            queue.put(topicMessages);
+            blockedTimer.record(stopwatch.elapsed());
         }
     }
 
@@ -97,12 +159,25 @@ public class RedisPublisher implements BatchPublisher {
         try {
             Stopwatch stopwatch = Stopwatch.createStarted();
             timer.record(() -> redisOperations.executePipelined(callback(messages)));
+            recordLag(messages);
             log.info("Finished notifying {} messages in {}", messages.size(), stopwatch);
         } catch (Exception e) {
             log.error("Unable to publish to redis", e);
         }
     }
 
+    private void recordLag(Collection<TopicMessage> messages) {
+        long consensusTimestamp = 0L;
+        for (var topicMessage : messages) {
+            consensusTimestamp = Math.max(consensusTimestamp, topicMessage.getConsensusTimestamp());
+        }
+
+        long lag = DomainUtils.now() - consensusTimestamp;
+        if (consensusTimestamp > 0 && lag > 0) {
+            lagTimer.record(lag, TimeUnit.NANOSECONDS);
+        }
+    }
+
     // Batch send using Redis pipelining
     private SessionCallback<Object> callback(Collection<TopicMessage> messages) {
         return new SessionCallback<>() {
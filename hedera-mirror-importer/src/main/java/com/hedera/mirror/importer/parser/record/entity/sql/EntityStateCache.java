@@ -0,0 +1,287 @@
+/*
+ * Copyright (C) 2025 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.importer.parser.record.entity.sql;
+
+import static com.hedera.mirror.common.domain.entity.EntityType.ACCOUNT;
+import static com.hedera.mirror.common.domain.entity.EntityType.CONTRACT;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.hedera.mirror.common.domain.entity.Entity;
+import com.hedera.mirror.common.domain.entity.EntityType;
+import com.hedera.mirror.importer.parser.record.RecordParserProperties;
+import com.hedera.mirror.importer.parser.record.entity.ConditionOnEntityRecordParser;
+import com.hedera.mirror.importer.parser.record.entity.ParserContext;
+import com.hedera.mirror.importer.repository.EntityRepository;
+import jakarta.inject.Named;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import lombok.CustomLog;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Write-through cache of the latest committed state of recently updated accounts and contracts. When every change to an
+ * entity in a batch can be applied on top of its cached state, the changes are coalesced in memory the same way the
+ * upsert query would and the rows are marked as resolved, so they are upserted without joining against the entity
+ * table. Any other row falls back to the regular upsert.
+ * <p>
+ * An entity is only admitted after it's updated in two flushes, which keeps one-off entities from evicting hot ones
+ * such as the fee collection and staking reward accounts. The cache is not thread safe and assumes it's the only writer
+ * of the entity table while enabled, so it's disabled when flushing in parallel or pipelining the record parser.
+ */
+@CustomLog
+@Named
+@ConditionOnEntityRecordParser
+public class EntityStateCache {
+
+    private static final Set<EntityType> TYPES = Set.of(ACCOUNT, CONTRACT);
+
+    private final EntityRepository entityRepository;
+    private final Cache<Long, Boolean> modified;
+    private final RecordParserProperties recordParserProperties;
+    private final Map<Long, Entity> resolved = new HashMap<>();
+    private final SqlProperties sqlProperties;
+    private final Cache<Long, Entity> states;
+
+    public EntityStateCache(
+            EntityRepository entityRepository,
+            RecordParserProperties recordParserProperties,
+            SqlProperties sqlProperties) {
+        this.entityRepository = entityRepository;
+        this.recordParserProperties = recordParserProperties;
+        this.sqlProperties = sqlProperties;
+
+        long maxSize = sqlProperties.getCache().getMaxSize();
+        this.modified = Caffeine.newBuilder().maximumSize(maxSize).build();
+        this.states = Caffeine.newBuilder().maximumSize(maxSize).build();
+    }
+
+    public Class<?> getDomainClass() {
+        return Entity.class;
+    }
+
+    public boolean isEnabled() {
+        return sqlProperties.getCache().isEnabled()
+                && !sqlProperties.getFlush().isParallel()
+                && !recordParserProperties.getPipeline().isEnabled();
+    }
+
+    /**
+     * Removes the cached state of entities changed outside the record parser's flush.
+     *
+     * @param ids the entity ids to remove
+     */
+    public void invalidate(Iterable<Long> ids) {
+        states.invalidateAll(ids);
+    }
+
+    /**
+     * Removes the cached state of all entities, for bulk changes outside the record parser's flush.
+     */
+    public void invalidateAll() {
+        states.invalidateAll();
+    }
+
+    public boolean isResolved(Object item) {
+        return item instanceof Entity entity && resolved.containsKey(entity.getId());
+    }
+
+    /**
+     * Coalesces the entity rows in the context with their cached state. For each resolved entity with history rows, a
+     * copy of the cached state closed at the earliest update is added to the context for the entity history table.
+     *
+     * @param context the parser context to flush
+     */
+    public void resolve(ParserContext context) {
+        resolved.clear();
+
+        if (!isEnabled() || states.estimatedSize() == 0) {
+            return;
+        }
+
+        var rows = new LinkedHashMap<Long, List<Entity>>();
+        for (var entity : context.get(Entity.class)) {
+            rows.computeIfAbsent(entity.getId(), k -> new ArrayList<>()).add(entity);
+        }
+
+        var history = new ArrayList<Entity>();
+        rows.forEach((id, entities) -> {
+            var state = states.getIfPresent(id);
+            if (!isResolvable(state, entities)) {
+                return;
+            }
+
+            Long timestamp = null;
+            for (var entity : entities) {
+                if (entity.hasHistory() && (timestamp == null || entity.getTimestampLower() < timestamp)) {
+                    timestamp = entity.getTimestampLower();
+                }
+
+                coalesce(state, entity);
+            }
+
+            if (timestamp != null) {
+                var closed = state.toBuilder().build();
+                closed.setTimestampUpper(timestamp);
+                history.add(closed);
+            }
+
+            resolved.put(id, state);
+        });
+
+        context.addAll(history);
+        log.debug("Resolved {} of {} entities from cached state", resolved.size(), rows.size());
+    }
+
+    /**
+     * Updates the cache with the persisted entity rows. The new states only become visible after the transaction
+     * commits, so a rollback leaves the affected entities uncached.
+     *
+     * @param entities the persisted entity rows
+     */
+    public void update(Collection<Entity> entities) {
+        if (!isEnabled() || entities.isEmpty()) {
+            resolved.clear();
+            return;
+        }
+
+        var admitted = new LinkedHashSet<Long>();
+        var ids = new LinkedHashSet<Long>();
+        var latest = new HashMap<Long, Entity>();
+
+        for (var entity : entities) {
+            var id = entity.getId();
+            var previous = resolved.get(id);
+
+            if (previous != null) {
+                if (entity.getTimestampUpper() == null) {
+                    latest.put(id, toState(previous, entity));
+                }
+            } else if (modified.getIfPresent(id) != null) {
+                admitted.add(id);
+            }
+
+            ids.add(id);
+        }
+
+        states.invalidateAll(ids);
+        ids.forEach(id -> modified.put(id, Boolean.TRUE));
+        resolved.clear();
+
+        if (!admitted.isEmpty()) {
+            entityRepository.findAllById(admitted).forEach(e -> latest.put(e.getId(), e.toBuilder().build()));
+        }
+
+        latest.values().removeIf(e -> !TYPES.contains(e.getType()) || e.getTimestampUpper() != null);
+        if (latest.isEmpty()) {
+            return;
+        }
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    states.putAll(latest);
+                }
+            });
+        } else {
+            states.putAll(latest);
+        }
+    }
+
+    private boolean isResolvable(Entity state, List<Entity> entities) {
+        if (state == null || !TYPES.contains(state.getType()) || state.getTimestampUpper() != null) {
+            return false;
+        }
+
+        long timestamp = state.getTimestampLower();
+        for (var entity : entities) {
+            // Only changes after the cached state are applied on top of it, anything else needs the upsert query
+            if (entity.hasHistory() && entity.getTimestampLower() <= timestamp) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Mirrors the coalesce logic of the entity upsert query for an existing account or contract. Columns not updatable
+     * keep the existing value, balance is accumulated, and every other column keeps the existing value if not set.
+     */
+    private static void coalesce(Entity state, Entity entity) {
+        entity.setAlias(coalesce(state.getAlias(), entity.getAlias()));
+        entity.setCreatedTimestamp(coalesce(state.getCreatedTimestamp(), entity.getCreatedTimestamp()));
+        entity.setEvmAddress(coalesce(state.getEvmAddress(), entity.getEvmAddress()));
+        entity.setNum(coalesce(state.getNum(), entity.getNum()));
+        entity.setRealm(coalesce(state.getRealm(), entity.getRealm()));
+        entity.setShard(coalesce(state.getShard(), entity.getShard()));
+
+        entity.setAutoRenewAccountId(coalesce(entity.getAutoRenewAccountId(), state.getAutoRenewAccountId()));
+        entity.setAutoRenewPeriod(coalesce(entity.getAutoRenewPeriod(), state.getAutoRenewPeriod()));
+        entity.setBalance(coalesce(state.getBalance(), 0L) + coalesce(entity.getBalance(), 0L));
+        entity.setBalanceTimestamp(coalesce(entity.getBalanceTimestamp(), state.getBalanceTimestamp()));
+        entity.setDeclineReward(coalesce(entity.getDeclineReward(), state.getDeclineReward()));
+        entity.setDeleted(coalesce(entity.getDeleted(), state.getDeleted()));
+        entity.setEthereumNonce(coalesce(entity.getEthereumNonce(), state.getEthereumNonce()));
+        entity.setExpirationTimestamp(coalesce(entity.getExpirationTimestamp(), state.getExpirationTimestamp()));
+        entity.setMaxAutomaticTokenAssociations(
+                coalesce(entity.getMaxAutomaticTokenAssociations(), state.getMaxAutomaticTokenAssociations()));
+        entity.setMemo(coalesce(entity.getMemo(), state.getMemo()));
+        entity.setObtainerId(coalesce(entity.getObtainerId(), state.getObtainerId()));
+        entity.setPermanentRemoval(coalesce(entity.getPermanentRemoval(), state.getPermanentRemoval()));
+        entity.setProxyAccountId(coalesce(entity.getProxyAccountId(), state.getProxyAccountId()));
+        entity.setReceiverSigRequired(coalesce(entity.getReceiverSigRequired(), state.getReceiverSigRequired()));
+        entity.setStakedAccountId(coalesce(entity.getStakedAccountId(), state.getStakedAccountId()));
+        entity.setStakedNodeId(coalesce(entity.getStakedNodeId(), state.getStakedNodeId()));
+        entity.setStakePeriodStart(coalesce(entity.getStakePeriodStart(), state.getStakePeriodStart()));
+        entity.setTimestampRange(coalesce(entity.getTimestampRange(), state.getTimestampRange()));
+        entity.setType(coalesce(entity.getType(), state.getType()));
+
+        // The key and public key columns are coalesced independently, so set the public key after the key
+        var publicKey = coalesce(entity.getPublicKey(), state.getPublicKey());
+        entity.setKey(coalesce(entity.getKey(), state.getKey()));
+        entity.setPublicKey(publicKey);
+
+        if (entity.getEthereumNonce() == null && state.getType() == ACCOUNT) {
+            entity.setEthereumNonce(0L);
+        }
+    }
+
+    private static <T> T coalesce(T value, T other) {
+        return value != null ? value : other;
+    }
+
+    // Columns not updatable are never changed by the upsert query, so the persisted row keeps the previous values
+    private static Entity toState(Entity previous, Entity entity) {
+        return entity.toBuilder()
+                .alias(previous.getAlias())
+                .createdTimestamp(previous.getCreatedTimestamp())
+                .evmAddress(previous.getEvmAddress())
+                .num(previous.getNum())
+                .realm(previous.getRealm())
+                .shard(previous.getShard())
+                .build();
+    }
+}
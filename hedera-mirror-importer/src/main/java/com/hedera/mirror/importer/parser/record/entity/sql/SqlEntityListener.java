@@ -61,6 +61,7 @@ import com.hedera.mirror.importer.domain.EntityIdService;
 import com.hedera.mirror.importer.exception.ImporterException;
 import com.hedera.mirror.importer.exception.ParserException;
 import com.hedera.mirror.importer.parser.batch.BatchPersister;
+import com.hedera.mirror.importer.parser.batch.ParallelBatchPersister;
 import com.hedera.mirror.importer.parser.record.RecordStreamFileListener;
 import com.hedera.mirror.importer.parser.record.entity.ConditionOnEntityRecordParser;
 import com.hedera.mirror.importer.parser.record.entity.EntityListener;
@@ -69,12 +70,14 @@ import com.hedera.mirror.importer.parser.record.entity.ParserContext;
 import com.hedera.mirror.importer.repository.NftRepository;
 import com.hedera.mirror.importer.repository.TokenAccountRepository;
 import com.hedera.mirror.importer.util.Utility;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.inject.Named;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.Objects;
 import lombok.CustomLog;
-import lombok.RequiredArgsConstructor;
 import org.apache.commons.lang3.ArrayUtils;
 import org.springframework.core.annotation.Order;
 import org.springframework.util.CollectionUtils;
@@ -83,18 +86,49 @@ import org.springframework.util.CollectionUtils;
 @Named
 @Order(2)
 @ConditionOnEntityRecordParser
-@RequiredArgsConstructor
 public class SqlEntityListener implements EntityListener, RecordStreamFileListener {
 
+    private static final String FLUSH_METRIC = "hedera.mirror.importer.batch.flush";
     private static final List<Class<?>> NFT_FLUSH = List.of(Token.class, TokenAccount.class, Nft.class);
 
     private final BatchPersister batchPersister;
     private final ParserContext context;
     private final EntityIdService entityIdService;
     private final EntityProperties entityProperties;
+    private final EntityStateCache entityStateCache;
     private final NftRepository nftRepository;
+    private final ParallelBatchPersister parallelBatchPersister;
     private final TokenAccountRepository tokenAccountRepository;
     private final SqlProperties sqlProperties;
+    private final Timer parallelFlushMetric;
+    private final Timer serialFlushMetric;
+
+    @SuppressWarnings("java:S107")
+    public SqlEntityListener(
+            BatchPersister batchPersister,
+            ParserContext context,
+            EntityIdService entityIdService,
+            EntityProperties entityProperties,
+            EntityStateCache entityStateCache,
+            MeterRegistry meterRegistry,
+            NftRepository nftRepository,
+            ParallelBatchPersister parallelBatchPersister,
+            TokenAccountRepository tokenAccountRepository,
+            SqlProperties sqlProperties) {
+        this.batchPersister = batchPersister;
+        this.context = context;
+        this.entityIdService = entityIdService;
+        this.entityProperties = entityProperties;
+        this.entityStateCache = entityStateCache;
+        this.nftRepository = nftRepository;
+        this.parallelBatchPersister = parallelBatchPersister;
+        this.tokenAccountRepository = tokenAccountRepository;
+        this.sqlProperties = sqlProperties;
+
+        var flushMetric = Timer.builder(FLUSH_METRIC).description("The time it took to flush all tables");
+        parallelFlushMetric = flushMetric.tag("parallel", "true").register(meterRegistry);
+        serialFlushMetric = flushMetric.tag("parallel", "false").register(meterRegistry);
+    }
 
     @Override
     public boolean isEnabled() {
@@ -310,6 +344,11 @@ public class SqlEntityListener implements EntityListener, RecordStreamFileListen
     private boolean isTokenAccountAlreadyAssociated(Id id) {
         var existing = context.get(TokenAccount.class, id);
 
+        if (existing == null) {
+            // Token accounts deferred by an nft treasury change aren't in the database until flush
+            existing = context.getDeferred(TokenAccount.class, id);
+        }
+
         if (existing != null) {
             return Objects.requireNonNullElse(existing.getAssociated(), true);
         }
@@ -377,7 +416,23 @@ public class SqlEntityListener implements EntityListener, RecordStreamFileListen
     private void flush() {
         try {
             var stopwatch = Stopwatch.createStarted();
-            context.forEach(batchPersister::persist);
+            context.forEachDeferred(Runnable::run);
+            entityStateCache.resolve(context);
+
+            if (sqlProperties.getFlush().isParallel()) {
+                var dependent = new ArrayList<Collection<?>>();
+                var independent = new ArrayList<Collection<?>>();
+                context.forEachDependent(dependent::add);
+                context.forEachIndependent(independent::add);
+                parallelBatchPersister.persist(independent, dependent);
+                parallelFlushMetric.record(stopwatch.elapsed());
+            } else {
+                context.forEach(batchPersister::persist);
+                serialFlushMetric.record(stopwatch.elapsed());
+            }
+
+            entityStateCache.update(context.get(Entity.class));
+
             log.info("Completed batch inserts in {}", stopwatch);
         } catch (ParserException e) {
             throw e;
@@ -386,19 +441,22 @@ public class SqlEntityListener implements EntityListener, RecordStreamFileListen
         }
     }
 
-    private void flushNftState() {
-        try {
-            // flush tables required for an accurate nft state in database to ensure correct state-dependent changes
-            NFT_FLUSH.forEach(c -> {
-                var data = context.get(c);
-                batchPersister.persist(data);
-                context.remove(c);
-            });
-        } catch (ParserException e) {
-            throw e;
-        } catch (Exception e) {
-            throw new ParserException(e);
-        }
+    /**
+     * Defers the nft treasury update to flush time, after the tables required for an accurate nft state are flushed, to
+     * ensure correct state-dependent changes without writing to the database while parsing. The deferred domain objects
+     * remain visible to context lookups until then.
+     */
+    private void updateNftTreasury(long consensusTimestamp, NftTransfer nftTransfer) {
+        var nftState = new ArrayList<Collection<?>>();
+        NFT_FLUSH.forEach(c -> nftState.add(context.removeDeferred(c)));
+
+        long newTreasury = nftTransfer.getReceiverAccountId().getId();
+        long previousTreasury = nftTransfer.getSenderAccountId().getId();
+        long tokenId = nftTransfer.getTokenId().getId();
+        context.defer(() -> {
+            nftState.forEach(batchPersister::persist);
+            nftRepository.updateTreasury(consensusTimestamp, newTreasury, previousTreasury, tokenId);
+        });
     }
 
     private CustomFee mergeCustomFee(CustomFee previous, CustomFee current) {
@@ -844,12 +902,7 @@ public class SqlEntityListener implements EntityListener, RecordStreamFileListen
             long tokenId = nftTransfer.getTokenId().getId();
             if (nftTransfer.getSerialNumber() == NftTransfer.WILDCARD_SERIAL_NUMBER) {
                 // nft treasury change, there should be only one such nft transfer in the list
-                flushNftState();
-                nftRepository.updateTreasury(
-                        transaction.getConsensusTimestamp(),
-                        nftTransfer.getReceiverAccountId().getId(),
-                        nftTransfer.getSenderAccountId().getId(),
-                        nftTransfer.getTokenId().getId());
+                updateNftTreasury(transaction.getConsensusTimestamp(), nftTransfer);
                 return;
             }
 
@@ -17,6 +17,10 @@
 package com.hedera.mirror.importer.parser.record.entity.sql;
 
 import com.hedera.mirror.importer.parser.record.entity.ConditionOnEntityRecordParser;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
 import lombok.Data;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.validation.annotation.Validated;
@@ -27,5 +31,44 @@ import org.springframework.validation.annotation.Validated;
 @Validated
 public class SqlProperties {
 
+    @NotNull
+    @Valid
+    private CacheProperties cache = new CacheProperties();
+
     private boolean enabled = true;
+
+    @NotNull
+    @Valid
+    private FlushProperties flush = new FlushProperties();
+
+    @Data
+    @Validated
+    public static class CacheProperties {
+
+        /**
+         * Whether to keep the latest state of recently updated accounts and contracts in memory so their subsequent
+         * updates can be resolved before flushing instead of joining against the entity table. Only takes effect when
+         * neither parallel flush nor the record parser pipeline is enabled.
+         */
+        private boolean enabled = false;
+
+        @Min(1)
+        private long maxSize = 100_000L;
+    }
+
+    @Data
+    @Validated
+    public static class FlushProperties {
+
+        /**
+         * Whether to persist tables without inter-table dependencies concurrently on separate connections. Each of
+         * those connections uses a prepared transaction that is committed together with the parser transaction, so the
+         * database must be configured with max_prepared_transactions of at least the number of threads.
+         */
+        private boolean parallel = false;
+
+        @Max(32)
+        @Min(1)
+        private int threads = 4;
+    }
 }
@@ -0,0 +1,146 @@
+/*
+ * Copyright (C) 2025 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.importer.parser.record.historicalbalance;
+
+import com.hedera.mirror.common.domain.entity.Entity;
+import com.hedera.mirror.common.domain.entity.EntityId;
+import com.hedera.mirror.common.domain.token.AbstractTokenAccount;
+import com.hedera.mirror.common.domain.token.NftTransfer;
+import com.hedera.mirror.common.domain.token.TokenAccount;
+import com.hedera.mirror.common.domain.token.TokenTransfer;
+import com.hedera.mirror.common.domain.transaction.CryptoTransfer;
+import com.hedera.mirror.common.domain.transaction.Transaction;
+import com.hedera.mirror.importer.exception.ImporterException;
+import com.hedera.mirror.importer.parser.record.entity.EntityListener;
+import jakarta.inject.Named;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.RequiredArgsConstructor;
+import org.springframework.util.CollectionUtils;
+
+/**
+ * Tracks the accounts and token accounts whose balance changed while parsing, along with the consensus timestamp of
+ * the latest change, so historical balance snapshots can be generated from only what changed since the last one.
+ * Changes are recorded before the record file is committed, so a change is always tracked before it can be part of a
+ * snapshot. A change from a record file that is rolled back stays tracked until a later snapshot covers it, which at
+ * worst adds a duplicate balance.
+ */
+@Named
+@RequiredArgsConstructor
+public class BalanceChangeTracker implements EntityListener {
+
+    private final Map<Long, Long> accounts = new ConcurrentHashMap<>();
+    private final HistoricalBalanceProperties properties;
+    private final Map<AbstractTokenAccount.Id, Long> tokenAccounts = new ConcurrentHashMap<>();
+
+    @Override
+    public boolean isEnabled() {
+        return properties.isEnabled() && properties.isIncremental();
+    }
+
+    @Override
+    public void onCryptoTransfer(CryptoTransfer cryptoTransfer) throws ImporterException {
+        onAccount(cryptoTransfer.getEntityId(), cryptoTransfer.getConsensusTimestamp());
+    }
+
+    @Override
+    public void onEntity(Entity entity) throws ImporterException {
+        var balanceTimestamp = entity.getBalanceTimestamp();
+        if (balanceTimestamp != null) {
+            onAccount(entity.getId(), balanceTimestamp);
+        }
+    }
+
+    @Override
+    public void onTokenAccount(TokenAccount tokenAccount) throws ImporterException {
+        var balanceTimestamp = tokenAccount.getBalanceTimestamp();
+        if (balanceTimestamp != null) {
+            tokenAccounts.merge(tokenAccount.getId(), balanceTimestamp, Math::max);
+        }
+    }
+
+    @Override
+    public void onTokenTransfer(TokenTransfer tokenTransfer) throws ImporterException {
+        var id = tokenTransfer.getId();
+        if (id != null) {
+            onTokenAccount(id.getAccountId(), id.getTokenId(), id.getConsensusTimestamp());
+        }
+    }
+
+    @Override
+    public void onTransaction(Transaction transaction) throws ImporterException {
+        var nftTransfers = transaction.getNftTransfer();
+        if (CollectionUtils.isEmpty(nftTransfers)) {
+            return;
+        }
+
+        // Covers both NFT transfers and treasury updates, which change the balance in the database directly
+        long consensusTimestamp = transaction.getConsensusTimestamp();
+        for (NftTransfer nftTransfer : nftTransfers) {
+            onTokenAccount(nftTransfer.getSenderAccountId(), nftTransfer.getTokenId(), consensusTimestamp);
+            onTokenAccount(nftTransfer.getReceiverAccountId(), nftTransfer.getTokenId(), consensusTimestamp);
+        }
+    }
+
+    /**
+     * Gets the balance changes on or before the timestamp. The changes are still tracked until they're removed.
+     *
+     * @param timestamp the inclusive consensus timestamp
+     * @return the balance changes
+     */
+    BalanceChanges getChanges(long timestamp) {
+        return new BalanceChanges(filter(accounts, timestamp), filter(tokenAccounts, timestamp));
+    }
+
+    /**
+     * Stops tracking the changes, unless they were changed again since they were retrieved.
+     *
+     * @param changes the balance changes to remove
+     */
+    void remove(BalanceChanges changes) {
+        changes.accounts().forEach(accounts::remove);
+        changes.tokenAccounts().forEach(tokenAccounts::remove);
+    }
+
+    private void onAccount(long accountId, long consensusTimestamp) {
+        if (accountId != EntityId.EMPTY.getId()) {
+            accounts.merge(accountId, consensusTimestamp, Math::max);
+        }
+    }
+
+    private void onTokenAccount(EntityId accountId, EntityId tokenId, long consensusTimestamp) {
+        if (!EntityId.isEmpty(accountId) && !EntityId.isEmpty(tokenId)) {
+            var id = new AbstractTokenAccount.Id();
+            id.setAccountId(accountId.getId());
+            id.setTokenId(tokenId.getId());
+            tokenAccounts.merge(id, consensusTimestamp, Math::max);
+        }
+    }
+
+    private <K> Map<K, Long> filter(Map<K, Long> changes, long timestamp) {
+        var filtered = new HashMap<K, Long>();
+        changes.forEach((key, changedTimestamp) -> {
+            if (changedTimestamp <= timestamp) {
+                filtered.put(key, changedTimestamp);
+            }
+        });
+        return filtered;
+    }
+
+    record BalanceChanges(Map<Long, Long> accounts, Map<AbstractTokenAccount.Id, Long> tokenAccounts) {}
+}
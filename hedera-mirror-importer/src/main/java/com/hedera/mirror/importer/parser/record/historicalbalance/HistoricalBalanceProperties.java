@@ -40,6 +40,12 @@ public class HistoricalBalanceProperties {
 
     private boolean enabled = true;
 
+    /**
+     * Whether to generate deduplicated snapshots from the balances that changed since the last snapshot, as tracked
+     * while parsing, instead of scanning the entity and token account tables.
+     */
+    private boolean incremental = true;
+
     @DurationMin(minutes = 2)
     @DurationUnit(ChronoUnit.MINUTES)
     @NotNull
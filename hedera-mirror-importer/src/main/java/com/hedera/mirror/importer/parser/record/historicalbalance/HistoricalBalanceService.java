@@ -38,10 +38,13 @@ import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Timer;
 import jakarta.inject.Named;
 import java.time.Instant;
+import java.util.Arrays;
 import java.util.Optional;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
 import lombok.CustomLog;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcOperations;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.TransactionDefinition;
@@ -57,12 +60,37 @@ import org.springframework.transaction.support.TransactionTemplate;
 public class HistoricalBalanceService {
 
     private static final String ACCOUNT_BALANCE_TABLE_NAME = "account_balance";
+    private static final long TREASURY_ACCOUNT_ID = 2L;
+
+    // The treasury account balance is always included since it's used to find the latest snapshot
+    private static final String ACCOUNT_BALANCE_CHANGES_SQL =
+            """
+            insert into account_balance (account_id, balance, consensus_timestamp)
+            select id, balance, ?
+            from entity
+            where id = any(?) and (balance is not null or id = 2)
+            order by id
+            """;
+
+    private static final String TOKEN_BALANCE_CHANGES_SQL =
+            """
+            insert into token_balance (account_id, balance, consensus_timestamp, token_id)
+            select ta.account_id, ta.balance, ?, ta.token_id
+            from token_account ta
+            join unnest(?, ?) as changed (account_id, token_id)
+              on ta.account_id = changed.account_id and ta.token_id = changed.token_id
+            order by ta.account_id, ta.token_id
+            """;
 
     private final AccountBalanceFileRepository accountBalanceFileRepository;
     private final AccountBalanceRepository accountBalanceRepository;
+    private final BalanceChangeTracker balanceChangeTracker;
+    private final JdbcOperations jdbcOperations;
     private final HistoricalBalanceProperties properties;
     private final RecordFileRepository recordFileRepository;
     private final AtomicBoolean running = new AtomicBoolean(false);
+    // Changes are only tracked from startup, so the first snapshot after startup always scans the tables
+    private volatile boolean tracked = false;
     private final TimePartitionService timePartitionService;
     private final TokenBalanceRepository tokenBalanceRepository;
     private final TransactionTemplate transactionTemplate;
@@ -75,6 +103,8 @@ public class HistoricalBalanceService {
     public HistoricalBalanceService(
             AccountBalanceFileRepository accountBalanceFileRepository,
             AccountBalanceRepository accountBalanceRepository,
+            BalanceChangeTracker balanceChangeTracker,
+            JdbcOperations jdbcOperations,
             MeterRegistry meterRegistry,
             PlatformTransactionManager platformTransactionManager,
             HistoricalBalanceProperties properties,
@@ -83,6 +113,8 @@ public class HistoricalBalanceService {
             TokenBalanceRepository tokenBalanceRepository) {
         this.accountBalanceFileRepository = accountBalanceFileRepository;
         this.accountBalanceRepository = accountBalanceRepository;
+        this.balanceChangeTracker = balanceChangeTracker;
+        this.jdbcOperations = jdbcOperations;
         this.properties = properties;
         this.recordFileRepository = recordFileRepository;
         this.timePartitionService = timePartitionService;
@@ -123,6 +155,7 @@ public class HistoricalBalanceService {
             }
 
             log.info("Generating historical balances after processing record file with consensusEnd {}", consensusEnd);
+            var balanceChanges = new AtomicReference<BalanceChangeTracker.BalanceChanges>();
             transactionTemplate.executeWithoutResult(t -> {
                 long loadStart = System.currentTimeMillis();
                 long timestamp = recordFileRepository
@@ -133,13 +166,22 @@ public class HistoricalBalanceService {
 
                 var maxConsensusTimestamp = getMaxConsensusTimestamp(timestamp);
                 boolean full = maxConsensusTimestamp.isEmpty();
+                boolean incremental = !full && tracked && balanceChangeTracker.isEnabled();
                 int accountBalancesCount;
                 int tokenBalancesCount;
+                var changes = balanceChangeTracker.getChanges(timestamp);
+                balanceChanges.set(changes);
+
                 if (full) {
                     // get a full snapshot
                     accountBalancesCount = accountBalanceRepository.balanceSnapshot(timestamp);
                     tokenBalancesCount =
                             properties.isTokenBalances() ? tokenBalanceRepository.balanceSnapshot(timestamp) : 0;
+                } else if (incremental) {
+                    // get a snapshot of only the balances that changed since the last snapshot
+                    accountBalancesCount = balanceSnapshotChanges(changes, timestamp);
+                    tokenBalancesCount =
+                            properties.isTokenBalances() ? tokenBalanceSnapshotChanges(changes, timestamp) : 0;
                 } else {
                     // get a snapshot that has no duplicates
                     accountBalancesCount =
@@ -163,15 +205,19 @@ public class HistoricalBalanceService {
                         .build();
                 accountBalanceFileRepository.save(accountBalanceFile);
 
+                String type = incremental ? "incremental" : "deduped";
                 log.info(
                         "Generated {} historical account balance file {} with {} account balances and {} token balances in {}",
-                        full ? "full" : "deduped",
+                        full ? "full" : type,
                         filename,
                         accountBalancesCount,
                         tokenBalancesCount,
                         stopwatch);
             });
 
+            // Only stop tracking the changes once they're committed as part of a snapshot
+            balanceChangeTracker.remove(balanceChanges.get());
+            tracked = true;
             timer = generateDurationMetricSuccess;
         } catch (Exception e) {
             log.error("Failed to generate historical balances in {}", stopwatch, e);
@@ -185,6 +231,39 @@ public class HistoricalBalanceService {
         }
     }
 
+    private int balanceSnapshotChanges(BalanceChangeTracker.BalanceChanges balanceChanges, long timestamp) {
+        var accountIds = balanceChanges.accounts().keySet().toArray(new Long[0]);
+        var ids = Arrays.copyOf(accountIds, accountIds.length + 1);
+        ids[accountIds.length] = TREASURY_ACCOUNT_ID;
+
+        return jdbcOperations.update(ACCOUNT_BALANCE_CHANGES_SQL, ps -> {
+            ps.setLong(1, timestamp);
+            ps.setArray(2, ps.getConnection().createArrayOf("BIGINT", ids));
+        });
+    }
+
+    private int tokenBalanceSnapshotChanges(BalanceChangeTracker.BalanceChanges balanceChanges, long timestamp) {
+        var tokenAccounts = balanceChanges.tokenAccounts().keySet();
+        if (tokenAccounts.isEmpty()) {
+            return 0;
+        }
+
+        var accountIds = new Long[tokenAccounts.size()];
+        var tokenIds = new Long[tokenAccounts.size()];
+        int index = 0;
+        for (var id : tokenAccounts) {
+            accountIds[index] = id.getAccountId();
+            tokenIds[index++] = id.getTokenId();
+        }
+
+        return jdbcOperations.update(TOKEN_BALANCE_CHANGES_SQL, ps -> {
+            var connection = ps.getConnection();
+            ps.setLong(1, timestamp);
+            ps.setArray(2, connection.createArrayOf("BIGINT", accountIds));
+            ps.setArray(3, connection.createArrayOf("BIGINT", tokenIds));
+        });
+    }
+
     private Optional<Long> getMaxConsensusTimestamp(long timestamp) {
         var partitions =
                 timePartitionService.getOverlappingTimePartitions(ACCOUNT_BALANCE_TABLE_NAME, timestamp, timestamp);
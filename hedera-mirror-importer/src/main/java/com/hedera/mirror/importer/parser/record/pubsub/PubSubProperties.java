@@ -16,7 +16,10 @@
 
 package com.hedera.mirror.importer.parser.record.pubsub;
 
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import java.time.Duration;
 import lombok.Data;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.validation.annotation.Validated;
@@ -31,5 +34,17 @@ public class PubSubProperties {
     @NotBlank
     private String topicName;
 
+    // Whether to gzip the message payload. Compressed messages have a contentEncoding attribute of gzip.
+    private boolean compress = false;
+
+    @Min(1)
+    private int maxInFlight = 10_000;
+
     private int maxSendAttempts = 5;
+
+    // Whether to use the entity ID as the ordering key. Requires publisher message ordering to be enabled as well.
+    private boolean ordering = false;
+
+    @NotNull
+    private Duration publishTimeout = Duration.ofMinutes(1L);
 }
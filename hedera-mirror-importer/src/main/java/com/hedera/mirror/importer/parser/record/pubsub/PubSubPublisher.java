@@ -0,0 +1,201 @@
+/*
+ * Copyright (C) 2025 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.importer.parser.record.pubsub;
+
+import com.google.cloud.spring.pubsub.core.PubSubTemplate;
+import com.google.cloud.spring.pubsub.support.PublisherFactory;
+import com.google.protobuf.ByteString;
+import com.google.pubsub.v1.PubsubMessage;
+import com.hedera.mirror.common.domain.entity.EntityId;
+import com.hedera.mirror.importer.exception.ParserException;
+import com.hedera.mirror.importer.parser.domain.PubSubMessage;
+import jakarta.inject.Named;
+import java.io.IOException;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+import java.util.zip.GZIPOutputStream;
+import lombok.CustomLog;
+
+/**
+ * Publishes messages to PubSub without waiting for each message to be confirmed. The number of unconfirmed messages is
+ * bounded by maxInFlight, and {@link #await()} blocks until every message published so far is confirmed so the stream
+ * file is only committed after all of its messages are delivered, preserving at-least-once delivery.
+ */
+@CustomLog
+@Named
+@ConditionalOnPubSubRecordParser
+public class PubSubPublisher {
+
+    static final String CONTENT_ENCODING = "contentEncoding";
+    static final String GZIP = "gzip";
+
+    private final Semaphore inFlight;
+    private final Queue<CompletableFuture<Void>> pending = new ConcurrentLinkedQueue<>();
+    private final PubSubProperties pubSubProperties;
+    private final PubSubTemplate pubSubTemplate;
+    private final PublisherFactory publisherFactory;
+
+    public PubSubPublisher(
+            PubSubProperties pubSubProperties, PubSubTemplate pubSubTemplate, PublisherFactory publisherFactory) {
+        this.inFlight = new Semaphore(pubSubProperties.getMaxInFlight());
+        this.pubSubProperties = pubSubProperties;
+        this.pubSubTemplate = pubSubTemplate;
+        this.publisherFactory = publisherFactory;
+    }
+
+    /**
+     * Publishes the message asynchronously, retrying up to maxSendAttempts times on failure. Blocks if the number of
+     * unconfirmed messages has reached maxInFlight.
+     *
+     * @param message the message to publish
+     * @param header  the message attributes
+     */
+    public void publish(PubSubMessage message, Map<String, String> header) {
+        try {
+            inFlight.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ParserException("Interrupted while waiting to publish to PubSub", e);
+        }
+
+        var result = new CompletableFuture<Void>();
+        result.whenComplete((r, e) -> inFlight.release());
+
+        try {
+            var topic = pubSubProperties.getTopicName();
+            Supplier<CompletableFuture<String>> sender;
+
+            if (pubSubProperties.isCompress() || pubSubProperties.isOrdering()) {
+                var pubsubMessage = convert(message, header);
+                sender = () -> pubSubTemplate.publish(topic, pubsubMessage);
+            } else {
+                sender = () -> pubSubTemplate.publish(topic, message, header);
+            }
+
+            send(sender, message, result, 0);
+            pending.add(result);
+        } catch (RuntimeException e) {
+            result.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    /**
+     * Waits for all messages published so far to be confirmed.
+     *
+     * @throws ParserException if any message failed to publish after all attempts or wasn't confirmed in time
+     */
+    public void await() {
+        long deadline = System.nanoTime() + pubSubProperties.getPublishTimeout().toNanos();
+        int count = 0;
+        Throwable failure = null;
+        CompletableFuture<Void> future;
+
+        try {
+            while ((future = pending.poll()) != null) {
+                try {
+                    future.get(Math.max(deadline - System.nanoTime(), 0L), TimeUnit.NANOSECONDS);
+                    ++count;
+                } catch (ExecutionException e) {
+                    failure = failure == null ? e.getCause() : failure;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ParserException("Interrupted while waiting for messages to be published to PubSub", e);
+        } catch (TimeoutException e) {
+            throw new ParserException("Timed out waiting for messages to be published to PubSub", e);
+        } finally {
+            if (failure != null || !pending.isEmpty()) {
+                pending.clear();
+            }
+        }
+
+        if (failure != null) {
+            throw new ParserException("Error sending transactions to pubsub", failure);
+        }
+
+        log.debug("Confirmed {} messages published to PubSub", count);
+    }
+
+    private PubsubMessage convert(PubSubMessage message, Map<String, String> header) {
+        var pubsubMessage =
+                pubSubTemplate.getMessageConverter().toPubSubMessage(message, header).toBuilder();
+
+        if (pubSubProperties.isCompress()) {
+            pubsubMessage.setData(gzip(pubsubMessage.getData())).putAttributes(CONTENT_ENCODING, GZIP);
+        }
+
+        var entityId = message.getEntity();
+        if (pubSubProperties.isOrdering() && !EntityId.isEmpty(entityId)) {
+            pubsubMessage.setOrderingKey(entityId.toString());
+        }
+
+        return pubsubMessage.build();
+    }
+
+    private ByteString gzip(ByteString data) {
+        var output = ByteString.newOutput(data.size());
+        try (var gzipOutput = new GZIPOutputStream(output)) {
+            data.writeTo(gzipOutput);
+        } catch (IOException e) {
+            throw new ParserException("Error compressing PubSub message", e);
+        }
+
+        return output.toByteString();
+    }
+
+    private void send(
+            Supplier<CompletableFuture<String>> sender,
+            PubSubMessage message,
+            CompletableFuture<Void> result,
+            int retryCount) {
+        int retry = retryCount + 1;
+        sender.get().whenComplete((id, ex) -> {
+            if (ex == null) {
+                log.debug("Published transaction : {}", message.getConsensusTimestamp());
+                result.complete(null);
+            } else if (retry > pubSubProperties.getMaxSendAttempts()) {
+                log.error("Failed to send message to PubSub after {} attempts: {}", retry - 1, ex);
+                result.completeExceptionally(ex);
+            } else {
+                log.warn("Attempt {} to send message to PubSub failed: {}", retry, ex);
+                try {
+                    resume(message);
+                    send(sender, message, result, retry);
+                } catch (Exception e) {
+                    result.completeExceptionally(e);
+                }
+            }
+        });
+    }
+
+    // A failed publish pauses its ordering key in the client until explicitly resumed
+    private void resume(PubSubMessage message) {
+        var entityId = message.getEntity();
+        if (pubSubProperties.isOrdering() && !EntityId.isEmpty(entityId)) {
+            publisherFactory.createPublisher(pubSubProperties.getTopicName()).resumePublish(entityId.toString());
+        }
+    }
+}
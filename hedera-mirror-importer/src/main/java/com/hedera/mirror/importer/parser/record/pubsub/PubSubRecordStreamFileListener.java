@@ -29,11 +29,15 @@ import lombok.RequiredArgsConstructor;
 @ConditionalOnPubSubRecordParser
 public class PubSubRecordStreamFileListener implements RecordStreamFileListener {
 
+    private final PubSubPublisher pubSubPublisher;
     private final RecordFileRepository recordFileRepository;
     private final SidecarFileRepository sidecarFileRepository;
 
     @Override
     public void onEnd(RecordFile recordFile) throws ImporterException {
+        // Only mark the file as processed once all of its messages are confirmed
+        pubSubPublisher.await();
+
         if (recordFile != null) {
             recordFileRepository.save(recordFile);
             sidecarFileRepository.saveAll(recordFile.getSidecars());
@@ -79,11 +79,9 @@ public class ProtoBlockFileReader implements BlockFileReader {
             readBlockProof(context);
 
             var blockFile = blockFileBuilder.build();
-            var bytes = streamFileData.getBytes();
-            blockFile.setBytes(bytes);
             blockFile.setCount((long) blockFile.getItems().size());
             blockFile.setHash(context.getBlockRootHashDigest().digest());
-            blockFile.setSize(bytes.length);
+            blockFile.setSize(streamFileData.getSize());
 
             return blockFile;
         } catch (InvalidStreamFileException e) {
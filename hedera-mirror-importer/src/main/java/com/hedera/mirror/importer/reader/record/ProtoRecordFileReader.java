@@ -34,6 +34,7 @@ import java.io.DataInputStream;
 import java.io.DataOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.security.DigestInputStream;
 import java.security.DigestOutputStream;
 import java.util.ArrayList;
 import java.util.List;
@@ -54,7 +55,10 @@ public class ProtoRecordFileReader implements RecordFileReader {
         var filename = streamFileData.getFilename();
         var loadStart = streamFileData.getStreamFilename().getTimestamp();
 
-        try (var inputStream = streamFileData.getInputStream()) {
+        var messageDigest = createSha384Digest();
+
+        // The file hash is computed while the decompressed stream is parsed so the contents are only read once
+        try (var inputStream = new DigestInputStream(streamFileData.getInputStream(), messageDigest)) {
             var recordStreamFile = readRecordStreamFile(filename, inputStream);
             var startObjectRunningHash = recordStreamFile.getStartObjectRunningHash();
             var endObjectRunningHash = recordStreamFile.getEndObjectRunningHash();
@@ -69,7 +73,6 @@ public class ProtoRecordFileReader implements RecordFileReader {
                         endHashAlgorithm);
             }
 
-            var bytes = streamFileData.getBytes();
             var items = readItems(filename, recordStreamFile);
             int count = items.size();
             long consensusEnd = items.get(count - 1).getConsensusTimestamp();
@@ -81,12 +84,11 @@ public class ProtoRecordFileReader implements RecordFileReader {
             var sidecars = getSidecars(consensusEnd, recordStreamFile, streamFileData.getStreamFilename());
 
             return RecordFile.builder()
-                    .bytes(bytes)
                     .consensusStart(items.get(0).getConsensusTimestamp())
                     .consensusEnd(consensusEnd)
                     .count((long) count)
                     .digestAlgorithm(digestAlgorithm)
-                    .fileHash(getFileHash(streamFileData.getDecompressedBytes()))
+                    .fileHash(DomainUtils.bytesToHex(messageDigest.digest()))
                     .hapiVersionMajor(majorVersion)
                     .hapiVersionMinor(minorVersion)
                     .hapiVersionPatch(patchVersion)
@@ -99,7 +101,7 @@ public class ProtoRecordFileReader implements RecordFileReader {
                     .previousHash(DomainUtils.bytesToHex(DomainUtils.getHashBytes(startObjectRunningHash)))
                     .sidecarCount(sidecars.size())
                     .sidecars(sidecars)
-                    .size(bytes.length)
+                    .size(streamFileData.getSize())
                     .softwareVersionMajor(majorVersion)
                     .softwareVersionMinor(minorVersion)
                     .softwareVersionPatch(patchVersion)
@@ -130,11 +132,6 @@ public class ProtoRecordFileReader implements RecordFileReader {
                 });
     }
 
-    private String getFileHash(byte[] fileData) {
-        var messageDigest = createSha384Digest();
-        return DomainUtils.bytesToHex(messageDigest.digest(fileData));
-    }
-
     private String getMetadataHash(RecordStreamFile recordStreamFile) throws IOException {
         try (var digestOutputStream = new DigestOutputStream(NullOutputStream.INSTANCE, createSha384Digest());
                 var dataOutputStream = new DataOutputStream(digestOutputStream)) {
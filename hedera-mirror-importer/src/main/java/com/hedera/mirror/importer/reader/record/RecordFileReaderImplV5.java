@@ -62,13 +62,11 @@ public class RecordFileReaderImplV5 implements RecordFileReader {
                                 new DigestInputStream(streamFileData.getInputStream(), messageDigestFile)),
                         messageDigestMetadata);
                 ValidatedDataInputStream vdis = new ValidatedDataInputStream(digestInputStream, filename)) {
-            byte[] bytes = streamFileData.getBytes();
             RecordFile recordFile = new RecordFile();
-            recordFile.setBytes(bytes);
             recordFile.setDigestAlgorithm(DIGEST_ALGORITHM);
             recordFile.setLoadStart(streamFileData.getStreamFilename().getTimestamp());
             recordFile.setName(filename);
-            recordFile.setSize(bytes.length);
+            recordFile.setSize(streamFileData.getSize());
 
             readHeader(vdis, recordFile);
             readBody(vdis, digestInputStream, recordFile);
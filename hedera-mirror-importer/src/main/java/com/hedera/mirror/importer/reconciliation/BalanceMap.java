@@ -0,0 +1,278 @@
+/*
+ * Copyright (C) 2025 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.importer.reconciliation;
+
+import java.util.StringJoiner;
+
+/**
+ * A map of balances keyed by account ID and token ID that stores its entries in primitive arrays using open addressing.
+ * This avoids the boxing and per entry node overhead of a {@code HashMap}, which adds up quickly when reconciling
+ * tens of millions of balances. HBAR balances use a token ID of zero. An absent entry is treated as a zero balance.
+ */
+final class BalanceMap {
+
+    private static final float LOAD_FACTOR = 0.75f;
+    private static final int MIN_CAPACITY = 16;
+
+    private final boolean token;
+
+    // The (0, 0) key marks empty slots so it is stored separately
+    private boolean hasZeroKey;
+    private long zeroKeyValue;
+
+    private long[] keys;
+    private int mask;
+    private int size;
+    private int threshold;
+    private long[] values;
+
+    BalanceMap(boolean token) {
+        this(token, 0);
+    }
+
+    BalanceMap(boolean token, int expectedSize) {
+        this.token = token;
+        allocate(capacityFor(expectedSize));
+    }
+
+    long get(long accountId, long tokenId) {
+        if (accountId == 0L && tokenId == 0L) {
+            return hasZeroKey ? zeroKeyValue : 0L;
+        }
+
+        int slot = find(accountId, tokenId);
+        return slot >= 0 ? values[slot] : 0L;
+    }
+
+    /**
+     * Adds the amount to the existing balance or inserts it if there is none.
+     *
+     * @param accountId the account ID
+     * @param tokenId the token ID or zero for HBAR
+     * @param amount the amount to add
+     * @throws ArithmeticException if the balance overflows
+     */
+    void merge(long accountId, long tokenId, long amount) {
+        if (accountId == 0L && tokenId == 0L) {
+            zeroKeyValue = hasZeroKey ? Math.addExact(zeroKeyValue, amount) : amount;
+            size += hasZeroKey ? 0 : 1;
+            hasZeroKey = true;
+            return;
+        }
+
+        int slot = find(accountId, tokenId);
+        if (slot >= 0) {
+            values[slot] = Math.addExact(values[slot], amount);
+        } else {
+            insert(-slot - 1, accountId, tokenId, amount);
+        }
+    }
+
+    void put(long accountId, long tokenId, long balance) {
+        if (accountId == 0L && tokenId == 0L) {
+            size += hasZeroKey ? 0 : 1;
+            hasZeroKey = true;
+            zeroKeyValue = balance;
+            return;
+        }
+
+        int slot = find(accountId, tokenId);
+        if (slot >= 0) {
+            values[slot] = balance;
+        } else {
+            insert(-slot - 1, accountId, tokenId, balance);
+        }
+    }
+
+    int size() {
+        return size;
+    }
+
+    /**
+     * Compares the balances of this map to another map, treating absent entries as zero.
+     *
+     * @param other the map to compare to
+     * @return whether every account and token has the same balance in both maps
+     */
+    boolean isEquivalent(BalanceMap other) {
+        return containedIn(other) && other.containedIn(this);
+    }
+
+    /**
+     * Describes how the balances of this map differ from another map in the same format as Guava's
+     * {@code MapDifference}. Entries that are absent in one map and zero in the other are not considered different.
+     *
+     * @param other the map to compare to
+     * @return the description of the difference
+     */
+    String difference(BalanceMap other) {
+        var onlyOnLeft = new StringJoiner(", ", "{", "}");
+        var onlyOnRight = new StringJoiner(", ", "{", "}");
+        var valueDifferences = new StringJoiner(", ", "{", "}");
+
+        forEach((accountId, tokenId, balance) -> {
+            long otherBalance = other.get(accountId, tokenId);
+            if (balance != otherBalance) {
+                var key = toKey(accountId, tokenId);
+                if (other.contains(accountId, tokenId)) {
+                    valueDifferences.add(key + "=(" + balance + ", " + otherBalance + ")");
+                } else {
+                    onlyOnLeft.add(key + "=" + balance);
+                }
+            }
+        });
+
+        other.forEach((accountId, tokenId, balance) -> {
+            if (balance != 0L && !contains(accountId, tokenId)) {
+                onlyOnRight.add(toKey(accountId, tokenId) + "=" + balance);
+            }
+        });
+
+        var result = new StringBuilder("not equal");
+        if (onlyOnLeft.length() > 2) {
+            result.append(": only on left=").append(onlyOnLeft);
+        }
+        if (onlyOnRight.length() > 2) {
+            result.append(": only on right=").append(onlyOnRight);
+        }
+        if (valueDifferences.length() > 2) {
+            result.append(": value differences=").append(valueDifferences);
+        }
+        return result.toString();
+    }
+
+    void forEach(BalanceConsumer consumer) {
+        if (hasZeroKey) {
+            consumer.accept(0L, 0L, zeroKeyValue);
+        }
+
+        for (int slot = 0; slot < values.length; slot++) {
+            long accountId = keys[slot * 2];
+            long tokenId = keys[slot * 2 + 1];
+            if (accountId != 0L || tokenId != 0L) {
+                consumer.accept(accountId, tokenId, values[slot]);
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        keys = new long[capacity * 2];
+        values = new long[capacity];
+        mask = capacity - 1;
+        threshold = (int) (capacity * LOAD_FACTOR);
+    }
+
+    private boolean contains(long accountId, long tokenId) {
+        if (accountId == 0L && tokenId == 0L) {
+            return hasZeroKey;
+        }
+
+        return find(accountId, tokenId) >= 0;
+    }
+
+    private boolean containedIn(BalanceMap other) {
+        if (hasZeroKey && zeroKeyValue != other.get(0L, 0L)) {
+            return false;
+        }
+
+        for (int slot = 0; slot < values.length; slot++) {
+            long accountId = keys[slot * 2];
+            long tokenId = keys[slot * 2 + 1];
+            if ((accountId != 0L || tokenId != 0L) && values[slot] != other.get(accountId, tokenId)) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Linear probes for the key.
+     *
+     * @return the slot of the key if present, otherwise -(insertion slot) - 1
+     */
+    private int find(long accountId, long tokenId) {
+        int slot = hash(accountId, tokenId) & mask;
+
+        while (true) {
+            long currentAccountId = keys[slot * 2];
+            long currentTokenId = keys[slot * 2 + 1];
+
+            if (currentAccountId == accountId && currentTokenId == tokenId) {
+                return slot;
+            } else if (currentAccountId == 0L && currentTokenId == 0L) {
+                return -slot - 1;
+            }
+
+            slot = (slot + 1) & mask;
+        }
+    }
+
+    private void insert(int slot, long accountId, long tokenId, long balance) {
+        keys[slot * 2] = accountId;
+        keys[slot * 2 + 1] = tokenId;
+        values[slot] = balance;
+
+        if (++size > threshold) {
+            rehash();
+        }
+    }
+
+    private void rehash() {
+        var oldKeys = keys;
+        var oldValues = values;
+        allocate(values.length * 2);
+
+        for (int slot = 0; slot < oldValues.length; slot++) {
+            long accountId = oldKeys[slot * 2];
+            long tokenId = oldKeys[slot * 2 + 1];
+            if (accountId != 0L || tokenId != 0L) {
+                int newSlot = -find(accountId, tokenId) - 1;
+                keys[newSlot * 2] = accountId;
+                keys[newSlot * 2 + 1] = tokenId;
+                values[newSlot] = oldValues[slot];
+            }
+        }
+    }
+
+    private String toKey(long accountId, long tokenId) {
+        return token
+                ? new BalanceReconciliationService.TokenAccountId(accountId, tokenId).toString()
+                : String.valueOf(accountId);
+    }
+
+    private static int capacityFor(int expectedSize) {
+        long capacity = Math.max(MIN_CAPACITY, (long) Math.ceil(expectedSize / LOAD_FACTOR) + 1);
+        return (int) Math.min(1L << 29, Long.highestOneBit(capacity - 1) << 1);
+    }
+
+    // Finalizer from MurmurHash3 to spread sequential entity IDs across the table
+    private static int hash(long accountId, long tokenId) {
+        long h = accountId * 31 + tokenId;
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return (int) h;
+    }
+
+    @FunctionalInterface
+    interface BalanceConsumer {
+        void accept(long accountId, long tokenId, long balance);
+    }
+}
@@ -27,7 +27,6 @@ import static com.hedera.mirror.importer.reconciliation.ReconciliationProperties
 import static com.hedera.mirror.importer.reconciliation.ReconciliationProperties.RemediationStrategy.FAIL;
 
 import com.google.common.base.Stopwatch;
-import com.google.common.collect.Maps;
 import com.google.common.util.concurrent.Uninterruptibles;
 import com.hedera.mirror.common.domain.balance.AccountBalanceFile;
 import com.hedera.mirror.common.domain.job.ReconciliationJob;
@@ -41,9 +40,6 @@ import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.inject.Named;
 import java.time.Duration;
 import java.time.Instant;
-import java.util.Collections;
-import java.util.HashMap;
-import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
@@ -226,7 +222,7 @@ class BalanceReconciliationService {
                 rs -> {
                     long accountId = rs.getLong(1);
                     long balance = rs.getLong(2);
-                    transfersBalance.merge(accountId, balance, Math::addExact);
+                    transfersBalance.merge(accountId, 0L, balance);
                 },
                 previous.getTimestamp(),
                 current.getTimestamp());
@@ -247,8 +243,7 @@ class BalanceReconciliationService {
                     long accountId = rs.getLong(1);
                     long tokenId = rs.getLong(2);
                     long balance = rs.getLong(3);
-                    var tokenAccountId = new TokenAccountId(accountId, tokenId);
-                    tokenBalances.merge(tokenAccountId, balance, Math::addExact);
+                    tokenBalances.merge(accountId, tokenId, balance);
                 },
                 previous.getTimestamp(),
                 current.getTimestamp());
@@ -256,18 +251,18 @@ class BalanceReconciliationService {
         reconcileTransfers(FAILURE_TOKEN_TRANSFERS, BalanceSnapshot::getTokenBalances, previous, current);
     }
 
-    private <K> void reconcileTransfers(
+    private void reconcileTransfers(
             ReconciliationStatus failureStatus,
-            Function<BalanceSnapshot, Map<K, Long>> mapper,
+            Function<BalanceSnapshot, BalanceMap> mapper,
             BalanceSnapshot previous,
             BalanceSnapshot current) {
         var transfersBalance = mapper.apply(previous);
         var currentBalances = mapper.apply(current);
 
-        if (!equals(transfersBalance, currentBalances)) {
+        if (!transfersBalance.isEquivalent(currentBalances)) {
             long fromTimestamp = previous.getTimestamp();
             long toTimestamp = current.getTimestamp();
-            var difference = Maps.difference(transfersBalance, currentBalances);
+            var difference = transfersBalance.difference(currentBalances);
 
             if (reconciliationProperties.getRemediationStrategy() == FAIL) {
                 throw new ReconciliationException(failureStatus, fromTimestamp, toTimestamp, difference);
@@ -282,22 +277,6 @@ class BalanceReconciliationService {
         }
     }
 
-    private <T> boolean equals(Map<T, Long> previous, Map<T, Long> current) {
-        for (var previousEntry : previous.entrySet()) {
-            long currentValue = current.getOrDefault(previousEntry.getKey(), 0L);
-            if (previousEntry.getValue() != currentValue) {
-                return false;
-            }
-        }
-        for (var currentEntry : current.entrySet()) {
-            long previousValue = previous.getOrDefault(currentEntry.getKey(), 0L);
-            if (currentEntry.getValue() != previousValue) {
-                return false;
-            }
-        }
-        return true;
-    }
-
     private Optional<BalanceSnapshot> getNextBalanceSnapshot(
             ReconciliationJob reconciliationJob, Optional<BalanceSnapshot> previous) {
 
@@ -312,16 +291,19 @@ class BalanceReconciliationService {
                 .findNextInRange(fromTimestamp, toTimestamp)
                 .map(accountBalanceFile -> {
                     var timestamp = accountBalanceFile.getConsensusTimestamp();
-                    var balances = getAccountBalances(accountBalanceFile);
+                    // Size the maps from the previous snapshot to avoid rehashing while loading
+                    int balancesSize = previous.map(p -> p.getBalances().size()).orElse(0);
+                    int tokenBalancesSize = previous.map(p -> p.getTokenBalances().size()).orElse(0);
+                    var balances = getAccountBalances(accountBalanceFile, balancesSize);
                     var recordFile = recordFileRepository.findNextBetween(timestamp - 1L, Long.MAX_VALUE);
-                    var tokenBalances = getTokenBalances(accountBalanceFile);
+                    var tokenBalances = getTokenBalances(accountBalanceFile, tokenBalancesSize);
                     return new BalanceSnapshot(
                             accountBalanceFile, balances, recordFile, reconciliationJob, startTime, tokenBalances);
                 });
     }
 
-    private Map<Long, Long> getAccountBalances(AccountBalanceFile accountBalanceFile) {
-        Map<Long, Long> balances = new HashMap<>();
+    private BalanceMap getAccountBalances(AccountBalanceFile accountBalanceFile, int expectedSize) {
+        var balances = new BalanceMap(false, expectedSize);
         AtomicLong total = new AtomicLong(0L);
         long consensusTimestamp = accountBalanceFile.getConsensusTimestamp();
 
@@ -330,7 +312,7 @@ class BalanceReconciliationService {
                 rs -> {
                     long accountId = rs.getLong(1);
                     long balance = rs.getLong(2);
-                    balances.put(accountId, balance);
+                    balances.put(accountId, 0L, balance);
                     total.addAndGet(balance);
                 },
                 consensusTimestamp);
@@ -343,12 +325,12 @@ class BalanceReconciliationService {
         return balances;
     }
 
-    private Map<TokenAccountId, Long> getTokenBalances(AccountBalanceFile accountBalanceFile) {
+    private BalanceMap getTokenBalances(AccountBalanceFile accountBalanceFile, int expectedSize) {
         if (!reconciliationProperties.isToken()) {
-            return Collections.emptyMap();
+            return new BalanceMap(true);
         }
 
-        Map<TokenAccountId, Long> balances = new HashMap<>();
+        var balances = new BalanceMap(true, expectedSize);
         long consensusTimestamp = accountBalanceFile.getConsensusTimestamp();
 
         jdbcOperations.query(
@@ -357,8 +339,7 @@ class BalanceReconciliationService {
                     long accountId = rs.getLong(1);
                     long tokenId = rs.getLong(2);
                     long balance = rs.getLong(3);
-                    var tokenAccountId = new TokenAccountId(accountId, tokenId);
-                    balances.put(tokenAccountId, balance);
+                    balances.put(accountId, tokenId, balance);
                 },
                 consensusTimestamp);
 
@@ -376,11 +357,11 @@ class BalanceReconciliationService {
     private static class BalanceSnapshot {
 
         private final AccountBalanceFile accountBalanceFile;
-        private final Map<Long, Long> balances;
+        private final BalanceMap balances;
         private final Optional<RecordFile> recordFile;
         private final ReconciliationJob reconciliationJob;
         private final long startTime;
-        private final Map<TokenAccountId, Long> tokenBalances;
+        private final BalanceMap tokenBalances;
 
         private long getTimestamp() {
             return accountBalanceFile.getConsensusTimestamp() + accountBalanceFile.getTimeOffset();
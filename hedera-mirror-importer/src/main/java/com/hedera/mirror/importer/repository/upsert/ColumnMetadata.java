@@ -26,7 +26,9 @@ import lombok.Value;
 import org.apache.commons.lang3.StringUtils;
 
 @Value
-class ColumnMetadata implements Comparable<ColumnMetadata> {
+public class ColumnMetadata implements Comparable<ColumnMetadata> {
+
+    private final String dataType; // The PostgreSQL type name, or enum for user-defined enum types
 
     private final Object defaultValue;
 
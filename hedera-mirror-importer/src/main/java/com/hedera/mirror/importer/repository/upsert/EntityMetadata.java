@@ -26,7 +26,7 @@ import lombok.Value;
  * Contains the metadata associated with an @Upsertable entity. Used to generate dynamic upsert SQL.
  */
 @Value
-class EntityMetadata {
+public class EntityMetadata {
 
     private final String tableName;
     private final Upsertable upsertable;
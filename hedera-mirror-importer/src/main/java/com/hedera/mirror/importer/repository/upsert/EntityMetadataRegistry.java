@@ -60,16 +60,28 @@ public class EntityMetadataRegistry {
     private final JdbcOperations jdbcOperations;
 
     public EntityMetadata lookup(Class<?> domainClass) {
+        var entityMetadata = lookupEntity(domainClass);
+
+        if (entityMetadata.getUpsertable() == null) {
+            throw new UnsupportedOperationException("Class is not annotated with @Upsertable: " + domainClass);
+        }
+
+        return entityMetadata;
+    }
+
+    /**
+     * Looks up the metadata of any entity class regardless of whether it's annotated with @Upsertable.
+     *
+     * @param domainClass the entity class
+     * @return the entity metadata
+     */
+    public EntityMetadata lookupEntity(Class<?> domainClass) {
         return domainEntityMetadata.computeIfAbsent(domainClass, this::create);
     }
 
     private EntityMetadata create(Class<?> domainClass) {
         Upsertable upsertable = AnnotationUtils.findAnnotation(domainClass, Upsertable.class);
 
-        if (upsertable == null) {
-            throw new UnsupportedOperationException("Class is not annotated with @Upsertable: " + domainClass);
-        }
-
         EntityType<?> entityType = entityManager.getMetamodel().entity(domainClass);
         Table table = AnnotationUtils.findAnnotation(domainClass, Table.class);
         String tableName = table != null ? table.name() : toSnakeCase(entityType.getName());
@@ -84,11 +96,12 @@ public class EntityMetadataRegistry {
             if (attribute.getPersistentAttributeType() == Attribute.PersistentAttributeType.EMBEDDED) {
                 var persistentAttribute = (SingularPersistentAttribute) attribute;
                 var embeddableType = (EmbeddableType<?>) persistentAttribute.getType();
+                var parentGetter = getter((Field) attribute.getJavaMember());
                 embeddableType
                         .getDeclaredSingularAttributes()
-                        .forEach(a -> columnMetadata.add(columnMetadata(schema, a, id)));
+                        .forEach(a -> columnMetadata.add(columnMetadata(schema, a, id, parentGetter)));
             } else {
-                columnMetadata.add(columnMetadata(schema, attribute, id));
+                columnMetadata.add(columnMetadata(schema, attribute, id, null));
             }
         }
 
@@ -99,7 +112,10 @@ public class EntityMetadataRegistry {
 
     @SuppressWarnings("java:S4276")
     private ColumnMetadata columnMetadata(
-            Map<String, InformationSchemaColumns> schema, Attribute<?, ?> attribute, boolean id) {
+            Map<String, InformationSchemaColumns> schema,
+            Attribute<?, ?> attribute,
+            boolean id,
+            Function<Object, Object> parentGetter) {
         String name = attribute.getName();
         Field field = (Field) attribute.getJavaMember();
         Column column = field.getAnnotation(Column.class);
@@ -114,10 +130,11 @@ public class EntityMetadataRegistry {
             throw new IllegalStateException("Missing information schema for " + columnName);
         }
 
-        var getter = getter(field);
+        var getter = parentGetter == null ? getter(field) : embeddedGetter(parentGetter, getter(field));
         var setter = setter(field);
         boolean updatable = !id && (column == null || column.updatable());
         return new ColumnMetadata(
+                columnSchema.getDataType(),
                 columnSchema.getColumnDefault(),
                 getter,
                 id,
@@ -136,7 +153,9 @@ public class EntityMetadataRegistry {
         String sql =
                 """
                 select column_name, regexp_replace(column_default, '::.*', '') as column_default,
-                is_nullable = 'YES' as nullable from information_schema.columns where table_name = ?
+                is_nullable = 'YES' as nullable,
+                case when data_type = 'USER-DEFINED' then 'enum' else udt_name end as data_type
+                from information_schema.columns where table_name = ?
                 """;
 
         var columnSchemas = jdbcOperations.query(
@@ -146,6 +165,7 @@ public class EntityMetadataRegistry {
                     columnSchema.setColumnName(rs.getString(1));
                     columnSchema.setColumnDefault(rs.getString(2));
                     columnSchema.setNullable(rs.getBoolean(3));
+                    columnSchema.setDataType(rs.getString(4));
                     return columnSchema;
                 },
                 tableName);
@@ -176,6 +196,14 @@ public class EntityMetadataRegistry {
         }
     }
 
+    // Gets the embedded column's value via the entity's embeddable attribute
+    private Function<Object, Object> embeddedGetter(Function<Object, Object> parent, Function<Object, Object> child) {
+        return o -> {
+            var embeddable = parent.apply(o);
+            return embeddable != null ? child.apply(embeddable) : null;
+        };
+    }
+
     private Function<Object, Object> getter(Field field) {
         try {
             String prefix = field.getType().equals(boolean.class) ? "is" : "get";
@@ -213,6 +241,7 @@ public class EntityMetadataRegistry {
     static class InformationSchemaColumns {
         private String columnName;
         private String columnDefault;
+        private String dataType;
         private boolean nullable;
     }
 }
@@ -17,6 +17,7 @@
 package com.hedera.mirror.importer.repository.upsert;
 
 import java.io.StringWriter;
+import java.util.Optional;
 import lombok.CustomLog;
 import lombok.RequiredArgsConstructor;
 import org.apache.velocity.Template;
@@ -31,6 +32,7 @@ public class GenericUpsertQueryGenerator implements UpsertQueryGenerator {
 
     private static final String UPSERT_TEMPLATE = "/db/template/upsert.vm";
     private static final String UPSERT_HISTORY_TEMPLATE = "/db/template/upsert_history.vm";
+    private static final String UPSERT_RESOLVED_TEMPLATE = "/db/template/upsert_resolved.vm";
 
     private final EntityMetadata metadata;
 
@@ -47,16 +49,31 @@ public class GenericUpsertQueryGenerator implements UpsertQueryGenerator {
      */
     @Override
     public String getUpsertQuery() {
+        return generate(metadata.getUpsertable().history() ? UPSERT_HISTORY_TEMPLATE : UPSERT_TEMPLATE);
+    }
+
+    /**
+     * Constructs an upsert query for rows that were already coalesced with their existing state, so the rows are copied
+     * as is to the history and final tables without joining against the final table.
+     *
+     * @return the resolved upsert query
+     */
+    @Override
+    public Optional<String> getResolvedUpsertQuery() {
+        return Optional.of(generate(UPSERT_RESOLVED_TEMPLATE));
+    }
+
+    private String generate(String templatePath) {
         VelocityEngine velocityEngine = new VelocityEngine();
         velocityEngine.setProperty(RuntimeConstants.RESOURCE_LOADERS, RuntimeConstants.RESOURCE_LOADER_CLASS);
         velocityEngine.setProperty("resource.loader.class.class", ClasspathResourceLoader.class.getName());
         velocityEngine.init();
 
-        String templatePath = metadata.getUpsertable().history() ? UPSERT_HISTORY_TEMPLATE : UPSERT_TEMPLATE;
         Template template = velocityEngine.getTemplate(templatePath);
 
         VelocityContext velocityContext = new VelocityContext();
         velocityContext.put("finalTable", getFinalTableName());
+        velocityContext.put("history", metadata.getUpsertable().history());
         velocityContext.put("historyTable", getFinalTableName() + "_history");
         velocityContext.put("tempTable", getTemporaryTableName());
 
@@ -16,6 +16,8 @@
 
 package com.hedera.mirror.importer.repository.upsert;
 
+import java.util.Optional;
+
 public interface UpsertQueryGenerator {
 
     String TEMP_SUFFIX = "_temp";
@@ -27,4 +29,11 @@ public interface UpsertQueryGenerator {
     }
 
     String getUpsertQuery();
+
+    /**
+     * @return the query that upserts rows already coalesced with their existing state, if the table supports it
+     */
+    default Optional<String> getResolvedUpsertQuery() {
+        return Optional.empty();
+    }
 }
@@ -18,6 +18,7 @@ package com.hedera.mirror.importer.retention;
 
 import com.google.common.base.Stopwatch;
 import com.hedera.mirror.common.domain.transaction.RecordFile;
+import com.hedera.mirror.importer.db.PartitionMaintenance;
 import com.hedera.mirror.importer.repository.RecordFileRepository;
 import com.hedera.mirror.importer.repository.RetentionRepository;
 import com.hedera.mirror.importer.util.Utility;
@@ -42,6 +43,7 @@ import org.springframework.transaction.support.TransactionOperations;
 @RequiredArgsConstructor
 public class RetentionJob {
 
+    private final PartitionMaintenance partitionMaintenance;
     private final RecordFileRepository recordFileRepository;
     private final RetentionProperties retentionProperties;
     private final Collection<RetentionRepository> retentionRepositories;
@@ -67,6 +69,10 @@ public class RetentionJob {
                 "Using retention period {} to prune entries on or before {}", retentionPeriod, toInstant(maxTimestamp));
 
         try {
+            if (retentionProperties.isDropPartitions()) {
+                dropPartitions(maxTimestamp);
+            }
+
             while (iterator.hasNext()) {
                 prune(iterator);
             }
@@ -77,6 +83,26 @@ public class RetentionJob {
         }
     }
 
+    private void dropPartitions(long endTimestamp) {
+        for (var repository : retentionRepositories) {
+            String table = getTableName(repository);
+
+            if (retentionProperties.shouldPrune(table)) {
+                var stopwatch = Stopwatch.createStarted();
+                long reclaimed = partitionMaintenance.dropPartitions(table, endTimestamp);
+
+                if (reclaimed > 0) {
+                    log.info(
+                            "Dropped {} partitions on or before {} reclaiming {} bytes in {}",
+                            table,
+                            toInstant(endTimestamp),
+                            reclaimed,
+                            stopwatch);
+                }
+            }
+        }
+    }
+
     private void prune(RecordFileIterator iterator) {
         var counters = iterator.getCounters();
         long countBefore = counters.values().stream().reduce(0L, Long::sum);
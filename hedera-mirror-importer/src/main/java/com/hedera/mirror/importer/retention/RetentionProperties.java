@@ -34,6 +34,8 @@ public class RetentionProperties {
     @NotNull
     private Duration batchPeriod = Duration.ofDays(1L);
 
+    private boolean dropPartitions = false;
+
     private boolean enabled = false;
 
     @NotNull
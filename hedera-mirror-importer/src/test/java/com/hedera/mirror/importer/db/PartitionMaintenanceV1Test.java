@@ -23,6 +23,7 @@ import com.hedera.mirror.importer.EnabledIfV1;
 import com.hedera.mirror.importer.ImporterIntegrationTest;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
@@ -34,6 +35,7 @@ import org.springframework.cache.CacheManager;
 class PartitionMaintenanceV1Test extends ImporterIntegrationTest {
 
     private static final String ACCOUNT_BALANCE_TABLE_NAME = "account_balance";
+    private static final String TEST_TABLE_NAME = "retention_test";
     private static final String TOKEN_BALANCE_TABLE_NAME = "token_balance";
 
     private final @Qualifier(CACHE_TIME_PARTITION) CacheManager cacheManager;
@@ -89,6 +91,81 @@ class PartitionMaintenanceV1Test extends ImporterIntegrationTest {
                 .containsExactlyInAnyOrderElementsOf(tokenBalancePartitions);
     }
 
+    @Test
+    void dropPartitions() {
+        // given
+        createTestPartitions();
+
+        // when
+        long reclaimed = partitionMaintenance.dropPartitions(TEST_TABLE_NAME, 19L);
+
+        // then
+        assertThat(reclaimed).isPositive();
+        assertThat(getTestPartitions()).containsExactly(TEST_TABLE_NAME + "_p3");
+    }
+
+    @Test
+    void dropPartitionsBoundary() {
+        // given
+        createTestPartitions();
+
+        // when
+        partitionMaintenance.dropPartitions(TEST_TABLE_NAME, 18L);
+
+        // then
+        assertThat(getTestPartitions()).containsExactly(TEST_TABLE_NAME + "_p2", TEST_TABLE_NAME + "_p3");
+    }
+
+    @Test
+    void dropPartitionsKeepsLatest() {
+        // given
+        createTestPartitions();
+
+        // when
+        partitionMaintenance.dropPartitions(TEST_TABLE_NAME, Long.MAX_VALUE);
+
+        // then
+        assertThat(getTestPartitions()).containsExactly(TEST_TABLE_NAME + "_p3");
+    }
+
+    @Test
+    void dropPartitionsNone() {
+        // given
+        createTestPartitions();
+
+        // when
+        long reclaimed = partitionMaintenance.dropPartitions(TEST_TABLE_NAME, 8L);
+
+        // then
+        assertThat(reclaimed).isZero();
+        assertThat(getTestPartitions())
+                .containsExactly(TEST_TABLE_NAME + "_p1", TEST_TABLE_NAME + "_p2", TEST_TABLE_NAME + "_p3");
+    }
+
+    @AfterEach
+    void cleanup() {
+        ownerJdbcTemplate.execute("drop table if exists " + TEST_TABLE_NAME);
+    }
+
+    private void createTestPartitions() {
+        ownerJdbcTemplate.execute(
+                """
+                create table %1$s (consensus_timestamp bigint not null) partition by range (consensus_timestamp);
+                create table %1$s_p1 partition of %1$s for values from ('0') to ('10');
+                create table %1$s_p2 partition of %1$s for values from ('10') to ('20');
+                create table %1$s_p3 partition of %1$s for values from ('20') to ('30');
+                insert into %1$s select generate_series(0, 29);
+                """
+                        .formatted(TEST_TABLE_NAME));
+    }
+
+    private List<String> getTestPartitions() {
+        return jdbcOperations.queryForList(
+                "select name from mirror_node_time_partitions where parent = ? order by from_timestamp",
+                String.class,
+                TEST_TABLE_NAME);
+    }
+
     private void dropPartitionBackwards(List<TimePartition> partitions, int index) {
         var sql = String.format(
                 "drop table %s", partitions.get(partitions.size() - index - 1).getName());
@@ -22,14 +22,20 @@ import static com.hedera.mirror.importer.util.UtilityTest.ALIAS_ECDSA_SECP256K1;
 import static com.hedera.mirror.importer.util.UtilityTest.EVM_ADDRESS;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
 
 import com.hedera.mirror.common.domain.entity.Entity;
 import com.hedera.mirror.common.domain.entity.EntityId;
 import com.hedera.mirror.common.util.DomainUtils;
 import com.hedera.mirror.importer.ImporterIntegrationTest;
+import com.hedera.mirror.importer.parser.domain.RecordItemBuilder;
 import com.hedera.mirror.importer.repository.EntityRepository;
+import com.hederahashgraph.api.proto.java.AccountAmount;
 import com.hederahashgraph.api.proto.java.AccountID;
 import com.hederahashgraph.api.proto.java.ContractID;
+import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -54,6 +60,7 @@ class EntityIdServiceImplTest extends ImporterIntegrationTest {
 
     private final EntityRepository entityRepository;
     private final EntityIdService entityIdService;
+    private final RecordItemBuilder recordItemBuilder;
 
     @Test
     void cache() {
@@ -400,6 +407,72 @@ class EntityIdServiceImplTest extends ImporterIntegrationTest {
         assertThat(entityIdService.lookup(accountId)).isNotPresent();
     }
 
+    @Test
+    void preload() {
+        // given
+        var account = domainBuilder.entity().persist();
+        var contract = domainBuilder
+                .entity()
+                .customize(e -> e.alias(null).type(CONTRACT))
+                .persist();
+        var accountId = getProtoAccountId(account);
+        var contractId = getProtoContractId(contract);
+        var missingAccountId = getProtoAccountId(domainBuilder.entity().get());
+        var cryptoTransfer = recordItemBuilder
+                .cryptoTransfer()
+                .transactionBody(b -> b.getTransfersBuilder()
+                        .addAccountAmounts(AccountAmount.newBuilder()
+                                .setAccountID(accountId)
+                                .setAmount(-1L))
+                        .addAccountAmounts(AccountAmount.newBuilder()
+                                .setAccountID(missingAccountId)
+                                .setAmount(1L)))
+                .build();
+        var contractCall = recordItemBuilder.contractCall(contractId).build();
+
+        // when
+        entityIdService.preload(List.of(cryptoTransfer, contractCall));
+        entityRepository.deleteAll();
+
+        // then resolved from cache
+        assertThat(entityIdService.lookup(accountId)).hasValue(account.toEntityId());
+        assertThat(entityIdService.lookup(contractId)).hasValue(contract.toEntityId());
+        assertThat(entityIdService.lookup(missingAccountId)).isEmpty();
+    }
+
+    @Test
+    void preloadCached() {
+        // given
+        var account = domainBuilder.entity().get();
+        var accountId = getProtoAccountId(account);
+        var cryptoTransfer = recordItemBuilder
+                .cryptoTransfer()
+                .transactionBody(b -> b.getTransfersBuilder()
+                        .addAccountAmounts(AccountAmount.newBuilder()
+                                .setAccountID(accountId)
+                                .setAmount(1L)))
+                .build();
+        entityIdService.notify(account);
+
+        // when
+        entityIdService.preload(List.of(cryptoTransfer));
+
+        // then
+        assertThat(entityIdService.lookup(accountId)).hasValue(account.toEntityId());
+    }
+
+    @Test
+    void preloadSkipsOtherTransactionBodies() {
+        // given
+        var cryptoCreate = spy(recordItemBuilder.cryptoCreate().build());
+
+        // when
+        entityIdService.preload(List.of(cryptoCreate));
+
+        // then
+        verify(cryptoCreate, never()).getTransactionBody();
+    }
+
     private AccountID getProtoAccountId(Entity account) {
         var accountId = AccountID.newBuilder().setShardNum(account.getShard()).setRealmNum(account.getRealm());
         if (account.getAlias() == null) {
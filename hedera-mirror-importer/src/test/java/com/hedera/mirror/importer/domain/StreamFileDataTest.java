@@ -25,6 +25,7 @@ import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
 import java.time.Instant;
@@ -96,6 +97,42 @@ class StreamFileDataTest {
         }
     }
 
+    @Test
+    void createFromMappedFile() throws IOException {
+        var file = FileUtils.getFile(dataPath.toFile(), FILENAME);
+        var contents = "testdata".getBytes(StandardCharsets.UTF_8);
+        FileUtils.writeByteArrayToFile(file, contents);
+
+        var streamFileData = StreamFileData.from(file);
+        var buffer = streamFileData.getBuffer();
+
+        assertThat(buffer.isReadOnly()).isTrue();
+        assertThat(buffer.remaining()).isEqualTo(contents.length);
+        assertThat(streamFileData.getSize()).isEqualTo(contents.length);
+        assertThat(streamFileData.getDecompressedBytes()).isEqualTo(contents);
+        assertThat(streamFileData.getBytes()).isEqualTo(contents);
+
+        // Reading one view doesn't move the position of another
+        buffer.get();
+        assertThat(streamFileData.getBuffer().remaining()).isEqualTo(contents.length);
+        try (var is = streamFileData.getInputStream()) {
+            assertThat(is.readAllBytes()).isEqualTo(contents);
+        }
+    }
+
+    @Test
+    void createFromBuffer() {
+        var filename = "2021-03-10T16_00_00Z.rcd";
+        var contents = new byte[] {1, 2, 3, 4};
+        var buffer = ByteBuffer.wrap(contents, 1, 2).slice();
+
+        var streamFileData = StreamFileData.from(StreamFilename.from(filename), buffer, Instant.now());
+
+        assertThat(streamFileData.getSize()).isEqualTo(2);
+        assertThat(streamFileData.getBytes()).isEqualTo(new byte[] {2, 3});
+        assertThat(streamFileData.getDecompressedBytes()).isEqualTo(new byte[] {2, 3});
+    }
+
     @Test
     void createWithCompressorAndUncompressedData() {
         String filename = "2021-03-10T16_00_00Z.rcd.gz";
@@ -608,6 +608,26 @@ public abstract class AbstractDownloaderTest<T extends StreamFile<?>> {
         assertThat(importerProperties.getDataPath()).isEmptyDirectory();
     }
 
+    @ParameterizedTest(name = "Prefetch window {0} and max bytes {1}")
+    @CsvSource({"0, 268435456", "1, 1", "100, 268435456"})
+    void prefetch(int window, long maxBytes) {
+        var prefetchProperties = commonDownloaderProperties.getPrefetch();
+        prefetchProperties.setMaxBytes(maxBytes);
+        prefetchProperties.setWindow(window);
+        importerProperties.setStartBlockNumber(null);
+        fileCopier.copy();
+        expectLastStreamFile(Instant.EPOCH);
+
+        downloader.download();
+
+        verifyForSuccess();
+        assertThat(meterRegistry
+                        .find("hedera.mirror.download.bytes")
+                        .counter()
+                        .count())
+                .isPositive();
+    }
+
     @Test
     void testPartialCollection() {
         final long totalNodes = 60L;
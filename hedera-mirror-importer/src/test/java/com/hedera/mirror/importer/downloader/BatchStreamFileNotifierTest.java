@@ -19,6 +19,7 @@ package com.hedera.mirror.importer.downloader;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -28,6 +29,7 @@ import com.hedera.mirror.common.domain.DomainBuilder;
 import com.hedera.mirror.importer.parser.balance.AccountBalanceFileParser;
 import com.hedera.mirror.importer.parser.balance.BalanceParserProperties;
 import com.hedera.mirror.importer.parser.record.RecordFileParser;
+import com.hedera.mirror.importer.parser.record.RecordFilePipeline;
 import com.hedera.mirror.importer.parser.record.RecordParserProperties;
 import java.time.Duration;
 import java.util.List;
@@ -53,6 +55,9 @@ class BatchStreamFileNotifierTest {
     @Mock
     private RecordFileParser recordFileParser;
 
+    @Mock
+    private RecordFilePipeline recordFilePipeline;
+
     private BatchStreamFileNotifier notifier;
 
     @BeforeEach
@@ -63,7 +68,7 @@ class BatchStreamFileNotifierTest {
         balanceParserProperties.getBatch().setMaxFiles(Integer.MAX_VALUE);
         recordParserProperties.setFrequency(Duration.ofMillis(1L));
         recordParserProperties.getBatch().setMaxFiles(Integer.MAX_VALUE);
-        notifier = new BatchStreamFileNotifier(accountBalanceFileParser, recordFileParser);
+        notifier = new BatchStreamFileNotifier(accountBalanceFileParser, recordFileParser, recordFilePipeline);
     }
 
     @AfterEach
@@ -87,6 +92,16 @@ class BatchStreamFileNotifierTest {
         verify(recordFileParser).parse(recordFile);
     }
 
+    @Test
+    void recordFilePipelined() {
+        when(recordFilePipeline.isEnabled()).thenReturn(true);
+        var recordFile = domainBuilder.recordFile().get();
+        notifier.verified(recordFile);
+        Uninterruptibles.sleepUninterruptibly(Duration.ofMillis(500L));
+        verify(recordFilePipeline).submit(List.of(recordFile));
+        verify(recordFileParser, never()).parse(recordFile);
+    }
+
     @Test
     void maxFilesReached() {
         recordParserProperties.getBatch().setMaxFiles(1);
@@ -180,7 +195,7 @@ class BatchStreamFileNotifierTest {
         recordParserProperties.getBatch().setQueueCapacity(1);
         recordParserProperties.getBatch().setMaxFiles(1);
         notifier.close();
-        notifier = new BatchStreamFileNotifier(accountBalanceFileParser, recordFileParser);
+        notifier = new BatchStreamFileNotifier(accountBalanceFileParser, recordFileParser, recordFilePipeline);
         var recordFile1 = domainBuilder.recordFile().get();
         var recordFile2 = domainBuilder.recordFile().get();
         var recordFile3 = domainBuilder.recordFile().get();
@@ -26,6 +26,7 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
@@ -184,6 +185,68 @@ class BlockStreamPollerTest {
         verifyNoInteractions(recordFileRepository);
     }
 
+    @Test
+    void lookAhead(CapturedOutput output) {
+        // given
+        properties.setLookAhead(4);
+        fileCopier.filterFiles(blockFile(0).getName()).to("1").copy();
+        fileCopier.filterFiles(blockFile(1).getName()).to("3").copy();
+        when(recordFileRepository.findLatest())
+                .thenReturn(Optional.of(RecordFile.builder()
+                        .index(blockFile(0).getIndex() - 1)
+                        .hash(blockFile(0).getPreviousHash())
+                        .build()));
+
+        // when
+        blockStreamPoller.poll();
+
+        // then
+        var inOrder = inOrder(blockStreamVerifier);
+        inOrder.verify(blockStreamVerifier)
+                .verify(argThat(b -> b.getBytes() == null && b.getIndex() == blockNumber(0) && b.getNodeId() == 1L));
+        inOrder.verify(blockStreamVerifier)
+                .verify(argThat(b -> b.getBytes() == null && b.getIndex() == blockNumber(1) && b.getNodeId() == 3L));
+        verify(blockStreamVerifier, times(2)).verify(any(BlockFile.class));
+        verify(consensusNodeService).getNodes();
+        verify(recordFileRepository).findLatest();
+
+        String logs = output.getAll();
+        String nextFilename = BlockFile.getBlockStreamFilename(blockNumber(1) + 1);
+        assertThat(countMatches(logs, "Failed to download block file " + nextFilename))
+                .isOne();
+    }
+
+    @Test
+    void lookAheadVerifyFailureThenSuccess(CapturedOutput output) {
+        // given
+        properties.setLookAhead(4);
+        var filename = blockFile(0).getName();
+        doThrow(new InvalidStreamFileException(""))
+                .doCallRealMethod()
+                .when(blockStreamVerifier)
+                .verify(any(BlockFile.class));
+        when(recordFileRepository.findLatest())
+                .thenReturn(Optional.of(RecordFile.builder()
+                        .index(blockFile(0).getIndex() - 1)
+                        .hash(blockFile(0).getPreviousHash())
+                        .build()));
+        fileCopier.filterFiles(filename).to("0").copy();
+        fileCopier.filterFiles(filename).to("1").copy();
+
+        // when
+        blockStreamPoller.poll();
+
+        // then
+        verify(blockStreamVerifier, times(2)).verify(argThat(b -> b.getIndex() == blockNumber(0)));
+        verify(recordFileRepository).findLatest();
+
+        String logs = output.getAll();
+        assertThat(countMatches(logs, "Failed to download block file " + filename))
+                .isZero();
+        assertThat(countMatches(logs, "Failed to download block file " + blockFile(1).getName()))
+                .isOne();
+    }
+
     @ParameterizedTest(name = "startBlockNumber={0}")
     @NullSource
     @ValueSource(longs = {981L})
@@ -30,6 +30,7 @@ import com.hedera.mirror.common.domain.transaction.ErrataType;
 import com.hedera.mirror.common.domain.transaction.RecordFile;
 import com.hedera.mirror.importer.ImporterIntegrationTest;
 import com.hedera.mirror.importer.ImporterProperties;
+import com.hedera.mirror.importer.parser.record.entity.sql.EntityStateCache;
 import com.hedera.mirror.importer.repository.AccountBalanceFileRepository;
 import com.hedera.mirror.importer.repository.AccountBalanceRepository;
 import com.hedera.mirror.importer.repository.CryptoTransferRepository;
@@ -44,6 +45,7 @@ import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
 import org.springframework.jdbc.datasource.DataSourceTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
@@ -61,6 +63,7 @@ class InitializeEntityBalanceMigrationTest extends ImporterIntegrationTest {
     private final AccountBalanceFileRepository accountBalanceFileRepository;
     private final AccountBalanceRepository accountBalanceRepository;
     private final CryptoTransferRepository cryptoTransferRepository;
+    private final ObjectProvider<EntityStateCache> entityStateCache;
     private final EntityRepository entityRepository;
     private final ImporterProperties importerProperties;
     private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
@@ -83,6 +86,7 @@ class InitializeEntityBalanceMigrationTest extends ImporterIntegrationTest {
         timestamp = new AtomicLong(0L);
         migration = new InitializeEntityBalanceMigration(
                 accountBalanceFileRepository,
+                entityStateCache,
                 importerProperties,
                 namedParameterJdbcTemplate,
                 recordFileRepository,
@@ -284,6 +284,41 @@ class CommonParserPropertiesTest {
                 .isEqualTo(result);
     }
 
+    @DisplayName("Filter using include on the transaction type and payer")
+    @ParameterizedTest(name = "with transaction type {0} resulting in {1}")
+    @CsvSource({"CONSENSUSSUBMITMESSAGE, true", "CRYPTOCREATEACCOUNT, false", "FILECREATE, true"})
+    void headerFilterInclude(TransactionType transactionType, boolean result) {
+        commonParserProperties.getInclude().add(filter("0.0.1", null, TransactionType.CONSENSUSSUBMITMESSAGE));
+        commonParserProperties
+                .getInclude()
+                .add(filter(null, "transactionBody.memo.startsWith("MyApp")", TransactionType.FILECREATE));
+
+        assertThat(commonParserProperties.getHeaderFilter().test(recordItem(transactionType, PAYER)))
+                .isEqualTo(result);
+    }
+
+    @DisplayName("Filter using exclude on the transaction type and payer")
+    @ParameterizedTest(name = "with transaction type {0} and payer {1} resulting in {2}")
+    @CsvSource({
+        "CRYPTOCREATEACCOUNT, 1000, false",
+        "CRYPTOCREATEACCOUNT, 1001, true",
+        "CONSENSUSSUBMITMESSAGE, 1000, true",
+        "FILECREATE, 1000, true",
+        "FREEZE, 1000, false"
+    })
+    void headerFilterExclude(TransactionType transactionType, long payer, boolean result) {
+        commonParserProperties.getExclude().add(filter("0.0.1000", null, TransactionType.CRYPTOCREATEACCOUNT));
+        commonParserProperties.getExclude().add(filter("0.0.3", null, TransactionType.CONSENSUSSUBMITMESSAGE));
+        commonParserProperties
+                .getExclude()
+                .add(filter(null, "transactionBody.memo.startsWith("MyApp")", TransactionType.FILECREATE));
+        commonParserProperties.getExclude().add(filter(null, null, TransactionType.FREEZE));
+
+        var payerAccountId = AccountID.newBuilder().setAccountNum(payer).build();
+        assertThat(commonParserProperties.getHeaderFilter().test(recordItem(transactionType, payerAccountId)))
+                .isEqualTo(result);
+    }
+
     @DisplayName("Invalid filter expression parse exception handling")
     @ParameterizedTest(name = "with expression {0}")
     @CsvSource({"sld&#$$", "transactionBody|consensusTimeStamp ge 32"})
@@ -338,6 +373,19 @@ class CommonParserPropertiesTest {
         return Collections.singleton(EntityId.of(entityId));
     }
 
+    private RecordItem recordItem(TransactionType transactionType, AccountID payer) {
+        var builder =
+                switch (transactionType) {
+                    case CONSENSUSSUBMITMESSAGE -> recordItemBuilder.consensusSubmitMessage();
+                    case CRYPTOCREATEACCOUNT -> recordItemBuilder.cryptoCreate();
+                    case FILECREATE -> recordItemBuilder.fileCreate();
+                    case FREEZE -> recordItemBuilder.freeze();
+                    default -> throw new IllegalArgumentException("Unsupported type " + transactionType);
+                };
+        return builder.transactionBodyWrapper(b -> b.setTransactionID(TransactionID.newBuilder().setAccountID(payer)))
+                .build();
+    }
+
     private TransactionFilter filter(String entity, String expression, TransactionType transaction) {
         var transactionFilter = new TransactionFilter();
         if (StringUtils.isNotBlank(entity)) {
@@ -0,0 +1,148 @@
+/*
+ * Copyright (C) 2025 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.importer.parser.batch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.hedera.mirror.common.domain.StreamType;
+import com.hedera.mirror.common.domain.Upsertable;
+import com.hedera.mirror.common.domain.transaction.TransactionHash;
+import com.hedera.mirror.importer.ImporterIntegrationTest;
+import com.hedera.mirror.importer.parser.CommonParserProperties;
+import com.hedera.mirror.importer.parser.domain.RecordFileBuilder;
+import com.hedera.mirror.importer.parser.record.RecordItemListener;
+import com.hedera.mirror.importer.parser.record.entity.ParserContext;
+import com.hedera.mirror.importer.repository.upsert.EntityMetadataRegistry;
+import com.hedera.mirror.importer.test.performance.PerformanceProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import javax.sql.DataSource;
+import lombok.CustomLog;
+import lombok.RequiredArgsConstructor;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.annotation.AnnotationUtils;
+import org.springframework.test.context.junit.jupiter.EnabledIf;
+import org.springframework.transaction.support.TransactionOperations;
+
+/**
+ * Compares the time to COPY the insert-only tables of a realistic record file using the CSV and binary formats.
+ */
+@CustomLog
+@EnabledIf(expression = "${hedera.mirror.importer.test.performance.parser.enabled}", loadContext = true)
+@RequiredArgsConstructor
+@Tag("performance")
+class BatchInserterPerformanceTest extends ImporterIntegrationTest {
+
+    private static final int ITERATIONS = 5;
+
+    private final DataSource dataSource;
+    private final EntityMetadataRegistry entityMetadataRegistry;
+    private final ParserContext parserContext;
+    private final PerformanceProperties performanceProperties;
+    private final RecordFileBuilder recordFileBuilder;
+    private final RecordItemListener recordItemListener;
+    private final TransactionOperations transactionOperations;
+
+    @Test
+    void binaryVersusCsv() {
+        var batches = parseRecordFile();
+        var properties = new CommonParserProperties();
+        var meterRegistry = new SimpleMeterRegistry();
+        var csvTotal = Duration.ZERO;
+        var binaryTotal = Duration.ZERO;
+
+        for (var items : batches) {
+            var domainClass = items.iterator().next().getClass();
+            var tableName = domainClass.getSimpleName();
+            var metadata = entityMetadataRegistry.lookupEntity(domainClass);
+            var csv = new BatchInserter(domainClass, dataSource, meterRegistry, properties, tableName, null);
+            var binary = new BatchInserter(domainClass, dataSource, meterRegistry, properties, tableName, metadata);
+
+            var csvDuration = persist(csv, items);
+            var binaryDuration = persist(binary, items);
+            csvTotal = csvTotal.plus(csvDuration);
+            binaryTotal = binaryTotal.plus(binaryDuration);
+            log.info(
+                    "Copied {} {} rows in {} as CSV and {} as binary",
+                    items.size(),
+                    tableName,
+                    csvDuration,
+                    binaryDuration);
+        }
+
+        log.info("Copied {} tables in {} as CSV and {} as binary", batches.size(), csvTotal, binaryTotal);
+        assertThat(batches).isNotEmpty();
+        assertThat(binaryTotal).isPositive();
+    }
+
+    private List<Collection<?>> parseRecordFile() {
+        var scenarios = performanceProperties
+                .getScenarios()
+                .getOrDefault(performanceProperties.getParser().getScenario(), List.of());
+        var builder = recordFileBuilder.recordFile();
+        long interval = StreamType.RECORD.getFileCloseInterval().toMillis();
+
+        scenarios.stream().findFirst().ifPresent(scenario -> scenario.getTransactions()
+                .forEach(p -> builder.recordItems(i -> i.count((int) (p.getTps() * interval / 1000))
+                        .entities(p.getEntities())
+                        .entityAutoCreation(true)
+                        .subType(p.getSubType())
+                        .type(p.getType()))));
+
+        var recordFile = builder.build();
+        var batches = new ArrayList<Collection<?>>();
+
+        transactionOperations.executeWithoutResult(t -> {
+            recordFile.getItems().forEach(recordItemListener::onItem);
+            parserContext.forEach(items -> {
+                if (!items.isEmpty() && isInsertOnly(items.iterator().next().getClass())) {
+                    batches.add(new ArrayList<>(items));
+                }
+            });
+            parserContext.clear();
+            t.setRollbackOnly();
+        });
+
+        return batches;
+    }
+
+    private boolean isInsertOnly(Class<?> domainClass) {
+        // The v1 transaction hash table is sharded so it's persisted by its own inserter
+        return AnnotationUtils.findAnnotation(domainClass, Upsertable.class) == null
+                && domainClass != TransactionHash.class;
+    }
+
+    private Duration persist(BatchPersister batchPersister, Collection<?> items) {
+        var best = Duration.ofDays(1);
+
+        for (int i = 0; i < ITERATIONS; i++) {
+            long start = System.nanoTime();
+            transactionOperations.executeWithoutResult(t -> {
+                batchPersister.persist(items);
+                t.setRollbackOnly();
+            });
+            var elapsed = Duration.ofNanos(System.nanoTime() - start);
+            best = elapsed.compareTo(best) < 0 ? elapsed : best;
+        }
+
+        return best;
+    }
+}
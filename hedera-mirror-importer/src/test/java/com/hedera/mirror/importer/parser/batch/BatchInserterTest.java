@@ -25,6 +25,7 @@ import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
 
+import com.hedera.mirror.common.domain.contract.ContractResult;
 import com.hedera.mirror.common.domain.entity.EntityId;
 import com.hedera.mirror.common.domain.token.TokenTransfer;
 import com.hedera.mirror.common.domain.topic.TopicMessage;
@@ -33,9 +34,11 @@ import com.hedera.mirror.common.domain.transaction.CryptoTransfer;
 import com.hedera.mirror.importer.ImporterIntegrationTest;
 import com.hedera.mirror.importer.exception.ParserException;
 import com.hedera.mirror.importer.parser.CommonParserProperties;
+import com.hedera.mirror.importer.repository.ContractResultRepository;
 import com.hedera.mirror.importer.repository.CryptoTransferRepository;
 import com.hedera.mirror.importer.repository.TokenTransferRepository;
 import com.hedera.mirror.importer.repository.TopicMessageRepository;
+import com.hedera.mirror.importer.repository.upsert.EntityMetadataRegistry;
 import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.io.IOException;
 import java.io.Reader;
@@ -54,7 +57,10 @@ import org.postgresql.copy.CopyManager;
 class BatchInserterTest extends ImporterIntegrationTest {
 
     private final BatchPersister batchInserter;
+    private final ContractResultRepository contractResultRepository;
     private final CryptoTransferRepository cryptoTransferRepository;
+    private final DataSource dataSource;
+    private final EntityMetadataRegistry entityMetadataRegistry;
     private final TopicMessageRepository topicMessageRepository;
     private final TokenTransferRepository tokenTransferRepository;
 
@@ -77,6 +83,29 @@ class BatchInserterTest extends ImporterIntegrationTest {
         assertThat(tokenTransferRepository.findAll()).containsExactlyInAnyOrderElementsOf(tokenTransfers);
     }
 
+    @Test
+    void persistBinary() {
+        var contractResults = List.of(
+                domainBuilder.contractResult().get(),
+                domainBuilder
+                        .contractResult()
+                        .customize(c -> c.createdContractIds(List.of()).failedInitcode(null))
+                        .get());
+        var cryptoTransfers = List.of(
+                domainBuilder.cryptoTransfer().get(),
+                domainBuilder.cryptoTransfer().customize(c -> c.isApproval(null)).get());
+        var tokenTransfers =
+                List.of(domainBuilder.tokenTransfer().get(), domainBuilder.tokenTransfer().get());
+
+        binaryBatchInserter(ContractResult.class).persist(contractResults);
+        binaryBatchInserter(CryptoTransfer.class).persist(cryptoTransfers);
+        binaryBatchInserter(TokenTransfer.class).persist(tokenTransfers);
+
+        assertThat(contractResultRepository.findAll()).containsExactlyInAnyOrderElementsOf(contractResults);
+        assertThat(cryptoTransferRepository.findAll()).containsExactlyInAnyOrderElementsOf(cryptoTransfers);
+        assertThat(tokenTransferRepository.findAll()).containsExactlyInAnyOrderElementsOf(tokenTransfers);
+    }
+
     @Test
     void throwsParserException() throws SQLException, IOException {
         // given
@@ -161,6 +190,14 @@ class BatchInserterTest extends ImporterIntegrationTest {
                 .containsExactlyInAnyOrderElementsOf(assessedCustomFees);
     }
 
+    private BatchPersister binaryBatchInserter(Class<?> domainClass) {
+        var entityMetadata = entityMetadataRegistry.lookupEntity(domainClass);
+        var properties = new CommonParserProperties();
+        var tableName = domainClass.getSimpleName();
+        return new BatchInserter(
+                domainClass, dataSource, new SimpleMeterRegistry(), properties, tableName, entityMetadata);
+    }
+
     private TopicMessage topicMessage(int messageSize) {
         return domainBuilder
                 .topicMessage()
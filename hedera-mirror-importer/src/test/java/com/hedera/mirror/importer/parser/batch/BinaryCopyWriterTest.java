@@ -0,0 +1,134 @@
+/*
+ * Copyright (C) 2025 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.importer.parser.batch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.hedera.mirror.common.domain.contract.ContractResult;
+import com.hedera.mirror.common.domain.entity.Entity;
+import com.hedera.mirror.common.domain.token.Token;
+import com.hedera.mirror.common.domain.token.TokenTransfer;
+import com.hedera.mirror.common.domain.transaction.CryptoTransfer;
+import com.hedera.mirror.importer.ImporterIntegrationTest;
+import com.hedera.mirror.importer.repository.upsert.ColumnMetadata;
+import com.hedera.mirror.importer.repository.upsert.EntityMetadataRegistry;
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+@RequiredArgsConstructor
+class BinaryCopyWriterTest extends ImporterIntegrationTest {
+
+    private final EntityMetadataRegistry entityMetadataRegistry;
+
+    @ParameterizedTest
+    @ValueSource(classes = {ContractResult.class, CryptoTransfer.class, Entity.class, TokenTransfer.class})
+    void of(Class<?> domainClass) {
+        var metadata = entityMetadataRegistry.lookupEntity(domainClass);
+        var columns = metadata.getColumns().stream().map(ColumnMetadata::getName).toList();
+        assertThat(BinaryCopyWriter.of(metadata, columns)).isNotNull();
+    }
+
+    @Test
+    void ofUnknownColumn() {
+        var metadata = entityMetadataRegistry.lookupEntity(CryptoTransfer.class);
+        assertThatThrownBy(() -> BinaryCopyWriter.of(metadata, List.of("amount", "unknown")))
+                .isInstanceOf(UnsupportedOperationException.class)
+                .hasMessageContaining("unknown");
+    }
+
+    @Test
+    void ofUnsupportedType() {
+        // freeze_status is a smallint column mapped to an enum serialized via @JsonValue
+        var metadata = entityMetadataRegistry.lookupEntity(Token.class);
+        assertThatThrownBy(() -> BinaryCopyWriter.of(metadata, List.of("token_id", "freeze_status")))
+                .isInstanceOf(UnsupportedOperationException.class)
+                .hasMessageContaining("freeze_status");
+    }
+
+    @Test
+    @SneakyThrows
+    void write() {
+        var metadata = entityMetadataRegistry.lookupEntity(CryptoTransfer.class);
+        var writer = BinaryCopyWriter.of(metadata, List.of("amount", "is_approval"));
+        var cryptoTransfer = domainBuilder
+                .cryptoTransfer()
+                .customize(c -> c.amount(258L).isApproval(null))
+                .get();
+        var outputStream = new ByteArrayOutputStream();
+
+        writer.write(outputStream, List.of(cryptoTransfer));
+
+        assertThat(outputStream.toByteArray())
+                .containsExactly(
+                        'P', 'G', 'C', 'O', 'P', 'Y', '\n', 0xff, '\r', '\n', 0, // Signature
+                        0, 0, 0, 0, // Flags
+                        0, 0, 0, 0, // Header extension
+                        0, 2, // Field count
+                        0, 0, 0, 8, 0, 0, 0, 0, 0, 0, 1, 2, // Amount
+                        0xff, 0xff, 0xff, 0xff, // Null
+                        0xff, 0xff); // Trailer
+    }
+
+    @Test
+    @SneakyThrows
+    @SuppressWarnings("unchecked")
+    void writeExactLong() {
+        var metadata = entityMetadataRegistry.lookupEntity(ContractResult.class);
+        var writer = BinaryCopyWriter.of(metadata, List.of("created_contract_ids"));
+        var createdContractIds = (List<Long>) (List<?>) List.of(BigInteger.valueOf(258L), new BigDecimal("1.00"));
+        var contractResult = domainBuilder
+                .contractResult()
+                .customize(c -> c.createdContractIds(createdContractIds))
+                .get();
+        var outputStream = new ByteArrayOutputStream();
+
+        writer.write(outputStream, List.of(contractResult));
+
+        assertThat(outputStream.toByteArray())
+                .endsWith(
+                        0, 0, 0, 8, 0, 0, 0, 0, 0, 0, 1, 2, // 258
+                        0, 0, 0, 8, 0, 0, 0, 0, 0, 0, 0, 1, // 1
+                        0xff, 0xff); // Trailer
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void writeTruncatedLong() {
+        var metadata = entityMetadataRegistry.lookupEntity(ContractResult.class);
+        var writer = BinaryCopyWriter.of(metadata, List.of("created_contract_ids"));
+        var overflow = BigInteger.valueOf(Long.MAX_VALUE).add(BigInteger.ONE);
+        var fraction = new BigDecimal("1.5");
+
+        for (var value : List.<Number>of(overflow, fraction)) {
+            var contractResult = domainBuilder
+                    .contractResult()
+                    .customize(c -> c.createdContractIds((List<Long>) (List<?>) List.of(value)))
+                    .get();
+            var items = List.of(contractResult);
+            assertThatThrownBy(() -> writer.write(new ByteArrayOutputStream(), items))
+                    .isInstanceOf(ArithmeticException.class);
+        }
+    }
+}
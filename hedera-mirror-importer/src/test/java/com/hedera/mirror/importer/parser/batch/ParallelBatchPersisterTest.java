@@ -0,0 +1,146 @@
+/*
+ * Copyright (C) 2025 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.importer.parser.batch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.hedera.mirror.common.domain.token.TokenTransfer;
+import com.hedera.mirror.importer.ImporterIntegrationTest;
+import com.hedera.mirror.importer.exception.ParserException;
+import com.hedera.mirror.importer.parser.record.entity.sql.SqlProperties;
+import com.hedera.mirror.importer.repository.CryptoTransferRepository;
+import com.hedera.mirror.importer.repository.EntityRepository;
+import com.hedera.mirror.importer.repository.TokenTransferRepository;
+import java.util.Collection;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@RequiredArgsConstructor
+class ParallelBatchPersisterTest extends ImporterIntegrationTest {
+
+    private final BatchPersister batchPersister;
+    private final CryptoTransferRepository cryptoTransferRepository;
+    private final EntityRepository entityRepository;
+    private final SqlProperties sqlProperties;
+    private final TokenTransferRepository tokenTransferRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final TwoPhaseCommitTxManager transactionManager;
+
+    private ParallelBatchPersister parallelBatchPersister;
+
+    @BeforeEach
+    void setup() {
+        parallelBatchPersister = new ParallelBatchPersister(batchPersister, sqlProperties, transactionManager);
+    }
+
+    @AfterEach
+    void cleanup() {
+        parallelBatchPersister.destroy();
+    }
+
+    @Test
+    void persist() {
+        // given
+        var cryptoTransfer = domainBuilder.cryptoTransfer().get();
+        var entity = domainBuilder.entity().get();
+        var tokenTransfer = domainBuilder.tokenTransfer().get();
+        Collection<Collection<?>> independent = List.of(List.of(cryptoTransfer), List.of(tokenTransfer));
+
+        // when
+        transactionTemplate.executeWithoutResult(
+                s -> parallelBatchPersister.persist(independent, List.of(List.of(entity))));
+
+        // then
+        assertThat(cryptoTransferRepository.findAll()).containsExactly(cryptoTransfer);
+        assertThat(entityRepository.findAll()).containsExactly(entity);
+        assertThat(tokenTransferRepository.findAll()).containsExactly(tokenTransfer);
+        assertThat(transactionManager.getThreadConnections()).isEmpty();
+        assertThat(findPrepared()).isZero();
+    }
+
+    @Test
+    void persistFailure() {
+        // given
+        var cryptoTransfer = domainBuilder.cryptoTransfer().get();
+        var entity = domainBuilder.entity().get();
+        var tokenTransfer = domainBuilder.tokenTransfer().get();
+        BatchPersister failingPersister = items -> {
+            if (items.iterator().next() instanceof TokenTransfer) {
+                throw new ParserException("token_transfer failed");
+            }
+            batchPersister.persist(items);
+        };
+        parallelBatchPersister.destroy();
+        parallelBatchPersister = new ParallelBatchPersister(failingPersister, sqlProperties, transactionManager);
+        Collection<Collection<?>> independent = List.of(List.of(cryptoTransfer), List.of(tokenTransfer));
+
+        // when
+        assertThatThrownBy(() -> transactionTemplate.executeWithoutResult(
+                        s -> parallelBatchPersister.persist(independent, List.of(List.of(entity)))))
+                .isInstanceOf(ParserException.class)
+                .hasMessageContaining("token_transfer");
+
+        // then
+        assertThat(cryptoTransferRepository.count()).isZero();
+        assertThat(entityRepository.count()).isZero();
+        assertThat(tokenTransferRepository.count()).isZero();
+        assertThat(transactionManager.getThreadConnections()).isEmpty();
+        assertThat(findPrepared()).isZero();
+    }
+
+    @Test
+    void rollbackPrepared() {
+        // given
+        var cryptoTransfer = domainBuilder.cryptoTransfer().get();
+        var entity = domainBuilder.entity().get();
+        var tokenTransfer = domainBuilder.tokenTransfer().get();
+        Collection<Collection<?>> independent = List.of(List.of(cryptoTransfer), List.of(tokenTransfer));
+
+        // when the parent transaction fails after the worker transactions are prepared
+        assertThatThrownBy(() -> transactionTemplate.executeWithoutResult(s -> {
+                    parallelBatchPersister.persist(independent, List.of(List.of(entity)));
+                    TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                        @Override
+                        public void beforeCommit(boolean readOnly) {
+                            assertThat(findPrepared()).isPositive();
+                            throw new IllegalStateException("parent failed");
+                        }
+                    });
+                }))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("parent failed");
+
+        // then
+        assertThat(cryptoTransferRepository.count()).isZero();
+        assertThat(entityRepository.count()).isZero();
+        assertThat(tokenTransferRepository.count()).isZero();
+        assertThat(transactionManager.getThreadConnections()).isEmpty();
+        assertThat(findPrepared()).isZero();
+    }
+
+    private Integer findPrepared() {
+        return jdbcOperations.queryForObject(
+                "select count(*) from pg_prepared_xacts where gid like 'mirror\\_importer\\_%'", Integer.class);
+    }
+}
@@ -0,0 +1,168 @@
+/*
+ * Copyright (C) 2025 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.importer.parser.batch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.transaction.support.TransactionSynchronization.STATUS_COMMITTED;
+import static org.springframework.transaction.support.TransactionSynchronization.STATUS_ROLLED_BACK;
+
+import com.hedera.mirror.importer.exception.ParserException;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import javax.sql.DataSource;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class TwoPhaseCommitTxManagerTest {
+
+    private Connection connection;
+    private DataSource dataSource;
+    private Statement statement;
+    private TwoPhaseCommitTxManager transactionManager;
+
+    @BeforeEach
+    @SneakyThrows
+    void setup() {
+        connection = mock(Connection.class);
+        statement = mock(Statement.class);
+        when(connection.createStatement()).thenReturn(statement);
+        dataSource = mock(DataSource.class);
+        transactionManager = new TwoPhaseCommitTxManager(dataSource);
+        var threadState = new TwoPhaseCommitTxManager.ThreadState(connection, "tx1");
+        transactionManager.getThreadConnections().put(Thread.currentThread(), threadState);
+    }
+
+    @Test
+    @SneakyThrows
+    void commit() {
+        transactionManager.beforeCommit(false);
+        verify(statement).execute("prepare transaction 'tx1'");
+
+        transactionManager.afterCompletion(STATUS_COMMITTED);
+        verify(connection).setAutoCommit(true);
+        verify(statement).execute("commit prepared 'tx1'");
+        verify(connection).close();
+        assertThat(transactionManager.getThreadConnections()).isEmpty();
+    }
+
+    @Test
+    @SneakyThrows
+    void rollbackPrepared() {
+        transactionManager.beforeCommit(false);
+        transactionManager.afterCompletion(STATUS_ROLLED_BACK);
+        verify(statement).execute("rollback prepared 'tx1'");
+        verify(statement, never()).execute(startsWith("commit"));
+        verify(connection).close();
+        assertThat(transactionManager.getThreadConnections()).isEmpty();
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {STATUS_COMMITTED, STATUS_ROLLED_BACK})
+    @SneakyThrows
+    void completeUnprepared(int status) {
+        transactionManager.afterCompletion(status);
+        verify(connection).rollback();
+        verify(statement, never()).execute(anyString());
+        verify(connection).close();
+        assertThat(transactionManager.getThreadConnections()).isEmpty();
+    }
+
+    @Test
+    @SneakyThrows
+    void prepareError() {
+        doThrow(new SQLException("max_prepared_transactions")).when(statement).execute(anyString());
+        assertThatThrownBy(() -> transactionManager.beforeCommit(false))
+                .isInstanceOf(ParserException.class)
+                .hasMessageContaining("tx1");
+
+        transactionManager.afterCompletion(STATUS_ROLLED_BACK);
+        verify(connection).rollback();
+        verify(connection).close();
+        assertThat(transactionManager.getThreadConnections()).isEmpty();
+    }
+
+    @ParameterizedTest
+    @CsvSource({"committed, commit", "aborted, rollback"})
+    @SneakyThrows
+    void recover(String parentStatus, String action) {
+        var transactionId = TwoPhaseCommitTxManager.GID_PREFIX + "100_previous_1";
+        var preparedResultSet = mock(ResultSet.class);
+        var statusResultSet = mock(ResultSet.class);
+        var statusStatement = mock(PreparedStatement.class);
+        when(dataSource.getConnection()).thenReturn(connection);
+        when(statement.executeQuery(anyString())).thenReturn(preparedResultSet);
+        when(preparedResultSet.next()).thenReturn(true, true, true, false);
+        when(preparedResultSet.getString(1)).thenReturn(transactionId, "other", "mirror_importer_invalid");
+        when(connection.prepareStatement("select txid_status(?)")).thenReturn(statusStatement);
+        when(statusStatement.executeQuery()).thenReturn(statusResultSet);
+        when(statusResultSet.next()).thenReturn(true);
+        when(statusResultSet.getString(1)).thenReturn(parentStatus);
+
+        transactionManager.recover();
+
+        verify(statusStatement).setLong(1, 100L);
+        verify(statement).execute(action + " prepared '" + transactionId + "'");
+        verify(statement, never()).execute(contains("other"));
+        verify(statement, never()).execute(contains("invalid"));
+        verify(connection).close();
+    }
+
+    @Test
+    @SneakyThrows
+    void recoverInProgress() {
+        var preparedResultSet = mock(ResultSet.class);
+        var statusResultSet = mock(ResultSet.class);
+        var statusStatement = mock(PreparedStatement.class);
+        when(dataSource.getConnection()).thenReturn(connection);
+        when(statement.executeQuery(anyString())).thenReturn(preparedResultSet);
+        when(preparedResultSet.next()).thenReturn(true, false);
+        when(preparedResultSet.getString(1)).thenReturn(TwoPhaseCommitTxManager.GID_PREFIX + "100_previous_1");
+        when(connection.prepareStatement("select txid_status(?)")).thenReturn(statusStatement);
+        when(statusStatement.executeQuery()).thenReturn(statusResultSet);
+        when(statusResultSet.next()).thenReturn(true);
+        when(statusResultSet.getString(1)).thenReturn("in progress");
+
+        transactionManager.recover();
+
+        verify(statement, never()).execute(anyString());
+        verify(connection).close();
+    }
+
+    @Test
+    @SneakyThrows
+    void recoverError() {
+        when(dataSource.getConnection()).thenThrow(new SQLException("connection refused"));
+        transactionManager.recover();
+        verify(statement, never()).execute(anyString());
+    }
+}
@@ -41,6 +41,7 @@ import com.hedera.mirror.common.domain.transaction.RecordFile;
 import com.hedera.mirror.common.domain.transaction.RecordItem;
 import com.hedera.mirror.importer.config.DateRangeCalculator;
 import com.hedera.mirror.importer.config.DateRangeCalculator.DateRangeFilter;
+import com.hedera.mirror.importer.domain.EntityIdService;
 import com.hedera.mirror.importer.exception.HashMismatchException;
 import com.hedera.mirror.importer.exception.ParserException;
 import com.hedera.mirror.importer.parser.AbstractStreamFileParserTest;
@@ -89,6 +90,9 @@ class RecordFileParserTest extends AbstractStreamFileParserTest<RecordFile, Reco
     @Mock(strictness = LENIENT)
     private DateRangeCalculator dateRangeCalculator;
 
+    @Mock
+    private EntityIdService entityIdService;
+
     private long count = 0;
 
     private RecordItem recordItem;
@@ -125,6 +129,7 @@ class RecordFileParserTest extends AbstractStreamFileParserTest<RecordFile, Reco
                 recordItemListener,
                 recordStreamFileListener,
                 dateRangeCalculator,
+                entityIdService,
                 new ParserContext());
     }
 
@@ -0,0 +1,188 @@
+/*
+ * Copyright (C) 2025 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.importer.parser.record;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.google.common.util.concurrent.Uninterruptibles;
+import com.hedera.mirror.common.domain.DomainBuilder;
+import com.hedera.mirror.common.domain.transaction.RecordFile;
+import com.hedera.mirror.importer.exception.ParserException;
+import com.hedera.mirror.importer.parser.record.RecordFileParser.PreparedBatch;
+import com.hedera.mirror.importer.parser.record.entity.ParserContext;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class RecordFilePipelineTest {
+
+    private final DomainBuilder domainBuilder = new DomainBuilder();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final PipelineBarrier pipelineBarrier = new PipelineBarrier();
+    private final RecordParserProperties properties = new RecordParserProperties();
+
+    @Mock
+    private RecordFileParser recordFileParser;
+
+    private RecordFilePipeline pipeline;
+
+    @BeforeEach
+    void setup() {
+        properties.getPipeline().setEnabled(true);
+        properties.getPipeline().setMaxItems(10L);
+        pipeline = new RecordFilePipeline(pipelineBarrier, meterRegistry, properties, recordFileParser);
+    }
+
+    @AfterEach
+    void teardown() {
+        pipeline.close();
+    }
+
+    @Test
+    void submit() {
+        var recordFiles1 = List.of(recordFile(1L));
+        var recordFiles2 = List.of(recordFile(1L));
+        var batch1 = prepare(recordFiles1);
+        var batch2 = prepare(recordFiles2);
+
+        pipeline.submit(recordFiles1);
+        pipeline.submit(recordFiles2);
+
+        verify(recordFileParser, timeout(1000L)).commit(batch2);
+        var inOrder = inOrder(recordFileParser);
+        inOrder.verify(recordFileParser).commit(batch1);
+        inOrder.verify(recordFileParser).commit(batch2);
+        assertThat(pipeline.isEnabled()).isTrue();
+        await().atMost(Duration.ofSeconds(1L)).untilAsserted(() -> {
+            assertThat(meterRegistry.find(RecordFilePipeline.BUSY_METRIC_NAME).timers())
+                    .hasSize(2)
+                    .allSatisfy(t -> assertThat(t.count()).isEqualTo(2L));
+            assertThat(meterRegistry.find(RecordFilePipeline.WAIT_METRIC_NAME).timers())
+                    .hasSize(2)
+                    .allSatisfy(t -> assertThat(t.count()).isEqualTo(2L));
+        });
+    }
+
+    @Test
+    void submitNothingToParse() {
+        var recordFiles = List.of(recordFile(1L));
+        when(recordFileParser.prepare(recordFiles)).thenReturn(null);
+        pipeline.submit(recordFiles);
+        verify(recordFileParser, never()).commit(any());
+    }
+
+    @Test
+    void budgetExceeded() throws Exception {
+        var recordFiles1 = List.of(recordFile(6L));
+        var recordFiles2 = List.of(recordFile(6L));
+        var batch1 = prepare(recordFiles1);
+        prepare(recordFiles2);
+        var committing = new CountDownLatch(1);
+        var latch = new CountDownLatch(1);
+        doAnswer(invocation -> {
+                    committing.countDown();
+                    latch.await();
+                    return null;
+                })
+                .when(recordFileParser)
+                .commit(batch1);
+
+        pipeline.submit(recordFiles1);
+        assertThat(committing.await(1L, TimeUnit.SECONDS)).isTrue();
+        var second = CompletableFuture.runAsync(() -> pipeline.submit(recordFiles2));
+
+        // The second batch can't be parsed until the first batch releases its items
+        Uninterruptibles.sleepUninterruptibly(Duration.ofMillis(200L));
+        assertThat(second).isNotDone();
+        verify(recordFileParser, never()).prepare(recordFiles2);
+        latch.countDown();
+        second.get(1L, TimeUnit.SECONDS);
+        verify(recordFileParser, timeout(1000L)).prepare(recordFiles2);
+    }
+
+    @Test
+    void commitFailure() {
+        var recordFiles1 = List.of(recordFile(1L));
+        var recordFiles2 = List.of(recordFile(1L));
+        var batch1 = prepare(recordFiles1);
+        var batch2 = prepare(recordFiles2);
+        doThrow(new ParserException("error")).when(recordFileParser).commit(batch1);
+
+        pipeline.submit(recordFiles1);
+        verify(recordFileParser, timeout(1000L)).commit(batch1);
+        Uninterruptibles.sleepUninterruptibly(Duration.ofMillis(200L));
+
+        // The failed batch is dropped and the next batch starts over from the database
+        pipeline.submit(recordFiles2);
+        verify(recordFileParser).clear();
+        verify(recordFileParser, timeout(1000L)).commit(batch2);
+    }
+
+    @Test
+    void barrier() {
+        var commit = new CompletableFuture<Void>();
+        pipelineBarrier.begin(commit);
+        var waiting = CompletableFuture.runAsync(() -> {
+            pipelineBarrier.begin(commit);
+            pipelineBarrier.await();
+        });
+
+        Uninterruptibles.sleepUninterruptibly(Duration.ofMillis(100L));
+        assertThat(waiting).isNotDone();
+        commit.complete(null);
+        assertThat(waiting).succeedsWithin(Duration.ofSeconds(1L));
+
+        pipelineBarrier.await();
+        pipelineBarrier.end();
+        pipelineBarrier.await();
+
+        var failed = CompletableFuture.failedFuture(new IllegalStateException("error"));
+        pipelineBarrier.begin(failed);
+        assertThatThrownBy(pipelineBarrier::await).isInstanceOf(ParserException.class);
+        pipelineBarrier.end();
+    }
+
+    private PreparedBatch prepare(List<RecordFile> recordFiles) {
+        var batch = new PreparedBatch(recordFiles, new ParserContext().detach());
+        when(recordFileParser.prepare(recordFiles)).thenReturn(batch);
+        return batch;
+    }
+
+    private RecordFile recordFile(long count) {
+        return domainBuilder.recordFile().customize(r -> r.count(count)).get();
+    }
+}
@@ -58,6 +58,13 @@ class DomainClassComparatorTest {
         assertThat(sortedOrder).containsExactlyElementsOf(ORDER);
     }
 
+    @Test
+    void isDependent() {
+        ORDER.forEach(c -> assertThat(DomainClassComparator.isDependent(c)).isTrue());
+        assertThat(DomainClassComparator.isDependent(Entity.class)).isFalse();
+        assertThat(DomainClassComparator.isDependent(CryptoTransfer.class)).isFalse();
+    }
+
     @Test
     void sortedMap() {
         var map = new TreeMap<Class<?>, Integer>(COMPARATOR);
@@ -24,6 +24,7 @@ import com.hedera.mirror.common.domain.entity.Entity;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import org.junit.jupiter.api.Test;
 
 class ParserContextTest {
@@ -57,6 +58,70 @@ class ParserContextTest {
         assertThat(getItems()).isEmpty();
     }
 
+    @Test
+    void defer() {
+        assertThatThrownBy(() -> parserContext.defer(null)).isInstanceOf(NullPointerException.class);
+        var operations = new ArrayList<String>();
+        parserContext.defer(() -> operations.add("first"));
+        parserContext.defer(() -> operations.add("second"));
+        parserContext.forEachDeferred(Runnable::run);
+        assertThat(operations).containsExactly("first", "second");
+
+        operations.clear();
+        parserContext.clear();
+        parserContext.forEachDeferred(Runnable::run);
+        assertThat(operations).isEmpty();
+    }
+
+    @Test
+    void detachAndAttach() {
+        var domain = domainBuilder.entity().get();
+        parserContext.add(domain);
+
+        var snapshot = parserContext.detach();
+        assertThat(getItems()).isEmpty();
+
+        var items = CompletableFuture.supplyAsync(() -> {
+                    parserContext.attach(snapshot);
+                    try {
+                        return getItems();
+                    } finally {
+                        parserContext.clear();
+                    }
+                })
+                .join();
+        assertThat(items).containsExactly(List.of(domain));
+        assertThatThrownBy(() -> parserContext.attach(null)).isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void forEachDependent() {
+        var entity = domainBuilder.entity().get();
+        var token = domainBuilder.token().get();
+        var tokenAccount = domainBuilder.tokenAccount().get();
+        parserContext.add(tokenAccount);
+        parserContext.add(entity);
+        parserContext.add(token);
+
+        var items = new ArrayList<Collection<?>>();
+        parserContext.forEachDependent(items::add);
+        assertThat(items).containsExactly(List.of(token), List.of(tokenAccount));
+    }
+
+    @Test
+    void forEachIndependent() {
+        var entity = domainBuilder.entity().get();
+        var cryptoTransfer = domainBuilder.cryptoTransfer().get();
+        var token = domainBuilder.token().get();
+        parserContext.add(token);
+        parserContext.add(entity);
+        parserContext.add(cryptoTransfer);
+
+        var items = new ArrayList<Collection<?>>();
+        parserContext.forEachIndependent(items::add);
+        assertThat(items).containsExactly(List.of(cryptoTransfer), List.of(entity));
+    }
+
     @Test
     void get() {
         assertThat(parserContext.get(Entity.class, 1L)).isNull();
@@ -88,6 +153,22 @@ class ParserContextTest {
         assertThat(getItems()).containsExactly(List.of());
     }
 
+    @Test
+    void removeDeferred() {
+        assertThatThrownBy(() -> parserContext.removeDeferred(null)).isInstanceOf(NullPointerException.class);
+        var domain = domainBuilder.entity().get();
+        parserContext.merge(domain.getId(), domain, (previous, current) -> current);
+
+        assertThat(parserContext.removeDeferred(Entity.class)).containsExactly(domain);
+        assertThat(getItems()).containsExactly(List.of());
+        assertThat(parserContext.get(Entity.class, domain.getId())).isNull();
+        assertThat(parserContext.getDeferred(Entity.class, domain.getId())).isSameAs(domain);
+        assertThat(parserContext.getDeferred(Entity.class, domain.getId() + 1)).isNull();
+
+        parserContext.clear();
+        assertThat(parserContext.getDeferred(Entity.class, domain.getId())).isNull();
+    }
+
     private Collection<Collection<?>> getItems() {
         var items = new ArrayList<Collection<?>>();
         parserContext.forEach(items::add);
@@ -16,6 +16,7 @@
 
 package com.hedera.mirror.importer.parser.record.entity.redis;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.timeout;
 import static org.mockito.Mockito.verify;
@@ -23,6 +24,7 @@ import static org.mockito.Mockito.when;
 
 import com.google.common.util.concurrent.Uninterruptibles;
 import com.hedera.mirror.common.domain.DomainBuilder;
+import com.hedera.mirror.common.domain.entity.EntityId;
 import com.hedera.mirror.common.domain.topic.StreamMessage;
 import com.hedera.mirror.common.domain.topic.TopicMessage;
 import com.hedera.mirror.importer.parser.record.entity.ParserContext;
@@ -107,6 +109,38 @@ class RedisPublisherTest {
         verify(redisOperations, timeout(TIMEOUT.toMillis()).times(2)).executePipelined(any(SessionCallback.class));
     }
 
+    @Test
+    void onShardedTopicMessages() {
+        // given
+        var meterRegistry = new SimpleMeterRegistry();
+        redisProperties.setShards(2);
+        entityListener = new RedisPublisher(redisProperties, redisOperations, meterRegistry, parserContext);
+        var topicMessage1 = domainBuilder
+                .topicMessage()
+                .customize(t -> t.topicId(EntityId.of(1001L)))
+                .get();
+        var topicMessage2 = domainBuilder
+                .topicMessage()
+                .customize(t -> t.topicId(EntityId.of(1002L)))
+                .get();
+        var topicMessage3 = domainBuilder
+                .topicMessage()
+                .customize(t -> t.topicId(EntityId.of(1001L)))
+                .get();
+
+        // when
+        parserContext.add(topicMessage1);
+        parserContext.add(topicMessage2);
+        parserContext.add(topicMessage3);
+        entityListener.onEnd(null);
+
+        // then
+        assertThat(RedisPublisher.getShard(topicMessage1, 2)).isEqualTo(RedisPublisher.getShard(topicMessage3, 2));
+        assertThat(RedisPublisher.getShard(topicMessage1, 2)).isNotEqualTo(RedisPublisher.getShard(topicMessage2, 2));
+        verify(redisOperations, timeout(TIMEOUT.toMillis()).times(2)).executePipelined(any(SessionCallback.class));
+        assertThat(meterRegistry.find("hedera.mirror.importer.publish.queue").gauges()).hasSize(2);
+    }
+
     protected TopicMessage topicMessage() {
         return domainBuilder.topicMessage().get();
     }
@@ -42,6 +42,7 @@ import com.hedera.mirror.common.domain.entity.TokenAllowance;
 import com.hedera.mirror.common.domain.schedule.Schedule;
 import com.hedera.mirror.common.domain.token.CustomFee;
 import com.hedera.mirror.common.domain.token.Nft;
+import com.hedera.mirror.common.domain.token.NftTransfer;
 import com.hedera.mirror.common.domain.token.Token;
 import com.hedera.mirror.common.domain.token.TokenAccount;
 import com.hedera.mirror.common.domain.token.TokenAirdrop;
@@ -138,6 +139,7 @@ class SqlEntityListenerTest extends ImporterIntegrationTest {
     private final DomainBuilder domainBuilder;
     private final EntityProperties entityProperties;
     private final EntityRepository entityRepository;
+    private final EntityStateCache entityStateCache;
     private final EntityTransactionRepository entityTransactionRepository;
     private final EthereumTransactionRepository ethereumTransactionRepository;
     private final FileDataRepository fileDataRepository;
@@ -178,6 +180,8 @@ class SqlEntityListenerTest extends ImporterIntegrationTest {
 
     @AfterEach
     void afterEach() {
+        sqlProperties.getCache().setEnabled(false);
+        sqlProperties.getFlush().setParallel(false);
         entityProperties.getPersist().setEntityHistory(true);
         entityProperties.getPersist().setTransactionHashTypes(defaultTransactionHashTypes);
         entityProperties.getPersist().setTransactionHash(true);
@@ -200,6 +204,32 @@ class SqlEntityListenerTest extends ImporterIntegrationTest {
         assertThat(findHistory(Entity.class)).isEmpty();
     }
 
+    @Test
+    void executeBatchParallel() {
+        // given
+        entityProperties.getPersist().setTrackBalance(false);
+        sqlProperties.getFlush().setParallel(true);
+        var cryptoTransfer = domainBuilder.cryptoTransfer().get();
+        var entity = domainBuilder.entity().get();
+        var tokenTransfer = domainBuilder.tokenTransfer().get();
+        var transaction = domainBuilder.transaction().get();
+
+        // when
+        sqlEntityListener.onCryptoTransfer(cryptoTransfer);
+        sqlEntityListener.onEntity(entity);
+        sqlEntityListener.onTokenTransfer(tokenTransfer);
+        sqlEntityListener.onTransaction(transaction);
+        completeFileAndCommit();
+
+        // then
+        assertThat(cryptoTransferRepository.findAll()).containsExactly(cryptoTransfer);
+        assertThat(entityRepository.findAll()).containsExactly(entity);
+        assertThat(tokenTransferRepository.findAll()).containsExactly(tokenTransfer);
+        assertThat(transactionRepository.findAll()).containsExactly(transaction);
+        assertThat(jdbcOperations.queryForObject("select count(*) from pg_prepared_xacts", Integer.class))
+                .isZero();
+    }
+
     @Test
     void isEnabled() {
         sqlProperties.setEnabled(false);
@@ -1122,6 +1152,69 @@ class SqlEntityListenerTest extends ImporterIntegrationTest {
         assertThat(findHistory(Entity.class)).containsExactly(mergedCreate, mergedUpdate);
     }
 
+    @Test
+    void onEntityWithStateCache() {
+        // given
+        sqlProperties.getCache().setEnabled(true);
+        var entity = domainBuilder.entity().get();
+        long timestamp = entity.getTimestampLower();
+        var balanceUpdate = balanceUpdate(entity, 100L, timestamp + 1);
+        var memoUpdate = entity.toEntityId().toEntity();
+        memoUpdate.setMemo("updated");
+        memoUpdate.setTimestampLower(timestamp + 2);
+        var balanceUpdate2 = balanceUpdate(entity, 10L, timestamp + 2);
+        var balanceUpdate3 = balanceUpdate(entity, 5L, timestamp + 3);
+
+        var expectedHistory = TestUtils.clone(entity);
+        expectedHistory.setBalance(entity.getBalance() + 100L);
+        expectedHistory.setBalanceTimestamp(timestamp + 1);
+        expectedHistory.setTimestampUpper(timestamp + 2);
+        var expected = TestUtils.clone(entity);
+        expected.setBalance(entity.getBalance() + 115L);
+        expected.setBalanceTimestamp(timestamp + 3);
+        expected.setMemo("updated");
+        expected.setTimestampLower(timestamp + 2);
+
+        // when
+        sqlEntityListener.onEntity(entity);
+        completeFileAndCommit();
+        sqlEntityListener.onEntity(balanceUpdate);
+        completeFileAndCommit();
+        sqlEntityListener.onEntity(balanceUpdate2);
+        sqlEntityListener.onEntity(memoUpdate);
+        completeFileAndCommit();
+        sqlEntityListener.onEntity(balanceUpdate3);
+        completeFileAndCommit();
+
+        // then
+        assertThat(entityRepository.findAll()).containsExactly(expected);
+        assertThat(findHistory(Entity.class)).containsExactly(expectedHistory);
+    }
+
+    @Test
+    void onEntityWithStateCacheInvalidated() {
+        // given
+        sqlProperties.getCache().setEnabled(true);
+        var entity = domainBuilder.entity().get();
+        long timestamp = entity.getTimestampLower();
+        sqlEntityListener.onEntity(entity);
+        completeFileAndCommit();
+        sqlEntityListener.onEntity(balanceUpdate(entity, 100L, timestamp + 1));
+        completeFileAndCommit();
+
+        // when
+        jdbcOperations.update("update entity set balance = 1000 where id = ?", entity.getId());
+        entityStateCache.invalidateAll();
+        sqlEntityListener.onEntity(balanceUpdate(entity, 5L, timestamp + 2));
+        completeFileAndCommit();
+
+        // then
+        assertThat(entityRepository.findById(entity.getId()))
+                .get()
+                .returns(1005L, Entity::getBalance)
+                .returns(timestamp + 2, Entity::getBalanceTimestamp);
+    }
+
     @Test
     void onEntityPersistOriginalHistoryCreatedTimestamp() {
         var entity1 = domainBuilder.entity().get();
@@ -2584,6 +2677,43 @@ class SqlEntityListenerTest extends ImporterIntegrationTest {
         assertThat(findHistory(TokenAccount.class)).isEmpty();
     }
 
+    @Test
+    void onTokenAccountClaimAfterTreasuryChange() {
+        // given
+        var tokenAccountAssociate = domainBuilder
+                .tokenAccount()
+                .customize(ta -> ta.associated(true))
+                .get();
+        var tokenAccountClaim = domainBuilder
+                .tokenAccount()
+                .customize(ta -> ta.claim(true)
+                        .accountId(tokenAccountAssociate.getAccountId())
+                        .tokenId(tokenAccountAssociate.getTokenId()))
+                .get();
+        var nftTransfer = domainBuilder
+                .nftTransfer()
+                .customize(t -> t.receiverAccountId(EntityId.of(tokenAccountAssociate.getAccountId()))
+                        .senderAccountId(domainBuilder.entityId())
+                        .serialNumber(NftTransfer.WILDCARD_SERIAL_NUMBER)
+                        .tokenId(EntityId.of(tokenAccountAssociate.getTokenId())))
+                .get();
+        var transaction = domainBuilder
+                .transaction()
+                .customize(t -> t.nftTransfer(List.of(nftTransfer)))
+                .get();
+
+        // when
+        sqlEntityListener.onTokenAccount(tokenAccountAssociate);
+        sqlEntityListener.onTransaction(transaction);
+        sqlEntityListener.onTokenAccount(tokenAccountClaim);
+        completeFileAndCommit();
+
+        // then the claim is ignored since the account is already associated
+        tokenAccountAssociate.setBalanceTimestamp(transaction.getConsensusTimestamp());
+        assertThat(tokenAccountRepository.findAll()).containsExactly(tokenAccountAssociate);
+        assertThat(findHistory(TokenAccount.class)).isEmpty();
+    }
+
     @Test
     void onTokenAccountDissociate() {
         EntityId tokenId1 = EntityId.of("0.0.3");
@@ -3446,6 +3576,14 @@ class SqlEntityListenerTest extends ImporterIntegrationTest {
         assertThat(ethereumTransactionRepository.findAll()).containsExactly(ethereumTransaction);
     }
 
+    private Entity balanceUpdate(Entity entity, long balance, long balanceTimestamp) {
+        var update = entity.toEntityId().toEntity();
+        update.setBalance(balance);
+        update.setBalanceTimestamp(balanceTimestamp);
+        update.setTimestampRange(null);
+        return update;
+    }
+
     private void completeFileAndCommit() {
         RecordFile recordFile =
                 domainBuilder.recordFile().customize(r -> r.sidecars(List.of())).get();
@@ -0,0 +1,175 @@
+/*
+ * Copyright (C) 2025 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.importer.parser.record.historicalbalance;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import com.hedera.mirror.common.domain.DomainBuilder;
+import com.hedera.mirror.common.domain.token.AbstractTokenAccount;
+import com.hedera.mirror.common.domain.token.NftTransfer;
+import com.hedera.mirror.common.domain.token.TokenTransfer;
+import com.hedera.mirror.importer.downloader.balance.BalanceDownloaderProperties;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class BalanceChangeTrackerTest {
+
+    private final DomainBuilder domainBuilder = new DomainBuilder();
+
+    private HistoricalBalanceProperties properties;
+    private BalanceChangeTracker tracker;
+
+    @BeforeEach
+    void setup() {
+        properties = new HistoricalBalanceProperties(mock(BalanceDownloaderProperties.class));
+        tracker = new BalanceChangeTracker(properties);
+    }
+
+    @Test
+    void isEnabled() {
+        assertThat(tracker.isEnabled()).isTrue();
+
+        properties.setIncremental(false);
+        assertThat(tracker.isEnabled()).isFalse();
+
+        properties.setIncremental(true);
+        properties.setEnabled(false);
+        assertThat(tracker.isEnabled()).isFalse();
+    }
+
+    @Test
+    void accounts() {
+        // given
+        var cryptoTransfer = domainBuilder.cryptoTransfer().get();
+        var entity = domainBuilder.entity().get();
+        var entityNoBalanceChange =
+                domainBuilder.entity().customize(e -> e.balanceTimestamp(null)).get();
+        var laterCryptoTransfer = domainBuilder
+                .cryptoTransfer()
+                .customize(c -> c.entityId(entity.getId()))
+                .get();
+
+        // when
+        tracker.onCryptoTransfer(cryptoTransfer);
+        tracker.onEntity(entity);
+        tracker.onEntity(entityNoBalanceChange);
+        tracker.onCryptoTransfer(laterCryptoTransfer);
+
+        // then
+        assertThat(tracker.getChanges(Long.MAX_VALUE).accounts())
+                .containsExactlyInAnyOrderEntriesOf(Map.of(
+                        cryptoTransfer.getEntityId(),
+                        cryptoTransfer.getConsensusTimestamp(),
+                        entity.getId(),
+                        laterCryptoTransfer.getConsensusTimestamp()));
+    }
+
+    @Test
+    void tokenAccounts() {
+        // given
+        var tokenAccount = domainBuilder.tokenAccount().get();
+        var tokenTransfer = domainBuilder.tokenTransfer().get();
+        var nftTransfer = domainBuilder.nftTransfer().get();
+        var treasuryUpdate = domainBuilder
+                .nftTransfer()
+                .customize(n -> n.serialNumber(NftTransfer.WILDCARD_SERIAL_NUMBER))
+                .get();
+        var transaction = domainBuilder
+                .transaction()
+                .customize(t -> t.nftTransfer(List.of(nftTransfer, treasuryUpdate)))
+                .get();
+
+        // when
+        tracker.onTokenAccount(tokenAccount);
+        tracker.onTokenTransfer(tokenTransfer);
+        tracker.onTransaction(transaction);
+
+        // then
+        long timestamp = transaction.getConsensusTimestamp();
+        assertThat(tracker.getChanges(Long.MAX_VALUE).tokenAccounts())
+                .containsExactlyInAnyOrderEntriesOf(Map.of(
+                        tokenAccount.getId(),
+                        tokenAccount.getBalanceTimestamp(),
+                        id(tokenTransfer),
+                        tokenTransfer.getId().getConsensusTimestamp(),
+                        id(nftTransfer, true),
+                        timestamp,
+                        id(nftTransfer, false),
+                        timestamp,
+                        id(treasuryUpdate, true),
+                        timestamp,
+                        id(treasuryUpdate, false),
+                        timestamp));
+    }
+
+    @Test
+    void getChangesAndRemove() {
+        // given
+        var cryptoTransfer1 = domainBuilder.cryptoTransfer().get();
+        var cryptoTransfer2 = domainBuilder.cryptoTransfer().get();
+        tracker.onCryptoTransfer(cryptoTransfer1);
+        tracker.onCryptoTransfer(cryptoTransfer2);
+
+        // when
+        var changes = tracker.getChanges(cryptoTransfer1.getConsensusTimestamp());
+
+        // then
+        assertThat(changes.accounts())
+                .containsExactlyEntriesOf(
+                        Map.of(cryptoTransfer1.getEntityId(), cryptoTransfer1.getConsensusTimestamp()));
+
+        // when the account changes again before the changes are removed
+        var cryptoTransfer3 = domainBuilder
+                .cryptoTransfer()
+                .customize(c -> c.entityId(cryptoTransfer1.getEntityId()))
+                .get();
+        tracker.onCryptoTransfer(cryptoTransfer3);
+        tracker.remove(changes);
+
+        // then
+        assertThat(tracker.getChanges(Long.MAX_VALUE).accounts())
+                .containsExactlyInAnyOrderEntriesOf(Map.of(
+                        cryptoTransfer1.getEntityId(),
+                        cryptoTransfer3.getConsensusTimestamp(),
+                        cryptoTransfer2.getEntityId(),
+                        cryptoTransfer2.getConsensusTimestamp()));
+
+        // when
+        tracker.remove(tracker.getChanges(Long.MAX_VALUE));
+
+        // then
+        assertThat(tracker.getChanges(Long.MAX_VALUE).accounts()).isEmpty();
+    }
+
+    private AbstractTokenAccount.Id id(TokenTransfer tokenTransfer) {
+        var id = new AbstractTokenAccount.Id();
+        id.setAccountId(tokenTransfer.getId().getAccountId().getId());
+        id.setTokenId(tokenTransfer.getId().getTokenId().getId());
+        return id;
+    }
+
+    private AbstractTokenAccount.Id id(NftTransfer nftTransfer, boolean sender) {
+        var accountId = sender ? nftTransfer.getSenderAccountId() : nftTransfer.getReceiverAccountId();
+        var id = new AbstractTokenAccount.Id();
+        id.setAccountId(accountId.getId());
+        id.setTokenId(nftTransfer.getTokenId().getId());
+        return id;
+    }
+}
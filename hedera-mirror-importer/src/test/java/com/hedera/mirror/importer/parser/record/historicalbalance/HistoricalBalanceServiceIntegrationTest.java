@@ -56,7 +56,7 @@ import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.params.ParameterizedTest;
-import org.junit.jupiter.params.provider.ValueSource;
+import org.junit.jupiter.params.provider.CsvSource;
 import org.springframework.boot.autoconfigure.flyway.FlywayProperties;
 import org.springframework.boot.test.system.CapturedOutput;
 import org.springframework.boot.test.system.OutputCaptureExtension;
@@ -73,6 +73,7 @@ class HistoricalBalanceServiceIntegrationTest extends ImporterIntegrationTest {
     private final AccountBalanceFileRepository accountBalanceFileRepository;
     private final AccountBalanceRepository accountBalanceRepository;
     private final ApplicationEventPublisher applicationEventPublisher;
+    private final BalanceChangeTracker balanceChangeTracker;
     private final EntityRepository entityRepository;
     private final FlywayProperties flywayProperties;
     private final HistoricalBalanceProperties properties;
@@ -157,14 +158,16 @@ class HistoricalBalanceServiceIntegrationTest extends ImporterIntegrationTest {
 
     @AfterEach
     void resetProperties() {
+        properties.setIncremental(true);
         properties.setTokenBalances(true);
     }
 
     @ParameterizedTest
-    @ValueSource(booleans = {true, false})
-    void generate(boolean tokenBalances) {
+    @CsvSource({"true, true", "true, false", "false, true", "false, false"})
+    void generate(boolean tokenBalances, boolean incremental) {
         // given
         setup();
+        properties.setIncremental(incremental);
         properties.setTokenBalances(tokenBalances);
         var existinigAccountBalanceFile = domainBuilder
                 .accountBalanceFile()
@@ -210,6 +213,11 @@ class HistoricalBalanceServiceIntegrationTest extends ImporterIntegrationTest {
                 .tokenAccount()
                 .customize(ta -> ta.accountId(account.getId()).balanceTimestamp(account.getBalanceTimestamp()))
                 .persist();
+        // track the changes as the parser would have
+        balanceChangeTracker.onEntity(account);
+        balanceChangeTracker.onEntity(newAccount);
+        balanceChangeTracker.onTokenAccount(tokenAccount);
+        balanceChangeTracker.onTokenAccount(newTokenAccount);
         updatedEntities = List.of(treasuryAccount, account, newAccount);
         var updatedTokenAccounts = List.of(tokenAccount, newTokenAccount);
 
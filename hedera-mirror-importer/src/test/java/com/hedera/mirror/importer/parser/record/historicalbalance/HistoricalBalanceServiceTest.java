@@ -38,6 +38,7 @@ import org.awaitility.Durations;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcOperations;
 import org.springframework.transaction.PlatformTransactionManager;
 
 @ExtendWith(MockitoExtension.class)
@@ -48,6 +49,8 @@ class HistoricalBalanceServiceTest {
         // given
         var accountBalanceFileRepository = mock(AccountBalanceFileRepository.class);
         var accountBalanceRepository = mock(AccountBalanceRepository.class);
+        var balanceChangeTracker = mock(BalanceChangeTracker.class);
+        var jdbcOperations = mock(JdbcOperations.class);
         var balanceDownloaderProperties = mock(BalanceDownloaderProperties.class);
         var platformTransactionManager = mock(PlatformTransactionManager.class);
         var recordFileRepository = mock(RecordFileRepository.class);
@@ -69,6 +72,8 @@ class HistoricalBalanceServiceTest {
         var service = new HistoricalBalanceService(
                 accountBalanceFileRepository,
                 accountBalanceRepository,
+                balanceChangeTracker,
+                jdbcOperations,
                 new SimpleMeterRegistry(),
                 platformTransactionManager,
                 historicalBalanceProperties,
@@ -0,0 +1,190 @@
+/*
+ * Copyright (C) 2025 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.importer.parser.record.pubsub;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.after;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.cloud.pubsub.v1.Publisher;
+import com.google.cloud.spring.pubsub.core.PubSubTemplate;
+import com.google.cloud.spring.pubsub.support.PublisherFactory;
+import com.google.cloud.spring.pubsub.support.converter.JacksonPubSubMessageConverter;
+import com.google.pubsub.v1.PubsubMessage;
+import com.hedera.mirror.common.domain.entity.EntityId;
+import com.hedera.mirror.importer.exception.ParserException;
+import com.hedera.mirror.importer.parser.domain.PubSubMessage;
+import com.hederahashgraph.api.proto.java.SignatureMap;
+import com.hederahashgraph.api.proto.java.TransactionBody;
+import com.hederahashgraph.api.proto.java.TransactionRecord;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.zip.GZIPInputStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class PubSubPublisherTest {
+
+    private static final Map<String, String> HEADER = Map.of("consensusTimestamp", "1");
+    private static final String TOPIC_NAME = "topic-name";
+
+    @Mock
+    private PubSubTemplate pubSubTemplate;
+
+    @Mock
+    private PublisherFactory publisherFactory;
+
+    private PubSubProperties pubSubProperties;
+    private PubSubPublisher pubSubPublisher;
+
+    @BeforeEach
+    void setup() {
+        pubSubProperties = new PubSubProperties();
+        pubSubProperties.setTopicName(TOPIC_NAME);
+        pubSubProperties.setMaxInFlight(1);
+        pubSubPublisher = new PubSubPublisher(pubSubProperties, pubSubTemplate, publisherFactory);
+    }
+
+    @Test
+    void await() {
+        doReturn(CompletableFuture.completedFuture("1")).when(pubSubTemplate).publish(any(), any(), any());
+
+        pubSubPublisher.publish(message(EntityId.of(1000L)), HEADER);
+        pubSubPublisher.publish(message(EntityId.of(1001L)), HEADER);
+        pubSubPublisher.await();
+
+        verify(pubSubTemplate, times(2)).publish(any(), any(), any());
+    }
+
+    @Test
+    void awaitFailure() {
+        pubSubProperties.setMaxSendAttempts(1);
+        doReturn(CompletableFuture.failedFuture(new RuntimeException("error")))
+                .when(pubSubTemplate)
+                .publish(any(), any(), any());
+
+        pubSubPublisher.publish(message(EntityId.of(1000L)), HEADER);
+
+        assertThatThrownBy(pubSubPublisher::await)
+                .isInstanceOf(ParserException.class)
+                .hasMessageContaining("Error sending transactions to pubsub");
+        verify(pubSubTemplate, times(2)).publish(any(), any(), any());
+
+        // Failures are only reported once
+        pubSubPublisher.await();
+    }
+
+    @Test
+    void awaitTimeout() {
+        pubSubProperties.setPublishTimeout(Duration.ofMillis(10L));
+        doReturn(new CompletableFuture<String>()).when(pubSubTemplate).publish(any(), any(), any());
+
+        pubSubPublisher.publish(message(EntityId.of(1000L)), HEADER);
+
+        assertThatThrownBy(pubSubPublisher::await)
+                .isInstanceOf(ParserException.class)
+                .hasMessageContaining("Timed out");
+    }
+
+    @Test
+    void maxInFlight() {
+        var future = new CompletableFuture<String>();
+        doReturn(future).when(pubSubTemplate).publish(any(), any(), any());
+
+        pubSubPublisher.publish(message(EntityId.of(1000L)), HEADER);
+        var blocked = CompletableFuture.runAsync(() -> pubSubPublisher.publish(message(EntityId.of(1001L)), HEADER));
+
+        verify(pubSubTemplate, after(200L).times(1)).publish(any(), any(), any());
+        assertThat(blocked).isNotDone();
+
+        future.complete("1");
+        blocked.join();
+        pubSubPublisher.await();
+        verify(pubSubTemplate, times(2)).publish(any(), any(), any());
+    }
+
+    @Test
+    void compressAndOrdering() throws IOException {
+        // given
+        var converter = new JacksonPubSubMessageConverter(new ObjectMapper());
+        var entityId = EntityId.of(1000L);
+        var message = message(entityId);
+        pubSubProperties.setCompress(true);
+        pubSubProperties.setOrdering(true);
+        when(pubSubTemplate.getMessageConverter()).thenReturn(converter);
+        doReturn(CompletableFuture.completedFuture("1"))
+                .when(pubSubTemplate)
+                .publish(anyString(), any(PubsubMessage.class));
+
+        // when
+        pubSubPublisher.publish(message, HEADER);
+        pubSubPublisher.await();
+
+        // then
+        var captor = ArgumentCaptor.forClass(PubsubMessage.class);
+        verify(pubSubTemplate).publish(any(), captor.capture());
+        var pubsubMessage = captor.getValue();
+        var expected = converter.toPubSubMessage(message, HEADER);
+        assertThat(pubsubMessage.getOrderingKey()).isEqualTo(entityId.toString());
+        assertThat(pubsubMessage.getAttributesMap())
+                .containsAllEntriesOf(HEADER)
+                .containsEntry(PubSubPublisher.CONTENT_ENCODING, PubSubPublisher.GZIP);
+        try (var input = new GZIPInputStream(pubsubMessage.getData().newInput())) {
+            assertThat(input.readAllBytes()).isEqualTo(expected.getData().toByteArray());
+        }
+    }
+
+    @Test
+    void orderingResumedOnRetry() {
+        var publisher = mock(Publisher.class);
+        var entityId = EntityId.of(1000L);
+        pubSubProperties.setMaxSendAttempts(1);
+        pubSubProperties.setOrdering(true);
+        when(pubSubTemplate.getMessageConverter()).thenReturn(new JacksonPubSubMessageConverter(new ObjectMapper()));
+        when(pubSubTemplate.publish(anyString(), any(PubsubMessage.class)))
+                .thenReturn(CompletableFuture.failedFuture(new RuntimeException("error")))
+                .thenReturn(CompletableFuture.completedFuture("1"));
+        when(publisherFactory.createPublisher(TOPIC_NAME)).thenReturn(publisher);
+
+        pubSubPublisher.publish(message(entityId), HEADER);
+        pubSubPublisher.await();
+
+        verify(publisher).resumePublish(entityId.toString());
+        verify(pubSubTemplate, times(2)).publish(anyString(), any(PubsubMessage.class));
+    }
+
+    private PubSubMessage message(EntityId entityId) {
+        var transaction =
+                new PubSubMessage.Transaction(TransactionBody.getDefaultInstance(), SignatureMap.getDefaultInstance());
+        return new PubSubMessage(1L, entityId, 14, transaction, TransactionRecord.getDefaultInstance(), null);
+    }
+}
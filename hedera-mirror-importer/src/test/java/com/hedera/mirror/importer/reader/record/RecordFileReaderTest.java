@@ -79,7 +79,8 @@ abstract class RecordFileReaderTest {
                             .usingRecursiveComparison()
                             .ignoringFields("bytes", "items", "loadStart", "logsBloomAggregator")
                             .isEqualTo(recordFile);
-                    assertThat(actual.getBytes()).isNotEmpty().isEqualTo(streamFileData.getBytes());
+                    assertThat(actual.getBytes()).isNull();
+                    assertThat(actual.getSize()).isEqualTo(streamFileData.getSize());
                     assertThat(actual.getLoadStart()).isNotNull().isPositive();
 
                     List<Version> hapiVersions = actual.getItems().stream()
@@ -0,0 +1,117 @@
+/*
+ * Copyright (C) 2025 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.importer.reconciliation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.Test;
+
+class BalanceMapTest {
+
+    @Test
+    void putAndGet() {
+        var balanceMap = new BalanceMap(true);
+        balanceMap.put(2L, 100L, 10L);
+        balanceMap.put(2L, 101L, 20L);
+        balanceMap.put(2L, 100L, 30L);
+        balanceMap.put(0L, 0L, 40L);
+
+        assertThat(balanceMap.size()).isEqualTo(3);
+        assertThat(balanceMap.get(2L, 100L)).isEqualTo(30L);
+        assertThat(balanceMap.get(2L, 101L)).isEqualTo(20L);
+        assertThat(balanceMap.get(0L, 0L)).isEqualTo(40L);
+        assertThat(balanceMap.get(3L, 100L)).isZero();
+    }
+
+    @Test
+    void merge() {
+        var balanceMap = new BalanceMap(false);
+        balanceMap.merge(2L, 0L, 10L);
+        balanceMap.merge(2L, 0L, -3L);
+        balanceMap.merge(0L, 0L, 5L);
+        balanceMap.merge(0L, 0L, 5L);
+
+        assertThat(balanceMap.size()).isEqualTo(2);
+        assertThat(balanceMap.get(2L, 0L)).isEqualTo(7L);
+        assertThat(balanceMap.get(0L, 0L)).isEqualTo(10L);
+    }
+
+    @Test
+    void mergeOverflow() {
+        var balanceMap = new BalanceMap(false);
+        balanceMap.put(2L, 0L, Long.MAX_VALUE);
+        assertThatThrownBy(() -> balanceMap.merge(2L, 0L, 1L)).isInstanceOf(ArithmeticException.class);
+    }
+
+    @Test
+    void rehash() {
+        int count = 100_000;
+        var balanceMap = new BalanceMap(false);
+        for (long i = 1; i <= count; i++) {
+            balanceMap.put(i, 0L, i * 2);
+        }
+
+        assertThat(balanceMap.size()).isEqualTo(count);
+        for (long i = 1; i <= count; i++) {
+            assertThat(balanceMap.get(i, 0L)).isEqualTo(i * 2);
+        }
+    }
+
+    @Test
+    void isEquivalent() {
+        var left = new BalanceMap(false);
+        left.put(2L, 0L, 10L);
+        left.put(3L, 0L, 0L);
+        var right = new BalanceMap(false, 10);
+        right.put(2L, 0L, 10L);
+        right.put(4L, 0L, 0L);
+
+        assertThat(left.isEquivalent(right)).isTrue();
+        assertThat(right.isEquivalent(left)).isTrue();
+
+        right.put(4L, 0L, 1L);
+        assertThat(left.isEquivalent(right)).isFalse();
+        assertThat(right.isEquivalent(left)).isFalse();
+    }
+
+    @Test
+    void difference() {
+        var left = new BalanceMap(false);
+        left.put(2L, 0L, 10L);
+        left.put(3L, 0L, 5L);
+        left.put(5L, 0L, 0L);
+        var right = new BalanceMap(false);
+        right.put(2L, 0L, 9L);
+        right.put(4L, 0L, 1L);
+
+        assertThat(left.difference(right))
+                .isEqualTo("not equal: only on left={3=5}: only on right={4=1}: value differences={2=(10, 9)}");
+    }
+
+    @Test
+    void differenceToken() {
+        var left = new BalanceMap(true);
+        left.put(2L, 100L, 10L);
+        var right = new BalanceMap(true);
+        right.put(2L, 100L, 9L);
+
+        assertThat(left.difference(right))
+                .isEqualTo("not equal: value differences={BalanceReconciliationService.TokenAccountId(accountId=2, "
+                        + "tokenId=100)=(10, 9)}");
+    }
+}
@@ -183,6 +183,59 @@ class GenericUpsertQueryGeneratorTest extends ImporterIntegrationTest {
         assertThat(format(generator.getUpsertQuery())).isEqualTo(format(sql));
     }
 
+    @Test
+    void getCustomFeeResolvedUpsertQuery() {
+        var sql =
+                """
+                with history as (
+                  insert into
+                    custom_fee_history (
+                      entity_id,
+                      fixed_fees,
+                      fractional_fees,
+                      royalty_fees,
+                      timestamp_range
+                    )
+                  select
+                    entity_id,
+                    fixed_fees,
+                    fractional_fees,
+                    royalty_fees,
+                    timestamp_range
+                  from
+                    custom_fee_temp
+                  where
+                    upper(timestamp_range) is not null
+                )
+                insert into
+                  custom_fee (
+                    entity_id,
+                    fixed_fees,
+                    fractional_fees,
+                    royalty_fees,
+                    timestamp_range
+                  )
+                select
+                  entity_id,
+                  fixed_fees,
+                  fractional_fees,
+                  royalty_fees,
+                  timestamp_range
+                from
+                  custom_fee_temp
+                where
+                  upper(timestamp_range) is null on conflict (entity_id) do
+                update
+                set
+                  fixed_fees = excluded.fixed_fees,
+                  fractional_fees = excluded.fractional_fees,
+                  royalty_fees = excluded.royalty_fees,
+                  timestamp_range = excluded.timestamp_range
+                """;
+        var generator = factory.get(CustomFee.class);
+        assertThat(format(generator.getResolvedUpsertQuery().orElseThrow())).isEqualTo(format(sql));
+    }
+
     @Test
     void getUpsertQueryHistory() {
         var sql =
@@ -41,6 +41,7 @@ class RetentionJobTest extends ImporterIntegrationTest {
     @BeforeEach
     void setup() {
         retentionProperties.setBatchPeriod(Duration.ofSeconds(1L));
+        retentionProperties.setDropPartitions(false);
         retentionProperties.setExclude(Collections.emptySet());
         retentionProperties.setInclude(Collections.emptySet());
         retentionProperties.setPeriod(Duration.ofDays(-1L));
@@ -182,6 +183,24 @@ class RetentionJobTest extends ImporterIntegrationTest {
         assertThat(transactionRepository.count()).isZero();
     }
 
+    @Test
+    void pruneDropPartitions() {
+        // given
+        retentionProperties.setDropPartitions(true);
+        recordFile();
+        var recordFile2 = recordFile();
+        var recordFile3 = recordFile();
+        var period = recordFile3.getConsensusEnd() - recordFile2.getConsensusEnd() - 1;
+        retentionProperties.setPeriod(Duration.ofSeconds(0, period));
+
+        // when
+        retentionJob.prune();
+
+        // then
+        assertThat(recordFileRepository.findAll()).containsExactly(recordFile3);
+        assertThat(transactionRepository.count()).isEqualTo(1);
+    }
+
     private RecordFile recordFile() {
         var recordFile = domainBuilder.recordFile().persist();
         domainBuilder
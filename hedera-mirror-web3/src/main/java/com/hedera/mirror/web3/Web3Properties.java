@@ -25,6 +25,18 @@ import org.springframework.validation.annotation.Validated;
 @ConfigurationProperties(prefix = "hedera.mirror.web3")
 @Validated
 public class Web3Properties {
+    /**
+     * The maximum number of calls in a single batch contract call request that are executed concurrently
+     */
+    @Positive
+    private int maxBatchConcurrency = 4;
+
+    /**
+     * The maximum number of calls in a single batch contract call request
+     */
+    @Positive
+    private int maxBatchSize = 25;
+
     @Positive
     private int maxPayloadLogSize = 300;
 }
@@ -18,6 +18,7 @@ package com.hedera.mirror.web3.common;
 
 import com.hedera.mirror.common.domain.contract.ContractAction;
 import com.hedera.mirror.common.domain.transaction.RecordFile;
+import com.hedera.mirror.web3.evm.contracts.execution.traceability.MemoryChangeTracker;
 import com.hedera.mirror.web3.evm.contracts.execution.traceability.Opcode;
 import com.hedera.mirror.web3.evm.contracts.execution.traceability.OpcodeTracer;
 import com.hedera.mirror.web3.evm.contracts.execution.traceability.OpcodeTracerOptions;
@@ -31,6 +32,8 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
 import java.util.function.Function;
 import lombok.AccessLevel;
 import lombok.Getter;
@@ -40,6 +43,7 @@ import lombok.Setter;
 public class ContractCallContext {
 
     public static final String CONTEXT_NAME = "ContractCallContext";
+    private static final Object NULL_VALUE = new Object();
     private static final ScopedValue<ContractCallContext> SCOPED_VALUE = ScopedValue.newInstance();
 
     @Setter
@@ -59,6 +63,18 @@ public class ContractCallContext {
     @Setter
     private List<Opcode> opcodes = new ArrayList<>();
 
+    /**
+     * When set, traced opcodes are passed to this listener instead of being collected in {@link #opcodes}.
+     */
+    @Setter
+    private Consumer<Opcode> opcodeListener;
+
+    /**
+     * Tracks the memory changes of each call frame while the traced opcodes are passed to the {@link #opcodeListener}.
+     */
+    @Setter
+    private MemoryChangeTracker memoryChangeTracker;
+
     @Setter
     private CallServiceParameters callServiceParameters;
 
@@ -81,20 +97,52 @@ public class ContractCallContext {
     @Getter(AccessLevel.NONE)
     private Map<String, Map<Object, Object>> writeCache = new HashMap<>();
 
+    /**
+     * State read from the database by any execution of this call. Unlike the read cache, it's never cleared so repeated
+     * executions of the same call, such as the iterations of eth_estimateGas, only read the database once per key. It
+     * can also be shared by calls against the same block that run concurrently, so it's thread safe.
+     */
+    @Getter(AccessLevel.NONE)
+    private final Map<String, Map<Object, Object>> snapshot;
+
+    /**
+     * The number of state reads that weren't served from memory across all executions of this call.
+     */
+    private int databaseReads;
+
     /**
      * The timestamp used to fetch the state from the stackedStateFrames.
      */
     @Setter
     private Optional<Long> timestamp = Optional.empty();
 
-    private ContractCallContext() {}
+    private ContractCallContext(Map<String, Map<Object, Object>> snapshot) {
+        this.snapshot = snapshot;
+    }
 
     public static ContractCallContext get() {
         return SCOPED_VALUE.get();
     }
 
+    public static boolean isInitialized() {
+        return SCOPED_VALUE.isBound();
+    }
+
     public static <T> T run(Function<ContractCallContext, T> function) {
-        return ScopedValue.getWhere(SCOPED_VALUE, new ContractCallContext(), () -> function.apply(SCOPED_VALUE.get()));
+        return run(newSnapshot(), function);
+    }
+
+    /**
+     * Runs the function in a new context that reads state through the given snapshot, which may be shared with other
+     * contexts of calls against the same block.
+     */
+    public static <T> T run(Map<String, Map<Object, Object>> snapshot, Function<ContractCallContext, T> function) {
+        var context = new ContractCallContext(snapshot);
+        return ScopedValue.getWhere(SCOPED_VALUE, context, () -> function.apply(SCOPED_VALUE.get()));
+    }
+
+    public static Map<String, Map<Object, Object>> newSnapshot() {
+        return new ConcurrentHashMap<>();
     }
 
     public void reset() {
@@ -121,7 +169,11 @@ public class ContractCallContext {
     }
 
     public void addOpcodes(Opcode opcode) {
-        opcodes.add(opcode);
+        if (opcodeListener != null) {
+            opcodeListener.accept(opcode);
+        } else {
+            opcodes.add(opcode);
+        }
     }
 
     /**
@@ -172,4 +224,31 @@ public class ContractCallContext {
     public Map<Object, Object> getWriteCacheState(final String stateKey) {
         return writeCache.computeIfAbsent(stateKey, k -> new HashMap<>());
     }
+
+    public void incrementDatabaseReads() {
+        databaseReads++;
+    }
+
+    /**
+     * Reads the state for the key from the snapshot shared by all executions of this call, loading it from the database
+     * on the first read. Writes are not reflected in the snapshot so they stay isolated to each execution.
+     *
+     * @param stateKey the state the key belongs to
+     * @param key      the key to read
+     * @param loader   reads the value from the database
+     * @return the value, or null if the key doesn't exist
+     */
+    @SuppressWarnings("unchecked")
+    public <K, V> V readThrough(final String stateKey, final K key, final Function<K, V> loader) {
+        final var state = snapshot.computeIfAbsent(stateKey, k -> new ConcurrentHashMap<>());
+        final var cached = state.get(key);
+        if (cached != null) {
+            return cached == NULL_VALUE ? null : (V) cached;
+        }
+
+        incrementDatabaseReads();
+        final var value = loader.apply(key);
+        state.put(key, value != null ? value : NULL_VALUE);
+        return value;
+    }
 }
@@ -20,18 +20,29 @@ import static com.hedera.mirror.web3.config.ThrottleConfiguration.GAS_LIMIT_BUCK
 import static com.hedera.mirror.web3.config.ThrottleConfiguration.RATE_LIMIT_BUCKET;
 import static com.hedera.mirror.web3.service.model.CallServiceParameters.CallType.ETH_CALL;
 import static com.hedera.mirror.web3.service.model.CallServiceParameters.CallType.ETH_ESTIMATE_GAS;
+import static org.springframework.http.HttpStatus.INTERNAL_SERVER_ERROR;
 
+import com.hedera.mirror.web3.Web3Properties;
 import com.hedera.mirror.web3.evm.properties.MirrorNodeEvmProperties;
 import com.hedera.mirror.web3.exception.InvalidParametersException;
+import com.hedera.mirror.web3.exception.MirrorEvmTransactionException;
 import com.hedera.mirror.web3.exception.RateLimitException;
 import com.hedera.mirror.web3.service.ContractExecutionService;
 import com.hedera.mirror.web3.service.model.ContractExecutionParameters;
 import com.hedera.mirror.web3.throttle.ThrottleProperties;
+import com.hedera.mirror.web3.viewmodel.ContractCallBatchRequest;
+import com.hedera.mirror.web3.viewmodel.ContractCallBatchResponse;
 import com.hedera.mirror.web3.viewmodel.ContractCallRequest;
 import com.hedera.mirror.web3.viewmodel.ContractCallResponse;
+import com.hedera.mirror.web3.viewmodel.GenericErrorResponse;
 import com.hedera.node.app.service.evm.store.models.HederaEvmAccount;
 import io.github.bucket4j.Bucket;
 import jakarta.validation.Valid;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import lombok.CustomLog;
 import lombok.RequiredArgsConstructor;
 import org.apache.tuweni.bytes.Bytes;
@@ -60,6 +71,8 @@ class ContractController {
 
     private final ThrottleProperties throttleProperties;
 
+    private final Web3Properties web3Properties;
+
     @PostMapping(value = "/call")
     ContractCallResponse call(@RequestBody @Valid ContractCallRequest request) {
 
@@ -86,6 +99,85 @@ class ContractController {
         }
     }
 
+    /**
+     * Executes up to the configured maximum number of calls against one shared state snapshot. The batch is throttled
+     * as a whole and a failed call doesn't fail the others, so each call's result or error is returned in order.
+     */
+    @PostMapping(value = "/call/batch")
+    ContractCallBatchResponse callBatch(@RequestBody @Valid ContractCallBatchRequest request) {
+        final var calls = request.getCalls();
+        final var maxBatchSize = web3Properties.getMaxBatchSize();
+
+        if (calls.size() > maxBatchSize) {
+            throw new InvalidParametersException(
+                    "calls field must not contain more than %d calls".formatted(maxBatchSize));
+        }
+
+        final var gasUnit = throttleProperties.getGasUnit();
+        final var gasUnits =
+                calls.stream().mapToLong(c -> Math.floorDiv(c.getGas(), gasUnit)).sum();
+
+        if (!rateLimitBucket.tryConsume(calls.size())) {
+            throw new RateLimitException("Requests per second rate limit exceeded.");
+        } else if (!gasLimitBucket.tryConsume(gasUnits)) {
+            throw new RateLimitException("Gas per second rate limit exceeded.");
+        }
+
+        final var results = new Object[calls.size()];
+        final var indexes = new ArrayList<Integer>(calls.size());
+        final var params = new ArrayList<ContractExecutionParameters>(calls.size());
+
+        for (int i = 0; i < calls.size(); i++) {
+            final var call = calls.get(i);
+            try {
+                validateContractData(call);
+                validateContractMaxGasLimit(call);
+                params.add(constructServiceParameters(call));
+                indexes.add(i);
+            } catch (InvalidParametersException e) {
+                // The validation failed but no processing was made - restore the consumed gas back to the bucket.
+                gasLimitBucket.addTokens(Math.floorDiv(call.getGas(), gasUnit));
+                results[i] = toErrorResponse(e, call);
+            }
+        }
+
+        final var futures = params.isEmpty()
+                ? List.<CompletableFuture<String>>of()
+                : contractExecutionService.processCalls(params);
+
+        for (int i = 0; i < futures.size(); i++) {
+            final int index = indexes.get(i);
+            try {
+                results[index] = new ContractCallResponse(futures.get(i).join());
+            } catch (CompletionException e) {
+                results[index] = toErrorResponse(e.getCause(), calls.get(index));
+            }
+        }
+
+        return new ContractCallBatchResponse(Arrays.asList(results));
+    }
+
+    /*
+     * Maps the error of a call in a batch to the response GenericControllerAdvice would return for it on its own.
+     */
+    private GenericErrorResponse toErrorResponse(Throwable e, ContractCallRequest request) {
+        final var status = ErrorResponseMapper.getStatus(e);
+
+        if (e instanceof MirrorEvmTransactionException me) {
+            log.warn(
+                    "Mirror EVM transaction error: {}, detail: {}, data: {}",
+                    me.getMessage(),
+                    me.getDetail(),
+                    me.getData());
+        } else if (e instanceof QueryTimeoutException) {
+            log.error("Query timed out: {} request: {}", e.getMessage(), request);
+        } else if (status == INTERNAL_SERVER_ERROR) {
+            log.error("Generic error: ", e);
+        }
+
+        return ErrorResponseMapper.toErrorResponse(e, status);
+    }
+
     private ContractExecutionParameters constructServiceParameters(ContractCallRequest request) {
         final var fromAddress = request.getFrom() != null ? Address.fromHexString(request.getFrom()) : Address.ZERO;
         final var sender = new HederaEvmAccount(fromAddress);
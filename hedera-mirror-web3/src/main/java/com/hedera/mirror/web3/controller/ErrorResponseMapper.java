@@ -0,0 +1,76 @@
+/*
+ * Copyright (C) 2025 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.web3.controller;
+
+import static org.springframework.http.HttpStatus.BAD_REQUEST;
+import static org.springframework.http.HttpStatus.INTERNAL_SERVER_ERROR;
+import static org.springframework.http.HttpStatus.NOT_FOUND;
+import static org.springframework.http.HttpStatus.NOT_IMPLEMENTED;
+import static org.springframework.http.HttpStatus.SERVICE_UNAVAILABLE;
+import static org.springframework.http.HttpStatus.TOO_MANY_REQUESTS;
+
+import com.hedera.mirror.web3.evm.exception.PrecompileNotSupportedException;
+import com.hedera.mirror.web3.exception.EntityNotFoundException;
+import com.hedera.mirror.web3.exception.InvalidInputException;
+import com.hedera.mirror.web3.exception.MirrorEvmTransactionException;
+import com.hedera.mirror.web3.exception.RateLimitException;
+import com.hedera.mirror.web3.viewmodel.GenericErrorResponse;
+import lombok.experimental.UtilityClass;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.converter.HttpMessageConversionException;
+
+/**
+ * Maps the exceptions thrown while processing a call to the status and error response returned for them. Shared by
+ * {@link GenericControllerAdvice} and the batch call endpoint, so a call in a batch fails the same way it would on its
+ * own.
+ */
+@UtilityClass
+class ErrorResponseMapper {
+
+    static HttpStatus getStatus(Throwable e) {
+        if (e instanceof MirrorEvmTransactionException
+                || e instanceof HttpMessageConversionException
+                || e instanceof IllegalArgumentException
+                || e instanceof InvalidInputException) {
+            return BAD_REQUEST;
+        } else if (e instanceof EntityNotFoundException) {
+            return NOT_FOUND;
+        } else if (e instanceof QueryTimeoutException) {
+            return SERVICE_UNAVAILABLE;
+        } else if (e instanceof PrecompileNotSupportedException) {
+            // Temporary, for forthcoming features that are not yet available such as the absence of a precompile
+            return NOT_IMPLEMENTED;
+        } else if (e instanceof RateLimitException) {
+            return TOO_MANY_REQUESTS;
+        }
+
+        return INTERNAL_SERVER_ERROR;
+    }
+
+    static GenericErrorResponse toErrorResponse(Throwable e, HttpStatusCode statusCode) {
+        if (e instanceof MirrorEvmTransactionException me) {
+            return new GenericErrorResponse(me.getMessage(), me.getDetail(), me.getData());
+        }
+
+        var message = statusCode instanceof HttpStatus hs ? hs.getReasonPhrase() : statusCode.toString();
+        var detail = !statusCode.is5xxServerError() ? e.getMessage() : StringUtils.EMPTY; // Don't leak server errors
+        return new GenericErrorResponse(message, detail, StringUtils.EMPTY);
+    }
+}
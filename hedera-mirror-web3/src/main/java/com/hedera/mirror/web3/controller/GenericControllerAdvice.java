@@ -18,10 +18,6 @@ package com.hedera.mirror.web3.controller;
 
 import static org.springframework.http.HttpStatus.BAD_REQUEST;
 import static org.springframework.http.HttpStatus.INTERNAL_SERVER_ERROR;
-import static org.springframework.http.HttpStatus.NOT_FOUND;
-import static org.springframework.http.HttpStatus.NOT_IMPLEMENTED;
-import static org.springframework.http.HttpStatus.SERVICE_UNAVAILABLE;
-import static org.springframework.http.HttpStatus.TOO_MANY_REQUESTS;
 import static org.springframework.web.context.request.RequestAttributes.SCOPE_REQUEST;
 
 import com.hedera.mirror.web3.evm.exception.PrecompileNotSupportedException;
@@ -39,7 +35,6 @@ import org.springframework.core.Ordered;
 import org.springframework.core.annotation.Order;
 import org.springframework.dao.QueryTimeoutException;
 import org.springframework.http.HttpHeaders;
-import org.springframework.http.HttpStatus;
 import org.springframework.http.HttpStatusCode;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageConversionException;
@@ -79,42 +74,23 @@ class GenericControllerAdvice extends ResponseEntityExceptionHandler {
         return handleExceptionInternal(e, null, headers, INTERNAL_SERVER_ERROR, request);
     }
 
-    @ExceptionHandler({HttpMessageConversionException.class, IllegalArgumentException.class, InvalidInputException.class
+    @ExceptionHandler({
+        EntityNotFoundException.class,
+        HttpMessageConversionException.class,
+        IllegalArgumentException.class,
+        InvalidInputException.class,
+        PrecompileNotSupportedException.class,
+        QueryTimeoutException.class,
+        RateLimitException.class
     })
-    private ResponseEntity<?> badRequest(final Exception e, final WebRequest request) {
-        return handleExceptionInternal(e, null, null, BAD_REQUEST, request);
+    private ResponseEntity<?> mappedException(final Exception e, final WebRequest request) {
+        return handleExceptionInternal(e, null, null, ErrorResponseMapper.getStatus(e), request);
     }
 
     @ExceptionHandler
     private ResponseEntity<?> mirrorEvmTransactionError(final MirrorEvmTransactionException e, WebRequest request) {
         log.warn("Mirror EVM transaction error: {}, detail: {}, data: {}", e.getMessage(), e.getDetail(), e.getData());
-        request.setAttribute(WebUtils.ERROR_EXCEPTION_ATTRIBUTE, e, SCOPE_REQUEST);
-        return new ResponseEntity<>(new GenericErrorResponse(e.getMessage(), e.getDetail(), e.getData()), BAD_REQUEST);
-    }
-
-    @ExceptionHandler
-    private ResponseEntity<?> notFoundException(final EntityNotFoundException e, final WebRequest request) {
-        return handleExceptionInternal(e, null, null, NOT_FOUND, request);
-    }
-
-    @ExceptionHandler
-    private ResponseEntity<?> queryTimeoutException(final QueryTimeoutException e, WebRequest request) {
-        return handleExceptionInternal(e, null, null, SERVICE_UNAVAILABLE, request);
-    }
-
-    /**
-     * Temporary handler, intended for dealing with forthcoming features that are not yet available, such as the absence
-     * of a precompile
-     **/
-    @ExceptionHandler
-    private ResponseEntity<?> precompileNotSupportedException(
-            final PrecompileNotSupportedException e, WebRequest request) {
-        return handleExceptionInternal(e, null, null, NOT_IMPLEMENTED, request);
-    }
-
-    @ExceptionHandler
-    private ResponseEntity<?> rateLimitException(final RateLimitException e, final WebRequest request) {
-        return handleExceptionInternal(e, null, null, TOO_MANY_REQUESTS, request);
+        return handleExceptionInternal(e, null, null, ErrorResponseMapper.getStatus(e), request);
     }
 
     @Nullable
@@ -138,9 +114,7 @@ class GenericControllerAdvice extends ResponseEntityExceptionHandler {
     @Override
     protected ResponseEntity<Object> handleExceptionInternal(
             Exception ex, @Nullable Object body, HttpHeaders headers, HttpStatusCode statusCode, WebRequest request) {
-        var message = statusCode instanceof HttpStatus hs ? hs.getReasonPhrase() : statusCode.toString();
-        var detail = !statusCode.is5xxServerError() ? ex.getMessage() : StringUtils.EMPTY; // Don't leak server errors
-        var genericErrorResponse = new GenericErrorResponse(message, detail, StringUtils.EMPTY);
+        var genericErrorResponse = ErrorResponseMapper.toErrorResponse(ex, statusCode);
         request.setAttribute(WebUtils.ERROR_EXCEPTION_ATTRIBUTE, ex, SCOPE_REQUEST);
         return new ResponseEntity<>(genericErrorResponse, headers, statusCode);
     }
@@ -28,11 +28,14 @@ import lombok.CustomLog;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @CustomLog
 @RestController
@@ -76,4 +79,31 @@ class OpcodesController {
         final var options = new OpcodeTracerOptions(stack, memory, storage);
         return opcodeService.processOpcodeCall(transactionIdOrHash, options);
     }
+
+    /**
+     * Same as {@link #getContractOpcodes} but writes each opcode to the response as soon as it's traced, so large
+     * traces don't need to be held in memory. Each opcode contains the memory words that changed since the previous
+     * opcode in the same call frame in {@code memory_changes} instead of the full {@code memory}, and the trace is
+     * truncated once it reaches the configured maximum size.
+     *
+     * @param transactionIdOrHash The transaction ID or hash
+     * @param stack               Include stack information
+     * @param memory              Include memory changes
+     * @param storage             Include storage information
+     * @return the streamed response
+     */
+    @GetMapping(value = "/{transactionIdOrHash}/opcodes", params = "stream=true")
+    ResponseEntity<StreamingResponseBody> streamContractOpcodes(
+            @PathVariable TransactionIdOrHashParameter transactionIdOrHash,
+            @RequestParam(required = false, defaultValue = "true") boolean stack,
+            @RequestParam(required = false, defaultValue = "false") boolean memory,
+            @RequestParam(required = false, defaultValue = "false") boolean storage) {
+        if (!rateLimitBucket.tryConsume(1)) {
+            throw new RateLimitException("Requests per second rate limit exceeded.");
+        }
+
+        final var options = new OpcodeTracerOptions(stack, memory, storage);
+        final var body = opcodeService.streamOpcodeCall(transactionIdOrHash, options);
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(body);
+    }
 }
@@ -20,6 +20,9 @@ import static org.hyperledger.besu.evm.internal.EvmConfiguration.WorldUpdaterMod
 
 import com.github.benmanes.caffeine.cache.Caffeine;
 import com.hedera.hapi.node.base.SemanticVersion;
+import com.hedera.mirror.common.domain.entity.Entity;
+import com.hedera.mirror.web3.evm.contracts.execution.EvmCodeCache;
+import com.hedera.mirror.web3.evm.contracts.execution.MirrorEvm;
 import com.hedera.mirror.web3.evm.contracts.execution.MirrorEvmMessageCallProcessor;
 import com.hedera.mirror.web3.evm.contracts.execution.MirrorEvmMessageCallProcessorV30;
 import com.hedera.mirror.web3.evm.contracts.execution.MirrorEvmMessageCallProcessorV50;
@@ -90,21 +93,23 @@ import org.springframework.context.annotation.Primary;
 public class EvmConfiguration {
 
     public static final String CACHE_MANAGER_CONTRACT = "contract";
+    public static final String CACHE_MANAGER_CONTRACT_SLOTS = "contractSlots";
     public static final String CACHE_MANAGER_CONTRACT_STATE = "contractState";
     public static final String CACHE_MANAGER_ENTITY = "entity";
+    public static final String CACHE_MANAGER_HISTORICAL = "historical";
     public static final String CACHE_MANAGER_RECORD_FILE_LATEST = "recordFileLatest";
     public static final String CACHE_MANAGER_RECORD_FILE_EARLIEST = "recordFileEarliest";
     public static final String CACHE_MANAGER_RECORD_FILE_INDEX = "recordFileIndex";
     public static final String CACHE_MANAGER_RECORD_FILE_TIMESTAMP = "recordFileTimestamp";
-    public static final String CACHE_MANAGER_SYSTEM_FILE = "systemFile";
     public static final String CACHE_MANAGER_TOKEN = "token";
     public static final String CACHE_MANAGER_TOKEN_TYPE = "tokenType";
     public static final String CACHE_NAME = "default";
+    public static final String CACHE_NAME_ACCOUNT_BALANCE = "accountBalance";
     public static final String CACHE_NAME_CONTRACT = "contract";
+    public static final String CACHE_NAME_CONTRACT_STORAGE = "contractStorage";
+    public static final String CACHE_NAME_ENTITY = "entity";
     public static final String CACHE_NAME_EVM_ADDRESS = "evmAddress";
     public static final String CACHE_NAME_ALIAS = "alias";
-    public static final String CACHE_NAME_EXCHANGE_RATE = "exchangeRate";
-    public static final String CACHE_NAME_FEE_SCHEDULE = "feeSchedule";
     public static final String CACHE_NAME_NFT = "nft";
     public static final String CACHE_NAME_NFT_ALLOWANCE = "nftAllowance";
     public static final String CACHE_NAME_RECORD_FILE_LATEST = "latest";
@@ -113,6 +118,7 @@ public class EvmConfiguration {
     public static final String CACHE_NAME_TOKEN_ACCOUNT = "tokenAccount";
     public static final String CACHE_NAME_TOKEN_ACCOUNT_COUNT = "tokenAccountCount";
     public static final String CACHE_NAME_TOKEN_ALLOWANCE = "tokenAllowance";
+    public static final String CACHE_NAME_TOKEN_BALANCE = "tokenBalance";
     public static final String CACHE_NAME_TOKEN_AIRDROP = "tokenAirdrop";
     public static final SemanticVersion EVM_VERSION_0_30 = new SemanticVersion(0, 30, 0, "", "");
     public static final SemanticVersion EVM_VERSION_0_34 = new SemanticVersion(0, 34, 0, "", "");
@@ -121,6 +127,7 @@ public class EvmConfiguration {
     public static final SemanticVersion EVM_VERSION_0_50 = new SemanticVersion(0, 50, 0, "", "");
     public static final SemanticVersion EVM_VERSION = EVM_VERSION_0_50;
     private final CacheProperties cacheProperties;
+    private final EvmCodeCache evmCodeCache;
     private final MirrorNodeEvmProperties mirrorNodeEvmProperties;
     private final GasCalculatorHederaV22 gasCalculator;
     private final HederaBlockHashOperation hederaBlockHashOperation;
@@ -140,6 +147,14 @@ public class EvmConfiguration {
         return caffeineCacheManager;
     }
 
+    @Bean(CACHE_MANAGER_CONTRACT_SLOTS)
+    CacheManager cacheManagerContractSlots() {
+        final CaffeineCacheManager caffeineCacheManager = new CaffeineCacheManager();
+        caffeineCacheManager.setCacheNames(Set.of(CACHE_NAME));
+        caffeineCacheManager.setCacheSpecification(cacheProperties.getContractSlots());
+        return caffeineCacheManager;
+    }
+
     @Bean(CACHE_MANAGER_CONTRACT_STATE)
     CacheManager cacheManagerState() {
         final CaffeineCacheManager caffeineCacheManager = new CaffeineCacheManager();
@@ -156,6 +171,25 @@ public class EvmConfiguration {
         return caffeineCacheManager;
     }
 
+    /**
+     * State as of a block that has already been imported never changes, so results of the historical queries keyed by
+     * block timestamp are kept until evicted by the per cache weight limit, which approximates their size in bytes.
+     */
+    @Bean(CACHE_MANAGER_HISTORICAL)
+    CacheManager cacheManagerHistorical() {
+        final var spec = cacheProperties.getHistorical();
+        final var caffeine = Caffeine.from(spec);
+        if (spec.contains("maximumWeight")) {
+            caffeine.weigher(EvmConfiguration::historicalWeight);
+        }
+
+        final CaffeineCacheManager caffeineCacheManager = new CaffeineCacheManager();
+        caffeineCacheManager.setCacheNames(Set.of(
+                CACHE_NAME_ACCOUNT_BALANCE, CACHE_NAME_CONTRACT_STORAGE, CACHE_NAME_ENTITY, CACHE_NAME_TOKEN_BALANCE));
+        caffeineCacheManager.setCaffeine(caffeine);
+        return caffeineCacheManager;
+    }
+
     @Bean(CACHE_MANAGER_TOKEN)
     CacheManager cacheManagerToken() {
         final CaffeineCacheManager caffeineCacheManager = new CaffeineCacheManager();
@@ -179,14 +213,6 @@ public class EvmConfiguration {
         return caffeineCacheManager;
     }
 
-    @Bean(CACHE_MANAGER_SYSTEM_FILE)
-    CacheManager cacheManagerSystemFile() {
-        final CaffeineCacheManager caffeineCacheManager = new CaffeineCacheManager();
-        caffeineCacheManager.setCacheNames(Set.of(CACHE_NAME_EXCHANGE_RATE, CACHE_NAME_FEE_SCHEDULE));
-        caffeineCacheManager.setCacheSpecification(cacheProperties.getFee());
-        return caffeineCacheManager;
-    }
-
     @Bean(CACHE_MANAGER_RECORD_FILE_INDEX)
     @Primary
     CacheManager cacheManagerRecordFileIndex() {
@@ -233,6 +259,15 @@ public class EvmConfiguration {
         return caffeineCacheManager;
     }
 
+    // The key is a SimpleKey of the entity ID, block timestamp and, for storage, the 32 byte slot
+    private static int historicalWeight(Object key, Object value) {
+        return switch (value) {
+            case byte[] bytes -> 128 + bytes.length;
+            case Entity entity -> 640;
+            default -> 112;
+        };
+    }
+
     @Bean
     Map<TracerType, Provider<HederaEvmOperationTracer>> tracerProvider(
             final MirrorOperationTracer mirrorOperationTracer, final OpcodeTracer opcodeTracer) {
@@ -497,7 +532,7 @@ public class EvmConfiguration {
                         hederaBalanceOperation)
                 .forEach(operationRegistry::put);
 
-        return new EVM(operationRegistry, gasCalculator, provideEvmConfiguration(), specVersion);
+        return new MirrorEvm(operationRegistry, gasCalculator, provideEvmConfiguration(), specVersion, evmCodeCache);
     }
 
     private ContractCreationProcessor contractCreationProcessor(EVM evm) {
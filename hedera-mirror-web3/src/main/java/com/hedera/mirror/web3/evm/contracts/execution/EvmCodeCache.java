@@ -0,0 +1,109 @@
+/*
+ * Copyright (C) 2025 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.web3.evm.contracts.execution;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.google.common.base.Stopwatch;
+import com.hedera.mirror.web3.repository.properties.CacheProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.inject.Named;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.apache.tuweni.bytes.Bytes;
+import org.hyperledger.besu.datatypes.Hash;
+import org.hyperledger.besu.evm.Code;
+import org.hyperledger.besu.evm.code.CodeFactory;
+
+/**
+ * Caches analyzed contract code by code hash across requests, so the bytecode of popular contracts isn't parsed and its
+ * jump destinations aren't analyzed again on every call. It's shared by all EVM versions and bounded by the
+ * approximate size of the cached code in bytes. Cache hits, misses and evictions are published as the standard cache
+ * metrics under the {@value #CACHE_NAME} name.
+ */
+@Named
+public class EvmCodeCache {
+
+    static final String ANALYSIS_METRIC = "hedera.mirror.web3.evm.code.analysis";
+    static final String ANALYSIS_SAVED_METRIC = "hedera.mirror.web3.evm.code.analysis.saved";
+    static final String CACHE_NAME = "evmCode";
+
+    private static final double NANOS_PER_SECOND = 1_000_000_000d;
+
+    private final Cache<Hash, AnalyzedCode> cache;
+    private final Timer analysisTimer;
+    private final Counter analysisSavedCounter;
+
+    public EvmCodeCache(CacheProperties cacheProperties, MeterRegistry meterRegistry) {
+        final var spec = cacheProperties.getCode();
+        final var caffeine = Caffeine.from(spec);
+        if (spec.contains("maximumWeight")) {
+            caffeine.weigher((hash, code) -> ((AnalyzedCode) code).weight());
+        }
+
+        this.cache = caffeine.build();
+        this.analysisTimer = Timer.builder(ANALYSIS_METRIC)
+                .description("The time to parse contract bytecode and analyze its jump destinations")
+                .register(meterRegistry);
+        this.analysisSavedCounter = Counter.builder(ANALYSIS_SAVED_METRIC)
+                .baseUnit("seconds")
+                .description("The analysis time saved by reusing cached contract code")
+                .register(meterRegistry);
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    /**
+     * Gets the analyzed code with the given hash, analyzing the bytecode if it's not cached.
+     *
+     * @param codeHash  the hash of the bytecode
+     * @param codeBytes the bytecode
+     * @return the analyzed code
+     */
+    public Code getCode(final Hash codeHash, final Bytes codeBytes) {
+        final var analyzed = new AtomicBoolean(false);
+        final var cached = cache.get(codeHash, hash -> {
+            final var stopwatch = Stopwatch.createStarted();
+            final var code = CodeFactory.createCode(codeBytes, 0, false);
+            code.isJumpDestInvalid(0); // Jump destinations are analyzed lazily, so force it to measure and cache it
+            final var analysisNanos = stopwatch.elapsed(TimeUnit.NANOSECONDS);
+
+            analysisTimer.record(analysisNanos, TimeUnit.NANOSECONDS);
+            analyzed.set(true);
+            return new AnalyzedCode(code, analysisNanos);
+        });
+
+        if (!analyzed.get()) {
+            analysisSavedCounter.increment(cached.analysisNanos() / NANOS_PER_SECOND);
+        }
+
+        return cached.code();
+    }
+
+    private record AnalyzedCode(Code code, long analysisNanos) {
+
+        private static final int OVERHEAD = 128;
+
+        // The bytecode plus its jump destination bit mask of one bit per byte
+        private int weight() {
+            final int size = code.getSize();
+            return OVERHEAD + size + size / Byte.SIZE;
+        }
+    }
+}
@@ -0,0 +1,50 @@
+/*
+ * Copyright (C) 2025 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.web3.evm.contracts.execution;
+
+import org.apache.tuweni.bytes.Bytes;
+import org.hyperledger.besu.datatypes.Hash;
+import org.hyperledger.besu.evm.Code;
+import org.hyperledger.besu.evm.EVM;
+import org.hyperledger.besu.evm.EvmSpecVersion;
+import org.hyperledger.besu.evm.gascalculator.GasCalculator;
+import org.hyperledger.besu.evm.internal.EvmConfiguration;
+import org.hyperledger.besu.evm.operation.OperationRegistry;
+
+/**
+ * An EVM that gets the code of the contracts it calls from the {@link EvmCodeCache} shared by all EVM versions instead
+ * of a cache of its own.
+ */
+public class MirrorEvm extends EVM {
+
+    private final EvmCodeCache codeCache;
+
+    public MirrorEvm(
+            final OperationRegistry operations,
+            final GasCalculator gasCalculator,
+            final EvmConfiguration evmConfiguration,
+            final EvmSpecVersion evmSpecVersion,
+            final EvmCodeCache codeCache) {
+        super(operations, gasCalculator, evmConfiguration, evmSpecVersion);
+        this.codeCache = codeCache;
+    }
+
+    @Override
+    public Code getCode(final Hash codeHash, final Bytes codeBytes) {
+        return codeCache.getCode(codeHash, codeBytes);
+    }
+}
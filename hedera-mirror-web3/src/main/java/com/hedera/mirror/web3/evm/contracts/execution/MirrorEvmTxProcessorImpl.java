@@ -58,6 +58,7 @@ public class MirrorEvmTxProcessorImpl extends HederaEvmTxProcessor implements Mi
     private final Store store;
     private final EntityAddressSequencer entityAddressSequencer;
     private final TokenAccessor tokenAccessor;
+    private final EvmCodeCache evmCodeCache;
 
     @SuppressWarnings("java:S107")
     public MirrorEvmTxProcessorImpl(
@@ -73,7 +74,8 @@ public class MirrorEvmTxProcessorImpl extends HederaEvmTxProcessor implements Mi
             final Map<TracerType, Provider<HederaEvmOperationTracer>> tracerMap,
             final Store store,
             final EntityAddressSequencer entityAddressSequencer,
-            final TokenAccessor tokenAccessor) {
+            final TokenAccessor tokenAccessor,
+            final EvmCodeCache evmCodeCache) {
         super(
                 worldState,
                 pricesAndFeesProvider,
@@ -89,6 +91,7 @@ public class MirrorEvmTxProcessorImpl extends HederaEvmTxProcessor implements Mi
         this.store = store;
         this.entityAddressSequencer = entityAddressSequencer;
         this.tokenAccessor = tokenAccessor;
+        this.evmCodeCache = evmCodeCache;
     }
 
     public HederaEvmTransactionProcessingResult execute(final CallServiceParameters params, final long estimatedGas) {
@@ -156,7 +159,7 @@ public class MirrorEvmTxProcessorImpl extends HederaEvmTxProcessor implements Mi
                     .address(to)
                     .contract(to)
                     .inputData(payload)
-                    .code(code == null ? CodeV0.EMPTY_CODE : code)
+                    .code(code == null ? CodeV0.EMPTY_CODE : evmCodeCache.getCode(code.getCodeHash(), code.getBytes()))
                     .build();
         }
     }
@@ -0,0 +1,151 @@
+/*
+ * Copyright (C) 2025 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.web3.evm.contracts.execution.traceability;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import org.apache.tuweni.bytes.Bytes;
+import org.hyperledger.besu.evm.frame.MessageFrame;
+
+/**
+ * Tracks the memory words written by each call frame, so a streamed trace captures the memory changes since the
+ * previous opcode of the same call frame instead of copying the whole memory on every opcode. The words an opcode
+ * writes are known from its operands before it executes. A call writes its return data once the child frame completes,
+ * so those words are reported with the next opcode of the calling frame. Words the memory expands by are always
+ * reported.
+ */
+public class MemoryChangeTracker {
+
+    private static final int CALLDATACOPY = 0x37;
+    private static final int CODECOPY = 0x39;
+    private static final int EXTCODECOPY = 0x3c;
+    private static final int RETURNDATACOPY = 0x3e;
+    private static final int MSTORE = 0x52;
+    private static final int MSTORE8 = 0x53;
+    private static final int MCOPY = 0x5e;
+    private static final int CALL = 0xf1;
+    private static final int CALLCODE = 0xf2;
+    private static final int DELEGATECALL = 0xf4;
+    private static final int STATICCALL = 0xfa;
+    private static final long MAX_OPERAND = Integer.MAX_VALUE;
+    private static final int WORD_SIZE = 32;
+
+    private final List<FrameMemory> frames = new ArrayList<>();
+    private int previousDepth = -1;
+
+    void tracePreExecution(final MessageFrame frame) {
+        final int depth = frame.getDepth();
+        while (frames.size() <= depth) {
+            frames.add(new FrameMemory());
+        }
+
+        // A call frame starts whenever the depth increases, and its memory only ever grows until it completes
+        final var memory = frames.get(depth);
+        if (depth > previousDepth) {
+            memory.reset();
+        }
+        previousDepth = depth;
+
+        final var operation = frame.getCurrentOperation();
+        if (operation == null) {
+            return;
+        }
+
+        switch (operation.getOpcode()) {
+            case MSTORE -> memory.written.add(range(getOperand(frame, 0), WORD_SIZE));
+            case MSTORE8 -> memory.written.add(range(getOperand(frame, 0), 1));
+            case CALLDATACOPY, CODECOPY, RETURNDATACOPY, MCOPY -> {
+                memory.written.add(range(getOperand(frame, 0), getOperand(frame, 2)));
+            }
+            case EXTCODECOPY -> memory.written.add(range(getOperand(frame, 1), getOperand(frame, 3)));
+            case CALL, CALLCODE -> memory.returnData = range(getOperand(frame, 5), getOperand(frame, 6));
+            case DELEGATECALL, STATICCALL -> memory.returnData = range(getOperand(frame, 4), getOperand(frame, 5));
+            default -> {
+                // The operation doesn't write to memory
+            }
+        }
+    }
+
+    /**
+     * Gets the memory words of the frame that changed since its previous opcode, keyed by their word index.
+     */
+    Map<Integer, Bytes> tracePostExecution(final MessageFrame frame) {
+        final int depth = frame.getDepth();
+        if (depth >= frames.size()) {
+            return Collections.emptyMap();
+        }
+
+        final var memory = frames.get(depth);
+        final int wordSize = frame.memoryWordSize();
+        final var changes = new TreeMap<Integer, Bytes>();
+        for (var range : memory.written) {
+            for (long i = range[0]; i < Math.min(range[1], wordSize); i++) {
+                changes.put((int) i, readWord(frame, (int) i));
+            }
+        }
+
+        for (int i = memory.wordSize; i < wordSize; i++) {
+            changes.computeIfAbsent(i, index -> readWord(frame, index));
+        }
+
+        memory.written.clear();
+        memory.wordSize = wordSize;
+        if (memory.returnData != null) {
+            memory.written.add(memory.returnData);
+            memory.returnData = null;
+        }
+
+        return changes;
+    }
+
+    // Operands too large for the memory fail the operation, so they're capped to keep the word range from overflowing
+    private static long getOperand(final MessageFrame frame, final int index) {
+        if (index >= frame.stackSize()) {
+            return 0L;
+        }
+
+        final var operand = frame.getStackItem(index).trimLeadingZeros();
+        return operand.size() > Integer.BYTES ? MAX_OPERAND : Math.min(operand.toLong(), MAX_OPERAND);
+    }
+
+    private static long[] range(final long offset, final long length) {
+        if (length == 0) {
+            return new long[] {0L, 0L};
+        }
+        return new long[] {offset / WORD_SIZE, (offset + length + WORD_SIZE - 1) / WORD_SIZE};
+    }
+
+    private static Bytes readWord(final MessageFrame frame, final int index) {
+        return frame.readMemory((long) index * WORD_SIZE, WORD_SIZE);
+    }
+
+    private static class FrameMemory {
+
+        private final List<long[]> written = new ArrayList<>();
+        private long[] returnData;
+        private int wordSize;
+
+        private void reset() {
+            written.clear();
+            returnData = null;
+            wordSize = 0;
+        }
+    }
+}
@@ -30,5 +30,6 @@ public record Opcode(
         int depth,
         List<Bytes> stack,
         List<Bytes> memory,
+        Map<Integer, Bytes> memoryChanges,
         Map<Bytes, Bytes> storage,
         String reason) {}
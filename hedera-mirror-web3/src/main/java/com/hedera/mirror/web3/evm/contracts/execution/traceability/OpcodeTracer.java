@@ -84,6 +84,14 @@ public class OpcodeTracer implements HederaOperationTracer {
         getContext().incrementContractActionsCounter();
     }
 
+    @Override
+    public void tracePreExecution(final MessageFrame frame) {
+        final var memoryChangeTracker = getMemoryChangeTracker(getContext());
+        if (memoryChangeTracker != null) {
+            memoryChangeTracker.tracePreExecution(frame);
+        }
+    }
+
     @Override
     public void tracePostExecution(final MessageFrame frame, final Operation.OperationResult operationResult) {
         ContractCallContext context = getContext();
@@ -91,7 +99,12 @@ public class OpcodeTracer implements HederaOperationTracer {
             context.incrementContractActionsCounter();
         }
         OpcodeTracerOptions options = context.getOpcodeTracerOptions();
-        final List<Bytes> memory = captureMemory(frame, options);
+        final var memoryChangeTracker = getMemoryChangeTracker(context);
+        final List<Bytes> memory =
+                memoryChangeTracker == null ? captureMemory(frame, options) : Collections.emptyList();
+        final Map<Integer, Bytes> memoryChanges = memoryChangeTracker != null
+                ? memoryChangeTracker.tracePostExecution(frame)
+                : Collections.emptyMap();
         final List<Bytes> stack = captureStack(frame, options);
         final Map<Bytes, Bytes> storage = captureStorage(frame, options);
         Opcode opcode = Opcode.builder()
@@ -102,6 +115,7 @@ public class OpcodeTracer implements HederaOperationTracer {
                 .depth(frame.getDepth())
                 .stack(stack)
                 .memory(memory)
+                .memoryChanges(memoryChanges)
                 .storage(storage)
                 .reason(frame.getRevertReason().map(Bytes::toString).orElse(null))
                 .build();
@@ -125,6 +139,7 @@ public class OpcodeTracer implements HederaOperationTracer {
                 .depth(frame.getDepth())
                 .stack(Collections.emptyList())
                 .memory(Collections.emptyList())
+                .memoryChanges(Collections.emptyMap())
                 .storage(Collections.emptyMap())
                 .reason(revertReason.map(Bytes::toHexString).orElse(null))
                 .build();
@@ -164,6 +179,23 @@ public class OpcodeTracer implements HederaOperationTracer {
         return memory;
     }
 
+    /**
+     * Gets the tracker of the memory changes when the opcodes are streamed to a listener, so the memory is captured as
+     * the words that changed instead of being copied in full on every opcode.
+     */
+    private MemoryChangeTracker getMemoryChangeTracker(final ContractCallContext context) {
+        final var options = context.getOpcodeTracerOptions();
+        if (context.getOpcodeListener() == null || options == null || !options.isMemory()) {
+            return null;
+        }
+
+        if (context.getMemoryChangeTracker() == null) {
+            context.setMemoryChangeTracker(new MemoryChangeTracker());
+        }
+
+        return context.getMemoryChangeTracker();
+    }
+
     private List<Bytes> captureStack(final MessageFrame frame, OpcodeTracerOptions options) {
         if (!options.isStack()) {
             return Collections.emptyList();
@@ -16,9 +16,6 @@
 
 package com.hedera.mirror.web3.evm.pricing;
 
-import static com.hedera.mirror.web3.evm.config.EvmConfiguration.CACHE_MANAGER_SYSTEM_FILE;
-import static com.hedera.mirror.web3.evm.config.EvmConfiguration.CACHE_NAME_EXCHANGE_RATE;
-import static com.hedera.mirror.web3.evm.config.EvmConfiguration.CACHE_NAME_FEE_SCHEDULE;
 import static com.hedera.mirror.web3.evm.properties.MirrorNodeEvmProperties.HederaNetwork.OTHER;
 import static com.hederahashgraph.api.proto.java.HederaFunctionality.ContractCall;
 import static com.hederahashgraph.api.proto.java.HederaFunctionality.CryptoTransfer;
@@ -29,8 +26,9 @@ import static com.hederahashgraph.api.proto.java.HederaFunctionality.TokenBurn;
 import static com.hederahashgraph.api.proto.java.HederaFunctionality.TokenCreate;
 import static com.hederahashgraph.api.proto.java.HederaFunctionality.TokenMint;
 
-import com.google.protobuf.InvalidProtocolBufferException;
+import com.google.common.annotations.VisibleForTesting;
 import com.hedera.mirror.common.domain.entity.EntityId;
+import com.hedera.mirror.common.util.DomainUtils;
 import com.hedera.mirror.web3.evm.properties.MirrorNodeEvmProperties;
 import com.hedera.mirror.web3.exception.InvalidFileException;
 import com.hedera.mirror.web3.repository.FileDataRepository;
@@ -44,17 +42,14 @@ import com.hederahashgraph.api.proto.java.SubType;
 import com.hederahashgraph.api.proto.java.TimestampSeconds;
 import com.hederahashgraph.api.proto.java.TransactionFeeSchedule;
 import jakarta.inject.Named;
-import java.util.concurrent.atomic.AtomicLong;
 import lombok.CustomLog;
 import lombok.RequiredArgsConstructor;
-import org.springframework.cache.annotation.CacheConfig;
-import org.springframework.cache.annotation.Cacheable;
-import org.springframework.retry.support.RetryTemplate;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 
 /**
- * Rates and fees loader, currently working only with current timestamp.
+ * Rates and fees loader, which keeps the history of the exchange rate and fee schedule files in memory.
  */
-@CacheConfig(cacheManager = CACHE_MANAGER_SYSTEM_FILE)
 @Named
 @RequiredArgsConstructor
 @CustomLog
@@ -265,27 +260,39 @@ public class RatesAndFeesLoader {
             .build();
     private static final CurrentAndNextFeeSchedule EMPTY_FEE_SCHEDULE = CurrentAndNextFeeSchedule.getDefaultInstance();
     private static final ExchangeRateSet EMPTY_EXCHANGE_RATE_SET = ExchangeRateSet.getDefaultInstance();
-    private final RetryTemplate retryTemplate = RetryTemplate.builder()
-            .maxAttempts(10)
-            .retryOn(InvalidFileException.class)
-            .build();
 
     private final FileDataRepository fileDataRepository;
     private final MirrorNodeEvmProperties evmProperties;
+    private final SystemFileHistory<ExchangeRateSet> exchangeRates =
+            new SystemFileHistory<>(EXCHANGE_RATE_ENTITY_ID.getId(), ExchangeRateSet::parseFrom);
+    private final SystemFileHistory<CurrentAndNextFeeSchedule> feeSchedules =
+            new SystemFileHistory<>(FEE_SCHEDULE_ENTITY_ID.getId(), CurrentAndNextFeeSchedule::parseFrom);
 
     /**
-     * Loads the exchange rates for a given time. Currently, works only with current timestamp.
+     * Loads the history of the exchange rates and fee schedules at startup so that calls don't have to.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void warm() {
+        try {
+            final var now = DomainUtils.now();
+            exchangeRates.load(fileDataRepository, now);
+            feeSchedules.load(fileDataRepository, now);
+        } catch (Exception e) {
+            log.warn("Unable to load the exchange rate and fee schedule history: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Loads the exchange rates in effect at the given time.
      *
      * @param nanoSeconds timestamp
      * @return exchange rates set
      */
-    @Cacheable(cacheNames = CACHE_NAME_EXCHANGE_RATE, key = "'now'", unless = "#result == null")
     public ExchangeRateSet loadExchangeRates(final long nanoSeconds) {
         try {
-            return getFileData(
-                    EXCHANGE_RATE_ENTITY_ID.getId(),
-                    new AtomicLong(nanoSeconds),
-                    ExchangeRateSet::parseFrom,
+            return load(
+                    exchangeRates,
+                    nanoSeconds,
                     evmProperties.getNetwork() == OTHER ? DEFAULT_EXCHANGE_RATE_SET : EMPTY_EXCHANGE_RATE_SET);
         } catch (InvalidFileException e) {
             log.warn("Corrupt rate file at {}, may require remediation!", EXCHANGE_RATE_ENTITY_ID);
@@ -294,18 +301,16 @@ public class RatesAndFeesLoader {
     }
 
     /**
-     * Load the fee schedules for a given time. Currently, works only with current timestamp.
+     * Load the fee schedules in effect at the given time.
      *
      * @param nanoSeconds timestamp
      * @return current and next fee schedules
      */
-    @Cacheable(cacheNames = CACHE_NAME_FEE_SCHEDULE, key = "'now'", unless = "#result == null")
     public CurrentAndNextFeeSchedule loadFeeSchedules(final long nanoSeconds) {
         try {
-            return getFileData(
-                    FEE_SCHEDULE_ENTITY_ID.getId(),
-                    new AtomicLong(nanoSeconds),
-                    CurrentAndNextFeeSchedule::parseFrom,
+            return load(
+                    feeSchedules,
+                    nanoSeconds,
                     evmProperties.getNetwork() == OTHER ? DEFAULT_FEE_SCHEDULE : EMPTY_FEE_SCHEDULE);
         } catch (InvalidFileException e) {
             log.warn("Corrupt fee schedules file at {}, may require remediation!", FEE_SCHEDULE_ENTITY_ID);
@@ -313,27 +318,24 @@ public class RatesAndFeesLoader {
         }
     }
 
-    private <T> T getFileData(long fileId, final AtomicLong nanoSeconds, FileDataParser<T> parser, T defaultValue) {
-        return retryTemplate.execute(context -> fileDataRepository
-                .getFileAtTimestamp(fileId, nanoSeconds.get())
-                .map(fileData -> {
-                    try {
-                        return parser.parse(fileData.getFileData());
-                    } catch (InvalidProtocolBufferException e) {
-                        log.warn(
-                                "Failed to load file data for fileId {} at {}, failing back to previous file. Retry attempt {}. Exception: ",
-                                fileId,
-                                nanoSeconds.get(),
-                                context.getRetryCount() + 1,
-                                e);
-                        nanoSeconds.set(fileData.getConsensusTimestamp() - 1);
-                        throw new InvalidFileException(e);
-                    }
-                })
-                .orElse(defaultValue));
+    @VisibleForTesting
+    void reset() {
+        exchangeRates.reset();
+        feeSchedules.reset();
     }
 
-    private interface FileDataParser<T> {
-        T parse(byte[] bytes) throws InvalidProtocolBufferException;
+    /*
+     * Historical timestamps are served from the history in memory. Newer timestamps load the file updates since the
+     * history was last loaded, at most once per refresh interval, so the latest state is served from memory as well.
+     */
+    private <T> T load(SystemFileHistory<T> history, long nanoSeconds, T defaultValue) {
+        final var loadedTimestamp = history.getLoadedTimestamp();
+        final var refreshInterval = evmProperties.getRatesAndFeesRefreshInterval().toNanos();
+
+        if (loadedTimestamp < 0 || nanoSeconds - loadedTimestamp > refreshInterval) {
+            history.load(fileDataRepository, nanoSeconds);
+        }
+
+        return history.get(nanoSeconds, defaultValue);
     }
 }
@@ -0,0 +1,177 @@
+/*
+ * Copyright (C) 2025 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.web3.evm.pricing;
+
+import static com.hedera.mirror.common.domain.transaction.TransactionType.FILECREATE;
+import static com.hedera.mirror.common.domain.transaction.TransactionType.FILEUPDATE;
+
+import com.google.protobuf.InvalidProtocolBufferException;
+import com.hedera.mirror.common.domain.file.FileData;
+import com.hedera.mirror.web3.exception.InvalidFileException;
+import com.hedera.mirror.web3.repository.FileDataRepository;
+import java.util.List;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentSkipListMap;
+import lombok.CustomLog;
+import org.apache.commons.lang3.ArrayUtils;
+
+/**
+ * The parsed versions of a system file, indexed by the consensus timestamp from which each version was in effect, so
+ * the version at a given timestamp is an in-memory floor search. A version takes effect once its last chunk is
+ * appended. The history is loaded incrementally, reading only the file data newer than the last row already read.
+ */
+@CustomLog
+class SystemFileHistory<T> {
+
+    static final int MAX_ATTEMPTS = 10;
+
+    private final long fileId;
+    private final FileDataParser<T> parser;
+
+    // Versions that failed to parse are kept as empty so lookups fall back to the previous version
+    private final NavigableMap<Long, Optional<T>> versions = new ConcurrentSkipListMap<>();
+
+    // The timestamp up to which the history is loaded, or -1 if it's not loaded
+    private volatile long loadedTimestamp = -1L;
+
+    // The last row read and the raw bytes of the latest version, which may still be appended to. Guarded by this.
+    private long lastRowTimestamp = -1L;
+    private long tailTimestamp = -1L;
+    private byte[] tail;
+
+    SystemFileHistory(long fileId, FileDataParser<T> parser) {
+        this.fileId = fileId;
+        this.parser = parser;
+    }
+
+    long getLoadedTimestamp() {
+        return loadedTimestamp;
+    }
+
+    /**
+     * Gets the version in effect at the timestamp, falling back to up to {@link #MAX_ATTEMPTS} previous versions when
+     * it's corrupt.
+     *
+     * @return the version or the default value if there's none at the timestamp
+     * @throws InvalidFileException if the version and the ones before it are all corrupt
+     */
+    T get(long timestamp, T defaultValue) {
+        int attempts = 0;
+
+        for (var version : versions.headMap(timestamp, true).descendingMap().values()) {
+            if (version.isPresent()) {
+                return version.get();
+            } else if (++attempts >= MAX_ATTEMPTS) {
+                throw new InvalidFileException("No valid version of file %d found at %d".formatted(fileId, timestamp));
+            }
+        }
+
+        return defaultValue;
+    }
+
+    /**
+     * Loads the file data committed after the last row already read and up to the timestamp.
+     */
+    synchronized void load(FileDataRepository fileDataRepository, long timestamp) {
+        if (timestamp <= loadedTimestamp) {
+            return;
+        }
+
+        var rows = fileDataRepository.findFileHistory(fileId, lastRowTimestamp + 1, timestamp);
+        apply(rows);
+        loadedTimestamp = timestamp;
+        log.debug("Loaded {} rows of file {} up to {}", rows.size(), fileId, timestamp);
+    }
+
+    synchronized void reset() {
+        versions.clear();
+        loadedTimestamp = -1L;
+        lastRowTimestamp = -1L;
+        tailTimestamp = -1L;
+        tail = null;
+    }
+
+    private void apply(List<FileData> rows) {
+        long previousTailTimestamp = tailTimestamp;
+        boolean changed = false;
+
+        for (var row : rows) {
+            var data = row.getFileData();
+            lastRowTimestamp = row.getConsensusTimestamp();
+
+            // Updates that only change the file's metadata don't change its content or when its version took effect
+            if (ArrayUtils.isEmpty(data)) {
+                continue;
+            }
+
+            if (isNewVersion(row)) {
+                if (changed) {
+                    putTail(previousTailTimestamp);
+                }
+
+                previousTailTimestamp = -1L;
+                tail = data;
+            } else if (tail != null) {
+                tail = ArrayUtils.addAll(tail, data);
+            } else {
+                continue; // Appends to a version that's older than the history
+            }
+
+            tailTimestamp = row.getConsensusTimestamp();
+            changed = true;
+        }
+
+        if (changed) {
+            putTail(previousTailTimestamp);
+        }
+    }
+
+    /*
+     * The tail version only takes effect at its last append, so it replaces the entry of its earlier, incomplete
+     * content. The new entry is added first so concurrent lookups never see a gap.
+     */
+    private void putTail(long previousTailTimestamp) {
+        versions.put(tailTimestamp, parse(tail));
+
+        if (previousTailTimestamp >= 0 && previousTailTimestamp != tailTimestamp) {
+            versions.remove(previousTailTimestamp);
+        }
+    }
+
+    private Optional<T> parse(byte[] bytes) {
+        try {
+            return Optional.of(parser.parse(bytes));
+        } catch (InvalidProtocolBufferException e) {
+            log.warn(
+                    "Failed to parse file data for fileId {} at {}, falling back to the previous file. Exception: ",
+                    fileId,
+                    tailTimestamp,
+                    e);
+            return Optional.empty();
+        }
+    }
+
+    private boolean isNewVersion(FileData fileData) {
+        var type = fileData.getTransactionType();
+        return type != null && (type == FILECREATE.getProtoId() || type == FILEUPDATE.getProtoId());
+    }
+
+    interface FileDataParser<T> {
+        T parse(byte[] bytes) throws InvalidProtocolBufferException;
+    }
+}
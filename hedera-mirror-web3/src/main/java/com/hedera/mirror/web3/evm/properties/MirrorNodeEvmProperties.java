@@ -181,6 +181,12 @@ public class MirrorNodeEvmProperties implements EvmProperties {
     @NotNull
     private Map<String, String> properties = new HashMap<>();
 
+    // How long newer exchange rate and fee schedule file updates can take to be loaded
+    @Getter
+    @NotNull
+    @DurationMin(seconds = 1)
+    private Duration ratesAndFeesRefreshInterval = Duration.ofSeconds(10L);
+
     // Contains the default properties merged with the user defined properties to pass to the consensus node library
     @Getter(lazy = true)
     private final Map<String, String> transactionProperties = buildTransactionProperties();
@@ -16,6 +16,7 @@
 
 package com.hedera.mirror.web3.evm.store;
 
+import com.hedera.mirror.web3.common.ContractCallContext;
 import com.hedera.mirror.web3.evm.exception.EvmException;
 import com.hedera.mirror.web3.evm.store.accessor.DatabaseAccessor;
 import java.io.Serial;
@@ -55,6 +56,9 @@ public class DatabaseBackedStateFrame<K> extends CachingStateFrame<K> {
         if (databaseAccessor == null) {
             throw new NullPointerException("no available accessor for given klass");
         }
+        if (ContractCallContext.isInitialized()) {
+            ContractCallContext.get().incrementDatabaseReads();
+        }
         return databaseAccessor.get(key, timestamp).flatMap(o -> Optional.of(klass.cast(o)));
     }
 
@@ -20,6 +20,7 @@ import static com.hedera.mirror.web3.evm.utils.EvmTokenUtils.entityIdNumFromEvmA
 import static com.hedera.node.app.service.evm.accounts.HederaEvmContractAliases.isMirror;
 
 import com.google.protobuf.ByteString;
+import com.hedera.mirror.web3.common.ContractCallContext;
 import com.hedera.mirror.web3.evm.store.Store;
 import com.hedera.mirror.web3.evm.store.Store.OnMissing;
 import com.hedera.mirror.web3.repository.ContractRepository;
@@ -33,6 +34,9 @@ import org.hyperledger.besu.datatypes.Address;
 @RequiredArgsConstructor
 @Named
 public class MirrorEntityAccess implements HederaEvmEntityAccess {
+    private static final String BYTECODE_STATE = "MIRROR_BYTECODE";
+    private static final String STORAGE_STATE = "MIRROR_STORAGE";
+
     private final ContractStateRepository contractStateRepository;
     private final ContractRepository contractRepository;
     private final Store store;
@@ -118,12 +122,14 @@ public class MirrorEntityAccess implements HederaEvmEntityAccess {
             return Bytes.EMPTY;
         }
 
-        return store.getHistoricalTimestamp()
+        // Read through the call's snapshot so the iterations of eth_estimateGas only read each slot once
+        final var slotKey = new SlotKey(entityId, key);
+        return ContractCallContext.get().readThrough(STORAGE_STATE, slotKey, k -> store.getHistoricalTimestamp()
                 .map(t -> contractStateRepository.findStorageByBlockTimestamp(
                         entityId, key.trimLeadingZeros().toArrayUnsafe(), t))
                 .orElseGet(() -> contractStateRepository.findStorage(entityId, key.toArrayUnsafe()))
                 .map(Bytes::wrap)
-                .orElse(Bytes.EMPTY);
+                .orElse(Bytes.EMPTY));
     }
 
     @Override
@@ -134,8 +140,10 @@ public class MirrorEntityAccess implements HederaEvmEntityAccess {
             return null;
         }
 
-        final var runtimeCode = contractRepository.findRuntimeBytecode(entityId);
-        return runtimeCode.map(Bytes::wrap).orElse(null);
+        return ContractCallContext.get().readThrough(BYTECODE_STATE, entityId, id -> contractRepository
+                .findRuntimeBytecode(id)
+                .map(Bytes::wrap)
+                .orElse(null));
     }
 
     private Long fetchEntityId(final Address address) {
@@ -148,4 +156,6 @@ public class MirrorEntityAccess implements HederaEvmEntityAccess {
         }
         return entityId;
     }
+
+    private record SlotKey(long entityId, Bytes key) {}
 }
@@ -24,6 +24,10 @@ public class InvalidFileException extends Web3Exception {
     @Serial
     private static final long serialVersionUID = -595255800032756525L;
 
+    public InvalidFileException(String message) {
+        super(message);
+    }
+
     public InvalidFileException(Throwable throwable) {
         super(throwable);
     }
@@ -16,8 +16,12 @@
 
 package com.hedera.mirror.web3.repository;
 
+import static com.hedera.mirror.web3.evm.config.EvmConfiguration.CACHE_MANAGER_HISTORICAL;
+import static com.hedera.mirror.web3.evm.config.EvmConfiguration.CACHE_NAME_ACCOUNT_BALANCE;
+
 import com.hedera.mirror.common.domain.balance.AccountBalance;
 import java.util.Optional;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.CrudRepository;
 
@@ -103,5 +107,9 @@ public interface AccountBalanceRepository extends CrudRepository<AccountBalance,
                     select coalesce((select balance from balance_snapshot), 0) + coalesce((select amount from change), 0)
                     """,
             nativeQuery = true)
+    @Cacheable(
+            cacheNames = CACHE_NAME_ACCOUNT_BALANCE,
+            cacheManager = CACHE_MANAGER_HISTORICAL,
+            unless = "#result == null")
     Optional<Long> findHistoricalAccountBalanceUpToTimestamp(long accountId, long blockTimestamp);
 }
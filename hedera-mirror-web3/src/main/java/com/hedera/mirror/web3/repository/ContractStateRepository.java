@@ -17,9 +17,14 @@
 package com.hedera.mirror.web3.repository;
 
 import static com.hedera.mirror.web3.evm.config.EvmConfiguration.CACHE_MANAGER_CONTRACT_STATE;
+import static com.hedera.mirror.web3.evm.config.EvmConfiguration.CACHE_MANAGER_HISTORICAL;
 import static com.hedera.mirror.web3.evm.config.EvmConfiguration.CACHE_NAME;
+import static com.hedera.mirror.web3.evm.config.EvmConfiguration.CACHE_NAME_CONTRACT_STORAGE;
 
 import com.hedera.mirror.common.domain.contract.ContractState;
+import com.hedera.mirror.web3.repository.projections.ContractSlotValue;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.jpa.repository.Query;
@@ -58,5 +63,49 @@ public interface ContractStateRepository extends CrudRepository<ContractState, L
             limit 1
             """,
             nativeQuery = true)
+    @Cacheable(
+            cacheNames = CACHE_NAME_CONTRACT_STORAGE,
+            cacheManager = CACHE_MANAGER_HISTORICAL,
+            unless = "#result == null")
     Optional<byte[]> findStorageByBlockTimestamp(long id, byte[] slot, long blockTimestamp);
+
+    /**
+     * Retrieves the latest contract state storage values of multiple slots of a contract in one query.
+     *
+     * @param id    The ID of the contract.
+     * @param slots The slots in the contract's storage.
+     * @return The slots that were found and their storage values.
+     */
+    @Query(
+            value = "select slot, value from contract_state where contract_id = ?1 and slot in (?2)",
+            nativeQuery = true)
+    List<ContractSlotValue> findStorageBatch(long id, Collection<byte[]> slots);
+
+    /**
+     * Retrieves the most recent contract state storage values of multiple slots of a contract up to the given block
+     * timestamp in one query. Each slot is looked up with its own probe of the same contract_state_change index as
+     * {@link #findStorageByBlockTimestamp}, so older changes to the slots aren't read.
+     *
+     * @param id             The ID of the contract.
+     * @param slots          The slots in the contract's storage.
+     * @param blockTimestamp The block timestamp up to which to retrieve the storage values.
+     * @return The slots that were found and their storage values.
+     */
+    @Query(
+            value =
+                    """
+            select s.slot, c.value
+            from unnest(array[?2]) as s(slot)
+            cross join lateral (
+                select coalesce(value_written, value_read) as value
+                from contract_state_change
+                where contract_id = ?1
+                and slot = s.slot
+                and consensus_timestamp <= ?3
+                order by consensus_timestamp desc
+                limit 1
+            ) as c
+            """,
+            nativeQuery = true)
+    List<ContractSlotValue> findStorageBatchByBlockTimestamp(long id, Collection<byte[]> slots, long blockTimestamp);
 }
@@ -17,8 +17,10 @@
 package com.hedera.mirror.web3.repository;
 
 import static com.hedera.mirror.web3.evm.config.EvmConfiguration.CACHE_MANAGER_ENTITY;
+import static com.hedera.mirror.web3.evm.config.EvmConfiguration.CACHE_MANAGER_HISTORICAL;
 import static com.hedera.mirror.web3.evm.config.EvmConfiguration.CACHE_NAME;
 import static com.hedera.mirror.web3.evm.config.EvmConfiguration.CACHE_NAME_ALIAS;
+import static com.hedera.mirror.web3.evm.config.EvmConfiguration.CACHE_NAME_ENTITY;
 import static com.hedera.mirror.web3.evm.config.EvmConfiguration.CACHE_NAME_EVM_ADDRESS;
 
 import com.hedera.mirror.common.domain.entity.Entity;
@@ -167,5 +169,6 @@ public interface EntityRepository extends CrudRepository<Entity, Long> {
                     limit 1
                     """,
             nativeQuery = true)
+    @Cacheable(cacheNames = CACHE_NAME_ENTITY, cacheManager = CACHE_MANAGER_HISTORICAL, unless = "#result == null")
     Optional<Entity> findActiveByIdAndTimestamp(long id, long blockTimestamp);
 }
@@ -17,6 +17,7 @@
 package com.hedera.mirror.web3.repository;
 
 import com.hedera.mirror.common.domain.file.FileData;
+import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.CrudRepository;
@@ -48,4 +49,24 @@ public interface FileDataRepository extends CrudRepository<FileData, Long> {
             ) and consensus_timestamp <= ?2""",
             nativeQuery = true)
     Optional<FileData> getFileAtTimestamp(long fileId, long timestamp);
+
+    /**
+     * Retrieves the file data of a file within the consensus timestamp range in consensus order.
+     *
+     * @param fileId        The ID of the file.
+     * @param fromTimestamp The inclusive lower bound of the consensus timestamp.
+     * @param toTimestamp   The inclusive upper bound of the consensus timestamp.
+     * @return The file data in the range.
+     */
+    @Query(
+            value =
+                    """
+            select *
+            from file_data
+            where entity_id = ?1
+              and consensus_timestamp >= ?2
+              and consensus_timestamp <= ?3
+            order by consensus_timestamp""",
+            nativeQuery = true)
+    List<FileData> findFileHistory(long fileId, long fromTimestamp, long toTimestamp);
 }
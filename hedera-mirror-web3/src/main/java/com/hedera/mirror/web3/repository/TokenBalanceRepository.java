@@ -16,8 +16,12 @@
 
 package com.hedera.mirror.web3.repository;
 
+import static com.hedera.mirror.web3.evm.config.EvmConfiguration.CACHE_MANAGER_HISTORICAL;
+import static com.hedera.mirror.web3.evm.config.EvmConfiguration.CACHE_NAME_TOKEN_BALANCE;
+
 import com.hedera.mirror.common.domain.balance.TokenBalance;
 import java.util.Optional;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.CrudRepository;
 
@@ -95,5 +99,9 @@ public interface TokenBalanceRepository extends CrudRepository<TokenBalance, Tok
                     select coalesce((select balance from base), 0) + coalesce((select amount from change), 0)
                     """,
             nativeQuery = true)
+    @Cacheable(
+            cacheNames = CACHE_NAME_TOKEN_BALANCE,
+            cacheManager = CACHE_MANAGER_HISTORICAL,
+            unless = "#result == null")
     Optional<Long> findHistoricalTokenBalanceUpToTimestamp(long tokenId, long accountId, long blockTimestamp);
 }
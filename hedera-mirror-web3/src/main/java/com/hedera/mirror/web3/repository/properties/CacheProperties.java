@@ -31,6 +31,12 @@ public class CacheProperties {
      */
     private static final String ENTITY_CACHE_CONFIG = "expireAfterWrite=1s,maximumSize=10000,recordStats";
 
+    /**
+     * The weight of the code cache approximates the size of the analyzed code in bytes
+     */
+    @NotBlank
+    private String code = "maximumWeight=33554432,recordStats";
+
     @NotBlank
     private String contract = "expireAfterAccess=1h,maximumSize=1000,recordStats";
 
@@ -38,11 +44,17 @@ public class CacheProperties {
     private String contractState = ENTITY_CACHE_CONFIG;
 
     @NotBlank
-    private String fee = "expireAfterWrite=10m,maximumSize=20,recordStats";
+    private String contractSlots = "expireAfterAccess=5m,maximumSize=3000,recordStats";
 
     @NotBlank
     private String entity = ENTITY_CACHE_CONFIG;
 
+    /**
+     * The weight of each historical cache approximates the size of its entries in bytes
+     */
+    @NotBlank
+    private String historical = "maximumWeight=33554432,recordStats";
+
     @NotBlank
     private String token = ENTITY_CACHE_CONFIG;
 
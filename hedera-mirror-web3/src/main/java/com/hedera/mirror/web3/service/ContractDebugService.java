@@ -22,6 +22,7 @@ import static com.hedera.mirror.web3.service.model.CallServiceParameters.CallTyp
 import com.hedera.mirror.web3.common.ContractCallContext;
 import com.hedera.mirror.web3.evm.contracts.execution.MirrorEvmTxProcessor;
 import com.hedera.mirror.web3.evm.contracts.execution.OpcodesProcessingResult;
+import com.hedera.mirror.web3.evm.contracts.execution.traceability.Opcode;
 import com.hedera.mirror.web3.evm.contracts.execution.traceability.OpcodeTracerOptions;
 import com.hedera.mirror.web3.evm.properties.MirrorNodeEvmProperties;
 import com.hedera.mirror.web3.evm.store.Store;
@@ -32,9 +33,11 @@ import com.hedera.mirror.web3.throttle.ThrottleProperties;
 import com.hedera.node.app.service.evm.contracts.execution.HederaEvmTransactionProcessingResult;
 import io.github.bucket4j.Bucket;
 import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.Nullable;
 import jakarta.inject.Named;
 import jakarta.validation.Valid;
 import java.util.Optional;
+import java.util.function.Consumer;
 import lombok.CustomLog;
 import org.springframework.validation.annotation.Validated;
 
@@ -69,8 +72,20 @@ public class ContractDebugService extends ContractCallService {
 
     public OpcodesProcessingResult processOpcodeCall(
             final @Valid ContractDebugParameters params, final OpcodeTracerOptions opcodeTracerOptions) {
+        return processOpcodeCall(params, opcodeTracerOptions, null);
+    }
+
+    /**
+     * Re-executes the transaction, passing each traced opcode to the listener as soon as it's traced. The opcodes of
+     * the returned result are empty when a listener is provided.
+     */
+    public OpcodesProcessingResult processOpcodeCall(
+            final @Valid ContractDebugParameters params,
+            final OpcodeTracerOptions opcodeTracerOptions,
+            final @Nullable Consumer<Opcode> opcodeListener) {
         return ContractCallContext.run(ctx -> {
             ctx.setTimestamp(Optional.of(params.getConsensusTimestamp() - 1));
+            ctx.setOpcodeListener(opcodeListener);
             ctx.setOpcodeTracerOptions(opcodeTracerOptions);
             ctx.setContractActions(contractActionRepository.findFailedSystemActionsByConsensusTimestamp(
                     params.getConsensusTimestamp()));
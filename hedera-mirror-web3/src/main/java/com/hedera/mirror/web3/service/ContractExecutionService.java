@@ -19,6 +19,7 @@ package com.hedera.mirror.web3.service;
 import static com.hedera.mirror.web3.service.model.CallServiceParameters.CallType;
 
 import com.google.common.base.Stopwatch;
+import com.hedera.mirror.web3.Web3Properties;
 import com.hedera.mirror.web3.common.ContractCallContext;
 import com.hedera.mirror.web3.evm.contracts.execution.MirrorEvmTxProcessor;
 import com.hedera.mirror.web3.evm.properties.MirrorNodeEvmProperties;
@@ -27,9 +28,15 @@ import com.hedera.mirror.web3.service.model.ContractExecutionParameters;
 import com.hedera.mirror.web3.service.utils.BinaryGasEstimator;
 import com.hedera.mirror.web3.throttle.ThrottleProperties;
 import io.github.bucket4j.Bucket;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Meter.MeterProvider;
 import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.inject.Named;
+import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
 import lombok.CustomLog;
 import org.apache.tuweni.bytes.Bytes;
 
@@ -37,7 +44,11 @@ import org.apache.tuweni.bytes.Bytes;
 @Named
 public class ContractExecutionService extends ContractCallService {
 
+    static final String ESTIMATE_READS_METRIC = "hedera.mirror.web3.estimate.reads";
+
     private final BinaryGasEstimator binaryGasEstimator;
+    private final MeterProvider<DistributionSummary> estimateReadsSummary;
+    private final Web3Properties web3Properties;
 
     @SuppressWarnings("java:S107")
     public ContractExecutionService(
@@ -49,7 +60,8 @@ public class ContractExecutionService extends ContractCallService {
             ThrottleProperties throttleProperties,
             Bucket gasLimitBucket,
             MirrorNodeEvmProperties mirrorNodeEvmProperties,
-            TransactionExecutionService transactionExecutionService) {
+            TransactionExecutionService transactionExecutionService,
+            Web3Properties web3Properties) {
         super(
                 mirrorEvmTxProcessor,
                 gasLimitBucket,
@@ -60,31 +72,64 @@ public class ContractExecutionService extends ContractCallService {
                 mirrorNodeEvmProperties,
                 transactionExecutionService);
         this.binaryGasEstimator = binaryGasEstimator;
+        this.estimateReadsSummary = DistributionSummary.builder(ESTIMATE_READS_METRIC)
+                .description("The number of state reads from the database for all iterations of a gas estimate")
+                .withRegistry(meterRegistry);
+        this.web3Properties = web3Properties;
     }
 
     public String processCall(final ContractExecutionParameters params) {
-        return ContractCallContext.run(ctx -> {
-            var stopwatch = Stopwatch.createStarted();
-            var stringResult = "";
-
-            try {
-                updateGasLimitMetric(params.getCallType(), params.getGas());
-
-                Bytes result;
-                if (params.isEstimate()) {
-                    result = estimateGas(params, ctx);
-                } else {
-                    final var ethCallTxnResult = callContract(params, ctx);
-                    result = Objects.requireNonNullElse(ethCallTxnResult.getOutput(), Bytes.EMPTY);
-                }
-
-                stringResult = result.toHexString();
-            } finally {
-                log.debug("Processed request {} in {}: {}", params, stopwatch, stringResult);
+        return ContractCallContext.run(ctx -> processCall(params, ctx));
+    }
+
+    /**
+     * Processes the calls concurrently on virtual threads. The calls share one state snapshot, so state read by one of
+     * them is served from memory to the others, and must therefore all be against the same block. At most the
+     * configured batch concurrency of calls run at once so a single batch can't hold most of the database connections.
+     * The results are returned in the order of the calls and complete exceptionally with the error the call would have
+     * failed with on its own. This method returns once all the calls are complete.
+     */
+    public List<CompletableFuture<String>> processCalls(final List<ContractExecutionParameters> params) {
+        final var permits = new Semaphore(web3Properties.getMaxBatchConcurrency());
+        final var snapshot = ContractCallContext.newSnapshot();
+
+        try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            return params.stream()
+                    .map(p -> CompletableFuture.supplyAsync(
+                            () -> {
+                                permits.acquireUninterruptibly();
+                                try {
+                                    return ContractCallContext.run(snapshot, ctx -> processCall(p, ctx));
+                                } finally {
+                                    permits.release();
+                                }
+                            },
+                            executor))
+                    .toList();
+        }
+    }
+
+    private String processCall(final ContractExecutionParameters params, final ContractCallContext ctx) {
+        var stopwatch = Stopwatch.createStarted();
+        var stringResult = "";
+
+        try {
+            updateGasLimitMetric(params.getCallType(), params.getGas());
+
+            Bytes result;
+            if (params.isEstimate()) {
+                result = estimateGas(params, ctx);
+            } else {
+                final var ethCallTxnResult = callContract(params, ctx);
+                result = Objects.requireNonNullElse(ethCallTxnResult.getOutput(), Bytes.EMPTY);
             }
 
-            return stringResult;
-        });
+            stringResult = result.toHexString();
+        } finally {
+            log.debug("Processed request {} in {}: {}", params, stopwatch, stringResult);
+        }
+
+        return stringResult;
     }
 
     /**
@@ -97,24 +142,33 @@ public class ContractExecutionService extends ContractCallService {
      * <p>
      * 2. Finally, if the first step is successful, a binary search is initiated. The lower bound of the search is the
      * gas used in the first step, while the upper bound is the inputted gas parameter.
+     * <p>
+     * All iterations share the state read by the first call through the context's snapshot, so only state that wasn't
+     * read before goes to the database.
      */
     private Bytes estimateGas(final ContractExecutionParameters params, final ContractCallContext context) {
-        final var processingResult = callContract(params, context);
-        validateResult(processingResult, CallType.ETH_ESTIMATE_GAS);
+        try {
+            final var processingResult = callContract(params, context);
+            validateResult(processingResult, CallType.ETH_ESTIMATE_GAS);
 
-        final var gasUsedByInitialCall = processingResult.getGasUsed();
+            final var gasUsedByInitialCall = processingResult.getGasUsed();
 
-        // sanity check ensuring gasUsed is always lower than the inputted one
-        if (gasUsedByInitialCall >= params.getGas()) {
-            return Bytes.ofUnsignedLong(gasUsedByInitialCall);
-        }
-
-        final var estimatedGas = binaryGasEstimator.search(
-                (totalGas, iterations) -> updateGasUsedMetric(CallType.ETH_ESTIMATE_GAS, totalGas, iterations),
-                gas -> doProcessCall(params, gas, false),
-                gasUsedByInitialCall,
-                params.getGas());
+            // sanity check ensuring gasUsed is always lower than the inputted one
+            if (gasUsedByInitialCall >= params.getGas()) {
+                return Bytes.ofUnsignedLong(gasUsedByInitialCall);
+            }
 
-        return Bytes.ofUnsignedLong(estimatedGas);
+            final var estimatedGas = binaryGasEstimator.search(
+                    (totalGas, iterations) -> updateGasUsedMetric(CallType.ETH_ESTIMATE_GAS, totalGas, iterations),
+                    gas -> doProcessCall(params, gas, false),
+                    gasUsedByInitialCall,
+                    params.getGas());
+
+            return Bytes.ofUnsignedLong(estimatedGas);
+        } finally {
+            estimateReadsSummary
+                    .withTags("type", CallType.ETH_ESTIMATE_GAS.toString())
+                    .record(context.getDatabaseReads());
+        }
     }
 }
@@ -0,0 +1,32 @@
+/*
+ * Copyright (C) 2025 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.web3.service;
+
+import java.util.Optional;
+
+public interface ContractStateService {
+
+    /**
+     * Finds the storage value of a contract slot at the current block of the contract call, loading the other slots
+     * recently read from the same contract in the same query and keeping them for the rest of the call.
+     *
+     * @param contractId the ID of the contract
+     * @param slot       the slot in the contract's storage
+     * @return the storage value of the slot, or an empty optional if the slot is not set
+     */
+    Optional<byte[]> findStorage(Long contractId, byte[] slot);
+}
@@ -0,0 +1,162 @@
+/*
+ * Copyright (C) 2025 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.web3.service;
+
+import static com.hedera.mirror.web3.evm.config.EvmConfiguration.CACHE_MANAGER_CONTRACT_SLOTS;
+import static com.hedera.mirror.web3.evm.config.EvmConfiguration.CACHE_MANAGER_CONTRACT_STATE;
+import static com.hedera.mirror.web3.evm.config.EvmConfiguration.CACHE_MANAGER_HISTORICAL;
+import static com.hedera.mirror.web3.evm.config.EvmConfiguration.CACHE_NAME;
+import static com.hedera.mirror.web3.evm.config.EvmConfiguration.CACHE_NAME_CONTRACT_STORAGE;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.hedera.mirror.web3.common.ContractCallContext;
+import com.hedera.mirror.web3.repository.ContractStateRepository;
+import com.hedera.mirror.web3.repository.projections.ContractSlotValue;
+import com.hedera.pbj.runtime.io.buffer.Bytes;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.interceptor.SimpleKey;
+import org.springframework.stereotype.Service;
+
+@Service
+public class ContractStateServiceImpl implements ContractStateService {
+
+    static final int MAX_BATCH_SIZE = 1000;
+    private static final String SLOT_CACHE_KEY = "CONTRACT_SLOTS";
+
+    private final Cache contractSlotsCache;
+    private final Cache contractStateCache;
+    private final Cache contractStorageHistoricalCache;
+    private final ContractStateRepository contractStateRepository;
+
+    public ContractStateServiceImpl(
+            @Qualifier(CACHE_MANAGER_CONTRACT_SLOTS) CacheManager contractSlotsCacheManager,
+            @Qualifier(CACHE_MANAGER_CONTRACT_STATE) CacheManager contractStateCacheManager,
+            @Qualifier(CACHE_MANAGER_HISTORICAL) CacheManager historicalCacheManager,
+            ContractStateRepository contractStateRepository) {
+        this.contractSlotsCache = contractSlotsCacheManager.getCache(CACHE_NAME);
+        this.contractStateCache = contractStateCacheManager.getCache(CACHE_NAME);
+        this.contractStorageHistoricalCache = historicalCacheManager.getCache(CACHE_NAME_CONTRACT_STORAGE);
+        this.contractStateRepository = contractStateRepository;
+    }
+
+    @Override
+    @SuppressWarnings({"java:S2789", "unchecked"})
+    public Optional<byte[]> findStorage(Long contractId, byte[] slot) {
+        final var context = ContractCallContext.get();
+        final var loaded = context.getReadCacheState(SLOT_CACHE_KEY);
+        final var key = new SlotCacheKey(contractId, Bytes.wrap(slot));
+        final var cached = (Optional<byte[]>) loaded.get(key);
+        if (cached != null) {
+            return cached;
+        }
+
+        final var recentSlots = getRecentSlots(contractId);
+        recentSlots.add(key.slot());
+
+        final var timestamp = context.getTimestamp();
+        final var value = getCachedState(contractId, slot, timestamp);
+        if (value != null) {
+            loaded.put(key, value);
+            return value;
+        }
+
+        final var slots = new ArrayList<byte[]>();
+        slots.add(slot);
+
+        for (var recentSlot : recentSlots) {
+            if (slots.size() >= MAX_BATCH_SIZE) {
+                break;
+            }
+
+            final var recentKey = new SlotCacheKey(contractId, recentSlot);
+            if (recentSlot.equals(key.slot()) || loaded.containsKey(recentKey)) {
+                continue;
+            }
+
+            final var recentSlotBytes = recentSlot.toByteArray();
+            final var recentValue = getCachedState(contractId, recentSlotBytes, timestamp);
+            if (recentValue != null) {
+                loaded.put(recentKey, recentValue);
+            } else {
+                slots.add(recentSlotBytes);
+            }
+        }
+
+        if (slots.size() == 1) {
+            final var storage = timestamp
+                    .map(t -> contractStateRepository.findStorageByBlockTimestamp(contractId, slot, t))
+                    .orElseGet(() -> contractStateRepository.findStorage(contractId, slot));
+            loaded.put(key, storage);
+            return storage;
+        }
+
+        final List<ContractSlotValue> values = timestamp
+                .map(t -> contractStateRepository.findStorageBatchByBlockTimestamp(contractId, slots, t))
+                .orElseGet(() -> contractStateRepository.findStorageBatch(contractId, slots));
+
+        // Remember the slots that aren't set as well so they're not queried again
+        slots.forEach(s -> loaded.put(new SlotCacheKey(contractId, Bytes.wrap(s)), Optional.empty()));
+        values.forEach(v -> {
+            loaded.put(new SlotCacheKey(contractId, Bytes.wrap(v.getSlot())), Optional.ofNullable(v.getValue()));
+
+            // Share the values with the caches of ContractStateRepository.findStorage and findStorageByBlockTimestamp
+            if (v.getValue() != null) {
+                timestamp.ifPresentOrElse(
+                        t -> contractStorageHistoricalCache.put(
+                                new SimpleKey(contractId, v.getSlot(), t), v.getValue()),
+                        () -> contractStateCache.put(new SimpleKey(contractId, v.getSlot()), v.getValue()));
+            }
+        });
+        return (Optional<byte[]>) loaded.get(key);
+    }
+
+    /**
+     * Gets the storage value cached by ContractStateRepository.findStorage, or by findStorageByBlockTimestamp for a
+     * historical call. Both only cache the slots that are set.
+     */
+    private Optional<byte[]> getCachedState(Long contractId, byte[] slot, Optional<Long> timestamp) {
+        final var cached = timestamp.isPresent()
+                ? contractStorageHistoricalCache.get(new SimpleKey(contractId, slot, timestamp.get()), byte[].class)
+                : contractStateCache.get(new SimpleKey(contractId, slot), byte[].class);
+        return cached != null ? Optional.of(cached) : null;
+    }
+
+    /**
+     * Gets the slots recently read from the contract. It's bounded to the maximum batch size, evicting the slots that
+     * haven't been read recently or often so the batch follows the contract's currently hot slots.
+     */
+    private Set<Bytes> getRecentSlots(Long contractId) {
+        return contractSlotsCache.get(contractId, () -> {
+            final Map<Bytes, Boolean> slots = Caffeine.newBuilder()
+                    .executor(Runnable::run)
+                    .maximumSize(MAX_BATCH_SIZE)
+                    .<Bytes, Boolean>build()
+                    .asMap();
+            return Collections.newSetFromMap(slots);
+        });
+    }
+
+    private record SlotCacheKey(Long contractId, Bytes slot) {}
+}
@@ -20,6 +20,7 @@ import com.hedera.mirror.rest.model.OpcodesResponse;
 import com.hedera.mirror.web3.common.TransactionIdOrHashParameter;
 import com.hedera.mirror.web3.evm.contracts.execution.traceability.OpcodeTracerOptions;
 import org.springframework.lang.NonNull;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 public interface OpcodeService {
 
@@ -30,4 +31,13 @@ public interface OpcodeService {
      */
     OpcodesResponse processOpcodeCall(
             @NonNull TransactionIdOrHashParameter transactionIdOrHash, @NonNull OpcodeTracerOptions options);
+
+    /**
+     * @param transactionIdOrHash the {@link TransactionIdOrHashParameter}
+     * @param options the {@link OpcodeTracerOptions}
+     * @return the {@link StreamingResponseBody} that re-executes the transaction and writes each opcode to the response
+     * as it's traced
+     */
+    StreamingResponseBody streamOpcodeCall(
+            @NonNull TransactionIdOrHashParameter transactionIdOrHash, @NonNull OpcodeTracerOptions options);
 }
@@ -36,6 +36,7 @@ import com.hedera.mirror.web3.common.TransactionIdOrHashParameter;
 import com.hedera.mirror.web3.common.TransactionIdParameter;
 import com.hedera.mirror.web3.evm.contracts.execution.OpcodesProcessingResult;
 import com.hedera.mirror.web3.evm.contracts.execution.traceability.OpcodeTracerOptions;
+import com.hedera.mirror.web3.evm.properties.OpcodeTracerProperties;
 import com.hedera.mirror.web3.evm.store.accessor.EntityDatabaseAccessor;
 import com.hedera.mirror.web3.exception.EntityNotFoundException;
 import com.hedera.mirror.web3.repository.ContractResultRepository;
@@ -55,6 +56,7 @@ import org.apache.tuweni.bytes.Bytes;
 import org.hyperledger.besu.datatypes.Address;
 import org.springframework.lang.NonNull;
 import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @Service
 @CustomLog
@@ -68,6 +70,7 @@ public class OpcodeServiceImpl implements OpcodeService {
     private final TransactionRepository transactionRepository;
     private final ContractResultRepository contractResultRepository;
     private final EntityDatabaseAccessor entityDatabaseAccessor;
+    private final OpcodeTracerProperties opcodeTracerProperties;
 
     @Override
     public OpcodesResponse processOpcodeCall(
@@ -77,6 +80,28 @@ public class OpcodeServiceImpl implements OpcodeService {
         return buildOpcodesResponse(result);
     }
 
+    @Override
+    public StreamingResponseBody streamOpcodeCall(
+            @NonNull TransactionIdOrHashParameter transactionIdOrHashParameter, @NonNull OpcodeTracerOptions options) {
+        // Resolve the transaction before the response is committed so not found errors are still returned as such
+        final ContractDebugParameters params = buildCallServiceParameters(transactionIdOrHashParameter);
+        final long maxTraceSize = opcodeTracerProperties.getMaxTraceSize().toBytes();
+
+        return outputStream -> {
+            try (var writer = new OpcodesStreamWriter(outputStream, maxTraceSize)) {
+                final var result = contractDebugService.processOpcodeCall(params, options, writer::write);
+                writer.writeEnd(buildOpcodesResponse(result));
+
+                if (writer.isTruncated()) {
+                    log.warn(
+                            "Truncated opcode trace for {} after reaching {} bytes",
+                            transactionIdOrHashParameter,
+                            maxTraceSize);
+                }
+            }
+        };
+    }
+
     private ContractDebugParameters buildCallServiceParameters(
             @NonNull TransactionIdOrHashParameter transactionIdOrHash) {
         final Long consensusTimestamp;
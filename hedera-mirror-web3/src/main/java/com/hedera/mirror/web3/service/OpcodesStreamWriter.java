@@ -0,0 +1,131 @@
+/*
+ * Copyright (C) 2025 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.web3.service;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.StreamWriteFeature;
+import com.google.common.io.CountingOutputStream;
+import com.hedera.mirror.rest.model.OpcodesResponse;
+import com.hedera.mirror.web3.evm.contracts.execution.traceability.Opcode;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Map;
+import lombok.Getter;
+import lombok.SneakyThrows;
+import org.apache.tuweni.bytes.Bytes;
+
+/**
+ * Writes the opcodes response as JSON while the transaction is re-executed, so each opcode is written to the output as
+ * soon as it's traced instead of the whole trace being collected in memory first. Instead of the full memory, each
+ * opcode contains the memory words that changed since the previous opcode of the same call frame in
+ * {@code memory_changes}, as captured by the tracer. Once the trace reaches its maximum size, the remaining opcodes are
+ * skipped and the response is marked as truncated. If the re-execution fails, the JSON is left unterminated so a
+ * partial trace can't be mistaken for a complete one.
+ */
+class OpcodesStreamWriter implements Closeable {
+
+    private static final JsonFactory JSON_FACTORY = JsonFactory.builder()
+            .disable(StreamWriteFeature.AUTO_CLOSE_CONTENT)
+            .disable(StreamWriteFeature.AUTO_CLOSE_TARGET)
+            .build();
+
+    private final JsonGenerator generator;
+    private final long maxTraceSize;
+    private final CountingOutputStream outputStream;
+
+    @Getter
+    private boolean truncated;
+
+    OpcodesStreamWriter(OutputStream outputStream, long maxTraceSize) throws IOException {
+        this.outputStream = new CountingOutputStream(outputStream);
+        this.generator = JSON_FACTORY.createGenerator(this.outputStream);
+        this.maxTraceSize = maxTraceSize;
+        generator.writeStartObject();
+        generator.writeArrayFieldStart("opcodes");
+    }
+
+    @SneakyThrows(IOException.class)
+    void write(Opcode opcode) {
+        if (truncated) {
+            return;
+        }
+
+        if (getSize() >= maxTraceSize) {
+            truncated = true;
+            return;
+        }
+
+        generator.writeStartObject();
+        generator.writeNumberField("depth", opcode.depth());
+        generator.writeNumberField("gas", opcode.gas());
+        generator.writeNumberField("gas_cost", opcode.gasCost());
+        writeMemoryChanges(opcode);
+        generator.writeStringField("op", opcode.op());
+        generator.writeNumberField("pc", opcode.pc());
+        if (opcode.reason() != null) {
+            generator.writeStringField("reason", opcode.reason());
+        }
+
+        generator.writeArrayFieldStart("stack");
+        for (var item : opcode.stack()) {
+            generator.writeString(item.toHexString());
+        }
+        generator.writeEndArray();
+
+        generator.writeObjectFieldStart("storage");
+        for (Map.Entry<Bytes, Bytes> entry : opcode.storage().entrySet()) {
+            generator.writeStringField(entry.getKey().toHexString(), entry.getValue().toHexString());
+        }
+        generator.writeEndObject();
+        generator.writeEndObject();
+    }
+
+    /**
+     * Ends the opcodes and writes the rest of the response.
+     */
+    void writeEnd(OpcodesResponse response) throws IOException {
+        generator.writeEndArray();
+        generator.writeStringField("address", response.getAddress());
+        if (response.getContractId() != null) {
+            generator.writeStringField("contract_id", response.getContractId());
+        }
+        generator.writeBooleanField("failed", response.getFailed());
+        generator.writeNumberField("gas", response.getGas());
+        generator.writeStringField("return_value", response.getReturnValue());
+        generator.writeBooleanField("truncated", truncated);
+        generator.writeEndObject();
+    }
+
+    @Override
+    public void close() throws IOException {
+        generator.close();
+    }
+
+    private long getSize() {
+        return outputStream.getCount() + Math.max(generator.getOutputBuffered(), 0);
+    }
+
+    private void writeMemoryChanges(Opcode opcode) throws IOException {
+        generator.writeObjectFieldStart("memory_changes");
+        for (Map.Entry<Integer, Bytes> entry : opcode.memoryChanges().entrySet()) {
+            generator.writeStringField(String.valueOf(entry.getKey()), entry.getValue().toHexString());
+        }
+        generator.writeEndObject();
+    }
+}
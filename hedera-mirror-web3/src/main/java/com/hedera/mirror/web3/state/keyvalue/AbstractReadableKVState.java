@@ -16,10 +16,13 @@
 
 package com.hedera.mirror.web3.state.keyvalue;
 
+import com.hedera.mirror.web3.common.ContractCallContext;
 import com.swirlds.state.spi.ReadableKVStateBase;
 import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
 import java.util.Collections;
 import java.util.Iterator;
+import java.util.Objects;
 
 public abstract class AbstractReadableKVState<K, V> extends ReadableKVStateBase<K, V> {
 
@@ -27,6 +30,20 @@ public abstract class AbstractReadableKVState<K, V> extends ReadableKVStateBase<
         super(stateKey);
     }
 
+    /**
+     * Reads through the call's snapshot so the database is only read once per key, even if the read cache is reset
+     * between executions of the same call.
+     */
+    @Nullable
+    @Override
+    public V get(@Nonnull K key) {
+        Objects.requireNonNull(key);
+        if (!hasBeenRead(key)) {
+            markRead(key, ContractCallContext.get().readThrough(getStateKey(), key, this::readFromDataSource));
+        }
+        return super.get(key);
+    }
+
     @Nonnull
     @Override
     protected Iterator<K> iterateFromDataSource() {
@@ -18,8 +18,7 @@ package com.hedera.mirror.web3.state.keyvalue;
 
 import com.hedera.hapi.node.state.contract.SlotKey;
 import com.hedera.hapi.node.state.contract.SlotValue;
-import com.hedera.mirror.web3.common.ContractCallContext;
-import com.hedera.mirror.web3.repository.ContractStateRepository;
+import com.hedera.mirror.web3.service.ContractStateService;
 import com.hedera.pbj.runtime.io.buffer.Bytes;
 import com.hedera.services.utils.EntityIdUtils;
 import jakarta.annotation.Nonnull;
@@ -29,11 +28,11 @@ import jakarta.inject.Named;
 public class ContractStorageReadableKVState extends AbstractReadableKVState<SlotKey, SlotValue> {
 
     public static final String KEY = "STORAGE";
-    private final ContractStateRepository contractStateRepository;
+    private final ContractStateService contractStateService;
 
-    protected ContractStorageReadableKVState(final ContractStateRepository contractStateRepository) {
+    protected ContractStorageReadableKVState(final ContractStateService contractStateService) {
         super(KEY);
-        this.contractStateRepository = contractStateRepository;
+        this.contractStateService = contractStateService;
     }
 
     @Override
@@ -42,13 +41,11 @@ public class ContractStorageReadableKVState extends AbstractReadableKVState<Slot
             return null;
         }
 
-        final var timestamp = ContractCallContext.get().getTimestamp();
         final var contractID = slotKey.contractID();
         final var entityId = EntityIdUtils.entityIdFromContractId(contractID).getId();
         final var keyBytes = slotKey.key().toByteArray();
-        return timestamp
-                .map(t -> contractStateRepository.findStorageByBlockTimestamp(entityId, keyBytes, t))
-                .orElse(contractStateRepository.findStorage(entityId, keyBytes))
+        return contractStateService
+                .findStorage(entityId, keyBytes)
                 .map(byteArr -> new SlotValue(Bytes.wrap(byteArr), Bytes.EMPTY, Bytes.EMPTY))
                 .orElse(null);
     }
@@ -0,0 +1,50 @@
+/*
+ * Copyright (C) 2025 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.web3.viewmodel;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import lombok.Data;
+
+@Data
+public class ContractCallBatchRequest {
+
+    // Maximum size validated in ContractController
+    @NotEmpty
+    private List<@NotNull @Valid ContractCallRequest> calls = new ArrayList<>();
+
+    /**
+     * The calls share one state snapshot, so they must all read the same block.
+     */
+    @AssertTrue(message = "must all use the same block")
+    private boolean isSameBlock() {
+        return calls == null
+                || calls.stream()
+                                .filter(Objects::nonNull)
+                                .map(ContractCallRequest::getBlock)
+                                .filter(Objects::nonNull)
+                                .map(BlockType::number)
+                                .distinct()
+                                .count()
+                        <= 1;
+    }
+}
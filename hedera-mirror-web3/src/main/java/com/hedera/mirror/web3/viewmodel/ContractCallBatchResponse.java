@@ -0,0 +1,28 @@
+/*
+ * Copyright (C) 2025 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.web3.viewmodel;
+
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.hedera.mirror.web3.convert.RuntimeTypeSerializer;
+import java.util.List;
+
+/**
+ * The results of a batch of contract calls, in the order of the request. Each is either a {@link ContractCallResponse}
+ * or the {@link GenericErrorResponse} the call would have failed with on its own.
+ */
+public record ContractCallBatchResponse(
+        @JsonSerialize(contentUsing = RuntimeTypeSerializer.class) List<Object> results) {}
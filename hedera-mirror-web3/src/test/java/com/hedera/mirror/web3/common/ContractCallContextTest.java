@@ -26,6 +26,8 @@ import com.hedera.mirror.web3.utils.BareDatabaseAccessor;
 import com.hedera.mirror.web3.viewmodel.BlockType;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 
@@ -73,4 +75,25 @@ class ContractCallContextTest {
 
         assertThat(context.getTimestamp()).isEqualTo(Optional.of(timestamp));
     }
+
+    @Test
+    void testReadThrough() {
+        var context = ContractCallContext.get();
+        var reads = new AtomicInteger();
+        Function<Long, String> loader = key -> {
+            reads.incrementAndGet();
+            return key == 1L ? "value" : null;
+        };
+
+        assertThat(context.readThrough("state", 1L, loader)).isEqualTo("value");
+        assertThat(context.readThrough("state", 2L, loader)).isNull();
+        context.getReadCacheState("state").clear();
+        context.reset();
+
+        assertThat(context.readThrough("state", 1L, loader)).isEqualTo("value");
+        assertThat(context.readThrough("state", 2L, loader)).isNull();
+        assertThat(context.readThrough("other", 1L, loader)).isEqualTo("value");
+        assertThat(reads).hasValue(3);
+        assertThat(context.getDatabaseReads()).isEqualTo(3);
+    }
 }
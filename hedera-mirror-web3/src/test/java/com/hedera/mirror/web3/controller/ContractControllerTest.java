@@ -22,10 +22,14 @@ import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.springframework.http.HttpStatus.BAD_REQUEST;
+import static org.springframework.http.HttpStatus.INTERNAL_SERVER_ERROR;
 import static org.springframework.http.HttpStatus.NOT_FOUND;
 import static org.springframework.http.HttpStatus.NOT_IMPLEMENTED;
+import static org.springframework.http.HttpStatus.SERVICE_UNAVAILABLE;
+import static org.springframework.http.HttpStatus.TOO_MANY_REQUESTS;
 import static org.springframework.http.HttpStatus.UNSUPPORTED_MEDIA_TYPE;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.options;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
@@ -42,10 +46,14 @@ import com.hedera.mirror.web3.exception.BlockNumberOutOfRangeException;
 import com.hedera.mirror.web3.exception.EntityNotFoundException;
 import com.hedera.mirror.web3.exception.InvalidParametersException;
 import com.hedera.mirror.web3.exception.MirrorEvmTransactionException;
+import com.hedera.mirror.web3.exception.RateLimitException;
 import com.hedera.mirror.web3.service.ContractExecutionService;
 import com.hedera.mirror.web3.throttle.ThrottleProperties;
 import com.hedera.mirror.web3.viewmodel.BlockType;
+import com.hedera.mirror.web3.viewmodel.ContractCallBatchRequest;
+import com.hedera.mirror.web3.viewmodel.ContractCallBatchResponse;
 import com.hedera.mirror.web3.viewmodel.ContractCallRequest;
+import com.hedera.mirror.web3.viewmodel.ContractCallResponse;
 import com.hedera.mirror.web3.viewmodel.GenericErrorResponse;
 import com.hedera.mirror.web3.web3j.generated.DynamicEthCalls;
 import com.hedera.mirror.web3.web3j.generated.ERCTestContractHistorical;
@@ -60,6 +68,9 @@ import io.github.bucket4j.Bucket;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import jakarta.annotation.Resource;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import lombok.SneakyThrows;
 import org.apache.commons.lang3.StringUtils;
 import org.hamcrest.core.StringContains;
@@ -78,6 +89,7 @@ import org.springframework.boot.test.system.OutputCaptureExtension;
 import org.springframework.context.annotation.Bean;
 import org.springframework.dao.QueryTimeoutException;
 import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConversionException;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 import org.springframework.test.web.servlet.MockMvc;
@@ -126,6 +138,14 @@ class ContractControllerTest {
         return objectMapper.writeValueAsString(object);
     }
 
+    @SneakyThrows
+    private ResultActions contractCallBatch(ContractCallBatchRequest request) {
+        return mockMvc.perform(post(CALL_URI + "/batch")
+                .accept(MediaType.APPLICATION_JSON)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(convert(request)));
+    }
+
     @SneakyThrows
     private ResultActions contractCall(ContractCallRequest request) {
         return mockMvc.perform(post(CALL_URI)
@@ -551,6 +571,97 @@ class ContractControllerTest {
         assertThat(capturedOutput.getOut()).contains(expected);
     }
 
+    @Test
+    void callBatch() throws Exception {
+        final var revertMessage = "Custom revert message";
+        final var invalidRequest = request();
+        final var batch = batchRequest(request(), invalidRequest, request());
+        final var maxDataSize = evmProperties.getMaxDataSize().toBytes();
+        invalidRequest.setData("0x" + "00".repeat((int) maxDataSize + 1));
+        final var invalidDataError = ("data field of size %d contains invalid hexadecimal characters or exceeds %d "
+                        + "characters")
+                .formatted(invalidRequest.getData().length(), maxDataSize * 2L);
+
+        given(rateLimitBucket.tryConsume(3)).willReturn(true);
+        given(gasLimitBucket.tryConsume(anyLong())).willReturn(true);
+        given(service.processCalls(any()))
+                .willReturn(List.of(
+                        CompletableFuture.completedFuture("0x01"),
+                        CompletableFuture.failedFuture(new MirrorEvmTransactionException(
+                                CONTRACT_REVERT_EXECUTED, revertMessage, StringUtils.EMPTY))));
+
+        contractCallBatch(batch)
+                .andExpect(status().isOk())
+                .andExpect(content()
+                        .string(convert(new ContractCallBatchResponse(List.of(
+                                new ContractCallResponse("0x01"),
+                                new GenericErrorResponse(BAD_REQUEST.getReasonPhrase(), invalidDataError),
+                                new GenericErrorResponse(
+                                        CONTRACT_REVERT_EXECUTED.name(), revertMessage, StringUtils.EMPTY))))));
+
+        verify(gasLimitBucket).tryConsume(Math.floorDiv(THROTTLE_GAS_LIMIT, 2) * 3);
+        verify(gasLimitBucket).addTokens(Math.floorDiv(THROTTLE_GAS_LIMIT, 2));
+    }
+
+    @Test
+    void callBatchErrors() throws Exception {
+        final var batch = batchRequest(request(), request(), request(), request(), request());
+
+        given(rateLimitBucket.tryConsume(5)).willReturn(true);
+        given(gasLimitBucket.tryConsume(anyLong())).willReturn(true);
+        given(service.processCalls(any()))
+                .willReturn(List.of(
+                        CompletableFuture.failedFuture(new PrecompileNotSupportedException("Not supported")),
+                        CompletableFuture.failedFuture(new RateLimitException("Rate limited")),
+                        CompletableFuture.failedFuture(new HttpMessageConversionException("Not convertible")),
+                        CompletableFuture.failedFuture(new QueryTimeoutException("Timed out")),
+                        CompletableFuture.failedFuture(new IllegalStateException("Internal"))));
+
+        // Each call fails with the same error it would have on its own
+        contractCallBatch(batch)
+                .andExpect(status().isOk())
+                .andExpect(content()
+                        .string(convert(new ContractCallBatchResponse(List.of(
+                                new GenericErrorResponse(NOT_IMPLEMENTED.getReasonPhrase(), "Not supported"),
+                                new GenericErrorResponse(TOO_MANY_REQUESTS.getReasonPhrase(), "Rate limited"),
+                                new GenericErrorResponse(BAD_REQUEST.getReasonPhrase(), "Not convertible"),
+                                new GenericErrorResponse(SERVICE_UNAVAILABLE.getReasonPhrase()),
+                                new GenericErrorResponse(INTERNAL_SERVER_ERROR.getReasonPhrase()))))));
+    }
+
+    @Test
+    void callBatchExceedingMaxSize() throws Exception {
+        final var calls = new ContractCallRequest[new Web3Properties().getMaxBatchSize() + 1];
+        Arrays.setAll(calls, i -> request());
+
+        contractCallBatch(batchRequest(calls))
+                .andExpect(status().isBadRequest())
+                .andExpect(content()
+                        .string(convert(new GenericErrorResponse(
+                                BAD_REQUEST.getReasonPhrase(), "calls field must not contain more than 25 calls"))));
+        verify(service, never()).processCalls(any());
+    }
+
+    @Test
+    void callBatchDifferentBlocks() throws Exception {
+        final var historicalRequest = request();
+        historicalRequest.setBlock(BlockType.of("0x10"));
+
+        contractCallBatch(batchRequest(request(), historicalRequest))
+                .andExpect(status().isBadRequest())
+                .andExpect(content()
+                        .string(convert(new GenericErrorResponse(
+                                BAD_REQUEST.getReasonPhrase(), "sameBlock field must all use the same block"))));
+    }
+
+    @Test
+    void callBatchExceedingRateLimit() throws Exception {
+        given(rateLimitBucket.tryConsume(2)).willReturn(false);
+
+        contractCallBatch(batchRequest(request(), request())).andExpect(status().isTooManyRequests());
+        verify(service, never()).processCalls(any());
+    }
+
     private ContractCallRequest request() {
         final var request = new ContractCallRequest();
         request.setBlock(BlockType.LATEST);
@@ -563,6 +674,12 @@ class ContractControllerTest {
         return request;
     }
 
+    private ContractCallBatchRequest batchRequest(ContractCallRequest... calls) {
+        final var request = new ContractCallBatchRequest();
+        request.setCalls(List.of(calls));
+        return request;
+    }
+
     private String numberErrorString(String field, String direction, long num) {
         return String.format("%s field must be %s than or equal to %d", field, direction, num);
     }
@@ -21,6 +21,7 @@ import static com.hedera.mirror.common.util.DomainUtils.convertToNanosMax;
 import static com.hedera.mirror.web3.utils.TransactionProviderEnum.entityAddress;
 import static com.hederahashgraph.api.proto.java.ResponseCodeEnum.CONTRACT_EXECUTION_EXCEPTION;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.reset;
@@ -28,10 +29,13 @@ import static org.mockito.Mockito.when;
 import static org.springframework.http.HttpStatus.BAD_REQUEST;
 import static org.springframework.http.HttpStatus.NOT_FOUND;
 import static org.springframework.http.HttpStatus.TOO_MANY_REQUESTS;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.options;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
@@ -49,6 +53,7 @@ import com.hedera.mirror.web3.evm.contracts.execution.OpcodesProcessingResult;
 import com.hedera.mirror.web3.evm.contracts.execution.traceability.Opcode;
 import com.hedera.mirror.web3.evm.contracts.execution.traceability.OpcodeTracerOptions;
 import com.hedera.mirror.web3.evm.properties.MirrorNodeEvmProperties;
+import com.hedera.mirror.web3.evm.properties.OpcodeTracerProperties;
 import com.hedera.mirror.web3.evm.store.accessor.EntityDatabaseAccessor;
 import com.hedera.mirror.web3.exception.MirrorEvmTransactionException;
 import com.hedera.mirror.web3.repository.ContractResultRepository;
@@ -78,8 +83,10 @@ import java.time.Instant;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -257,6 +264,20 @@ class OpcodesControllerTest {
         return content().string(objectMapper.writeValueAsString(expectedBody));
     }
 
+    private static Opcode withMemoryChanges(final Opcode opcode, final Map<Integer, Bytes> memoryChanges) {
+        return new Opcode(
+                opcode.pc(),
+                opcode.op(),
+                opcode.gas(),
+                opcode.gasCost(),
+                opcode.depth(),
+                opcode.stack(),
+                Collections.emptyList(),
+                memoryChanges,
+                opcode.storage(),
+                opcode.reason());
+    }
+
     @BeforeEach
     void setUp() {
         when(rateLimitBucket.tryConsume(anyLong())).thenReturn(true);
@@ -387,6 +408,45 @@ class OpcodesControllerTest {
         assertThat(callServiceParametersCaptor.getValue()).isEqualTo(expectedCallServiceParameters.get());
     }
 
+    @ParameterizedTest
+    @EnumSource(TransactionProviderEnum.class)
+    void streamOpcodes(final TransactionProviderEnum providerEnum) throws Exception {
+        final TransactionIdOrHashParameter transactionIdOrHash = setUp(providerEnum);
+        final var options = new OpcodeTracerOptions(true, true, true);
+        final var result = Builder.successfulOpcodesProcessingResult(expectedCallServiceParameters.get(), options);
+        final var expected = Builder.opcodesResponse(result, entityDatabaseAccessor);
+
+        when(contractDebugService.processOpcodeCall(any(), any(), any())).thenAnswer(context -> {
+            final Consumer<Opcode> opcodeListener = context.getArgument(2);
+            final var opcodes = result.opcodes();
+            opcodeListener.accept(withMemoryChanges(opcodes.get(0), Map.of(0, opcodes.get(0).memory().get(0))));
+            opcodeListener.accept(withMemoryChanges(opcodes.get(1), Map.of()));
+            opcodeListener.accept(withMemoryChanges(opcodes.get(2), Map.of(1, opcodes.get(2).memory().get(1))));
+            return new OpcodesProcessingResult(result.transactionProcessingResult(), List.of());
+        });
+
+        final var mvcResult = mockMvc.perform(
+                        opcodesRequest(transactionIdOrHash, options).queryParam("stream", "true"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // The tracer only passes the memory words that changed since the previous opcode of the same call frame
+        mockMvc.perform(asyncDispatch(mvcResult))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.opcodes.length()").value(3))
+                .andExpect(jsonPath("$.opcodes[0].memory_changes.0")
+                        .value(expected.getOpcodes().getFirst().getMemory().getFirst()))
+                .andExpect(jsonPath("$.opcodes[1].memory_changes").isEmpty())
+                .andExpect(jsonPath("$.opcodes[1].reason")
+                        .value(expected.getOpcodes().get(1).getReason()))
+                .andExpect(jsonPath("$.opcodes[2].memory_changes.1")
+                        .value(expected.getOpcodes().get(2).getMemory().get(1)))
+                .andExpect(jsonPath("$.address").value(expected.getAddress()))
+                .andExpect(jsonPath("$.failed").value(false))
+                .andExpect(jsonPath("$.gas").value(expected.getGas()))
+                .andExpect(jsonPath("$.truncated").value(false));
+    }
+
     @ParameterizedTest
     @EnumSource(TransactionProviderEnum.class)
     void callWithContractResultNotFoundExceptionTest(final TransactionProviderEnum providerEnum) throws Exception {
@@ -654,6 +714,7 @@ class OpcodesControllerTest {
                                             Bytes.fromHexString(
                                                     "0000001200000000000000000000000000000000000000000000000000000000"))
                                     : Collections.emptyList(),
+                            Collections.emptyMap(),
                             Collections.emptySortedMap(),
                             null),
                     new Opcode(
@@ -676,6 +737,7 @@ class OpcodesControllerTest {
                                             Bytes.fromHexString(
                                                     "0000001200000000000000000000000000000000000000000000000000000000"))
                                     : Collections.emptyList(),
+                            Collections.emptyMap(),
                             Collections.emptySortedMap(),
                             "0x4e487b710000000000000000000000000000000000000000000000000000000000000012"),
                     new Opcode(
@@ -698,6 +760,7 @@ class OpcodesControllerTest {
                                             Bytes.fromHexString(
                                                     "0000000000000000000000000000000000000000000000000000000000000000"))
                                     : Collections.emptyList(),
+                            Collections.emptyMap(),
                             options.isStorage()
                                     ? ImmutableSortedMap.of(
                                             Bytes.fromHexString(
@@ -753,7 +816,8 @@ class OpcodesControllerTest {
                     ethereumTransactionRepository,
                     transactionRepository,
                     contractResultRepository,
-                    entityDatabaseAccessor);
+                    entityDatabaseAccessor,
+                    new OpcodeTracerProperties());
         }
     }
 }
@@ -0,0 +1,83 @@
+/*
+ * Copyright (C) 2025 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.web3.evm.contracts.execution;
+
+import static com.hedera.mirror.web3.evm.contracts.execution.EvmCodeCache.ANALYSIS_METRIC;
+import static com.hedera.mirror.web3.evm.contracts.execution.EvmCodeCache.ANALYSIS_SAVED_METRIC;
+import static com.hedera.mirror.web3.evm.contracts.execution.EvmCodeCache.CACHE_NAME;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.hedera.mirror.web3.repository.properties.CacheProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.tuweni.bytes.Bytes;
+import org.hyperledger.besu.datatypes.Hash;
+import org.hyperledger.besu.evm.Code;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class EvmCodeCacheTest {
+
+    // PUSH1 0x04 JUMP JUMPDEST STOP
+    private static final Bytes BYTECODE = Bytes.fromHexString("0x6004565b00");
+    private static final Hash CODE_HASH = Hash.hash(BYTECODE);
+
+    private SimpleMeterRegistry meterRegistry;
+    private EvmCodeCache evmCodeCache;
+
+    @BeforeEach
+    void setup() {
+        meterRegistry = new SimpleMeterRegistry();
+        evmCodeCache = new EvmCodeCache(new CacheProperties(), meterRegistry);
+    }
+
+    @Test
+    void getCode() {
+        var code = evmCodeCache.getCode(CODE_HASH, BYTECODE);
+
+        assertThat(code.getBytes()).isEqualTo(BYTECODE);
+        assertThat(code.isJumpDestInvalid(3)).isFalse();
+        assertThat(code.isJumpDestInvalid(1)).isTrue();
+        assertThat(meterRegistry.get(ANALYSIS_METRIC).timer().count()).isOne();
+        assertThat(meterRegistry.get(ANALYSIS_SAVED_METRIC).counter().count()).isZero();
+    }
+
+    @Test
+    void getCodeCached() {
+        var code = evmCodeCache.getCode(CODE_HASH, BYTECODE);
+
+        assertThat(evmCodeCache.getCode(CODE_HASH, BYTECODE)).isSameAs(code);
+        assertThat(meterRegistry.get(ANALYSIS_METRIC).timer().count()).isOne();
+        assertThat(meterRegistry.get(ANALYSIS_SAVED_METRIC).counter().count()).isPositive();
+        assertThat(meterRegistry
+                        .get("cache.gets")
+                        .tags("cache", CACHE_NAME, "result", "hit")
+                        .functionCounter()
+                        .count())
+                .isOne();
+    }
+
+    @Test
+    void getCodeDifferentHash() {
+        var otherBytecode = Bytes.fromHexString("0x00");
+        var code = evmCodeCache.getCode(CODE_HASH, BYTECODE);
+
+        assertThat(evmCodeCache.getCode(Hash.hash(otherBytecode), otherBytecode))
+                .isNotSameAs(code)
+                .returns(otherBytecode, Code::getBytes);
+        assertThat(meterRegistry.get(ANALYSIS_METRIC).timer().count()).isEqualTo(2);
+    }
+}
@@ -43,6 +43,7 @@ import com.hedera.mirror.web3.evm.store.contract.EntityAddressSequencer;
 import com.hedera.mirror.web3.evm.store.contract.HederaEvmStackedWorldStateUpdater;
 import com.hedera.mirror.web3.evm.store.contract.HederaEvmWorldState;
 import com.hedera.mirror.web3.exception.MirrorEvmTransactionException;
+import com.hedera.mirror.web3.repository.properties.CacheProperties;
 import com.hedera.mirror.web3.service.model.ContractExecutionParameters;
 import com.hedera.node.app.service.evm.contracts.execution.BlockMetaSource;
 import com.hedera.node.app.service.evm.contracts.execution.HederaBlockValues;
@@ -53,6 +54,7 @@ import com.hedera.node.app.service.evm.store.contracts.HederaEvmEntityAccess;
 import com.hedera.node.app.service.evm.store.models.HederaEvmAccount;
 import com.hedera.node.app.service.evm.store.tokens.TokenAccessor;
 import com.hedera.services.store.models.Account;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.math.BigInteger;
 import java.util.List;
 import java.util.Map;
@@ -196,7 +198,8 @@ class MirrorEvmTxProcessorTest {
                 Map.of(TracerType.OPERATION, () -> mirrorOperationTracer),
                 store,
                 new EntityAddressSequencer(),
-                tokenAccessor);
+                tokenAccessor,
+                new EvmCodeCache(new CacheProperties(), new SimpleMeterRegistry()));
     }
 
     @ParameterizedTest
@@ -0,0 +1,105 @@
+/*
+ * Copyright (C) 2025 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.web3.evm.contracts.execution.traceability;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Map;
+import org.apache.tuweni.bytes.Bytes;
+import org.hyperledger.besu.evm.frame.MessageFrame;
+import org.hyperledger.besu.evm.operation.Operation;
+import org.junit.jupiter.api.Test;
+
+class MemoryChangeTrackerTest {
+
+    private static final int ADD = 0x01;
+    private static final int CALL = 0xf1;
+    private static final int CALLDATACOPY = 0x37;
+    private static final int MSTORE = 0x52;
+    private static final Bytes WORD0 = Bytes.fromHexString("0x01", 32);
+    private static final Bytes WORD1 = Bytes.fromHexString("0x02", 32);
+    private static final Bytes WORD2 = Bytes.fromHexString("0x03", 32);
+
+    private final MemoryChangeTracker memoryChangeTracker = new MemoryChangeTracker();
+
+    @Test
+    void memoryExpansion() {
+        // Storing a word at offset 32 expands the memory by two words
+        assertThat(execute(0, MSTORE, List.of(WORD0, WORD1), 32)).containsExactly(entry(0, WORD0), entry(1, WORD1));
+        assertThat(execute(0, MSTORE, List.of(WORD2, WORD1), 0)).containsExactly(entry(0, WORD2));
+        assertThat(execute(0, ADD, List.of(WORD2, WORD1), 1, 2)).isEmpty();
+    }
+
+    @Test
+    void copy() {
+        assertThat(execute(0, ADD, List.of(WORD0, WORD0, WORD0), 1, 2)).hasSize(3);
+
+        // Copying 32 bytes to offset 40 writes to the second and third words
+        assertThat(execute(0, CALLDATACOPY, List.of(WORD0, WORD1, WORD2), 40, 0, 32))
+                .containsExactly(entry(1, WORD1), entry(2, WORD2));
+    }
+
+    @Test
+    void callReturnData() {
+        assertThat(execute(0, ADD, List.of(WORD0), 1, 2)).containsExactly(entry(0, WORD0));
+        assertThat(execute(0, CALL, List.of(WORD0), 100, 2, 0, 0, 0, 0, 32)).isEmpty();
+        assertThat(execute(1, ADD, List.of(), 1, 2)).isEmpty();
+
+        // The return data is written to the memory of the calling frame once the child frame completes
+        assertThat(execute(0, ADD, List.of(WORD1), 1, 2)).containsExactly(entry(0, WORD1));
+        assertThat(execute(0, ADD, List.of(WORD1), 1, 2)).isEmpty();
+    }
+
+    @Test
+    void newFrameAtSameDepth() {
+        assertThat(execute(1, MSTORE, List.of(WORD0), 0)).containsExactly(entry(0, WORD0));
+        assertThat(execute(0, ADD, List.of(), 1, 2)).isEmpty();
+
+        // A new call frame at the same depth starts with empty memory
+        assertThat(execute(1, ADD, List.of(WORD0), 1, 2)).containsExactly(entry(0, WORD0));
+    }
+
+    @Test
+    void operandTooLarge() {
+        assertThat(execute(0, ADD, List.of(WORD0), 1, 2)).containsExactly(entry(0, WORD0));
+        assertThat(execute(0, MSTORE, List.of(WORD0), Long.MAX_VALUE)).isEmpty();
+    }
+
+    private Map<Integer, Bytes> execute(int depth, int opcode, List<Bytes> memory, long... stack) {
+        var operation = mock(Operation.class);
+        when(operation.getOpcode()).thenReturn(opcode);
+
+        var frame = mock(MessageFrame.class);
+        when(frame.getCurrentOperation()).thenReturn(operation);
+        when(frame.getDepth()).thenReturn(depth);
+        when(frame.memoryWordSize()).thenReturn(memory.size());
+        when(frame.readMemory(anyLong(), anyLong()))
+                .thenAnswer(invocation -> memory.get((int) (invocation.<Long>getArgument(0) / 32)));
+        when(frame.stackSize()).thenReturn(stack.length);
+        for (int i = 0; i < stack.length; i++) {
+            when(frame.getStackItem(i)).thenReturn(Bytes.ofUnsignedLong(stack[i]));
+        }
+
+        memoryChangeTracker.tracePreExecution(frame);
+        return memoryChangeTracker.tracePostExecution(frame);
+    }
+}
@@ -98,6 +98,12 @@ class RatesAndFeesLoaderIntegrationTest extends Web3IntegrationTest {
     private static final EntityId FEE_SCHEDULE_ENTITY_ID = EntityId.of(0L, 0L, 111L);
     private static final EntityId EXCHANGE_RATE_ENTITY_ID = EntityId.of(0L, 0L, 112L);
 
+    @Override
+    protected void reset() {
+        super.reset();
+        subject.reset();
+    }
+
     @ParameterizedTest
     @ValueSource(booleans = {true, false})
     void getFileForExchangeRateFallback(boolean corrupt) {
@@ -16,14 +16,18 @@
 
 package com.hedera.mirror.web3.evm.pricing;
 
+import static com.hedera.mirror.common.domain.transaction.TransactionType.FILEAPPEND;
+import static com.hedera.mirror.common.domain.transaction.TransactionType.FILEUPDATE;
 import static com.hederahashgraph.api.proto.java.HederaFunctionality.ContractCall;
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.hedera.mirror.common.domain.file.FileData;
+import com.hedera.mirror.common.domain.transaction.TransactionType;
 import com.hedera.mirror.web3.evm.properties.MirrorNodeEvmProperties;
 import com.hedera.mirror.web3.evm.properties.MirrorNodeEvmProperties.HederaNetwork;
 import com.hedera.mirror.web3.repository.FileDataRepository;
@@ -34,7 +38,10 @@ import com.hederahashgraph.api.proto.java.FeeData;
 import com.hederahashgraph.api.proto.java.FeeSchedule;
 import com.hederahashgraph.api.proto.java.TimestampSeconds;
 import com.hederahashgraph.api.proto.java.TransactionFeeSchedule;
-import java.util.Optional;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.LongStream;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -68,23 +75,30 @@ class RatesAndFeesLoaderTest {
                             .setHederaFunctionality(ContractCall)
                             .addFees(FeeData.newBuilder().build())))
             .build();
+    private static final ExchangeRateSet exchangeRatesSet2 = exchangeRatesSet.toBuilder()
+            .setCurrentRate(exchangeRatesSet.getCurrentRate().toBuilder().setCentEquiv(3))
+            .build();
     private static final FileData exchangeRatesFileData = FileData.builder()
             .consensusTimestamp(200L)
             .fileData(exchangeRatesSet.toByteArray())
+            .transactionType(FILEUPDATE.getProtoId())
             .build();
     private static final FileData feeScheduleFileData = FileData.builder()
             .consensusTimestamp(200L)
             .fileData(feeSchedules.toByteArray())
+            .transactionType(FILEUPDATE.getProtoId())
             .build();
     private static final FileData fileDataCorrupt = FileData.builder()
             .consensusTimestamp(300L)
             .fileData("corrupt".getBytes())
+            .transactionType(FILEUPDATE.getProtoId())
             .build();
     private static final String CORRUPT_RATES_MESSAGE = "Rates 0.0.112 are corrupt!";
     private static final long EXCHANGE_RATES_ID = 112L;
     private static final String CORRUPT_SCHEDULES_MESSAGE = "Fee schedule 0.0.111 is corrupt!";
     private static final long FEE_SCHEDULES_ID = 111L;
     private static final long EXCHANGE_RATE_ID = 112L;
+    private static final Duration REFRESH_INTERVAL = Duration.ofSeconds(10L);
 
     @Mock
     private FileDataRepository fileDataRepository;
@@ -98,23 +112,92 @@ class RatesAndFeesLoaderTest {
     @BeforeEach
     void setup() {
         when(evmProperties.getNetwork()).thenReturn(HederaNetwork.TESTNET);
+        when(evmProperties.getRatesAndFeesRefreshInterval()).thenReturn(REFRESH_INTERVAL);
     }
 
     @Test
     void loadExchangeRates() {
-        when(fileDataRepository.getFileAtTimestamp(eq(EXCHANGE_RATES_ID), anyLong()))
-                .thenReturn(Optional.of(exchangeRatesFileData));
+        when(fileDataRepository.findFileHistory(eq(EXCHANGE_RATES_ID), anyLong(), anyLong()))
+                .thenReturn(List.of(exchangeRatesFileData));
 
         final var actual = subject.loadExchangeRates(250L);
 
         assertThat(actual).isEqualTo(exchangeRatesSet);
     }
 
+    @Test
+    void loadHistoricalExchangeRates() {
+        final var exchangeRatesFileData2 = fileData(400L, FILEUPDATE, exchangeRatesSet2.toByteArray());
+        when(fileDataRepository.findFileHistory(EXCHANGE_RATES_ID, 0L, 450L))
+                .thenReturn(List.of(exchangeRatesFileData, exchangeRatesFileData2));
+
+        assertThat(subject.loadExchangeRates(450L)).isEqualTo(exchangeRatesSet2);
+        assertThat(subject.loadExchangeRates(400L)).isEqualTo(exchangeRatesSet2);
+        assertThat(subject.loadExchangeRates(399L)).isEqualTo(exchangeRatesSet);
+        assertThat(subject.loadExchangeRates(200L)).isEqualTo(exchangeRatesSet);
+        assertThat(subject.loadExchangeRates(199L)).isEqualTo(ExchangeRateSet.getDefaultInstance());
+        verify(fileDataRepository).findFileHistory(anyLong(), anyLong(), anyLong());
+    }
+
+    @Test
+    void loadExchangeRatesWithinRefreshInterval() {
+        when(fileDataRepository.findFileHistory(EXCHANGE_RATES_ID, 0L, 250L))
+                .thenReturn(List.of(exchangeRatesFileData));
+
+        assertThat(subject.loadExchangeRates(250L)).isEqualTo(exchangeRatesSet);
+        assertThat(subject.loadExchangeRates(250L + REFRESH_INTERVAL.toNanos()))
+                .isEqualTo(exchangeRatesSet);
+        verify(fileDataRepository).findFileHistory(anyLong(), anyLong(), anyLong());
+    }
+
+    @Test
+    void loadExchangeRatesIncrementally() {
+        final var bytes = exchangeRatesSet2.toByteArray();
+        final var timestamp = 250L + REFRESH_INTERVAL.toNanos() + 1;
+        final var update = fileData(300L, FILEUPDATE, Arrays.copyOfRange(bytes, 0, 10));
+        final var append = fileData(timestamp, FILEAPPEND, Arrays.copyOfRange(bytes, 10, bytes.length));
+        when(fileDataRepository.findFileHistory(EXCHANGE_RATES_ID, 0L, 250L))
+                .thenReturn(List.of(exchangeRatesFileData));
+        when(fileDataRepository.findFileHistory(EXCHANGE_RATES_ID, 201L, timestamp))
+                .thenReturn(List.of(update, append));
+
+        assertThat(subject.loadExchangeRates(250L)).isEqualTo(exchangeRatesSet);
+        assertThat(subject.loadExchangeRates(timestamp)).isEqualTo(exchangeRatesSet2);
+        assertThat(subject.loadExchangeRates(timestamp - 1)).isEqualTo(exchangeRatesSet);
+    }
+
+    @Test
+    void loadExchangeRatesAfterEmptyUpdate() {
+        final var timestamp = 250L + REFRESH_INTERVAL.toNanos() + 1;
+        final var emptyUpdate = fileData(300L, FILEUPDATE, new byte[0]);
+        when(fileDataRepository.findFileHistory(EXCHANGE_RATES_ID, 0L, 250L))
+                .thenReturn(List.of(exchangeRatesFileData));
+        when(fileDataRepository.findFileHistory(EXCHANGE_RATES_ID, 201L, timestamp))
+                .thenReturn(List.of(emptyUpdate));
+
+        assertThat(subject.loadExchangeRates(250L)).isEqualTo(exchangeRatesSet);
+        assertThat(subject.loadExchangeRates(timestamp)).isEqualTo(exchangeRatesSet);
+        // A metadata only update doesn't move the version to its timestamp
+        assertThat(subject.loadExchangeRates(250L)).isEqualTo(exchangeRatesSet);
+        assertThat(subject.loadExchangeRates(200L)).isEqualTo(exchangeRatesSet);
+    }
+
+    @Test
+    void reset() {
+        when(fileDataRepository.findFileHistory(EXCHANGE_RATES_ID, 0L, 250L))
+                .thenReturn(List.of())
+                .thenReturn(List.of(exchangeRatesFileData));
+
+        assertThat(subject.loadExchangeRates(250L)).isEqualTo(ExchangeRateSet.getDefaultInstance());
+        subject.reset();
+        assertThat(subject.loadExchangeRates(250L)).isEqualTo(exchangeRatesSet);
+    }
+
     @Test
     void loadDefaultExchangeRates() {
         when(evmProperties.getNetwork()).thenReturn(HederaNetwork.OTHER);
-        when(fileDataRepository.getFileAtTimestamp(eq(EXCHANGE_RATES_ID), anyLong()))
-                .thenReturn(Optional.empty());
+        when(fileDataRepository.findFileHistory(eq(EXCHANGE_RATES_ID), anyLong(), anyLong()))
+                .thenReturn(List.of());
 
         final var actual = subject.loadExchangeRates(100L);
         assertThat(actual).isEqualTo(RatesAndFeesLoader.DEFAULT_EXCHANGE_RATE_SET);
@@ -122,8 +205,8 @@ class RatesAndFeesLoaderTest {
 
     @Test
     void loadEmptyExchangeRates() {
-        when(fileDataRepository.getFileAtTimestamp(eq(EXCHANGE_RATES_ID), anyLong()))
-                .thenReturn(Optional.empty());
+        when(fileDataRepository.findFileHistory(eq(EXCHANGE_RATES_ID), anyLong(), anyLong()))
+                .thenReturn(List.of());
 
         final var actual = subject.loadExchangeRates(100L);
         assertThat(actual).isEqualTo(ExchangeRateSet.newBuilder().build());
@@ -131,8 +214,8 @@ class RatesAndFeesLoaderTest {
 
     @Test
     void loadWrongDataExchangeRates() {
-        when(fileDataRepository.getFileAtTimestamp(eq(EXCHANGE_RATES_ID), anyLong()))
-                .thenReturn(Optional.of(fileDataCorrupt));
+        when(fileDataRepository.findFileHistory(eq(EXCHANGE_RATES_ID), anyLong(), anyLong()))
+                .thenReturn(corruptFileData());
 
         final var exception = assertThrows(IllegalStateException.class, () -> subject.loadExchangeRates(350L));
 
@@ -142,10 +225,8 @@ class RatesAndFeesLoaderTest {
     @Test
     void getFileForExchangeRatesFallback() {
         long currentNanos = 350L;
-        when(fileDataRepository.getFileAtTimestamp(EXCHANGE_RATE_ID, currentNanos))
-                .thenReturn(Optional.of(fileDataCorrupt));
-        when(fileDataRepository.getFileAtTimestamp(EXCHANGE_RATE_ID, 299L))
-                .thenReturn(Optional.of(exchangeRatesFileData));
+        when(fileDataRepository.findFileHistory(EXCHANGE_RATE_ID, 0L, currentNanos))
+                .thenReturn(List.of(exchangeRatesFileData, fileDataCorrupt));
 
         var actual = subject.loadExchangeRates(currentNanos);
         assertThat(actual).isEqualTo(exchangeRatesSet);
@@ -153,8 +234,8 @@ class RatesAndFeesLoaderTest {
 
     @Test
     void loadFeeSchedules() {
-        when(fileDataRepository.getFileAtTimestamp(eq(FEE_SCHEDULES_ID), anyLong()))
-                .thenReturn(Optional.of(feeScheduleFileData));
+        when(fileDataRepository.findFileHistory(eq(FEE_SCHEDULES_ID), anyLong(), anyLong()))
+                .thenReturn(List.of(feeScheduleFileData));
 
         final var actual = subject.loadFeeSchedules(350L);
 
@@ -164,8 +245,8 @@ class RatesAndFeesLoaderTest {
     @Test
     void loadDefaultFeeSchedules() {
         when(evmProperties.getNetwork()).thenReturn(HederaNetwork.OTHER);
-        when(fileDataRepository.getFileAtTimestamp(eq(FEE_SCHEDULES_ID), anyLong()))
-                .thenReturn(Optional.empty());
+        when(fileDataRepository.findFileHistory(eq(FEE_SCHEDULES_ID), anyLong(), anyLong()))
+                .thenReturn(List.of());
 
         final var actual = subject.loadFeeSchedules(100L);
         assertThat(actual).isEqualTo(RatesAndFeesLoader.DEFAULT_FEE_SCHEDULE);
@@ -173,8 +254,8 @@ class RatesAndFeesLoaderTest {
 
     @Test
     void loadEmptyFeeSchedules() {
-        when(fileDataRepository.getFileAtTimestamp(eq(FEE_SCHEDULES_ID), anyLong()))
-                .thenReturn(Optional.empty());
+        when(fileDataRepository.findFileHistory(eq(FEE_SCHEDULES_ID), anyLong(), anyLong()))
+                .thenReturn(List.of());
 
         final var actual = subject.loadFeeSchedules(100L);
         assertThat(actual).isEqualTo(CurrentAndNextFeeSchedule.newBuilder().build());
@@ -182,8 +263,8 @@ class RatesAndFeesLoaderTest {
 
     @Test
     void loadWrongDataFeeSchedules() {
-        when(fileDataRepository.getFileAtTimestamp(eq(FEE_SCHEDULES_ID), anyLong()))
-                .thenReturn(Optional.of(fileDataCorrupt));
+        when(fileDataRepository.findFileHistory(eq(FEE_SCHEDULES_ID), anyLong(), anyLong()))
+                .thenReturn(corruptFileData());
 
         final var exception = assertThrows(IllegalStateException.class, () -> subject.loadFeeSchedules(350L));
 
@@ -193,12 +274,24 @@ class RatesAndFeesLoaderTest {
     @Test
     void getFileForFeeScheduleFallback() {
         long currentNanos = 350L;
-        when(fileDataRepository.getFileAtTimestamp(FEE_SCHEDULES_ID, currentNanos))
-                .thenReturn(Optional.of(fileDataCorrupt));
-        when(fileDataRepository.getFileAtTimestamp(FEE_SCHEDULES_ID, 299L))
-                .thenReturn(Optional.of(feeScheduleFileData));
+        when(fileDataRepository.findFileHistory(FEE_SCHEDULES_ID, 0L, currentNanos))
+                .thenReturn(List.of(feeScheduleFileData, fileDataCorrupt));
 
         var actual = subject.loadFeeSchedules(currentNanos);
         assertThat(actual).isEqualTo(feeSchedules);
     }
+
+    private static FileData fileData(long timestamp, TransactionType type, byte[] data) {
+        return FileData.builder()
+                .consensusTimestamp(timestamp)
+                .fileData(data)
+                .transactionType(type.getProtoId())
+                .build();
+    }
+
+    private static List<FileData> corruptFileData() {
+        return LongStream.range(0, SystemFileHistory.MAX_ATTEMPTS)
+                .mapToObj(i -> fileData(300L + i, FILEUPDATE, fileDataCorrupt.getFileData()))
+                .toList();
+    }
 }
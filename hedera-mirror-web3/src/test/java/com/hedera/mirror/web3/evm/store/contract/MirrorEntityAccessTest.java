@@ -20,11 +20,13 @@ import static com.google.protobuf.ByteString.EMPTY;
 import static com.hedera.mirror.common.domain.entity.AbstractEntity.DEFAULT_EXPIRY_TIMESTAMP;
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
 import static org.hyperledger.besu.datatypes.Address.ZERO;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.google.protobuf.ByteString;
 import com.hedera.mirror.common.domain.entity.EntityId;
 import com.hedera.mirror.common.util.DomainUtils;
+import com.hedera.mirror.web3.common.ContractCallContext;
 import com.hedera.mirror.web3.evm.store.Store;
 import com.hedera.mirror.web3.evm.store.Store.OnMissing;
 import com.hedera.mirror.web3.repository.ContractRepository;
@@ -232,7 +234,8 @@ class MirrorEntityAccessTest {
         when(store.getHistoricalTimestamp()).thenReturn(Optional.empty());
         when(contractStateRepository.findStorage(ENTITY_ID, BYTES.toArrayUnsafe()))
                 .thenReturn(Optional.of(DATA));
-        final var result = UInt256.fromBytes(mirrorEntityAccess.getStorage(ADDRESS, BYTES));
+        final var result = ContractCallContext.run(
+                ctx -> UInt256.fromBytes(mirrorEntityAccess.getStorage(ADDRESS, BYTES)));
         assertThat(result).isEqualTo(UInt256.fromHexString(HEX));
     }
 
@@ -242,7 +245,8 @@ class MirrorEntityAccessTest {
         when(contractStateRepository.findStorageByBlockTimestamp(
                         ENTITY_ID, new byte[] {(byte) 0x04, (byte) 0xE4}, timestamp.get()))
                 .thenReturn(Optional.of(DATA));
-        final var result = UInt256.fromBytes(mirrorEntityAccess.getStorage(ADDRESS, BYTES));
+        final var result = ContractCallContext.run(
+                ctx -> UInt256.fromBytes(mirrorEntityAccess.getStorage(ADDRESS, BYTES)));
         assertThat(result).isEqualTo(UInt256.fromHexString(HEX));
     }
 
@@ -251,20 +255,37 @@ class MirrorEntityAccessTest {
         when(store.getAccount(NON_MIRROR_ADDRESS, OnMissing.DONT_THROW)).thenReturn(Account.getEmptyAccount());
         when(store.getToken(NON_MIRROR_ADDRESS, OnMissing.DONT_THROW)).thenReturn(Token.getEmptyToken());
         final var key = Bytes.fromHexString(NON_MIRROR_ADDRESS.toHexString());
-        final var result = UInt256.fromBytes(mirrorEntityAccess.getStorage(NON_MIRROR_ADDRESS, key));
+        final var result = ContractCallContext.run(
+                ctx -> UInt256.fromBytes(mirrorEntityAccess.getStorage(NON_MIRROR_ADDRESS, key)));
         assertThat(result).isEqualTo(UInt256.fromHexString(ZERO.toHexString()));
     }
 
     @Test
     void getStorageFailsForZeroAddress() {
-        final var result = UInt256.fromBytes(mirrorEntityAccess.getStorage(ZERO, BYTES));
+        final var result = ContractCallContext.run(
+                ctx -> UInt256.fromBytes(mirrorEntityAccess.getStorage(ZERO, BYTES)));
         assertThat(result).isEqualTo(UInt256.fromHexString(ZERO.toHexString()));
     }
 
+    @Test
+    void getStorageReadsOncePerCall() {
+        when(store.getHistoricalTimestamp()).thenReturn(Optional.empty());
+        when(contractStateRepository.findStorage(ENTITY_ID, BYTES.toArrayUnsafe()))
+                .thenReturn(Optional.of(DATA));
+        final var reads = ContractCallContext.run(ctx -> {
+            mirrorEntityAccess.getStorage(ADDRESS, BYTES);
+            ctx.reset();
+            mirrorEntityAccess.getStorage(ADDRESS, BYTES);
+            return ctx.getDatabaseReads();
+        });
+        assertThat(reads).isEqualTo(1);
+        verify(contractStateRepository).findStorage(ENTITY_ID, BYTES.toArrayUnsafe());
+    }
+
     @Test
     void fetchCodeIfPresent() {
         when(contractRepository.findRuntimeBytecode(ENTITY_ID)).thenReturn(Optional.of(DATA));
-        final var result = mirrorEntityAccess.fetchCodeIfPresent(ADDRESS);
+        final var result = ContractCallContext.run(ctx -> mirrorEntityAccess.fetchCodeIfPresent(ADDRESS));
         assertThat(result).isEqualTo(BYTES);
     }
 
@@ -273,14 +294,14 @@ class MirrorEntityAccessTest {
         when(store.getAccount(NON_MIRROR_ADDRESS, OnMissing.DONT_THROW)).thenReturn(account);
         when(account.getEntityId()).thenReturn(ENTITY_ID);
         when(contractRepository.findRuntimeBytecode(ENTITY_ID)).thenReturn(Optional.of(DATA));
-        final var result = mirrorEntityAccess.fetchCodeIfPresent(NON_MIRROR_ADDRESS);
+        final var result = ContractCallContext.run(ctx -> mirrorEntityAccess.fetchCodeIfPresent(NON_MIRROR_ADDRESS));
         assertThat(result).isEqualTo(BYTES);
     }
 
     @Test
     void fetchCodeIfPresentReturnsNull() {
         when(contractRepository.findRuntimeBytecode(ENTITY_ID)).thenReturn(Optional.empty());
-        final var result = mirrorEntityAccess.fetchCodeIfPresent(ADDRESS);
+        final var result = ContractCallContext.run(ctx -> mirrorEntityAccess.fetchCodeIfPresent(ADDRESS));
         assertThat(result).isNull();
     }
 }
@@ -16,20 +16,28 @@
 
 package com.hedera.mirror.web3.repository;
 
+import static com.hedera.mirror.web3.evm.config.EvmConfiguration.CACHE_MANAGER_HISTORICAL;
+import static com.hedera.mirror.web3.evm.config.EvmConfiguration.CACHE_NAME_ACCOUNT_BALANCE;
 import static org.assertj.core.api.Assertions.assertThat;
 
+import com.github.benmanes.caffeine.cache.Cache;
 import com.hedera.mirror.common.domain.balance.AccountBalance;
 import com.hedera.mirror.common.domain.entity.Entity;
 import com.hedera.mirror.common.domain.entity.EntityId;
 import com.hedera.mirror.web3.Web3IntegrationTest;
 import lombok.RequiredArgsConstructor;
 import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.cache.CacheManager;
 
 @RequiredArgsConstructor
 class AccountBalanceRepositoryTest extends Web3IntegrationTest {
 
     private final AccountBalanceRepository accountBalanceRepository;
 
+    @Qualifier(CACHE_MANAGER_HISTORICAL)
+    private final CacheManager historicalCacheManager;
+
     private static final EntityId TREASURY_ENTITY_ID = EntityId.of(2);
     static final long TRANSFER_AMOUNT = 10L;
     static final long TRANSFER_INCREMENT = 1L;
@@ -119,6 +127,33 @@ class AccountBalanceRepositoryTest extends Web3IntegrationTest {
                 .isEqualTo(historicalAccountBalance);
     }
 
+    @Test
+    void findHistoricalAccountBalanceUpToTimestampCached() {
+        var accountBalance = domainBuilder
+                .accountBalance()
+                .customize(ab -> ab.id(new AccountBalance.Id(domainBuilder.timestamp(), TREASURY_ENTITY_ID)))
+                .persist();
+        long accountId = accountBalance.getId().getAccountId().getId();
+        long blockTimestamp = accountBalance.getId().getConsensusTimestamp() + 10L;
+        assertThat(accountBalanceRepository.findHistoricalAccountBalanceUpToTimestamp(accountId, blockTimestamp))
+                .get()
+                .isEqualTo(accountBalance.getBalance());
+
+        // Validate the balance at the block timestamp is cached while other block timestamps are not
+        accountBalanceRepository.deleteAll();
+        assertThat(accountBalanceRepository.findHistoricalAccountBalanceUpToTimestamp(accountId, blockTimestamp))
+                .get()
+                .isEqualTo(accountBalance.getBalance());
+        assertThat(accountBalanceRepository.findHistoricalAccountBalanceUpToTimestamp(accountId, blockTimestamp + 1))
+                .get()
+                .isEqualTo(0L);
+
+        var cache = (Cache<?, ?>) historicalCacheManager.getCache(CACHE_NAME_ACCOUNT_BALANCE).getNativeCache();
+        cache.cleanUp();
+        assertThat(cache.estimatedSize()).isEqualTo(2);
+        assertThat(cache.policy().eviction().orElseThrow().weightedSize()).hasValue(224L);
+    }
+
     @Test
     void shouldGetBalanceWhenAccountBalanceEntryIsMissingTimestampBeforeTheAccountCreation() {
         // Test case: account_balance entry BEFORE crypto transfers is missing
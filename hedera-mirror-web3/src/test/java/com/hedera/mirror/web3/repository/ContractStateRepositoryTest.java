@@ -16,19 +16,30 @@
 
 package com.hedera.mirror.web3.repository;
 
+import static com.hedera.mirror.web3.evm.config.EvmConfiguration.CACHE_MANAGER_HISTORICAL;
+import static com.hedera.mirror.web3.evm.config.EvmConfiguration.CACHE_NAME_CONTRACT_STORAGE;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
 
+import com.github.benmanes.caffeine.cache.Cache;
 import com.hedera.mirror.common.domain.contract.ContractState;
 import com.hedera.mirror.common.domain.contract.ContractStateChange;
 import com.hedera.mirror.web3.Web3IntegrationTest;
+import com.hedera.mirror.web3.repository.projections.ContractSlotValue;
+import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.cache.CacheManager;
 
 @RequiredArgsConstructor
 class ContractStateRepositoryTest extends Web3IntegrationTest {
 
     private final ContractStateRepository contractStateRepository;
 
+    @Qualifier(CACHE_MANAGER_HISTORICAL)
+    private final CacheManager historicalCacheManager;
+
     @Test
     void findStorageSuccessfulCall() {
         ContractState contractState = domainBuilder.contractState().persist();
@@ -55,6 +66,39 @@ class ContractStateRepositoryTest extends Web3IntegrationTest {
                 .isEqualTo(contractStateChange.getValueWritten());
     }
 
+    @Test
+    void findStorageByBlockTimestampCached() {
+        var contractStateChange = domainBuilder.contractStateChange().persist();
+        long contractId = contractStateChange.getContractId();
+        byte[] slot = contractStateChange.getSlot();
+        long blockTimestamp = contractStateChange.getConsensusTimestamp() + 10;
+        assertThat(contractStateRepository.findStorageByBlockTimestamp(contractId, slot, blockTimestamp))
+                .get()
+                .isEqualTo(contractStateChange.getValueWritten());
+
+        // Validate the storage at the block timestamp is cached while other block timestamps are not
+        var newerContractStateChange = domainBuilder
+                .contractStateChange()
+                .customize(cs -> cs.contractId(contractId)
+                        .slot(slot)
+                        .consensusTimestamp(contractStateChange.getConsensusTimestamp() + 1))
+                .persist();
+        assertThat(contractStateRepository.findStorageByBlockTimestamp(contractId, slot, blockTimestamp))
+                .get()
+                .isEqualTo(contractStateChange.getValueWritten());
+        assertThat(contractStateRepository.findStorageByBlockTimestamp(contractId, slot, blockTimestamp - 1))
+                .get()
+                .isEqualTo(newerContractStateChange.getValueWritten());
+
+        var cache = (Cache<?, ?>) historicalCacheManager.getCache(CACHE_NAME_CONTRACT_STORAGE).getNativeCache();
+        cache.cleanUp();
+        assertThat(cache.estimatedSize()).isEqualTo(2);
+        assertThat(cache.policy().eviction().orElseThrow().weightedSize())
+                .hasValue(256L
+                        + contractStateChange.getValueWritten().length
+                        + newerContractStateChange.getValueWritten().length);
+    }
+
     @Test
     void findStorageOfContractStateChangeWithEmptyValueWrittenByBlockTimestampSuccessfulCall() {
         ContractStateChange olderContractState =
@@ -100,4 +144,50 @@ class ContractStateRepositoryTest extends Web3IntegrationTest {
         assertThat(contractStateRepository.findStorage(contractState.getContractId(), new byte[20]))
                 .isEmpty();
     }
+
+    @Test
+    void findStorageBatch() {
+        var contractState1 = domainBuilder.contractState().persist();
+        var contractState2 = domainBuilder
+                .contractState()
+                .customize(cs -> cs.contractId(contractState1.getContractId()))
+                .persist();
+        domainBuilder.contractState().persist();
+
+        var slots = List.of(contractState1.getSlot(), contractState2.getSlot(), new byte[20]);
+        assertThat(contractStateRepository.findStorageBatch(contractState1.getContractId(), slots))
+                .extracting(ContractSlotValue::getSlot, ContractSlotValue::getValue)
+                .containsExactlyInAnyOrder(
+                        tuple(contractState1.getSlot(), contractState1.getValue()),
+                        tuple(contractState2.getSlot(), contractState2.getValue()));
+    }
+
+    @Test
+    void findStorageBatchByBlockTimestamp() {
+        var olderContractStateChange = domainBuilder.contractStateChange().persist();
+        var contractId = olderContractStateChange.getContractId();
+        var contractStateChange = domainBuilder
+                .contractStateChange()
+                .customize(cs -> cs.contractId(contractId).slot(olderContractStateChange.getSlot()))
+                .persist();
+        var otherSlot = domainBuilder
+                .contractStateChange()
+                .customize(cs -> cs.contractId(contractId).valueWritten(null))
+                .persist();
+        var newerContractStateChange = domainBuilder
+                .contractStateChange()
+                .customize(cs -> cs.contractId(contractId).slot(olderContractStateChange.getSlot()))
+                .persist();
+
+        var slots = List.of(contractStateChange.getSlot(), otherSlot.getSlot(), new byte[20]);
+        assertThat(contractStateRepository.findStorageBatchByBlockTimestamp(
+                        contractId, slots, newerContractStateChange.getConsensusTimestamp() - 1))
+                .extracting(ContractSlotValue::getSlot, ContractSlotValue::getValue)
+                .containsExactlyInAnyOrder(
+                        tuple(contractStateChange.getSlot(), contractStateChange.getValueWritten()),
+                        tuple(otherSlot.getSlot(), otherSlot.getValueRead()));
+        assertThat(contractStateRepository.findStorageBatchByBlockTimestamp(
+                        contractId, slots, olderContractStateChange.getConsensusTimestamp() - 1))
+                .isEmpty();
+    }
 }
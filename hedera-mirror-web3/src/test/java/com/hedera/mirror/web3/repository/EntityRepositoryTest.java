@@ -16,20 +16,28 @@
 
 package com.hedera.mirror.web3.repository;
 
+import static com.hedera.mirror.web3.evm.config.EvmConfiguration.CACHE_MANAGER_HISTORICAL;
+import static com.hedera.mirror.web3.evm.config.EvmConfiguration.CACHE_NAME_ENTITY;
 import static org.assertj.core.api.Assertions.assertThat;
 
+import com.github.benmanes.caffeine.cache.Cache;
 import com.google.common.collect.Range;
 import com.hedera.mirror.common.domain.entity.Entity;
 import com.hedera.mirror.common.domain.entity.EntityHistory;
 import com.hedera.mirror.web3.Web3IntegrationTest;
 import lombok.RequiredArgsConstructor;
 import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.cache.CacheManager;
 
 @RequiredArgsConstructor
 class EntityRepositoryTest extends Web3IntegrationTest {
 
     private final EntityRepository entityRepository;
 
+    @Qualifier(CACHE_MANAGER_HISTORICAL)
+    private final CacheManager historicalCacheManager;
+
     @Test
     void findByIdAndDeletedIsFalseSuccessfulCall() {
         Entity entity = domainBuilder.entity().persist();
@@ -182,6 +190,28 @@ class EntityRepositoryTest extends Web3IntegrationTest {
                 .isEqualTo(entity);
     }
 
+    @Test
+    void findActiveByIdAndTimestampCached() {
+        Entity entity = domainBuilder.entity().persist();
+        long blockTimestamp = entity.getTimestampLower() + 1;
+        assertThat(entityRepository.findActiveByIdAndTimestamp(entity.getId(), blockTimestamp))
+                .get()
+                .isEqualTo(entity);
+
+        // Validate the state at the block timestamp is cached while other block timestamps are not
+        entityRepository.deleteAll();
+        assertThat(entityRepository.findActiveByIdAndTimestamp(entity.getId(), blockTimestamp))
+                .get()
+                .isEqualTo(entity);
+        assertThat(entityRepository.findActiveByIdAndTimestamp(entity.getId(), blockTimestamp + 1))
+                .isEmpty();
+
+        var cache = (Cache<?, ?>) historicalCacheManager.getCache(CACHE_NAME_ENTITY).getNativeCache();
+        cache.cleanUp();
+        assertThat(cache.estimatedSize()).isOne();
+        assertThat(cache.policy().eviction().orElseThrow().weightedSize()).hasValue(640L);
+    }
+
     @Test
     void findByIdAndTimestampRangeEqualToBlockTimestampAndDeletedIsFalseCall() {
         Entity entity = domainBuilder.entity().persist();
@@ -161,4 +161,30 @@ class FileDataRepositoryTest extends Web3IntegrationTest {
                 .ignoringFields("transactionType")
                 .isEqualTo(expected);
     }
+
+    @Test
+    void findFileHistory() {
+        var fileData1 = domainBuilder
+                .fileData()
+                .customize(f -> f.entityId(EXCHANGE_RATE_ENTITY_ID).consensusTimestamp(200L))
+                .persist();
+        var fileData2 = domainBuilder
+                .fileData()
+                .customize(f -> f.entityId(EXCHANGE_RATE_ENTITY_ID).consensusTimestamp(300L))
+                .persist();
+        var fileData3 = domainBuilder
+                .fileData()
+                .customize(f -> f.entityId(EXCHANGE_RATE_ENTITY_ID).consensusTimestamp(400L))
+                .persist();
+        domainBuilder
+                .fileData()
+                .customize(f -> f.entityId(FEE_SCHEDULE_ENTITY_ID).consensusTimestamp(250L))
+                .persist();
+
+        var fileId = EXCHANGE_RATE_ENTITY_ID.getId();
+        assertThat(fileDataRepository.findFileHistory(fileId, 0L, 500L))
+                .containsExactly(fileData1, fileData2, fileData3);
+        assertThat(fileDataRepository.findFileHistory(fileId, 201L, 400L)).containsExactly(fileData2, fileData3);
+        assertThat(fileDataRepository.findFileHistory(fileId, 201L, 299L)).isEmpty();
+    }
 }
@@ -16,8 +16,11 @@
 
 package com.hedera.mirror.web3.repository;
 
+import static com.hedera.mirror.web3.evm.config.EvmConfiguration.CACHE_MANAGER_HISTORICAL;
+import static com.hedera.mirror.web3.evm.config.EvmConfiguration.CACHE_NAME_TOKEN_BALANCE;
 import static org.assertj.core.api.Assertions.assertThat;
 
+import com.github.benmanes.caffeine.cache.Cache;
 import com.hedera.mirror.common.domain.balance.AccountBalance;
 import com.hedera.mirror.common.domain.balance.AccountBalance.Id;
 import com.hedera.mirror.common.domain.balance.TokenBalance;
@@ -26,6 +29,8 @@ import com.hedera.mirror.common.domain.token.TokenTransfer;
 import com.hedera.mirror.web3.Web3IntegrationTest;
 import lombok.RequiredArgsConstructor;
 import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.cache.CacheManager;
 
 @RequiredArgsConstructor
 class TokenBalanceRepositoryTest extends Web3IntegrationTest {
@@ -36,6 +41,9 @@ class TokenBalanceRepositoryTest extends Web3IntegrationTest {
 
     private final TokenBalanceRepository tokenBalanceRepository;
 
+    @Qualifier(CACHE_MANAGER_HISTORICAL)
+    private final CacheManager historicalCacheManager;
+
     @Test
     void findHistoricalByIdAndTimestampLessThanBlockTimestamp() {
         var tokenBalance1 = domainBuilder.tokenBalance().persist();
@@ -153,6 +161,42 @@ class TokenBalanceRepositoryTest extends Web3IntegrationTest {
                 .isEqualTo(historicalAccountBalance);
     }
 
+    @Test
+    void findHistoricalTokenBalanceUpToTimestampCached() {
+        var accountBalance = domainBuilder
+                .accountBalance()
+                .customize(ab -> ab.id(new AccountBalance.Id(domainBuilder.timestamp(), TREASURY_ENTITY_ID)))
+                .persist();
+        var tokenBalance = domainBuilder
+                .tokenBalance()
+                .customize(tb -> tb.id(new TokenBalance.Id(
+                        accountBalance.getId().getConsensusTimestamp(),
+                        accountBalance.getId().getAccountId(),
+                        domainBuilder.entityId())))
+                .persist();
+        long tokenId = tokenBalance.getId().getTokenId().getId();
+        long accountId = tokenBalance.getId().getAccountId().getId();
+        long blockTimestamp = tokenBalance.getId().getConsensusTimestamp() + 10;
+        assertThat(tokenBalanceRepository.findHistoricalTokenBalanceUpToTimestamp(tokenId, accountId, blockTimestamp))
+                .get()
+                .isEqualTo(tokenBalance.getBalance());
+
+        // Validate the balance at the block timestamp is cached while other block timestamps are not
+        tokenBalanceRepository.deleteAll();
+        assertThat(tokenBalanceRepository.findHistoricalTokenBalanceUpToTimestamp(tokenId, accountId, blockTimestamp))
+                .get()
+                .isEqualTo(tokenBalance.getBalance());
+        assertThat(tokenBalanceRepository.findHistoricalTokenBalanceUpToTimestamp(
+                        tokenId, accountId, blockTimestamp + 1))
+                .get()
+                .isEqualTo(0L);
+
+        var cache = (Cache<?, ?>) historicalCacheManager.getCache(CACHE_NAME_TOKEN_BALANCE).getNativeCache();
+        cache.cleanUp();
+        assertThat(cache.estimatedSize()).isEqualTo(2);
+        assertThat(cache.policy().eviction().orElseThrow().weightedSize()).hasValue(224L);
+    }
+
     @Test
     void findHistoricalBalanceIfTokenBalanceIsMissing() {
         // Test case: account_balance and token_balance entry BEFORE token transfers is missing
@@ -48,6 +48,7 @@ import static org.mockito.Mockito.verify;
 
 import com.hedera.mirror.common.domain.entity.Entity;
 import com.hedera.mirror.common.domain.entity.EntityId;
+import com.hedera.mirror.web3.Web3Properties;
 import com.hedera.mirror.web3.evm.contracts.execution.MirrorEvmTxProcessor;
 import com.hedera.mirror.web3.evm.store.Store;
 import com.hedera.mirror.web3.exception.BlockNumberOutOfRangeException;
@@ -488,6 +489,13 @@ class ContractCallServiceTest extends AbstractContractCallServiceTest {
         // Then
         verifyEthCallAndEstimateGas(functionCall, contract);
         assertGasLimit(ETH_ESTIMATE_GAS, TRANSACTION_GAS_LIMIT);
+        assertThat(meterRegistry
+                        .find(ContractExecutionService.ESTIMATE_READS_METRIC)
+                        .tag("type", ETH_ESTIMATE_GAS.name())
+                        .summary())
+                .isNotNull()
+                .satisfies(s -> assertThat(s.count()).isEqualTo(1L))
+                .satisfies(s -> assertThat(s.totalAmount()).isPositive());
     }
 
     // This test will be removed in the future. Needed only for test coverage right now.
@@ -852,7 +860,8 @@ class ContractCallServiceTest extends AbstractContractCallServiceTest {
                 throttleProperties,
                 gasLimitBucket,
                 mirrorNodeEvmProperties,
-                transactionExecutionService);
+                transactionExecutionService,
+                new Web3Properties());
 
         // When
         try {
@@ -890,7 +899,8 @@ class ContractCallServiceTest extends AbstractContractCallServiceTest {
                 throttleProperties,
                 gasLimitBucket,
                 mirrorNodeEvmProperties,
-                transactionExecutionService);
+                transactionExecutionService,
+                new Web3Properties());
 
         // When
         try {
@@ -929,7 +939,8 @@ class ContractCallServiceTest extends AbstractContractCallServiceTest {
                 throttleProperties,
                 gasLimitBucket,
                 mirrorNodeEvmProperties,
-                transactionExecutionService);
+                transactionExecutionService,
+                new Web3Properties());
 
         // When
         try {
@@ -0,0 +1,271 @@
+/*
+ * Copyright (C) 2025 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.web3.service;
+
+import static com.hedera.mirror.web3.evm.config.EvmConfiguration.CACHE_NAME;
+import static com.hedera.mirror.web3.evm.config.EvmConfiguration.CACHE_NAME_CONTRACT_STORAGE;
+import static com.hedera.mirror.web3.service.ContractStateServiceImpl.MAX_BATCH_SIZE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+import com.hedera.mirror.common.domain.transaction.RecordFile;
+import com.hedera.mirror.web3.common.ContractCallContext;
+import com.hedera.mirror.web3.repository.ContractStateRepository;
+import com.hedera.mirror.web3.repository.projections.ContractSlotValue;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.Cache;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.interceptor.SimpleKey;
+
+@ExtendWith(MockitoExtension.class)
+class ContractStateServiceTest {
+
+    private static final long CONTRACT_ID = 1000L;
+    private static final byte[] SLOT1 = new byte[] {1};
+    private static final byte[] SLOT2 = new byte[] {2};
+    private static final byte[] SLOT3 = new byte[] {3};
+    private static final long TIMESTAMP = 1234567L;
+    private static final byte[] VALUE = new byte[] {10};
+
+    @Mock
+    private ContractStateRepository contractStateRepository;
+
+    @Captor
+    private ArgumentCaptor<Collection<byte[]>> slotsCaptor;
+
+    private Cache contractStateCache;
+    private Cache contractStorageHistoricalCache;
+    private ContractStateServiceImpl contractStateService;
+
+    @BeforeEach
+    void setup() {
+        var contractStateCacheManager = new CaffeineCacheManager(CACHE_NAME);
+        contractStateCache = contractStateCacheManager.getCache(CACHE_NAME);
+        var historicalCacheManager = new CaffeineCacheManager(CACHE_NAME_CONTRACT_STORAGE);
+        contractStorageHistoricalCache = historicalCacheManager.getCache(CACHE_NAME_CONTRACT_STORAGE);
+        contractStateService = new ContractStateServiceImpl(
+                new CaffeineCacheManager(CACHE_NAME),
+                contractStateCacheManager,
+                historicalCacheManager,
+                contractStateRepository);
+    }
+
+    @Test
+    void findStorageFirstSlot() {
+        when(contractStateRepository.findStorage(CONTRACT_ID, SLOT1)).thenReturn(Optional.of(VALUE));
+        ContractCallContext.run(context -> {
+            assertThat(contractStateService.findStorage(CONTRACT_ID, SLOT1)).contains(VALUE);
+            assertThat(contractStateService.findStorage(CONTRACT_ID, SLOT1)).contains(VALUE);
+            return null;
+        });
+
+        verify(contractStateRepository).findStorage(CONTRACT_ID, SLOT1);
+        verifyNoMoreInteractions(contractStateRepository);
+    }
+
+    @Test
+    void findStorageLoadsRecentSlots() {
+        when(contractStateRepository.findStorage(CONTRACT_ID, SLOT1)).thenReturn(Optional.of(VALUE));
+        when(contractStateRepository.findStorage(CONTRACT_ID, SLOT2)).thenReturn(Optional.empty());
+        ContractCallContext.run(context -> {
+            contractStateService.findStorage(CONTRACT_ID, SLOT1);
+            return contractStateService.findStorage(CONTRACT_ID, SLOT2);
+        });
+
+        // A new call loads the recently read slots along with the requested slot in one query
+        when(contractStateRepository.findStorageBatch(eq(CONTRACT_ID), anyCollection()))
+                .thenReturn(List.of(slotValue(SLOT1), slotValue(SLOT3)));
+        ContractCallContext.run(context -> {
+            assertThat(contractStateService.findStorage(CONTRACT_ID, SLOT3)).contains(VALUE);
+            assertThat(contractStateService.findStorage(CONTRACT_ID, SLOT1)).contains(VALUE);
+            assertThat(contractStateService.findStorage(CONTRACT_ID, SLOT2)).isEmpty();
+            return null;
+        });
+
+        verify(contractStateRepository).findStorageBatch(eq(CONTRACT_ID), argThat(this::containsAllSlots));
+        verify(contractStateRepository).findStorage(CONTRACT_ID, SLOT1);
+        verify(contractStateRepository).findStorage(CONTRACT_ID, SLOT2);
+        verifyNoMoreInteractions(contractStateRepository);
+    }
+
+    @Test
+    void findStorageCachedState() {
+        contractStateCache.put(new SimpleKey(CONTRACT_ID, SLOT1), VALUE);
+        when(contractStateRepository.findStorage(CONTRACT_ID, SLOT2)).thenReturn(Optional.empty());
+        ContractCallContext.run(context -> {
+            assertThat(contractStateService.findStorage(CONTRACT_ID, SLOT1)).contains(VALUE);
+            return contractStateService.findStorage(CONTRACT_ID, SLOT2);
+        });
+
+        // The recently read slot that's already cached is not loaded again
+        when(contractStateRepository.findStorageBatch(eq(CONTRACT_ID), anyCollection()))
+                .thenReturn(List.of(slotValue(SLOT3)));
+        ContractCallContext.run(context -> {
+            assertThat(contractStateService.findStorage(CONTRACT_ID, SLOT3)).contains(VALUE);
+            assertThat(contractStateService.findStorage(CONTRACT_ID, SLOT1)).contains(VALUE);
+            assertThat(contractStateService.findStorage(CONTRACT_ID, SLOT2)).isEmpty();
+            return null;
+        });
+
+        verify(contractStateRepository)
+                .findStorageBatch(eq(CONTRACT_ID), argThat(slots -> slots.size() == 2
+                        && slots.stream().anyMatch(s -> Arrays.equals(s, SLOT2))
+                        && slots.stream().anyMatch(s -> Arrays.equals(s, SLOT3))));
+        verify(contractStateRepository).findStorage(CONTRACT_ID, SLOT2);
+        verifyNoMoreInteractions(contractStateRepository);
+        assertThat(contractStateCache.get(new SimpleKey(CONTRACT_ID, SLOT3), byte[].class))
+                .isEqualTo(VALUE);
+    }
+
+    @Test
+    void findStorageRecentSlotsBounded() {
+        var hotSlot = slot(MAX_BATCH_SIZE * 2);
+        when(contractStateRepository.findStorage(eq(CONTRACT_ID), any())).thenReturn(Optional.empty());
+        ContractCallContext.run(context -> {
+            for (int i = 0; i < MAX_BATCH_SIZE * 2; i++) {
+                contractStateService.findStorage(CONTRACT_ID, slot(i));
+            }
+            return null;
+        });
+
+        // A slot that becomes hot is batched with the other recently read slots
+        when(contractStateRepository.findStorageBatch(eq(CONTRACT_ID), anyCollection()))
+                .thenReturn(List.of());
+        for (int i = 0; i < 3; i++) {
+            ContractCallContext.run(context -> contractStateService.findStorage(CONTRACT_ID, hotSlot));
+        }
+
+        ContractCallContext.run(context -> contractStateService.findStorage(CONTRACT_ID, SLOT1));
+        verify(contractStateRepository, atLeastOnce()).findStorageBatch(eq(CONTRACT_ID), slotsCaptor.capture());
+        assertThat(slotsCaptor.getValue())
+                .hasSizeLessThanOrEqualTo(MAX_BATCH_SIZE)
+                .anyMatch(s -> Arrays.equals(s, hotSlot));
+    }
+
+    @Test
+    void findStorageHistorical() {
+        when(contractStateRepository.findStorageByBlockTimestamp(CONTRACT_ID, SLOT1, TIMESTAMP))
+                .thenReturn(Optional.of(VALUE));
+        when(contractStateRepository.findStorageByBlockTimestamp(CONTRACT_ID, SLOT2, TIMESTAMP))
+                .thenReturn(Optional.of(VALUE));
+        ContractCallContext.run(context -> {
+            context.setRecordFile(RecordFile.builder().consensusEnd(TIMESTAMP).build());
+            contractStateService.findStorage(CONTRACT_ID, SLOT1);
+            return contractStateService.findStorage(CONTRACT_ID, SLOT2);
+        });
+
+        when(contractStateRepository.findStorageBatchByBlockTimestamp(
+                        eq(CONTRACT_ID), anyCollection(), eq(TIMESTAMP)))
+                .thenReturn(List.of(slotValue(SLOT1)));
+        ContractCallContext.run(context -> {
+            context.setRecordFile(RecordFile.builder().consensusEnd(TIMESTAMP).build());
+            assertThat(contractStateService.findStorage(CONTRACT_ID, SLOT3)).isEmpty();
+            assertThat(contractStateService.findStorage(CONTRACT_ID, SLOT2)).isEmpty();
+            assertThat(contractStateService.findStorage(CONTRACT_ID, SLOT1)).contains(VALUE);
+            return null;
+        });
+
+        verify(contractStateRepository)
+                .findStorageBatchByBlockTimestamp(eq(CONTRACT_ID), argThat(this::containsAllSlots), eq(TIMESTAMP));
+        verify(contractStateRepository, never()).findStorage(anyLong(), any());
+        verify(contractStateRepository, never()).findStorageBatch(anyLong(), anyCollection());
+    }
+
+    @Test
+    void findStorageHistoricalCachedState() {
+        contractStorageHistoricalCache.put(new SimpleKey(CONTRACT_ID, SLOT1, TIMESTAMP), VALUE);
+        when(contractStateRepository.findStorageByBlockTimestamp(CONTRACT_ID, SLOT2, TIMESTAMP))
+                .thenReturn(Optional.empty());
+        ContractCallContext.run(context -> {
+            context.setRecordFile(RecordFile.builder().consensusEnd(TIMESTAMP).build());
+            assertThat(contractStateService.findStorage(CONTRACT_ID, SLOT1)).contains(VALUE);
+            return contractStateService.findStorage(CONTRACT_ID, SLOT2);
+        });
+
+        // The recently read slot that's already cached at the block timestamp is not loaded again
+        when(contractStateRepository.findStorageBatchByBlockTimestamp(
+                        eq(CONTRACT_ID), anyCollection(), eq(TIMESTAMP)))
+                .thenReturn(List.of(slotValue(SLOT3)));
+        ContractCallContext.run(context -> {
+            context.setRecordFile(RecordFile.builder().consensusEnd(TIMESTAMP).build());
+            assertThat(contractStateService.findStorage(CONTRACT_ID, SLOT3)).contains(VALUE);
+            assertThat(contractStateService.findStorage(CONTRACT_ID, SLOT1)).contains(VALUE);
+            assertThat(contractStateService.findStorage(CONTRACT_ID, SLOT2)).isEmpty();
+            return null;
+        });
+
+        verify(contractStateRepository)
+                .findStorageBatchByBlockTimestamp(
+                        eq(CONTRACT_ID),
+                        argThat(slots -> slots.size() == 2
+                                && slots.stream().anyMatch(s -> Arrays.equals(s, SLOT2))
+                                && slots.stream().anyMatch(s -> Arrays.equals(s, SLOT3))),
+                        eq(TIMESTAMP));
+        verify(contractStateRepository).findStorageByBlockTimestamp(CONTRACT_ID, SLOT2, TIMESTAMP);
+        verifyNoMoreInteractions(contractStateRepository);
+        assertThat(contractStorageHistoricalCache.get(new SimpleKey(CONTRACT_ID, SLOT3, TIMESTAMP), byte[].class))
+                .isEqualTo(VALUE);
+        assertThat(contractStorageHistoricalCache.get(new SimpleKey(CONTRACT_ID, SLOT3, TIMESTAMP + 1)))
+                .isNull();
+        assertThat(contractStateCache.get(new SimpleKey(CONTRACT_ID, SLOT3))).isNull();
+    }
+
+    private boolean containsAllSlots(Collection<byte[]> slots) {
+        return slots.size() == 3
+                && slots.stream().anyMatch(s -> Arrays.equals(s, SLOT1))
+                && slots.stream().anyMatch(s -> Arrays.equals(s, SLOT2))
+                && slots.stream().anyMatch(s -> Arrays.equals(s, SLOT3));
+    }
+
+    private byte[] slot(int index) {
+        return ByteBuffer.allocate(Integer.BYTES).putInt(index).array();
+    }
+
+    private ContractSlotValue slotValue(byte[] slot) {
+        return new ContractSlotValue() {
+            @Override
+            public byte[] getSlot() {
+                return slot;
+            }
+
+            @Override
+            public byte[] getValue() {
+                return VALUE;
+            }
+        };
+    }
+}
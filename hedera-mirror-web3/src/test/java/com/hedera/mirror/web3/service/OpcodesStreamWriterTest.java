@@ -0,0 +1,114 @@
+/*
+ * Copyright (C) 2025 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hedera.mirror.web3.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hedera.mirror.rest.model.OpcodesResponse;
+import com.hedera.mirror.web3.evm.contracts.execution.traceability.Opcode;
+import java.io.ByteArrayOutputStream;
+import java.util.List;
+import java.util.Map;
+import lombok.SneakyThrows;
+import org.apache.tuweni.bytes.Bytes;
+import org.junit.jupiter.api.Test;
+
+class OpcodesStreamWriterTest {
+
+    private static final Bytes WORD1 = Bytes.fromHexString("0x01");
+    private static final Bytes WORD2 = Bytes.fromHexString("0x02");
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    @Test
+    void memoryChanges() {
+        var json = write(
+                Long.MAX_VALUE, opcode(Map.of(0, WORD1, 1, WORD2)), opcode(Map.of()), opcode(Map.of(1, WORD1)));
+
+        var opcodes = json.get("opcodes");
+        assertThat(opcodes).hasSize(3);
+        assertThat(memoryChanges(opcodes.get(0)))
+                .containsOnly(Map.entry("0", WORD1.toHexString()), Map.entry("1", WORD2.toHexString()));
+        assertThat(memoryChanges(opcodes.get(1))).isEmpty();
+        assertThat(memoryChanges(opcodes.get(2))).containsExactly(Map.entry("1", WORD1.toHexString()));
+        assertThat(opcodes.get(0).get("op").asText()).isEqualTo("MSTORE");
+        assertThat(opcodes.get(0).get("stack").get(0).asText()).isEqualTo(WORD2.toHexString());
+        assertThat(json.get("gas").asLong()).isEqualTo(100L);
+        assertThat(json.get("truncated").asBoolean()).isFalse();
+    }
+
+    @Test
+    void truncated() {
+        // Only the start of the response fits before the first opcode is written
+        var json = write(20L, opcode(Map.of()), opcode(Map.of()));
+
+        assertThat(json.get("opcodes")).hasSize(1);
+        assertThat(json.get("return_value").asText()).isEqualTo("0x");
+        assertThat(json.get("truncated").asBoolean()).isTrue();
+    }
+
+    @Test
+    void failed() throws Exception {
+        var outputStream = new ByteArrayOutputStream();
+        try (var writer = new OpcodesStreamWriter(outputStream, Long.MAX_VALUE)) {
+            writer.write(opcode(Map.of()));
+        }
+
+        // The response isn't closed as if it were complete when the re-execution fails before the end is written
+        var bytes = outputStream.toByteArray();
+        assertThat(bytes).isNotEmpty();
+        assertThatThrownBy(() -> OBJECT_MAPPER.readTree(bytes)).isInstanceOf(JsonProcessingException.class);
+    }
+
+    @SneakyThrows
+    private JsonNode write(long maxTraceSize, Opcode... opcodes) {
+        var outputStream = new ByteArrayOutputStream();
+        try (var writer = new OpcodesStreamWriter(outputStream, maxTraceSize)) {
+            for (var opcode : opcodes) {
+                writer.write(opcode);
+            }
+            writer.writeEnd(new OpcodesResponse()
+                    .address("0x0000000000000000000000000000000000000000")
+                    .failed(false)
+                    .gas(100L)
+                    .returnValue("0x"));
+        }
+        return OBJECT_MAPPER.readTree(outputStream.toByteArray());
+    }
+
+    private Map<String, String> memoryChanges(JsonNode opcode) {
+        return OBJECT_MAPPER.convertValue(opcode.get("memory_changes"), new TypeReference<>() {});
+    }
+
+    private Opcode opcode(Map<Integer, Bytes> memoryChanges) {
+        return Opcode.builder()
+                .depth(1)
+                .gas(1000L)
+                .gasCost(3L)
+                .memory(List.of())
+                .memoryChanges(memoryChanges)
+                .op("MSTORE")
+                .pc(10)
+                .stack(List.of(WORD2))
+                .storage(Map.of())
+                .build();
+    }
+}
@@ -20,6 +20,7 @@ import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.hedera.hapi.node.base.ContractID;
@@ -28,7 +29,7 @@ import com.hedera.hapi.node.state.contract.SlotKey;
 import com.hedera.hapi.node.state.contract.SlotValue;
 import com.hedera.mirror.common.domain.entity.EntityId;
 import com.hedera.mirror.web3.common.ContractCallContext;
-import com.hedera.mirror.web3.repository.ContractStateRepository;
+import com.hedera.mirror.web3.service.ContractStateService;
 import com.hedera.pbj.runtime.OneOf;
 import com.hedera.pbj.runtime.io.buffer.Bytes;
 import java.util.Collections;
@@ -59,7 +60,7 @@ class ContractStorageReadableKVStateTest {
     private ContractStorageReadableKVState contractStorageReadableKVState;
 
     @Mock
-    private ContractStateRepository contractStateRepository;
+    private ContractStateService contractStateService;
 
     @Spy
     private ContractCallContext contractCallContext;
@@ -80,39 +81,28 @@ class ContractStorageReadableKVStateTest {
     }
 
     @Test
-    void whenTimestampIsNullReturnsLatestSlot() {
-        when(contractCallContext.getTimestamp()).thenReturn(Optional.empty());
-        when(contractStateRepository.findStorage(ENTITY_ID.getId(), BYTES.toByteArray()))
+    void whenSlotFoundReturnsSlotValue() {
+        when(contractStateService.findStorage(ENTITY_ID.getId(), BYTES.toByteArray()))
                 .thenReturn(Optional.of(BYTES.toByteArray()));
         assertThat(contractStorageReadableKVState.get(SLOT_KEY))
                 .satisfies(slotValue -> assertThat(slotValue).returns(BYTES, SlotValue::value));
     }
 
     @Test
-    void whenTimestampIsNotNullReturnsHistoricalSlot() {
-        final var blockTimestamp = 1234567L;
-        when(contractCallContext.getTimestamp()).thenReturn(Optional.of(blockTimestamp));
-        when(contractStateRepository.findStorageByBlockTimestamp(
-                        ENTITY_ID.getId(), BYTES.toByteArray(), blockTimestamp))
+    void whenReadCacheResetReadsFromSnapshot() {
+        when(contractStateService.findStorage(ENTITY_ID.getId(), BYTES.toByteArray()))
                 .thenReturn(Optional.of(BYTES.toByteArray()));
-        assertThat(contractStorageReadableKVState.get(SLOT_KEY))
-                .satisfies(slotValue -> assertThat(slotValue).returns(BYTES, SlotValue::value));
-    }
+        contractStorageReadableKVState.get(SLOT_KEY);
+        contractStorageReadableKVState.reset();
 
-    @Test
-    void whenSlotNotFoundReturnsNullForLatestBlock() {
-        when(contractCallContext.getTimestamp()).thenReturn(Optional.empty());
-        when(contractStateRepository.findStorage(anyLong(), any())).thenReturn(Optional.empty());
         assertThat(contractStorageReadableKVState.get(SLOT_KEY))
-                .satisfies(slotValue -> assertThat(slotValue).isNull());
+                .satisfies(slotValue -> assertThat(slotValue).returns(BYTES, SlotValue::value));
+        verify(contractStateService).findStorage(ENTITY_ID.getId(), BYTES.toByteArray());
     }
 
     @Test
-    void whenSlotNotFoundReturnsNullForHistoricalBlock() {
-        final var blockTimestamp = 1234567L;
-        when(contractCallContext.getTimestamp()).thenReturn(Optional.of(blockTimestamp));
-        when(contractStateRepository.findStorageByBlockTimestamp(anyLong(), any(), anyLong()))
-                .thenReturn(Optional.empty());
+    void whenSlotNotFoundReturnsNull() {
+        when(contractStateService.findStorage(anyLong(), any())).thenReturn(Optional.empty());
         assertThat(contractStorageReadableKVState.get(SLOT_KEY))
                 .satisfies(slotValue -> assertThat(slotValue).isNull());
     }
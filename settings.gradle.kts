@@ -18,6 +18,8 @@ plugins { id("com.gradle.develocity") version ("3.17") }
 
 rootProject.name = "hedera-mirror-node"
 
+include(":hedera-mirror-benchmark")
+
 include(":hedera-mirror-common")
 
 include(":hedera-mirror-graphql")